@@ -18,6 +18,7 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
 import javafx.stage.StageStyle;
+import com.cenit.battleship.util.GameLog;
 
 /**
  * JavaFX App - Battleship Game Aplicación principal del juego Battleship
@@ -470,7 +471,8 @@ private void makeWindowDraggable(Node node, Stage stage) {
     @Override
     public void stop() throws Exception {
         System.out.println("🛑 Cerrando Battleship...");
-        // Aquí puedes liberar recursos y guardar estado
+        // Entregar el registro pendiente antes de que la JVM termine
+        GameLog.shutdown();
         super.stop();
     }
 
@@ -0,0 +1,183 @@
+package com.cenit.battleship;
+
+import com.cenit.battleship.model.DensityShotStrategy;
+import com.cenit.battleship.model.ShotCache;
+import com.cenit.battleship.model.enums.BoardStorageType;
+import com.cenit.battleship.model.enums.Difficulty;
+import com.cenit.battleship.model.enums.FleetConfiguration;
+import com.cenit.battleship.model.enums.GameMode;
+import com.cenit.battleship.services.TournamentRunner;
+import com.cenit.battleship.util.GameLog;
+import com.cenit.battleship.util.LogLevel;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Modo de línea de comandos: torneo CPU contra CPU sin interfaz gráfica
+ *
+ * Ejemplo:
+ * java -cp battleship-game-headless-1.0.0.jar com.cenit.battleship.Tournament
+ *      --games 2000 --a HARD --b EXPERT --mode-b SWARM
+ */
+public final class Tournament {
+
+    private static final Map<String, FleetConfiguration> FLEETS = new LinkedHashMap<>();
+    private static final Map<String, GameMode> MODES = new LinkedHashMap<>();
+    // Los mapas gigantes no caben en un torneo de 15x15: sin SPARSE
+    private static final Map<String, BoardStorageType> STORAGES = new LinkedHashMap<>();
+
+    static {
+        FLEETS.put("STANDARD", FleetConfiguration.STANDARD);
+        FLEETS.put("SPECIAL", FleetConfiguration.SPECIAL);
+        FLEETS.put("TACTICAL", FleetConfiguration.TACTICAL);
+        FLEETS.put("ASYMMETRIC", FleetConfiguration.ASYMMETRIC);
+        FLEETS.put("MINIMAL", FleetConfiguration.MINIMAL);
+        FLEETS.put("SWARM", FleetConfiguration.SWARM);
+
+        MODES.put("CLASSIC", GameMode.CLASSIC);
+        MODES.put("SPECIAL_FLEET", GameMode.SPECIAL_FLEET);
+        MODES.put("TACTICAL", GameMode.TACTICAL);
+        MODES.put("ASYMMETRIC", GameMode.ASYMMETRIC);
+        MODES.put("LIGHTNING", GameMode.LIGHTNING);
+        MODES.put("SWARM", GameMode.SWARM);
+
+        STORAGES.put("BITBOARD", BoardStorageType.BITBOARD);
+        STORAGES.put("CELL_GRID", BoardStorageType.CELL_GRID);
+    }
+
+    private Tournament() {
+    }
+
+    public static void main(String[] args) {
+        int games = 1000;
+        int threads = Runtime.getRuntime().availableProcessors();
+        Difficulty difficultyA = Difficulty.HARD;
+        Difficulty difficultyB = Difficulty.HARD;
+        FleetConfiguration fleetA = FleetConfiguration.STANDARD;
+        FleetConfiguration fleetB = FleetConfiguration.STANDARD;
+        String cacheDir = null;
+        String replayDir = null;
+        BoardStorageType storageType = BoardStorageType.BITBOARD;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (option.equals("--help") || option.equals("-h")) {
+                    printUsage();
+                    return;
+                }
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Falta el valor de " + option);
+                }
+                String value = args[++i];
+                switch (option) {
+                    case "--games":
+                        games = Integer.parseInt(value);
+                        break;
+                    case "--threads":
+                        threads = Integer.parseInt(value);
+                        break;
+                    case "--a":
+                        difficultyA = parseDifficulty(value);
+                        break;
+                    case "--b":
+                        difficultyB = parseDifficulty(value);
+                        break;
+                    case "--fleet":
+                        fleetA = parse(FLEETS, value, "flota");
+                        fleetB = fleetA;
+                        break;
+                    case "--fleet-a":
+                        fleetA = parse(FLEETS, value, "flota");
+                        break;
+                    case "--fleet-b":
+                        fleetB = parse(FLEETS, value, "flota");
+                        break;
+                    case "--mode":
+                        fleetA = parse(MODES, value, "modo").getFleetConfig();
+                        fleetB = fleetA;
+                        break;
+                    case "--mode-a":
+                        fleetA = parse(MODES, value, "modo").getFleetConfig();
+                        break;
+                    case "--mode-b":
+                        fleetB = parse(MODES, value, "modo").getFleetConfig();
+                        break;
+                    case "--cache":
+                        cacheDir = value;
+                        break;
+                    case "--replays":
+                        replayDir = value;
+                        break;
+                    case "--storage":
+                        storageType = parse(STORAGES, value, "almacenamiento");
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Opción desconocida: " + option);
+                }
+            }
+
+            // Solo avisos: el registro por disparo frenaría miles de partidas
+            GameLog.setLevel(LogLevel.WARN);
+            if (cacheDir != null) {
+                ShotCache.enablePersistence(Paths.get(cacheDir), DensityShotStrategy.CACHE_NAMESPACE);
+            }
+
+            TournamentRunner runner = new TournamentRunner(
+                    new TournamentRunner.Side(label(difficultyA, fleetA), difficultyA, fleetA),
+                    new TournamentRunner.Side(label(difficultyB, fleetB), difficultyB, fleetB),
+                    threads);
+            if (replayDir != null) {
+                runner.setReplayDirectory(Paths.get(replayDir));
+            }
+            runner.setStorageType(storageType);
+            System.out.print(runner.run(games).format());
+        } catch (IllegalArgumentException e) {
+            System.err.println("❌ " + e.getMessage());
+            printUsage();
+            System.exit(2);
+        }
+    }
+
+    private static Difficulty parseDifficulty(String value) {
+        try {
+            return Difficulty.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Dificultad desconocida: " + value);
+        }
+    }
+
+    private static <T> T parse(Map<String, T> options, String value, String kind) {
+        T option = options.get(value.toUpperCase(Locale.ROOT));
+        if (option == null) {
+            throw new IllegalArgumentException("Valor de " + kind + " desconocido: " + value
+                    + " (opciones: " + String.join(", ", options.keySet()) + ")");
+        }
+        return option;
+    }
+
+    private static String label(Difficulty difficulty, FleetConfiguration fleet) {
+        for (Map.Entry<String, FleetConfiguration> entry : FLEETS.entrySet()) {
+            if (entry.getValue() == fleet && fleet != FleetConfiguration.STANDARD) {
+                return difficulty.name() + "/" + entry.getKey();
+            }
+        }
+        return difficulty.name();
+    }
+
+    private static void printUsage() {
+        System.out.println("Uso: Tournament [--games N] [--threads N] [--a DIFICULTAD] [--b DIFICULTAD]");
+        System.out.println("                [--fleet|--fleet-a|--fleet-b FLOTA] [--mode|--mode-a|--mode-b MODO]");
+        System.out.println("                [--cache DIRECTORIO] [--replays DIRECTORIO] [--storage ALMACENAMIENTO]");
+        StringBuilder difficulties = new StringBuilder();
+        for (Difficulty difficulty : Difficulty.values()) {
+            difficulties.append(difficulties.length() > 0 ? ", " : "").append(difficulty.name());
+        }
+        System.out.println("  Dificultades: " + difficulties);
+        System.out.println("  Flotas: " + String.join(", ", FLEETS.keySet()));
+        System.out.println("  Modos: " + String.join(", ", MODES.keySet()));
+        System.out.println("  Almacenamiento: " + String.join(", ", STORAGES.keySet()) + " (por defecto BITBOARD)");
+    }
+}
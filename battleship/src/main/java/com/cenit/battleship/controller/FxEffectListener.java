@@ -0,0 +1,86 @@
+package com.cenit.battleship.controller;
+
+import com.cenit.battleship.model.Coordinate;
+import com.cenit.battleship.model.Ship;
+import com.cenit.battleship.model.enums.ShipType;
+import com.cenit.battleship.model.enums.ShotResult;
+import java.util.List;
+
+/**
+ * Efectos de la interfaz gráfica: sonido (SoundController) y animaciones
+ * (AnimationController) de las habilidades.
+ *
+ * Es la única pieza del flujo de juego que toca JavaFX; GameController solo
+ * la conoce como EffectListener, así que el motor puede ejecutarse sin
+ * JavaFX en el classpath. Los disparos normales los sonoriza la vista.
+ * @author Usuario
+ */
+public class FxEffectListener implements GameController.EffectListener {
+
+    private static FxEffectListener instance;
+
+    private final SoundController soundController;
+    private final AnimationController animationController;
+
+    private FxEffectListener() {
+        this.soundController = SoundController.getInstance();
+        this.animationController = AnimationController.getInstance();
+    }
+
+    public static FxEffectListener getInstance() {
+        if (instance == null) {
+            instance = new FxEffectListener();
+        }
+        return instance;
+    }
+
+    // ========== HABILIDADES ==========
+
+    @Override
+    public void onSonar(Coordinate center, List<Coordinate> revealedArea) {
+        soundController.playSonar();
+        animationController.playSonarAnimation(center, revealedArea);
+    }
+
+    @Override
+    public void onRadar(Coordinate detectedCoord, ShipType shipType) {
+        soundController.playRadar();
+        animationController.playRadarAnimation(detectedCoord, shipType);
+    }
+
+    @Override
+    public void onDrone(boolean isRow, int index) {
+        soundController.playDrone();
+        animationController.playDroneAnimation(isRow, index);
+    }
+
+    @Override
+    public void onGuidedMissile(Coordinate target, ShotResult result) {
+        soundController.playMissile();
+        animationController.playMissileAnimation(target, result);
+    }
+
+    @Override
+    public void onClusterBomb(Coordinate center, List<Coordinate> affectedArea) {
+        soundController.playClusterBomb();
+        animationController.playClusterBombAnimation(center, affectedArea);
+    }
+
+    @Override
+    public void onJamming() {
+        soundController.playJamming();
+        animationController.playJammingAnimation();
+    }
+
+    @Override
+    public void onRepair(Coordinate position, Ship ship) {
+        soundController.playRepair();
+        animationController.playRepairAnimation(position, ship);
+    }
+
+    @Override
+    public void onCamouflage(Ship ship, Coordinate newPosition) {
+        soundController.playCamouflage();
+        animationController.playCamouflageAnimation(ship, newPosition);
+    }
+}
@@ -1,35 +1,56 @@
 package com.cenit.battleship.controller;
 
 import com.cenit.battleship.model.Board;
+import com.cenit.battleship.model.BoardSnapshot;
 import com.cenit.battleship.model.CPU;
 import com.cenit.battleship.model.Cell;
 import com.cenit.battleship.model.Coordinate;
 import com.cenit.battleship.model.Game;
+import com.cenit.battleship.model.GameConfiguration;
 import com.cenit.battleship.model.Player;
 import com.cenit.battleship.model.PlayerProfile;
+import com.cenit.battleship.model.RolloutState;
 import com.cenit.battleship.model.Ship;
+import com.cenit.battleship.model.ShotBatch;
 import com.cenit.battleship.model.Skill;
 import com.cenit.battleship.model.SkillResult;
 import com.cenit.battleship.model.SkillSystem;
+import com.cenit.battleship.model.enums.BoardStorageType;
 import com.cenit.battleship.model.enums.Difficulty;
 import com.cenit.battleship.model.enums.Direction;
 import com.cenit.battleship.model.enums.FleetConfiguration;
 import com.cenit.battleship.model.enums.GamePhase;
 import com.cenit.battleship.model.enums.ShipType;
 import com.cenit.battleship.model.enums.ShotResult;
-import com.cenit.battleship.view.components.ShipRenderer;
+import com.cenit.battleship.services.ReplayRecorder;
+import com.cenit.battleship.util.GameLog;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import javafx.scene.image.ImageView;
-import javafx.scene.layout.StackPane;
 
 public class GameController {
 
+    private static final GameLog.Logger LOG = GameLog.getLogger(GameController.class);
+
+    // Hilo de fondo donde la CPU calcula sus jugadas (compartido por todas las partidas)
+    private static final ExecutorService CPU_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "battleship-cpu");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private Game game;
     private Coordinate lastShotCPU;
     private Ship lastSunkenShipCPU;
@@ -37,8 +58,6 @@ public class GameController {
     private List<Ship> playerShips;
     private List<Ship> CPUShips;
 
-    private CPUController cpuController;
-
     private Difficulty difficulty;
 
     private SkillSystem playerSkills;
@@ -53,6 +72,8 @@ public class GameController {
     private boolean playerTurn;
     private GamePhase gamePhase;
     private boolean jammingActive;
+    // Interferencia de la CPU: el jugador pierde su próximo turno
+    private boolean cpuExtraTurn;
 
     private Board playerBoard;
     private Board cpuBoard;
@@ -60,6 +81,11 @@ public class GameController {
     private Player cpuPlayer;
     private PlayerProfile currentProfile;
 
+    // Jugada de la CPU que se está calculando en segundo plano
+    private CompletableFuture<Coordinate> pendingCPUShot;
+    // Instantánea del tablero del jugador sobre la que se calculó esa jugada
+    private BoardSnapshot pendingCPUShotBoard;
+
     private PlayerProfile playerProfile;
 
     private List<Ship> playerFleet;
@@ -69,21 +95,30 @@ public class GameController {
     private int timeLimitMinutes; // 0 = sin límite de tiempo
     private boolean isTimeLimited;
 
+    // Sonido, animaciones u otros observadores; sin ninguno la partida corre sin interfaz
+    private final List<EffectListener> effectListeners = new CopyOnWriteArrayList<>();
+
+    // Repetición binaria de cada partida (ver ReplayLog)
+    private final long gameSeed;
+    private final ReplayRecorder replayRecorder;
+    private boolean replayRecording;
+
     // ========== CONSTRUCTORES ==========
     public GameController(PlayerProfile profile, Difficulty difficulty) {
         this.currentProfile = profile;
         this.difficulty = difficulty;
 
         // Inicializar tableros y jugadores
-        this.playerBoard = new Board();
-        this.cpuBoard = new Board();
+        BoardStorageType storageType = GameConfiguration.getInstance().getBoardStorageType();
+        this.playerBoard = new Board(Board.BOARD_SIZE, storageType);
+        this.cpuBoard = new Board(Board.BOARD_SIZE, storageType);
         this.humanPlayer = new Player(profile.getPlayerName());
         this.humanPlayer.setProfile(profile);
-        this.cpuPlayer = new CPU(difficulty);
+        this.cpuPlayer = new CPU(difficulty, new Board(Board.BOARD_SIZE, storageType));
+        ((CPU) cpuPlayer).setPlacementHeatmap(profile.getPlacementHeatmap());
 
         // Inicializar otros componentes
         this.game = new Game();
-        this.cpuController = new CPUController(convertDifficulty(difficulty), playerBoard);
         this.playerShips = new ArrayList<>();
         this.CPUShips = new ArrayList<>();
         this.playerSkills = new SkillSystem(true);
@@ -96,11 +131,21 @@ public class GameController {
         this.gamePhase = GamePhase.IN_PLAY;
         this.jammingActive = false;
 
-        // Colocar barcos de la CPU automáticamente
+        // Colocar barcos de la CPU automáticamente, en su propio tablero
+        // (con la semilla de la partida, que queda en la repetición)
+        this.gameSeed = new Random().nextLong();
+        ((CPU) cpuPlayer).setSeed(gameSeed);
         ((CPU) cpuPlayer).placeShipsRandomly();
+        this.cpuBoard = cpuPlayer.getBoard();
+        this.CPUShips = cpuPlayer.getShips();
 
         initializeShips();
         initializeSkills();
+
+        GameConfiguration config = GameConfiguration.getInstance();
+        this.replayRecorder = new ReplayRecorder(this, gameSeed,
+                config.isReplayRecordingEnabled() ? Paths.get(config.getReplayDirectory()) : null);
+        setReplayRecording(config.isReplayRecordingEnabled());
     }
 
     public GameController() {
@@ -108,17 +153,13 @@ public class GameController {
         this(new PlayerProfile("Jugador"), Difficulty.NORMAL);
     }
 
-    public GameController(CPUController.Difficulty difficultyCPU) {
-        this(new PlayerProfile("Jugador"), convertFromCPUControllerDifficulty(difficultyCPU));
-    }
-
     // ========== INICIALIZACIÓN ==========
     /**
      * Inicializa el juego - Método que falta en tu código actual
      */
     public void initializeGame() {
         try {
-            System.out.println("🎮 Inicializando juego...");
+            LOG.info("🎮 Inicializando juego...");
 
             // Validar componentes críticos
             if (playerBoard == null) {
@@ -130,12 +171,12 @@ public class GameController {
 
             // Inicializar barcos si están vacíos
             if (playerShips.isEmpty()) {
-                System.out.println("⚠️  PlayerShips vacío, configurando flota estándar");
+                LOG.info("⚠️  PlayerShips vacío, configurando flota estándar");
                 setStandardFleet();
             }
 
             if (CPUShips.isEmpty()) {
-                System.out.println("⚠️  CpuShips vacío, configurando flota estándar");
+                LOG.info("⚠️  CpuShips vacío, configurando flota estándar");
                 // La CPU ya debería tener barcos por el constructor, pero por si acaso
                 if (cpuPlayer instanceof CPU) {
                     ((CPU) cpuPlayer).placeShipsRandomly();
@@ -148,19 +189,24 @@ public class GameController {
             gamePhase = GamePhase.IN_PLAY;
             elapsedTurns = 0;
             jammingActive = false;
+            cpuExtraTurn = false;
 
             // Reiniciar habilidades
             setupSkillsByDifficulty();
 
-            System.out.println("✅ Juego inicializado:");
-            System.out.println("   - Jugador: " + playerShips.size() + " barcos");
-            System.out.println("   - CPU: " + CPUShips.size() + " barcos");
-            System.out.println("   - Turno: " + (playerTurn ? "Jugador" : "CPU"));
-            System.out.println("   - Dificultad: " + difficulty);
+            LOG.info("✅ Juego inicializado:");
+            LOG.info(() -> "   - Jugador: " + playerShips.size() + " barcos");
+            LOG.info(() -> "   - CPU: " + CPUShips.size() + " barcos");
+            LOG.info(() -> "   - Turno: " + (playerTurn ? "Jugador" : "CPU"));
+            LOG.info(() -> "   - Dificultad: " + difficulty);
+
+            // Empezar la repetición con las flotas ya colocadas
+            if (replayRecording) {
+                replayRecorder.start();
+            }
 
         } catch (Exception e) {
-            System.err.println("❌ ERROR en initializeGame(): " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("❌ ERROR en initializeGame(): " + e.getMessage(), e);
             throw new RuntimeException("Error fatal al inicializar el juego", e);
         }
     }
@@ -210,7 +256,6 @@ public class GameController {
 
     private void setupSkillsByDifficulty() {
         playerSkills.reset();
-        CPUSkills.reset();
 
         switch (difficulty) {
             case EASY:
@@ -218,66 +263,23 @@ public class GameController {
                 playerSkills.addSkill(Skill.SONAR, 3);
                 playerSkills.addSkill(Skill.REPAIR, 2);
                 playerSkills.setSkillPoints(6);
-                CPUSkills.addSkill(Skill.SONAR, 1);
-                CPUSkills.setSkillPoints(2);
                 break;
             case NORMAL:
                 playerSkills.addSkill(Skill.SONAR, 2);
                 playerSkills.addSkill(Skill.RADAR, 1);
                 playerSkills.setSkillPoints(4);
-                CPUSkills.addSkill(Skill.SONAR, 1);
-                CPUSkills.addSkill(Skill.RADAR, 1);
-                CPUSkills.setSkillPoints(3);
                 break;
             case HARD:
                 playerSkills.addSkill(Skill.SONAR, 1);
                 playerSkills.setSkillPoints(2);
-                CPUSkills.addSkill(Skill.SONAR, 2);
-                CPUSkills.addSkill(Skill.RADAR, 1);
-                CPUSkills.addSkill(Skill.JAMMING, 1);
-                CPUSkills.setSkillPoints(5);
                 break;
             case EXPERT:
+            case MASTER:
                 playerSkills.addSkill(Skill.SONAR, 1);
                 playerSkills.setSkillPoints(1);
-                CPUSkills.addSkill(Skill.SONAR, 2);
-                CPUSkills.addSkill(Skill.RADAR, 2);
-                CPUSkills.addSkill(Skill.JAMMING, 2);
-                CPUSkills.addSkill(Skill.CLUSTER_BOMB, 1);
-                CPUSkills.setSkillPoints(8);
                 break;
         }
-    }
-
-    // ========== MÉTODOS DE CONVERSIÓN DE DIFICULTAD ==========
-    private CPUController.Difficulty convertDifficulty(Difficulty difficulty) {
-        switch (difficulty) {
-            case EASY:
-                return CPUController.Difficulty.EASY;
-            case NORMAL:
-                return CPUController.Difficulty.NORMAL;
-            case HARD:
-                return CPUController.Difficulty.HARD;
-            case EXPERT:
-                return CPUController.Difficulty.EXPERT;
-            default:
-                return CPUController.Difficulty.NORMAL;
-        }
-    }
-
-    private static Difficulty convertFromCPUControllerDifficulty(CPUController.Difficulty difficulty) {
-        switch (difficulty) {
-            case EASY:
-                return Difficulty.EASY;
-            case NORMAL:
-                return Difficulty.NORMAL;
-            case HARD:
-                return Difficulty.HARD;
-            case EXPERT:
-                return Difficulty.EXPERT;
-            default:
-                return Difficulty.NORMAL;
-        }
+        CPUSkills.setupForCPU(difficulty);
     }
 
     // ========== MÉTODOS DE COLOCACIÓN DE BARCOS ==========
@@ -291,7 +293,7 @@ public class GameController {
      */
     public boolean canPlaceShip(Ship ship, Coordinate coord, Direction direction) {
         if (ship == null || coord == null || direction == null) {
-            System.err.println("❌ Parámetros inválidos para canPlaceShip");
+            LOG.error("❌ Parámetros inválidos para canPlaceShip");
             return false;
         }
 
@@ -302,18 +304,16 @@ public class GameController {
                 return false;
             }
 
-            if (hasShipOverlap(shipCoordinates)) {
-                return false;
-            }
-
-            if (!respectsSeparationRules(shipCoordinates)) {
+            // Superposición y separación mediante la zona de exclusión del tablero
+            if (!playerBoard.canPlaceShip(shipCoordinates)) {
+                LOG.info("🚫 Posición ocupada o demasiado cerca de otro barco");
                 return false;
             }
 
             return true;
 
         } catch (Exception e) {
-            System.err.println("❌ Error en canPlaceShip: " + e.getMessage());
+            LOG.error(() -> "❌ Error en canPlaceShip: " + e.getMessage());
             return false;
         }
     }
@@ -335,7 +335,7 @@ public class GameController {
             List<Coordinate> shipCoordinates = calculateShipCoordinates(ship, startCoord, direction);
 
             // DEBUG: Verificar dirección antes de establecer
-            System.out.println("🔧 DEBUG placeShip - Start: " + startCoord.aNotacion()
+            LOG.debug(() -> "🔧 DEBUG placeShip - Start: " + startCoord.aNotacion()
                     + ", Input Dir: " + direction
                     + ", Coords: " + shipCoordinates);
 
@@ -343,24 +343,19 @@ public class GameController {
             ship.setPosition(shipCoordinates, direction); // ← PASA LA DIRECCIÓN EXPLÍCITAMENTE
 
             // También agregar a las celdas del tablero
-            for (Coordinate coord : shipCoordinates) {
-                Cell cell = playerBoard.getCell(coord);
-                if (cell != null) {
-                    cell.setShip(ship);
-                }
-            }
+            playerBoard.occupyCells(ship, shipCoordinates);
 
             // Agregar a la lista de barcos del jugador si no está ya
             if (!playerShips.contains(ship)) {
                 playerShips.add(ship);
             }
 
-            System.out.println("✅ " + ship.getType().getName() + " colocado exitosamente en "
+            LOG.info(() -> "✅ " + ship.getType().getName() + " colocado exitosamente en "
                     + startCoord.aNotacion() + " (" + direction + ")");
             return true;
 
         } catch (Exception e) {
-            System.err.println("❌ Error al colocar barco: " + e.getMessage());
+            LOG.error(() -> "❌ Error al colocar barco: " + e.getMessage());
             return false;
         }
     }
@@ -382,7 +377,7 @@ public class GameController {
         for (int i = 0; i < size; i++) {
             int x = start.getX() + (dx * i);
             int y = start.getY() + (dy * i);
-            coordinates.add(new Coordinate(x, y));
+            coordinates.add(Coordinate.of(x, y));
         }
 
         return coordinates;
@@ -395,53 +390,13 @@ public class GameController {
         for (Coordinate coord : coordinates) {
             if (coord.getX() < 0 || coord.getX() >= Board.BOARD_SIZE
                     || coord.getY() < 0 || coord.getY() >= Board.BOARD_SIZE) {
-                System.out.println("🚫 Coordenada fuera del tablero: " + coord.aNotacion());
+                LOG.info(() -> "🚫 Coordenada fuera del tablero: " + coord.aNotacion());
                 return false;
             }
         }
         return true;
     }
 
-    /**
-     * Verifica si hay superposición con barcos existentes
-     */
-    private boolean hasShipOverlap(List<Coordinate> coordinates) {
-        for (Coordinate coord : coordinates) {
-            if (playerBoard.hasShipAt(coord)) {
-                System.out.println("🚫 Superposición en: " + coord.aNotacion());
-                return true;
-            }
-        }
-        return false;
-    }
-
-    /**
-     * Verifica reglas de separación entre barcos (1 casilla de separación)
-     */
-    private boolean respectsSeparationRules(List<Coordinate> coordinates) {
-        for (Coordinate coord : coordinates) {
-            for (int dx = -1; dx <= 1; dx++) {
-                for (int dy = -1; dy <= 1; dy++) {
-                    if (dx == 0 && dy == 0) {
-                        continue;
-                    }
-
-                    int x = coord.getX() + dx;
-                    int y = coord.getY() + dy;
-
-                    if (x >= 0 && x < Board.BOARD_SIZE && y >= 0 && y < Board.BOARD_SIZE) {
-                        Coordinate adjacent = new Coordinate(x, y);
-                        if (playerBoard.hasShipAt(adjacent)) {
-                            System.out.println("🚫 Barco muy cercano en: " + adjacent.aNotacion());
-                            return false;
-                        }
-                    }
-                }
-            }
-        }
-        return true;
-    }
-
     // ========== MÉTODOS DE BARCOS ==========
     /**
      * Obtiene el barco en una coordenada específica del tablero del jugador
@@ -449,7 +404,7 @@ public class GameController {
      */
     public Ship getShipAt(Coordinate coord) {
         if (playerBoard == null) {
-            System.err.println("❌ Tablero del jugador no inicializado");
+            LOG.error("❌ Tablero del jugador no inicializado");
             return null;
         }
         return playerBoard.getShipAt(coord);
@@ -460,7 +415,7 @@ public class GameController {
      */
     public Ship getShipAtCPU(Coordinate coord) {
         if (cpuBoard == null) {
-            System.err.println("❌ Tablero de la CPU no inicializado");
+            LOG.error("❌ Tablero de la CPU no inicializado");
             return null;
         }
         return cpuBoard.getShipAt(coord);
@@ -538,7 +493,7 @@ public class GameController {
                 if (sunkShip != null) {
                     playerSkills.earnSinkingPoints();
                     lastSunkenShipCPU = sunkShip;
-                    System.out.println("¡Hundiste un " + sunkShip.getType().getName() + "!");
+                    LOG.info(() -> "¡Hundiste un " + sunkShip.getType().getName() + "!");
                 }
             }
 
@@ -549,6 +504,8 @@ public class GameController {
             playerTurn = false;
         }
 
+        notifyEffects(listener -> listener.onShotFired(true, target, result));
+
         // Verificar si el juego terminó
         checkGameEnd();
 
@@ -556,11 +513,93 @@ public class GameController {
     }
 
     /**
-     * Procesa un disparo de la CPU
+     * Empieza a calcular la jugada de la CPU en un hilo de fondo, para que
+     * una estrategia costosa no congele la interfaz. Cancela cualquier cálculo
+     * anterior que siguiera pendiente.
+     *
+     * El hilo de fondo trabaja sobre una copia de la puntería de la CPU (ver
+     * CPU.prepareShot) y una instantánea del tablero del jugador, nunca sobre
+     * los tableros, flotas o generador de la partida. El resultado se aplica
+     * después con processCPUShot(target) desde el hilo de JavaFX. Si mientras
+     * tanto alguien disparó a la casilla elegida (ver isCPUShotStale), quien
+     * espera la jugada debe pedir otra con este mismo método en vez de
+     * aplicarla.
+     *
+     * @return Futuro con la coordenada elegida, o completado con null si la
+     * CPU no puede disparar ahora (turno ajeno, partida terminada, interferencia)
+     */
+    public CompletableFuture<Coordinate> computeCPUShotAsync() {
+        cancelPendingCPUShot();
+        if (!isCPUTurnPlayable()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        // La copia se prepara en este hilo; el de fondo solo ve la copia
+        CPU cpu = (CPU) cpuPlayer;
+        BoardSnapshot visible = playerBoard.snapshot();
+        Supplier<Coordinate> plan = cpu.prepareShot(playerBoard, playerShips, visible);
+        CompletableFuture<Coordinate> decision = CompletableFuture.supplyAsync(plan, CPU_EXECUTOR);
+        pendingCPUShot = decision;
+        pendingCPUShotBoard = visible;
+        return decision;
+    }
+
+    /**
+     * Cancela la jugada de la CPU que se estuviera calculando (al reiniciar o
+     * cargar una partida). El cálculo en curso termina en segundo plano sobre
+     * su propia copia, pero su resultado se descarta.
+     *
+     * @return true si había una jugada pendiente
+     */
+    public boolean cancelPendingCPUShot() {
+        CompletableFuture<Coordinate> pending = pendingCPUShot;
+        pendingCPUShot = null;
+        pendingCPUShotBoard = null;
+        return pending != null && pending.cancel(true);
+    }
+
+    /**
+     * Indica si una jugada calculada en segundo plano ya no vale porque,
+     * mientras se calculaba, alguien disparó a la casilla elegida (p. ej. una
+     * habilidad). Se llama desde el hilo de JavaFX antes de processCPUShot.
+     *
+     * @param planned Coordenada devuelta por computeCPUShotAsync
+     */
+    public boolean isCPUShotStale(Coordinate planned) {
+        BoardSnapshot plannedOn = pendingCPUShotBoard;
+        if (plannedOn == null || planned == null) {
+            return false;
+        }
+        BoardSnapshot current = playerBoard.snapshot();
+        return current != plannedOn && current.isValidCoordinate(planned) && current.hasBeenShot(planned);
+    }
+
+    private boolean isCPUTurnPlayable() {
+        return !playerTurn && gamePhase == GamePhase.IN_PLAY && !jammingActive;
+    }
+
+    /**
+     * Procesa un disparo de la CPU, calculándolo en el hilo actual
      *
      * @return
      */
     public ShotResult processCPUShot() {
+        Coordinate target = isCPUTurnPlayable()
+                ? ((CPU) cpuPlayer).planShot(playerBoard, playerShips)
+                : null;
+        return processCPUShot(target);
+    }
+
+    /**
+     * Aplica un disparo de la CPU ya calculado (ver computeCPUShotAsync)
+     *
+     * @param planned Coordenada elegida por la CPU
+     * @return Resultado del disparo
+     */
+    public ShotResult processCPUShot(Coordinate planned) {
+        BoardSnapshot plannedOn = pendingCPUShotBoard;
+        pendingCPUShot = null;
+        pendingCPUShotBoard = null;
         if (playerTurn || gamePhase != GamePhase.IN_PLAY || jammingActive) {
             if (jammingActive) {
                 jammingActive = false; // Jamming solo afecta un turno
@@ -570,21 +609,33 @@ public class GameController {
             return ShotResult.INVALID;
         }
 
-        Coordinate target = ((CPU) cpuPlayer).chooseShotTarget(humanPlayer);
+        CPU cpu = (CPU) cpuPlayer;
+        // Si aun así llega una casilla ya disparada durante el cálculo, no se
+        // repite la estrategia en este hilo: basta una casilla abierta al azar
+        BoardSnapshot current = plannedOn != null ? playerBoard.snapshot() : null;
+        boolean stale = current != null && current != plannedOn
+                && current.isValidCoordinate(planned) && current.hasBeenShot(planned);
+        if (stale) {
+            LOG.info("🔁 Casilla disparada durante el cálculo de la CPU, disparo al azar");
+        }
+        Coordinate target = stale ? cpu.quickShot(playerBoard, playerShips, current) : planned;
         lastShotCPU = target;
 
-        if (!isValidCoordinate(target)) {
+        if (target == null || !isValidCoordinate(target)) {
             return ShotResult.INVALID;
         }
 
         Cell targetCell = playerBoard.getCell(target);
         if (targetCell == null || targetCell.hasBeenShot()) {
+            if (targetCell != null) {
+                // Casilla ya tocada por otra vía (habilidades): que la CPU lo sepa
+                cpu.updateAfterShot(target, targetCell.hasShip() ? ShotResult.HIT : ShotResult.MISS);
+            }
             return ShotResult.ALREADY_SHOT;
         }
 
         ShotResult result = targetCell.shoot();
-        cpuController.processResult(target, result);
-        ((CPU) cpuPlayer).updateAfterShot(target, result);
+        cpu.updateAfterShot(target, result);
         elapsedTurns++;
 
         if (result.isHit()) {
@@ -595,17 +646,23 @@ public class GameController {
                 if (sunkShip != null) {
                     CPUSkills.earnSinkingPoints();
                     lastSunkenShipPlayer = sunkShip;
-                    System.out.println("La CPU hundió tu " + sunkShip.getType().getName() + "!");
+                    LOG.info(() -> "La CPU hundió tu " + sunkShip.getType().getName() + "!");
                 }
             }
 
             // CPU mantiene el turno si impacta
             playerTurn = false;
+        } else if (cpuExtraTurn) {
+            // El jugador pierde este turno por la interferencia de la CPU
+            cpuExtraTurn = false;
+            playerTurn = false;
         } else {
             // Cambiar turno a jugador si falla
             playerTurn = true;
         }
 
+        notifyEffects(listener -> listener.onShotFired(false, target, result));
+
         // Verificar si el juego terminó
         checkGameEnd();
 
@@ -625,6 +682,61 @@ public class GameController {
         return null;
     }
 
+    /**
+     * Resuelve una ráfaga de disparos (bomba de racimo y otras habilidades de
+     * varias casillas) en una sola pasada: un único reparto de puntos de
+     * habilidad, una única comprobación de fin de partida y un único evento
+     * onShotsFired. La ráfaga cuenta como una sola acción y no cambia el turno.
+     *
+     * @param isPlayer true si dispara el jugador (sobre el tablero de la CPU)
+     * @param targets Casillas (x * size + y) del tablero rival
+     * @return Resultado de cada disparo; todos INVALID si la partida no está en juego
+     */
+    public ShotBatch processShotBatch(boolean isPlayer, int[] targets) {
+        if (targets == null) {
+            throw new IllegalArgumentException("La lista de casillas no puede ser nula");
+        }
+        if (gamePhase != GamePhase.IN_PLAY) {
+            return ShotBatch.rejected(targets);
+        }
+
+        Board targetBoard = isPlayer ? cpuBoard : playerBoard;
+        SkillSystem skills = isPlayer ? playerSkills : CPUSkills;
+        Set<Ship> counted = isPlayer ? sunkShipsCPU : sunkShipsPlayer;
+
+        ShotBatch batch = targetBoard.shootAll(targets);
+        elapsedTurns++;
+
+        if (!isPlayer && cpuPlayer instanceof CPU) {
+            CPU cpu = (CPU) cpuPlayer;
+            for (int i = 0; i < batch.size(); i++) {
+                ShotResult result = batch.getResult(i);
+                if (result.isHit() || result == ShotResult.MISS) {
+                    int index = batch.getTarget(i);
+                    cpu.updateAfterShot(targetBoard.coordinateOf(index), result);
+                }
+            }
+        }
+
+        int sinkings = 0;
+        for (Ship ship : batch.getSunkShips()) {
+            if (counted.add(ship)) {
+                sinkings++;
+                if (isPlayer) {
+                    lastSunkenShipCPU = ship;
+                } else {
+                    lastSunkenShipPlayer = ship;
+                }
+            }
+        }
+        skills.earnShotPoints(batch.getHits(), sinkings);
+
+        notifyEffects(listener -> listener.onShotsFired(isPlayer, batch));
+        checkGameEnd();
+
+        return batch;
+    }
+
     /**
      * Verifica si el juego ha terminado
      */
@@ -637,13 +749,15 @@ public class GameController {
             if (currentProfile != null) {
                 currentProfile.updateFromGame(this, true);
             }
-            System.out.println("🎉 ¡VICTORIA! " + humanPlayer.getName() + " ganó la partida");
+            LOG.info(() -> "🎉 ¡VICTORIA! " + humanPlayer.getName() + " ganó la partida");
+            notifyEffects(listener -> listener.onGameEnded(true));
         } else if (playerLost) {
             gamePhase = GamePhase.CPU_WIN;
             if (currentProfile != null) {
                 currentProfile.updateFromGame(this, false);
             }
-            System.out.println("💀 DERROTA! La CPU ganó la partida");
+            LOG.info("💀 DERROTA! La CPU ganó la partida");
+            notifyEffects(listener -> listener.onGameEnded(false));
         }
     }
 
@@ -698,14 +812,54 @@ public class GameController {
     }
 
     /**
-     * Habilidades de la CPU
+     * Deja que la CPU use una habilidad al empezar su turno, si el
+     * planificador encuentra alguna que compense su coste. Debe llamarse
+     * antes de calcular el disparo (computeCPUShotAsync), porque el sonar y
+     * el radar cambian la puntería de la CPU.
+     *
+     * @return Resultado de la habilidad usada, o null si no usó ninguna
      */
-    public void useCPUSkill() {
+    public SkillResult useCPUSkill() {
+        if (!isCPUTurnPlayable()) {
+            return null;
+        }
         Skill cpuSkill = skillController.decideCPUSkill();
-        if (cpuSkill != null && CPUSkills.canUseSkill(cpuSkill)) {
-            SkillResult result = skillController.executeCPUSkill(cpuSkill);
-            if (result.isSuccessful()) {
-                CPUSkills.useSkill(cpuSkill);
+        if (cpuSkill == null || !CPUSkills.canUseSkill(cpuSkill)) {
+            return null;
+        }
+        SkillResult result = skillController.executeCPUSkill(cpuSkill);
+        if (result.isSuccessful()) {
+            CPUSkills.useSkill(cpuSkill);
+        }
+        return result;
+    }
+
+    // ========== EFECTOS (SONIDO Y ANIMACIÓN) ==========
+    /**
+     * Registra un observador de efectos. El controlador no depende de
+     * JavaFX: la interfaz gráfica registra FxEffectListener y una partida
+     * sin interfaz (servidor, simulaciones) simplemente no registra ninguno.
+     */
+    public void addEffectListener(EffectListener listener) {
+        if (listener != null && !effectListeners.contains(listener)) {
+            effectListeners.add(listener);
+        }
+    }
+
+    public void removeEffectListener(EffectListener listener) {
+        effectListeners.remove(listener);
+    }
+
+    /**
+     * Avisa a los observadores; un fallo de sonido o animación no debe
+     * interrumpir la partida
+     */
+    void notifyEffects(Consumer<EffectListener> event) {
+        for (EffectListener listener : effectListeners) {
+            try {
+                event.accept(listener);
+            } catch (RuntimeException e) {
+                LOG.warn(() -> "⚠️ Error en efecto de " + listener.getClass().getSimpleName() + ": " + e.getMessage());
             }
         }
     }
@@ -717,7 +871,7 @@ public class GameController {
     public void setStandardFleet() {
         List<Ship> standardFleet = createStandardFleet();
         setBothFleets(standardFleet);
-        System.out.println("🎯 Flota estándar configurada");
+        LOG.info("🎯 Flota estándar configurada");
     }
 
     /**
@@ -748,18 +902,34 @@ public class GameController {
             resetShipsState(this.CPUShips);
 
             // Colocar barcos de la CPU automáticamente
-            if (cpuPlayer instanceof CPU) {
-                ((CPU) cpuPlayer).placeShipsRandomly();
-            }
+            placeCPUFleet();
 
-            System.out.println("🔄 Flota asignada a ambos jugadores: " + fleet.size() + " barcos");
+            LOG.info(() -> "🔄 Flota asignada a ambos jugadores: " + fleet.size() + " barcos");
 
         } catch (Exception e) {
-            System.err.println("❌ Error al establecer flota para ambos jugadores: " + e.getMessage());
+            LOG.error(() -> "❌ Error al establecer flota para ambos jugadores: " + e.getMessage());
             throw new RuntimeException("No se pudo configurar las flotas", e);
         }
     }
 
+    /**
+     * Coloca la flota de la CPU (CPUShips) en su tablero, vaciado antes, y
+     * enlaza CPUShips y cpuBoard con los barcos que quedaron colocados
+     */
+    private void placeCPUFleet() {
+        if (!(cpuPlayer instanceof CPU)) {
+            return;
+        }
+        List<ShipType> types = new ArrayList<>(CPUShips.size());
+        for (Ship ship : CPUShips) {
+            types.add(ship.getType());
+        }
+        cpuPlayer.resetFleet(types);
+        ((CPU) cpuPlayer).placeShipsRandomly();
+        this.cpuBoard = cpuPlayer.getBoard();
+        this.CPUShips = cpuPlayer.getShips();
+    }
+
     // ========== MÉTODOS AUXILIARES ==========
     private boolean isValidCoordinate(Coordinate coord) {
         return coord != null
@@ -776,7 +946,7 @@ public class GameController {
         List<Coordinate> hits = new ArrayList<>();
         for (int i = 0; i < Board.BOARD_SIZE; i++) {
             for (int j = 0; j < Board.BOARD_SIZE; j++) {
-                Coordinate coord = new Coordinate(i, j);
+                Coordinate coord = Coordinate.of(i, j);
                 Cell cell = cpuBoard.getCell(coord);
                 if (cell != null && cell.hasBeenShot() && cell.isHit()) {
                     hits.add(coord);
@@ -827,6 +997,13 @@ public class GameController {
         this.jammingActive = active;
     }
 
+    /**
+     * La CPU sigue disparando tras su próximo fallo (interferencia de la CPU)
+     */
+    public void grantCPUExtraTurn() {
+        this.cpuExtraTurn = true;
+    }
+
     public boolean isGameOver() {
         return gamePhase == GamePhase.PLAYER_WIN || gamePhase == GamePhase.CPU_WIN;
     }
@@ -839,6 +1016,54 @@ public class GameController {
         return gamePhase == GamePhase.CPU_WIN;
     }
 
+    public long getGameSeed() {
+        return gameSeed;
+    }
+
+    /**
+     * Grabador de la repetición de esta partida
+     */
+    public ReplayRecorder getReplayRecorder() {
+        return replayRecorder;
+    }
+
+    public boolean isReplayRecording() {
+        return replayRecording;
+    }
+
+    /**
+     * Activa o desactiva la grabación de la repetición de esta partida (por
+     * ejemplo, al reproducir otra repetición)
+     */
+    public void setReplayRecording(boolean recording) {
+        if (recording == replayRecording) {
+            return;
+        }
+        replayRecording = recording;
+        if (recording) {
+            addEffectListener(replayRecorder);
+        } else {
+            removeEffectListener(replayRecorder);
+            replayRecorder.restart();
+        }
+    }
+
+    /**
+     * Captura la partida actual en un RolloutState independiente, para IAs
+     * de búsqueda y análisis "¿qué pasaría si...?". Se captura una vez y
+     * después se copia con RolloutState.fork(), que solo duplica arreglos.
+     * Modificar el estado devuelto no afecta a esta partida.
+     */
+    public RolloutState fork() {
+        RolloutState state = new RolloutState(playerBoard, playerShips, cpuBoard, CPUShips);
+        state.setSkills(RolloutState.PLAYER, playerSkills);
+        state.setSkills(RolloutState.CPU, CPUSkills);
+        state.setTurn(playerTurn ? RolloutState.PLAYER : RolloutState.CPU);
+        state.setElapsedTurns(elapsedTurns);
+        state.setPhase(gamePhase);
+        return state;
+    }
+
     public int getRemainingPlayerShips() {
         return (int) playerShips.stream().filter(ship -> !ship.isSunk()).count();
     }
@@ -903,10 +1128,6 @@ public class GameController {
         return new ArrayList<>();
     }
 
-    public CPUController getCpuController() {
-        return cpuController;
-    }
-
     public SkillSystem getPlayerSkills() {
         return playerSkills;
     }
@@ -925,6 +1146,7 @@ public class GameController {
 
     public void setDifficulty(Difficulty difficulty) {
         this.difficulty = difficulty;
+        cpuPlayer.setDifficulty(difficulty); // La CPU cambia de estrategia de disparo
         setupSkillsByDifficulty(); // Reconfigurar habilidades al cambiar dificultad
     }
 
@@ -933,6 +1155,9 @@ public class GameController {
      * Reinicia el juego completo
      */
     public void reset() {
+        // Descartar la jugada de la CPU en curso antes de tocar nada
+        cancelPendingCPUShot();
+
         // Reiniciar barcos
         for (Ship ship : playerShips) {
             ship.reset();
@@ -956,19 +1181,23 @@ public class GameController {
         playerBoard.reset();
         cpuBoard.reset();
 
-        // Reiniciar controladores
-        cpuController.reset();
+        // Reiniciar la puntería de la CPU
+        ((CPU) cpuPlayer).resetTargeting();
 
         // Reiniciar contadores
         elapsedTurns = 0;
         playerTurn = true;
         gamePhase = GamePhase.IN_PLAY;
         jammingActive = false;
+        cpuExtraTurn = false;
 
         // Recolocar barcos de la CPU
         ((CPU) cpuPlayer).placeShipsRandomly();
+        if (replayRecording) {
+            replayRecorder.restart();
+        }
 
-        System.out.println("🔄 Juego reiniciado");
+        LOG.info("🔄 Juego reiniciado");
     }
 
     /**
@@ -1007,7 +1236,7 @@ public class GameController {
         List<Ship> specialFleet = createSpecialFleet();
         setBothFleets(specialFleet);
         enhanceSkillsForSpecialFleet();
-        System.out.println("🚀 Flota especial configurada - Barcos únicos con habilidades mejoradas");
+        LOG.info("🚀 Flota especial configurada - Barcos únicos con habilidades mejoradas");
     }
 
     /**
@@ -1017,7 +1246,7 @@ public class GameController {
         List<Ship> tacticalFleet = createTacticalFleet();
         setBothFleets(tacticalFleet);
         setupSkillsForTacticalGame();
-        System.out.println("🎓 Flota táctica configurada - Enfoque en estrategia y habilidades");
+        LOG.info("🎓 Flota táctica configurada - Enfoque en estrategia y habilidades");
     }
 
     /**
@@ -1028,7 +1257,7 @@ public class GameController {
         List<Ship> cpuFleet = createAsymmetricCPUFleet();
         setAsymmetricFleets(playerFleet, cpuFleet);
         setupSkillsForAsymmetricGame();
-        System.out.println("⚖️ Flota asimétrica configurada - Jugador: ofensivo, CPU: defensivo");
+        LOG.info("⚖️ Flota asimétrica configurada - Jugador: ofensivo, CPU: defensivo");
     }
 
     /**
@@ -1038,7 +1267,7 @@ public class GameController {
         List<Ship> minimalFleet = createMinimalFleet();
         setBothFleets(minimalFleet);
         setupSkillsForLightningGame();
-        System.out.println("⚡ Flota mínima configurada - Partidas rápidas y dinámicas");
+        LOG.info("⚡ Flota mínima configurada - Partidas rápidas y dinámicas");
     }
 
     /**
@@ -1048,7 +1277,7 @@ public class GameController {
         List<Ship> swarmFleet = createSwarmFleet();
         setBothFleets(swarmFleet);
         setupSkillsForSwarmGame();
-        System.out.println("🐝 Flota enjambre configurada - Muchos barcos pequeños");
+        LOG.info("🐝 Flota enjambre configurada - Muchos barcos pequeños");
     }
 
     /**
@@ -1088,9 +1317,7 @@ public class GameController {
             resetShipsState(this.CPUShips);
 
             // Colocar barcos de la CPU automáticamente
-            if (cpuPlayer instanceof CPU) {
-                ((CPU) cpuPlayer).placeShipsRandomly();
-            }
+            placeCPUFleet();
 
             // Registrar la configuración asimétrica
             logAsymmetricFleetAssignment(playerFleet, cpuFleet);
@@ -1098,11 +1325,11 @@ public class GameController {
             // Analizar el balance de las flotas asimétricas
             analyzeAsymmetricBalance();
 
-            System.out.println("⚖️ Flotas asimétricas configuradas: Jugador=" + playerFleet.size()
+            LOG.info(() -> "⚖️ Flotas asimétricas configuradas: Jugador=" + playerFleet.size()
                     + " barcos, CPU=" + cpuFleet.size() + " barcos");
 
         } catch (Exception e) {
-            System.err.println("❌ Error al establecer flotas asimétricas: " + e.getMessage());
+            LOG.error(() -> "❌ Error al establecer flotas asimétricas: " + e.getMessage());
             throw new RuntimeException("No se pudo configurar las flotas asimétricas", e);
         }
     }
@@ -1132,13 +1359,13 @@ public class GameController {
 
             // Verificar tipo duplicado (opcional, dependiendo de las reglas)
             if (seenTypes.contains(type)) {
-                System.out.println("⚠️  " + owner + ": Múltiples barcos de tipo " + type.getName());
+                LOG.info(() -> "⚠️  " + owner + ": Múltiples barcos de tipo " + type.getName());
             }
             seenTypes.add(type);
 
             // Verificar que el barco no esté ya en otro tablero
             if (ship.isPlaced()) {
-                System.out.println("🔄 " + owner + ": Reiniciando barco " + type.getName() + " que ya estaba colocado");
+                LOG.info(() -> "🔄 " + owner + ": Reiniciando barco " + type.getName() + " que ya estaba colocado");
                 ship.reset();
             }
 
@@ -1148,12 +1375,12 @@ public class GameController {
 
         // Validar tamaño total de la flota
         if (totalCells > maxAllowedCells) {
-            System.out.println("📏 " + owner + ": Flota muy grande (" + totalCells
+            LOG.info("📏 " + owner + ": Flota muy grande (" + totalCells
                     + " casillas), máximo recomendado: " + maxAllowedCells);
         }
 
         if (totalCells < getMinFleetCells()) {
-            System.out.println("📏 " + owner + ": Flota muy pequeña (" + totalCells
+            LOG.info("📏 " + owner + ": Flota muy pequeña (" + totalCells
                     + " casillas), mínimo recomendado: " + getMinFleetCells());
         }
     }
@@ -1205,7 +1432,7 @@ public class GameController {
             sb.setLength(sb.length() - 2);
         }
 
-        System.out.println(sb.toString());
+        LOG.info(() -> sb.toString());
     }
 
     /**
@@ -1231,12 +1458,12 @@ public class GameController {
             balanceLevel = "💀 EXTREMADAMENTE ASIMÉTRICO";
         }
 
-        System.out.println("📈 Análisis de balance asimétrico:");
-        System.out.println("   Poder - Jugador: " + playerPower + ", CPU: " + cpuPower
+        LOG.info("📈 Análisis de balance asimétrico:");
+        LOG.info(() -> "   Poder - Jugador: " + playerPower + ", CPU: " + cpuPower
                 + ", Ratio: " + String.format("%.2f", powerRatio));
-        System.out.println("   Casillas - Jugador: " + playerCells + ", CPU: " + cpuCells
+        LOG.info(() -> "   Casillas - Jugador: " + playerCells + ", CPU: " + cpuCells
                 + ", Ratio: " + String.format("%.2f", cellRatio));
-        System.out.println("   Nivel: " + balanceLevel);
+        LOG.info(() -> "   Nivel: " + balanceLevel);
 
         // Sugerir estrategias basadas en la asimetría
         suggestAsymmetricStrategies(playerPower, cpuPower, playerCells, cpuCells);
@@ -1246,25 +1473,25 @@ public class GameController {
      * Sugiere estrategias basadas en la configuración asimétrica
      */
     private void suggestAsymmetricStrategies(int playerPower, int cpuPower, int playerCells, int cpuCells) {
-        System.out.println("🎯 Estrategias sugeridas:");
+        LOG.info("🎯 Estrategias sugeridas:");
 
         if (playerPower > cpuPower) {
             // Jugador tiene ventaja de poder
             if (playerCells > cpuCells) {
-                System.out.println("   👤 JUGADOR: Ataque agresivo - Usa tu superioridad numérica");
-                System.out.println("   🤖 CPU: Defensa estratégica - Enfócate en barcos grandes del jugador");
+                LOG.info("   👤 JUGADOR: Ataque agresivo - Usa tu superioridad numérica");
+                LOG.info("   🤖 CPU: Defensa estratégica - Enfócate en barcos grandes del jugador");
             } else {
-                System.out.println("   👤 JUGADOR: Ataque preciso - Tus barcos son más poderosos pero menos numerosos");
-                System.out.println("   🤖 CPU: Guerra de desgaste - Aprovecha tu mayor número de blancos");
+                LOG.info("   👤 JUGADOR: Ataque preciso - Tus barcos son más poderosos pero menos numerosos");
+                LOG.info("   🤖 CPU: Guerra de desgaste - Aprovecha tu mayor número de blancos");
             }
         } else {
             // CPU tiene ventaja de poder
             if (cpuCells > playerCells) {
-                System.out.println("   👤 JUGADOR: Defensa inteligente - Evita confrontaciones directas");
-                System.out.println("   🤖 CPU: Ataque constante - Presiona con tu superioridad numérica");
+                LOG.info("   👤 JUGADOR: Defensa inteligente - Evita confrontaciones directas");
+                LOG.info("   🤖 CPU: Ataque constante - Presiona con tu superioridad numérica");
             } else {
-                System.out.println("   👤 JUGADOR: Tácticas de guerrilla - Ataca puntos débiles");
-                System.out.println("   🤖 CPU: Ataque concentrado - Enfócate en eliminar barcos clave");
+                LOG.info("   👤 JUGADOR: Tácticas de guerrilla - Ataca puntos débiles");
+                LOG.info("   🤖 CPU: Ataque concentrado - Enfócate en eliminar barcos clave");
             }
         }
     }
@@ -1309,7 +1536,7 @@ public class GameController {
             fleet.add(new Ship(ShipType.SUBMARINE));
             fleet.add(createSpecialShip("Patrullera", 2));
         } catch (Exception e) {
-            System.err.println("❌ Error creando flota especial, usando flota mejorada: " + e.getMessage());
+            LOG.error(() -> "❌ Error creando flota especial, usando flota mejorada: " + e.getMessage());
             return createEnhancedFleet();
         }
         return fleet;
@@ -1422,10 +1649,10 @@ public class GameController {
             // Reiniciar estado de los barcos
             resetShipsState(this.playerShips);
 
-            System.out.println("🚢 Flota del jugador establecida: " + playerShips.size() + " barcos");
+            LOG.info(() -> "🚢 Flota del jugador establecida: " + playerShips.size() + " barcos");
 
         } catch (Exception e) {
-            System.err.println("❌ Error al establecer flota del jugador: " + e.getMessage());
+            LOG.error(() -> "❌ Error al establecer flota del jugador: " + e.getMessage());
             throw new RuntimeException("No se pudo configurar la flota del jugador", e);
         }
     }
@@ -1470,14 +1697,12 @@ public class GameController {
             resetShipsState(this.CPUShips);
 
             // Colocar barcos de la CPU automáticamente
-            if (cpuPlayer instanceof CPU) {
-                ((CPU) cpuPlayer).placeShipsRandomly();
-            }
+            placeCPUFleet();
 
-            System.out.println("🤖 Flota de CPU establecida: " + CPUShips.size() + " barcos");
+            LOG.info(() -> "🤖 Flota de CPU establecida: " + CPUShips.size() + " barcos");
 
         } catch (Exception e) {
-            System.err.println("❌ Error al establecer flota de la CPU: " + e.getMessage());
+            LOG.error(() -> "❌ Error al establecer flota de la CPU: " + e.getMessage());
             throw new RuntimeException("No se pudo configurar la flota de la CPU", e);
         }
     }
@@ -1496,12 +1721,12 @@ public class GameController {
         this.isTimeLimited = (minutes > 0);
 
         if (isTimeLimited) {
-            System.out.println("⏰ Límite de tiempo establecido: " + minutes + " minutos");
+            LOG.info(() -> "⏰ Límite de tiempo establecido: " + minutes + " minutos");
 
             // Inicializar temporizador si es necesario
             initializeGameTimer();
         } else {
-            System.out.println("⏰ Modo sin límite de tiempo");
+            LOG.info("⏰ Modo sin límite de tiempo");
         }
     }
 
@@ -1540,7 +1765,7 @@ public class GameController {
 
         // Aquí puedes implementar la lógica del temporizador
         // Por ejemplo, usando un ScheduledExecutorService o JavaFX Timeline
-        System.out.println("⏱️  Temporizador inicializado para " + timeLimitMinutes + " minutos");
+        LOG.info(() -> "⏱️  Temporizador inicializado para " + timeLimitMinutes + " minutos");
     }
 
 // ========== MÉTODOS AUXILIARES MEJORADOS ==========
@@ -1561,7 +1786,7 @@ public class GameController {
 
                 copy.add(newShip);
             } catch (Exception e) {
-                System.err.println("⚠️ Error al copiar barco de tipo "
+                LOG.warn(() -> "⚠️ Error al copiar barco de tipo "
                         + originalShip.getType().getName() + ": " + e.getMessage());
                 // Continuar con el siguiente barco
             }
@@ -1578,10 +1803,10 @@ public class GameController {
                 ship.reset();
                 // Asegurar que el barco esté listo para ser colocado
                 if (ship.isPlaced()) {
-                    System.out.println("🔄 Reiniciando barco " + ship.getType().getName() + " que ya estaba colocado");
+                    LOG.info(() -> "🔄 Reiniciando barco " + ship.getType().getName() + " que ya estaba colocado");
                 }
             } catch (Exception e) {
-                System.err.println("⚠️ Error al reiniciar barco " + ship.getType().getName() + ": " + e.getMessage());
+                LOG.warn(() -> "⚠️ Error al reiniciar barco " + ship.getType().getName() + ": " + e.getMessage());
             }
         }
     }
@@ -1673,10 +1898,10 @@ public class GameController {
         boolean cpuReady = !CPUShips.isEmpty();
 
         if (!playerReady) {
-            System.err.println("❌ Flota del jugador no configurada");
+            LOG.error("❌ Flota del jugador no configurada");
         }
         if (!cpuReady) {
-            System.err.println("❌ Flota de la CPU no configurada");
+            LOG.error("❌ Flota de la CPU no configurada");
         }
 
         return playerReady && cpuReady;
@@ -1712,7 +1937,7 @@ public class GameController {
         double balanceRatio = (double) Math.min(playerPower, cpuPower) / Math.max(playerPower, cpuPower);
         boolean balanced = balanceRatio >= 0.7;
 
-        System.out.println("⚖️ Balance de flotas: Jugador=" + playerPower
+        LOG.info(() -> "⚖️ Balance de flotas: Jugador=" + playerPower
                 + ", CPU=" + cpuPower + ", Ratio=" + String.format("%.2f", balanceRatio)
                 + ", Balanceado=" + balanced);
 
@@ -1736,4 +1961,55 @@ public class GameController {
                 .sum();
     }
 
+    // ========== INTERFACE PARA EFECTOS ==========
+    /**
+     * Efectos que acompañan a la partida. Todos los métodos son opcionales.
+     */
+    public interface EffectListener {
+
+        default void onShotFired(boolean isPlayer, Coordinate coord, ShotResult result) {
+        }
+
+        default void onGameEnded(boolean playerWon) {
+        }
+
+        /**
+         * Ráfaga resuelta con processShotBatch: un solo aviso para todos sus disparos
+         */
+        default void onShotsFired(boolean isPlayer, ShotBatch batch) {
+        }
+
+        default void onSonar(Coordinate center, List<Coordinate> revealedArea) {
+        }
+
+        default void onRadar(Coordinate detectedCoord, ShipType shipType) {
+        }
+
+        default void onDrone(boolean isRow, int index) {
+        }
+
+        default void onGuidedMissile(Coordinate target, ShotResult result) {
+        }
+
+        default void onClusterBomb(Coordinate center, List<Coordinate> affectedArea) {
+        }
+
+        default void onJamming() {
+        }
+
+        default void onRepair(Coordinate position, Ship ship) {
+        }
+
+        default void onCamouflage(Ship ship, Coordinate newPosition) {
+        }
+
+        /**
+         * Habilidad de la CPU sin disparos propios (sonar, radar, interferencia);
+         * su bomba de racimo llega como ráfaga (onShotsFired)
+         *
+         * @param target Casilla del tablero del jugador, o null si no tiene
+         */
+        default void onCPUSkill(Skill skill, Coordinate target) {
+        }
+    }
 }
@@ -1,14 +1,20 @@
 package com.cenit.battleship.controller;
 
 import com.cenit.battleship.model.Board;
+import com.cenit.battleship.model.CPU;
 import com.cenit.battleship.model.Cell;
 import com.cenit.battleship.model.Coordinate;
 import com.cenit.battleship.model.Player;
 import com.cenit.battleship.model.Ship;
+import com.cenit.battleship.model.ShotBatch;
+import com.cenit.battleship.model.ShotContext;
+import com.cenit.battleship.model.ShotStrategy;
 import com.cenit.battleship.model.Skill;
+import com.cenit.battleship.model.SkillPlanner;
 import com.cenit.battleship.model.SkillResult;
 import com.cenit.battleship.model.SkillSystem;
 import com.cenit.battleship.model.enums.Direction;
+import com.cenit.battleship.model.enums.ShipType;
 import com.cenit.battleship.model.enums.ShotResult;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -22,14 +28,12 @@ import java.util.Random;
 public class SkillController {
 
     private GameController gameController;
-    private SoundController soundController;
-    private AnimationController animationController;
     private Random random;
+    private final SkillPlanner skillPlanner = new SkillPlanner();
+    private SkillPlanner.Plan lastCPUPlan;
 
     public SkillController(GameController gameController) {
         this.gameController = gameController;
-        this.soundController = SoundController.getInstance();
-        this.animationController = AnimationController.getInstance();
         this.random = new Random();
     }
 
@@ -42,32 +46,19 @@ public class SkillController {
             List<Cell> revealedCells = new ArrayList<>();
 
             // Revelar área 3x3 alrededor del centro
-            for (int dx = -1; dx <= 1; dx++) {
-                for (int dy = -1; dy <= 1; dy++) {
-                    int x = center.getX() + dx;
-                    int y = center.getY() + dy;
-
-                    if (x >= 0 && x < Board.BOARD_SIZE && y >= 0 && y < Board.BOARD_SIZE) {
-                        Coordinate coord = new Coordinate(x, y);
-                        Cell cell = cpuBoard.getCell(coord);
-                        
-                        if (cell != null) {
-                            // Simular revelación temporal - crear una copia del estado
-                            revealedArea.add(coord);
-                            revealedCells.add(cell);
-                        }
-                    }
+            cpuBoard.forEachInStencil(cpuBoard.indexOf(center), Board.STENCIL_BLOCK, index -> {
+                Coordinate coord = cpuBoard.coordinateOf(index);
+                Cell cell = cpuBoard.getCell(coord);
+
+                if (cell != null) {
+                    // Simular revelación temporal - crear una copia del estado
+                    revealedArea.add(coord);
+                    revealedCells.add(cell);
                 }
-            }
+            });
 
-            // Sonido y animación
-            if (soundController != null) {
-                soundController.playSonar();
-            }
-            
-            if (animationController != null) {
-                animationController.playSonarAnimation(center, revealedArea);
-            }
+            // Sonido y animación (si hay interfaz)
+            gameController.notifyEffects(listener -> listener.onSonar(center, revealedArea));
 
             // Crear información de detección
             StringBuilder detectionInfo = new StringBuilder();
@@ -131,15 +122,10 @@ public class SkillController {
             List<Coordinate> revealedCoordinates = Arrays.asList(revealedCoord);
             List<Cell> revealedCells = Arrays.asList(revealedCell);
 
-            // Sonido y animación
-            if (soundController != null) {
-                soundController.playRadar();
-            }
-            
-            if (animationController != null) {
-                Ship detectedShip = revealedCell.getShip();
-                animationController.playRadarAnimation(revealedCoord, detectedShip != null ? detectedShip.getType() : null);
-            }
+            // Sonido y animación (si hay interfaz)
+            Ship detectedShip = revealedCell.getShip();
+            ShipType detectedType = detectedShip != null ? detectedShip.getType() : null;
+            gameController.notifyEffects(listener -> listener.onRadar(revealedCoord, detectedType));
 
             String shipName = targetShip != null ? targetShip.getType().getName() : "barco enemigo";
             return new SkillResult(
@@ -164,7 +150,7 @@ public class SkillController {
             if (isRow) {
                 // Escanear fila completa
                 for (int x = 0; x < Board.BOARD_SIZE; x++) {
-                    Coordinate coord = new Coordinate(x, index);
+                    Coordinate coord = Coordinate.of(x, index);
                     Cell cell = cpuBoard.getCell(coord);
                     if (cell != null) {
                         scannedArea.add(coord);
@@ -177,7 +163,7 @@ public class SkillController {
             } else {
                 // Escanear columna completa
                 for (int y = 0; y < Board.BOARD_SIZE; y++) {
-                    Coordinate coord = new Coordinate(index, y);
+                    Coordinate coord = Coordinate.of(index, y);
                     Cell cell = cpuBoard.getCell(coord);
                     if (cell != null) {
                         scannedArea.add(coord);
@@ -189,14 +175,8 @@ public class SkillController {
                 }
             }
 
-            // Sonido y animación
-            if (soundController != null) {
-                soundController.playDrone();
-            }
-            
-            if (animationController != null) {
-                animationController.playDroneAnimation(isRow, index);
-            }
+            // Sonido y animación (si hay interfaz)
+            gameController.notifyEffects(listener -> listener.onDrone(isRow, index));
 
             return new SkillResult(
                 true, 
@@ -252,14 +232,9 @@ public class SkillController {
                 result = gameController.processPlayerShot(target);
             }
 
-            // Sonido y animación
-            if (soundController != null) {
-                soundController.playMissile();
-            }
-            
-            if (animationController != null) {
-                animationController.playMissileAnimation(target, result);
-            }
+            // Sonido y animación (si hay interfaz)
+            ShotResult missileResult = result;
+            gameController.notifyEffects(listener -> listener.onGuidedMissile(target, missileResult));
 
             return new SkillResult(
                 true, 
@@ -276,48 +251,24 @@ public class SkillController {
     public SkillResult useClusterBomb(Coordinate center) {
         try {
             Board cpuBoard = gameController.getCpuBoard();
-            List<Coordinate> affectedArea = new ArrayList<>();
-            List<Cell> affectedCells = new ArrayList<>();
-            List<ShotResult> results = new ArrayList<>();
-            int hitCount = 0;
+            if (!isValidCoordinate(center)) {
+                return new SkillResult(false, "Coordenada inválida: " + center);
+            }
 
-            // Patrón de cruz (5 casillas)
-            int[][] offsets = {{0,0}, {-1,0}, {1,0}, {0,-1}, {0,1}};
-            
-            for (int[] offset : offsets) {
-                int x = center.getX() + offset[0];
-                int y = center.getY() + offset[1];
+            // Patrón de cruz (5 casillas), resuelto como una sola ráfaga
+            int[] targets = clusterTargets(cpuBoard, cpuBoard.indexOf(center));
+            ShotBatch batch = gameController.processShotBatch(true, targets);
 
-                if (isValidCoordinate(x, y)) {
-                    Coordinate coord = new Coordinate(x, y);
-                    Cell cell = cpuBoard.getCell(coord);
-                    
-                    if (cell != null && !cell.hasBeenShot()) {
-                        ShotResult result = gameController.processPlayerShot(coord);
-                        results.add(result);
-                        
-                        if (result.isHit()) {
-                            hitCount++;
-                        }
-                        
-                        affectedArea.add(coord);
-                        affectedCells.add(cell);
-                    }
-                }
-            }
+            List<Coordinate> affectedArea = new ArrayList<>(targets.length);
+            List<Cell> affectedCells = new ArrayList<>(targets.length);
+            collectAffected(cpuBoard, batch, affectedArea, affectedCells);
 
-            // Sonido y animación
-            if (soundController != null) {
-                soundController.playClusterBomb();
-            }
-            
-            if (animationController != null) {
-                animationController.playClusterBombAnimation(center, affectedArea);
-            }
+            // Sonido y animación (si hay interfaz)
+            gameController.notifyEffects(listener -> listener.onClusterBomb(center, affectedArea));
 
             return new SkillResult(
                 true, 
-                "Bomba de racimo: " + hitCount + " impacto(s) en " + affectedArea.size() + " casillas!", 
+                "Bomba de racimo: " + batch.getHits() + " impacto(s) en " + affectedArea.size() + " casillas!", 
                 affectedArea, 
                 affectedCells
             );
@@ -333,14 +284,8 @@ public class SkillController {
             gameController.setPlayerTurn(true);
             gameController.setJammingActive(true);
             
-            // Sonido y animación
-            if (soundController != null) {
-                soundController.playJamming();
-            }
-            
-            if (animationController != null) {
-                animationController.playJammingAnimation();
-            }
+            // Sonido y animación (si hay interfaz)
+            gameController.notifyEffects(listener -> listener.onJamming());
 
             return new SkillResult(
                 true, 
@@ -389,14 +334,8 @@ public class SkillController {
                 return new SkillResult(false, "Error al reparar el barco");
             }
 
-            // Sonido y animación
-            if (soundController != null) {
-                soundController.playRepair();
-            }
-            
-            if (animationController != null) {
-                animationController.playRepairAnimation(position, ship);
-            }
+            // Sonido y animación (si hay interfaz)
+            gameController.notifyEffects(listener -> listener.onRepair(position, ship));
 
             return new SkillResult(
                 true, 
@@ -423,12 +362,7 @@ public class SkillController {
 
             // Remover barco de posición actual
             Board playerBoard = gameController.getPlayerBoard();
-            for (Coordinate coord : ship.getCoordinates()) {
-                Cell cell = playerBoard.getCell(coord);
-                if (cell != null) {
-                    cell.setShip(null);
-                }
-            }
+            playerBoard.releaseCells(ship.getCoordinates());
 
             // Colocar en nueva posición
             boolean placed = gameController.placeShip(ship, newPosition, direction);
@@ -439,14 +373,8 @@ public class SkillController {
                 return new SkillResult(false, "Error al recolocar el barco");
             }
 
-            // Sonido y animación
-            if (soundController != null) {
-                soundController.playCamouflage();
-            }
-            
-            if (animationController != null) {
-                animationController.playCamouflageAnimation(ship, newPosition);
-            }
+            // Sonido y animación (si hay interfaz)
+            gameController.notifyEffects(listener -> listener.onCamouflage(ship, newPosition));
 
             return new SkillResult(
                 true, 
@@ -460,32 +388,24 @@ public class SkillController {
 
     // ========== HABILIDADES DE LA CPU ==========
 
+    /**
+     * Elige la habilidad de la CPU con mayor utilidad esperada por punto
+     * según lo que la CPU sabe del tablero del jugador
+     *
+     * @return Habilidad a usar, o null si ninguna compensa su coste
+     */
     public Skill decideCPUSkill() {
         SkillSystem cpuSkills = gameController.getCPUSkills();
-        
-        if (cpuSkills == null) {
+        ShotContext context = getCPUTargeting();
+
+        if (cpuSkills == null || context == null) {
+            lastCPUPlan = null;
             return null;
         }
 
-        // Priorizar habilidades según la situación del juego
-        if (shouldUseRadar() && cpuSkills.canUseSkill(Skill.RADAR)) {
-            return Skill.RADAR;
-        } else if (shouldUseSonar() && cpuSkills.canUseSkill(Skill.SONAR)) {
-            return Skill.SONAR;
-        } else if (shouldUseJamming() && cpuSkills.canUseSkill(Skill.JAMMING)) {
-            return Skill.JAMMING;
-        } else if (shouldUseClusterBomb() && cpuSkills.canUseSkill(Skill.CLUSTER_BOMB)) {
-            return Skill.CLUSTER_BOMB;
-        }
-        
-        // Buscar cualquier habilidad disponible
-        for (Skill skill : cpuSkills.getAvailableSkills().keySet()) {
-            if (cpuSkills.canUseSkill(skill)) {
-                return skill;
-            }
-        }
-        
-        return null;
+        ShotStrategy strategy = ((CPU) gameController.getCpuPlayer()).getShotStrategy();
+        lastCPUPlan = skillPlanner.plan(context, cpuSkills, strategy);
+        return lastCPUPlan != null ? lastCPUPlan.getSkill() : null;
     }
 
     public SkillResult executeCPUSkill(Skill skill) {
@@ -508,79 +428,144 @@ public class SkillController {
     }
 
     private SkillResult useCPUSonar() {
-        Coordinate target = findBestCPUTargetForSonar();
-        return useSonar(target);
+        ShotContext context = getCPUTargeting();
+        int center = findCPUTarget(context, Skill.SONAR);
+        if (center < 0) {
+            return new SkillResult(false, "Sonar sin objetivo");
+        }
+        Board playerBoard = gameController.getPlayerBoard();
+        List<Coordinate> revealedArea = new ArrayList<>();
+        List<Cell> revealedCells = new ArrayList<>();
+
+        // Lo detectado pasa al estado de puntería: los barcos como objetivos
+        // prioritarios y el agua como casillas que ya no hace falta disparar
+        playerBoard.forEachInStencil(center, Board.STENCIL_BLOCK, index -> {
+            Coordinate coord = context.toCoordinate(index);
+            Cell cell = playerBoard.getCell(coord);
+            if (cell != null) {
+                revealedArea.add(coord);
+                revealedCells.add(cell);
+                if (cell.hasBeenShot()) {
+                    return;
+                }
+                if (cell.hasShip()) {
+                    context.revealShip(index);
+                } else {
+                    context.revealWater(index);
+                }
+            }
+        });
+
+        Coordinate centerCoord = context.toCoordinate(center);
+        gameController.notifyEffects(listener -> listener.onCPUSkill(Skill.SONAR, centerCoord));
+        return new SkillResult(true, "CPU usó sonar en " + centerCoord.aNotacion(),
+                revealedArea, revealedCells);
     }
 
     private SkillResult useCPURadar() {
-        return useRadar();
+        ShotContext context = getCPUTargeting();
+        if (context == null) {
+            return new SkillResult(false, "Radar sin objetivo");
+        }
+        // Una casilla intacta de un barco al azar del jugador
+        List<Coordinate> intact = new ArrayList<>();
+        for (Ship ship : gameController.getPlayerShipsNotSunk()) {
+            for (Coordinate coord : ship.getCoordinates()) {
+                Cell cell = gameController.getPlayerBoard().getCell(coord);
+                if (cell != null && !cell.hasBeenShot()) {
+                    intact.add(coord);
+                }
+            }
+        }
+        if (intact.isEmpty()) {
+            return new SkillResult(false, "No hay barcos del jugador para detectar");
+        }
+        Coordinate detected = intact.get(random.nextInt(intact.size()));
+        context.revealShip(context.indexOf(detected));
+        gameController.notifyEffects(listener -> listener.onCPUSkill(Skill.RADAR, detected));
+        return new SkillResult(true, "CPU usó radar y localizó uno de tus barcos");
     }
 
     private SkillResult useCPUJamming() {
-        // CPU usa jamming para robar turno
-        gameController.setPlayerTurn(false);
-        gameController.setJammingActive(true);
+        // CPU usa jamming para robar turno: no lo cede en su próximo fallo
+        // (jammingActive es la interferencia del jugador, que bloquea a la CPU)
+        gameController.grantCPUExtraTurn();
+        gameController.notifyEffects(listener -> listener.onCPUSkill(Skill.JAMMING, null));
         return new SkillResult(true, "CPU usó interferencia! Pierdes tu próximo turno");
     }
 
     private SkillResult useCPUClusterBomb() {
-        Coordinate target = findBestCPUTargetForCluster();
-        return useClusterBomb(target);
-    }
-
-    // ========== LÓGICA DE DECISIÓN DE LA CPU ==========
-
-    private boolean shouldUseRadar() {
-        // Usar radar cuando haya pocos barcos del jugador intactos
-        return gameController.getRemainingPlayerShips() <= 2;
-    }
+        ShotContext context = getCPUTargeting();
+        int center = findCPUTarget(context, Skill.CLUSTER_BOMB);
+        if (center < 0) {
+            return new SkillResult(false, "Bomba de racimo sin objetivo");
+        }
+        Board playerBoard = gameController.getPlayerBoard();
+        ShotBatch batch = gameController.processShotBatch(false, clusterTargets(playerBoard, center));
 
-    private boolean shouldUseSonar() {
-        // Usar sonar cuando el jugador tenga barcos grandes sin descubrir
-        return hasLargePlayerShipsUndiscovered();
-    }
+        List<Coordinate> affectedArea = new ArrayList<>(batch.size());
+        List<Cell> affectedCells = new ArrayList<>(batch.size());
+        collectAffected(playerBoard, batch, affectedArea, affectedCells);
 
-    private boolean shouldUseJamming() {
-        // Usar jamming cuando el jugador esté en racha de aciertos
-        return gameController.getPlayerHitStreak() >= 2;
+        return new SkillResult(true, "Bomba de racimo de la CPU: " + batch.getHits() + " impacto(s) en "
+                + affectedArea.size() + " casillas!", affectedArea, affectedCells);
     }
 
-    private boolean shouldUseClusterBomb() {
-        // Usar cluster bomb cuando haya áreas concentradas de barcos
-        return findBestCPUTargetForCluster() != null;
+    /**
+     * Casillas aún sin disparar de la cruz de la bomba de racimo
+     */
+    private int[] clusterTargets(Board board, int center) {
+        int[] targets = new int[5];
+        int[] count = {0};
+        board.forEachInStencil(center, Board.STENCIL_CROSS | Board.STENCIL_CENTER, index -> {
+            Coordinate coord = board.coordinateOf(index);
+            if (!board.hasBeenShot(coord)) {
+                targets[count[0]++] = index;
+            }
+        });
+        return Arrays.copyOf(targets, count[0]);
     }
 
-    private boolean hasLargePlayerShipsUndiscovered() {
-        for (Ship ship : gameController.getPlayerShipsNotSunk()) {
-            if (ship.getType().getSize() >= 4 && ship.getIntactPartsCount() >= 2) {
-                return true;
+    /**
+     * Casillas y celdas que la ráfaga llegó a disparar
+     */
+    private void collectAffected(Board board, ShotBatch batch, List<Coordinate> area, List<Cell> cells) {
+        for (int i = 0; i < batch.size(); i++) {
+            ShotResult result = batch.getResult(i);
+            if (result.isHit() || result == ShotResult.MISS) {
+                int index = batch.getTarget(i);
+                Coordinate coord = board.coordinateOf(index);
+                area.add(coord);
+                cells.add(board.getCell(coord));
             }
         }
-        return false;
     }
 
-    private Coordinate findBestCPUTargetForSonar() {
-        // Buscar área con mayor densidad de barcos del jugador
-        // Por ahora, posición aleatoria evitando bordes
-        return new Coordinate(
-            random.nextInt(Board.BOARD_SIZE - 2) + 1,
-            random.nextInt(Board.BOARD_SIZE - 2) + 1
-        );
+    // ========== LÓGICA DE DECISIÓN DE LA CPU ==========
+
+    private ShotContext getCPUTargeting() {
+        if (!(gameController.getCpuPlayer() instanceof CPU)) {
+            return null;
+        }
+        CPU cpu = (CPU) gameController.getCpuPlayer();
+        return cpu.getTargeting(gameController.getPlayerBoard(), gameController.getPlayerShips());
     }
 
-    private Coordinate findBestCPUTargetForCluster() {
-        // Buscar área donde se sospecha que hay barcos del jugador
-        // Basado en disparos previos exitosos
-        List<Coordinate> hitCoordinates = gameController.getPlayerHitCoordinates();
-        if (!hitCoordinates.isEmpty()) {
-            return hitCoordinates.get(random.nextInt(hitCoordinates.size()));
+    /**
+     * Casilla objetivo de una habilidad: la del último plan si coincide, o la
+     * mejor según el planificador
+     *
+     * @return Índice de la casilla, o -1 si no hay objetivo
+     */
+    private int findCPUTarget(ShotContext context, Skill skill) {
+        if (context == null) {
+            return -1;
         }
-        
-        // Posición aleatoria como fallback
-        return new Coordinate(
-            random.nextInt(Board.BOARD_SIZE),
-            random.nextInt(Board.BOARD_SIZE)
-        );
+        if (lastCPUPlan != null && lastCPUPlan.getSkill() == skill && lastCPUPlan.hasTarget()) {
+            return lastCPUPlan.getTarget();
+        }
+        SkillPlanner.Plan plan = skillPlanner.evaluate(context, skill);
+        return plan != null ? plan.getTarget() : -1;
     }
     
     // ========== MÉTODOS AUXILIARES ==========
@@ -1,6 +1,7 @@
 package com.cenit.battleship.controller;
 
 import com.cenit.battleship.model.GameConfiguration;
+import com.cenit.battleship.util.GameLog;
 import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
@@ -13,6 +14,8 @@ import javafx.scene.media.MediaPlayer;
  * @author Usuario
  */
 public class SoundController {
+
+    private static final GameLog.Logger LOG = GameLog.getLogger(SoundController.class);
     private static SoundController instance;
     private Map<String, AudioClip> soundEffects;
     private MediaPlayer backgroundMusic;
@@ -67,10 +70,10 @@ public class SoundController {
             loadBackgroundMusic("/sounds/background_music.mp3");
 
             soundsLoaded = true;
-            System.out.println("✅ Sonidos cargados exitosamente - " + soundEffects.size() + " efectos disponibles");
+            LOG.info(() -> "✅ Sonidos cargados exitosamente - " + soundEffects.size() + " efectos disponibles");
 
         } catch (Exception e) {
-            System.err.println("❌ Error al cargar sonidos: " + e.getMessage());
+            LOG.error(() -> "❌ Error al cargar sonidos: " + e.getMessage());
             soundsLoaded = false;
         }
     }
@@ -82,12 +85,12 @@ public class SoundController {
                 AudioClip clip = new AudioClip(soundUrl.toString());
                 soundEffects.put(name, clip);
             } else {
-                System.err.println("⚠️ No se pudo encontrar el archivo de sonido: " + path);
+                LOG.warn(() -> "⚠️ No se pudo encontrar el archivo de sonido: " + path);
                 // Crear un clip vacío para evitar NullPointerException
                 soundEffects.put(name, new AudioClip(""));
             }
         } catch (Exception e) {
-            System.err.println("❌ Error al cargar efecto " + name + ": " + e.getMessage());
+            LOG.error(() -> "❌ Error al cargar efecto " + name + ": " + e.getMessage());
             // Asegurar que siempre haya una entrada en el mapa
             soundEffects.put(name, new AudioClip(""));
         }
@@ -101,12 +104,12 @@ public class SoundController {
                 backgroundMusic = new MediaPlayer(media);
                 backgroundMusic.setCycleCount(MediaPlayer.INDEFINITE);
                 backgroundMusic.setVolume(getMusicVolume());
-                System.out.println("🎵 Música de fondo cargada: " + musicPath);
+                LOG.info(() -> "🎵 Música de fondo cargada: " + musicPath);
             } else {
-                System.err.println("⚠️ No se pudo cargar la música de fondo: " + musicPath);
+                LOG.warn(() -> "⚠️ No se pudo cargar la música de fondo: " + musicPath);
             }
         } catch (Exception e) {
-            System.err.println("❌ Error al cargar música de fondo: " + e.getMessage());
+            LOG.error(() -> "❌ Error al cargar música de fondo: " + e.getMessage());
         }
     }
 
@@ -123,7 +126,7 @@ public class SoundController {
             try {
                 clip.play(getEffectsVolume());
             } catch (Exception e) {
-                System.err.println("❌ Error al reproducir efecto " + name + ": " + e.getMessage());
+                LOG.error(() -> "❌ Error al reproducir efecto " + name + ": " + e.getMessage());
             }
         }
     }
@@ -140,7 +143,7 @@ public class SoundController {
                 double volume = Math.min(getEffectsVolume(), Math.max(0.0, customVolume));
                 clip.play(volume);
             } catch (Exception e) {
-                System.err.println("❌ Error al reproducir efecto " + name + ": " + e.getMessage());
+                LOG.error(() -> "❌ Error al reproducir efecto " + name + ": " + e.getMessage());
             }
         }
     }
@@ -155,10 +158,10 @@ public class SoundController {
             if (backgroundMusic.getStatus() != MediaPlayer.Status.PLAYING) {
                 backgroundMusic.setVolume(getMusicVolume());
                 backgroundMusic.play();
-                System.out.println("🎵 Música de fondo iniciada");
+                LOG.info("🎵 Música de fondo iniciada");
             }
         } catch (Exception e) {
-            System.err.println("❌ Error al iniciar música de fondo: " + e.getMessage());
+            LOG.error(() -> "❌ Error al iniciar música de fondo: " + e.getMessage());
         }
     }
 
@@ -168,7 +171,7 @@ public class SoundController {
     public void pauseBackgroundMusic() {
         if (backgroundMusic != null && backgroundMusic.getStatus() == MediaPlayer.Status.PLAYING) {
             backgroundMusic.pause();
-            System.out.println("⏸️ Música de fondo pausada");
+            LOG.info("⏸️ Música de fondo pausada");
         }
     }
 
@@ -178,7 +181,7 @@ public class SoundController {
     public void stopBackgroundMusic() {
         if (backgroundMusic != null) {
             backgroundMusic.stop();
-            System.out.println("⏹️ Música de fondo detenida");
+            LOG.info("⏹️ Música de fondo detenida");
         }
     }
 
@@ -280,7 +283,7 @@ public class SoundController {
         if (backgroundMusic != null) {
             backgroundMusic.setVolume(getMusicVolume());
         }
-        System.out.println("🔊 Volúmenes actualizados - Efectos: " + getEffectsVolume() + ", Música: " + getMusicVolume());
+        LOG.info(() -> "🔊 Volúmenes actualizados - Efectos: " + getEffectsVolume() + ", Música: " + getMusicVolume());
     }
 
     /**
@@ -296,7 +299,7 @@ public class SoundController {
             stopBackgroundMusic();
         }
         
-        System.out.println("🔊 Sonidos " + (enabled ? "habilitados" : "deshabilitados"));
+        LOG.info(() -> "🔊 Sonidos " + (enabled ? "habilitados" : "deshabilitados"));
     }
 
     /**
@@ -311,7 +314,7 @@ public class SoundController {
             pauseBackgroundMusic();
         }
         
-        System.out.println("🎵 Música " + (enabled ? "habilitada" : "deshabilitada"));
+        LOG.info(() -> "🎵 Música " + (enabled ? "habilitada" : "deshabilitada"));
     }
 
     /**
@@ -319,7 +322,7 @@ public class SoundController {
      */
     public void setEffectsEnabled(boolean enabled) {
         this.effectsEnabled = enabled;
-        System.out.println("🎯 Efectos de sonido " + (enabled ? "habilitados" : "deshabilitados"));
+        LOG.info(() -> "🎯 Efectos de sonido " + (enabled ? "habilitados" : "deshabilitados"));
     }
 
     /**
@@ -344,7 +347,7 @@ public class SoundController {
         if (musicEnabled) {
             startBackgroundMusic();
         }
-        System.out.println("🔄 Controlador de sonido reiniciado");
+        LOG.info("🔄 Controlador de sonido reiniciado");
     }
 
     /**
@@ -384,9 +387,9 @@ public class SoundController {
             // Limpiar mapa
             soundEffects.clear();
             
-            System.out.println("🧹 Recursos de sonido liberados");
+            LOG.info("🧹 Recursos de sonido liberados");
         } catch (Exception e) {
-            System.err.println("❌ Error al liberar recursos de sonido: " + e.getMessage());
+            LOG.error(() -> "❌ Error al liberar recursos de sonido: " + e.getMessage());
         }
     }
 
@@ -409,7 +412,7 @@ public class SoundController {
      * Muestra todos los efectos de sonido disponibles
      */
     public void printAvailableSounds() {
-        System.out.println("🎵 Efectos de sonido disponibles:");
+        LOG.info("🎵 Efectos de sonido disponibles:");
         soundEffects.keySet().forEach(System.out::println);
     }
 }
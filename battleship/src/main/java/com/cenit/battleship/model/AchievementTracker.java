@@ -9,9 +9,12 @@ import com.cenit.battleship.controller.GameController;
 import com.cenit.battleship.model.enums.Achievement;
 import com.cenit.battleship.model.enums.Achievement.AchievementProgress;
 import com.cenit.battleship.model.enums.ShipType;
+import com.cenit.battleship.util.GameLog;
 import java.util.*;
 
 public class AchievementTracker {
+
+    private static final GameLog.Logger LOG = GameLog.getLogger(AchievementTracker.class);
     private Map<Achievement, AchievementProgress> progressMap;
     private Set<Achievement> unlockedAchievements;
     private PlayerProfile playerProfile;
@@ -173,7 +176,7 @@ public class AchievementTracker {
                     getTargetForAchievement(achievement), 
                     true));
             
-            System.out.println("🎉 ¡Logro desbloqueado: " + achievement.getDisplayName() + "!");
+            LOG.info(() -> "🎉 ¡Logro desbloqueado: " + achievement.getDisplayName() + "!");
         }
     }
 
@@ -0,0 +1,241 @@
+package com.cenit.battleship.model;
+
+import com.cenit.battleship.model.enums.CellState;
+import com.cenit.battleship.model.enums.ShotResult;
+import java.util.Arrays;
+
+/**
+ * Almacenamiento compacto del tablero basado en bitsets.
+ *
+ * La ocupación de barcos, los disparos y los impactos se guardan en tres
+ * arreglos long[] empaquetados (un bit por casilla, índice = x * size + y),
+ * de modo que disparar o consultar una casilla son unas pocas operaciones de
+ * bits. Los objetos Cell solo se crean bajo demanda como vistas sobre estos
+ * bits, para mantener compatible la API de Board.
+ */
+public class BitboardStorage implements BoardStorage {
+
+    private final int size;
+    private final long[] shipBits;
+    private final long[] shotBits;
+    private final long[] hitBits;
+    private final Ship[] shipRefs;
+    private final Coordinate.Table coordinates;
+    private final StorageVersion version = new StorageVersion();
+
+    // Vistas Cell materializadas perezosamente
+    private Cell[] cellViews;
+
+    public BitboardStorage(int size) {
+        int words = (size * size + 63) >>> 6;
+        this.size = size;
+        this.shipBits = new long[words];
+        this.shotBits = new long[words];
+        this.hitBits = new long[words];
+        this.shipRefs = new Ship[size * size];
+        this.coordinates = Coordinate.tableFor(size);
+    }
+
+    // ========== OPERACIONES DE BITS ==========
+    static boolean testBit(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    static void setBit(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    static void clearBit(long[] bits, int index) {
+        bits[index >>> 6] &= ~(1L << index);
+    }
+
+    private int indexOf(int x, int y) {
+        return x * size + y;
+    }
+
+    // ========== API DE BoardStorage ==========
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public long getShipVersion() {
+        return version.getShips();
+    }
+
+    @Override
+    public long getShotVersion() {
+        return version.getShots();
+    }
+
+    @Override
+    public Cell getCell(int x, int y) {
+        if (cellViews == null) {
+            cellViews = new Cell[size * size];
+        }
+        int index = indexOf(x, y);
+        Cell view = cellViews[index];
+        if (view == null) {
+            view = new Cell(coordinates.ofIndex(index), this, index);
+            cellViews[index] = view;
+        }
+        return view;
+    }
+
+    @Override
+    public Ship getShip(int x, int y) {
+        return shipRefs[indexOf(x, y)];
+    }
+
+    @Override
+    public void setShip(int x, int y, Ship ship) {
+        setShipAt(indexOf(x, y), ship);
+    }
+
+    @Override
+    public boolean hasShip(int x, int y) {
+        return testBit(shipBits, indexOf(x, y));
+    }
+
+    @Override
+    public boolean hasBeenShot(int x, int y) {
+        return testBit(shotBits, indexOf(x, y));
+    }
+
+    @Override
+    public boolean isHit(int x, int y) {
+        return testBit(hitBits, indexOf(x, y));
+    }
+
+    @Override
+    public ShotResult shoot(int x, int y) {
+        return shootAt(indexOf(x, y));
+    }
+
+    @Override
+    public CellState getState(int x, int y) {
+        return stateAt(indexOf(x, y));
+    }
+
+    @Override
+    public void reset() {
+        Arrays.fill(shipBits, 0L);
+        Arrays.fill(shotBits, 0L);
+        Arrays.fill(hitBits, 0L);
+        Arrays.fill(shipRefs, null);
+        version.shipsChanged();
+        version.shotsChanged();
+    }
+
+    @Override
+    public void clearShips() {
+        Arrays.fill(shipBits, 0L);
+        Arrays.fill(hitBits, 0L);
+        Arrays.fill(shipRefs, null);
+        version.shipsChanged();
+        version.shotsChanged();
+    }
+
+    @Override
+    public void exportBits(long[] shipBits, long[] shotBits, long[] hitBits, long[] sunkBits) {
+        if (shipBits != null) {
+            System.arraycopy(this.shipBits, 0, shipBits, 0, this.shipBits.length);
+        }
+        if (shotBits != null) {
+            System.arraycopy(this.shotBits, 0, shotBits, 0, this.shotBits.length);
+        }
+        if (hitBits != null) {
+            System.arraycopy(this.hitBits, 0, hitBits, 0, this.hitBits.length);
+        }
+        if (sunkBits == null) {
+            return;
+        }
+
+        // Solo las casillas impactadas pueden pertenecer a un barco hundido
+        for (int word = 0; word < this.hitBits.length; word++) {
+            long bits = this.hitBits[word] & this.shipBits[word];
+            while (bits != 0) {
+                int index = (word << 6) + Long.numberOfTrailingZeros(bits);
+                if (shipRefs[index].isSunk()) {
+                    setBit(sunkBits, index);
+                }
+                bits &= bits - 1;
+            }
+        }
+    }
+
+    // ========== ACCESO POR ÍNDICE (usado por las vistas Cell) ==========
+    Ship shipAt(int index) {
+        return shipRefs[index];
+    }
+
+    void setShipAt(int index, Ship ship) {
+        shipRefs[index] = ship;
+        if (ship != null) {
+            setBit(shipBits, index);
+        } else {
+            clearBit(shipBits, index);
+        }
+        version.shipsChanged();
+    }
+
+    boolean isShotAt(int index) {
+        return testBit(shotBits, index);
+    }
+
+    boolean isHitAt(int index) {
+        return testBit(hitBits, index);
+    }
+
+    /**
+     * Establece directamente los bits de disparo e impacto de una casilla
+     */
+    void setShotState(int index, boolean shot, boolean hit) {
+        if (shot) {
+            setBit(shotBits, index);
+        } else {
+            clearBit(shotBits, index);
+        }
+        if (hit) {
+            setBit(hitBits, index);
+        } else {
+            clearBit(hitBits, index);
+        }
+        version.shotsChanged();
+    }
+
+    ShotResult shootAt(int index) {
+        int word = index >>> 6;
+        long mask = 1L << index;
+
+        if ((shotBits[word] & mask) != 0) {
+            return ShotResult.ALREADY_SHOT;
+        }
+        shotBits[word] |= mask;
+        version.shotsChanged();
+
+        if ((shipBits[word] & mask) == 0) {
+            return ShotResult.MISS;
+        }
+        hitBits[word] |= mask;
+
+        Ship ship = shipRefs[index];
+        boolean hitRegistered = ship.registerHitAtCoordinate(coordinates.ofIndex(index));
+        return hitRegistered ? ShotResult.fromImpact(true, ship.isSunk()) : ShotResult.ALREADY_HIT;
+    }
+
+    CellState stateAt(int index) {
+        int word = index >>> 6;
+        long mask = 1L << index;
+        boolean ship = (shipBits[word] & mask) != 0;
+
+        if ((shotBits[word] & mask) == 0) {
+            return ship ? CellState.SHIP : CellState.WATER;
+        }
+        if ((hitBits[word] & mask) == 0) {
+            return CellState.MISS;
+        }
+        return ship && shipRefs[index].isSunk() ? CellState.SUNK_SHIP : CellState.IMPACT;
+    }
+}
@@ -1,39 +1,114 @@
 package com.cenit.battleship.model;
 
+import com.cenit.battleship.model.enums.BoardStorageType;
 import com.cenit.battleship.model.enums.CellState;
 import com.cenit.battleship.model.enums.ShotResult;
+import com.cenit.battleship.util.GameLog;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.IntConsumer;
 
 /**
  * Representa el tablero de juego de batalla naval
  */
 public class Board {
 
+    private static final GameLog.Logger LOG = GameLog.getLogger(Board.class);
+
     public static final int BOARD_SIZE = 15;
-    private Cell[][] grid;
+
+    // Máscaras del entorno 3x3 de una casilla para forEachInStencil
+    // (x = fila: NORTH es la fila anterior, WEST la columna anterior)
+    public static final int STENCIL_NORTH_WEST = 1;
+    public static final int STENCIL_NORTH = 1 << 1;
+    public static final int STENCIL_NORTH_EAST = 1 << 2;
+    public static final int STENCIL_WEST = 1 << 3;
+    public static final int STENCIL_CENTER = 1 << 4;
+    public static final int STENCIL_EAST = 1 << 5;
+    public static final int STENCIL_SOUTH_WEST = 1 << 6;
+    public static final int STENCIL_SOUTH = 1 << 7;
+    public static final int STENCIL_SOUTH_EAST = 1 << 8;
+    public static final int STENCIL_CROSS = STENCIL_NORTH | STENCIL_WEST | STENCIL_EAST | STENCIL_SOUTH;
+    public static final int STENCIL_RING = 0x1FF & ~STENCIL_CENTER;
+    public static final int STENCIL_BLOCK = 0x1FF;
+
+    private final BoardStorage storage;
+    private final BoardStorageType storageType;
+    private final NeighborTable neighbors;
+    private final Coordinate.Table coordinates;
     private List<Ship> ships;
 
+    // Índice de flota: identificador de barco por casilla (0 = sin barco,
+    // id = posición en 'ships' + 1) y contador de hundidos mantenido por eventos
+    private static final int MAX_SHIP_IDS = 0xFF;
+    private final byte[] shipIds;
+    private int sunkShips;
+
+    // Zona de exclusión para colocar barcos: casillas con barco y sus 8 vecinas.
+    // El contador por casilla permite retirar barcos (camuflaje) sin recalcular
+    private final short[] exclusionCount;
+    private final long[] exclusionBits;
+
+    // Última instantánea entregada (se reutiliza si el tablero no cambió) y
+    // contadores del almacenamiento y de la flota cuando se capturó
+    private BoardSnapshot lastSnapshot;
+    private long snapshotShipVersion;
+    private long snapshotShotVersion;
+    private long snapshotFleetVersion;
+    // Avanza cada vez que cambia la flota o un barco se hunde o vuelve a flote
+    private long fleetVersion;
+    private final Ship.StatusListener fleetTracker = new Ship.StatusListener() {
+        @Override
+        public void onShipSunk(Ship ship) {
+            sunkShips++;
+            fleetVersion++;
+        }
+
+        @Override
+        public void onShipRefloated(Ship ship) {
+            sunkShips--;
+            fleetVersion++;
+        }
+    };
+
     public Board() {
-        this.grid = new Cell[BOARD_SIZE][BOARD_SIZE];
-        this.ships = new ArrayList<>();
-        initializeGrid();
+        this(BOARD_SIZE);
     }
 
     public Board(int size) {
-        this.grid = new Cell[size][size];
-        this.ships = new ArrayList<>();
-        initializeGrid();
+        this(size, size > GameConfiguration.MAX_BOARD_SIZE
+                ? BoardStorageType.SPARSE : BoardStorageType.CELL_GRID);
     }
 
     /**
-     * Inicializa el grid con celdas vacías
+     * Crea un tablero con un motor de almacenamiento específico
+     *
+     * @param size Tamaño del tablero
+     * @param storageType Motor de almacenamiento de las casillas
      */
-    private void initializeGrid() {
-        for (int i = 0; i < grid.length; i++) {
-            for (int j = 0; j < grid[i].length; j++) {
-                grid[i][j] = new Cell(new Coordinate(i, j));
-            }
+    public Board(int size, BoardStorageType storageType) {
+        this.storageType = storageType;
+        this.storage = createStorage(size, storageType);
+        this.neighbors = NeighborTable.forSize(size);
+        this.coordinates = Coordinate.tableFor(size);
+        this.ships = new ArrayList<>();
+        // En tableros dispersos el índice denso anularía el ahorro de memoria
+        boolean dense = storageType != BoardStorageType.SPARSE;
+        this.shipIds = dense ? new byte[size * size] : null;
+        this.exclusionCount = dense ? new short[size * size] : null;
+        this.exclusionBits = dense ? new long[(size * size + 63) >>> 6] : null;
+    }
+
+    private static BoardStorage createStorage(int size, BoardStorageType storageType) {
+        switch (storageType) {
+            case BITBOARD:
+                return new BitboardStorage(size);
+            case SPARSE:
+                return new SparseBoardStorage(size);
+            case CELL_GRID:
+            default:
+                return new CellGridStorage(size);
         }
     }
 
@@ -41,7 +116,144 @@ public class Board {
      * Obtiene el tamaño del tablero
      */
     public int getSize() {
-        return grid.length;
+        return storage.getSize();
+    }
+
+    /**
+     * Obtiene el motor de almacenamiento usado por el tablero
+     */
+    public BoardStorageType getStorageType() {
+        return storageType;
+    }
+
+    // ========== ÍNDICE DE FLOTA ==========
+    /**
+     * Registra un barco en la flota: lo numera, marca sus casillas en el
+     * índice de identificadores y se suscribe a sus cambios de estado
+     */
+    private void registerShip(Ship ship, List<Coordinate> coordinates) {
+        if (ships.size() >= MAX_SHIP_IDS) {
+            throw new IllegalStateException("Demasiados barcos en el tablero (máximo " + MAX_SHIP_IDS + ")");
+        }
+        ships.add(ship);
+        byte id = (byte) ships.size();
+        if (shipIds != null) {
+            for (Coordinate coord : coordinates) {
+                if (isInside(coord.getX(), coord.getY())) {
+                    shipIds[coord.getX() * getSize() + coord.getY()] = id;
+                }
+            }
+        }
+        ship.addStatusListener(fleetTracker);
+        if (ship.isSunk()) {
+            sunkShips++;
+        }
+        fleetVersion++;
+    }
+
+    /**
+     * Vacía la flota y el índice de identificadores
+     */
+    private void unregisterAllShips() {
+        for (Ship ship : ships) {
+            ship.removeStatusListener(fleetTracker);
+        }
+        ships.clear();
+        if (shipIds != null) {
+            Arrays.fill(shipIds, (byte) 0);
+            Arrays.fill(exclusionCount, (short) 0);
+            Arrays.fill(exclusionBits, 0L);
+        }
+        sunkShips = 0;
+        fleetVersion++;
+    }
+
+    /**
+     * Busca el barco registrado en (x, y) mediante el índice de identificadores
+     */
+    private Ship lookupShipId(int x, int y) {
+        if (shipIds == null) {
+            return scanShips(coordinates.of(x, y));
+        }
+        int id = shipIds[x * getSize() + y] & 0xFF;
+        if (id == 0) {
+            return null;
+        }
+        Ship ship = ships.get(id - 1);
+        // El barco pudo haberse recolocado (camuflaje) después de registrarse
+        return ship.occupiesCoordinate(coordinates.of(x, y)) ? ship : null;
+    }
+
+    // ========== ZONA DE EXCLUSIÓN ==========
+    /**
+     * Añade (delta = 1) o retira (delta = -1) las casillas de un barco y sus
+     * vecinas de la zona de exclusión
+     */
+    private void updateExclusion(List<Coordinate> coordinates, int delta) {
+        if (exclusionCount == null) {
+            return;
+        }
+        int size = getSize();
+        for (Coordinate coord : coordinates) {
+            int x = coord.getX();
+            int y = coord.getY();
+            if (!isInside(x, y)) {
+                continue;
+            }
+            int minX = Math.max(0, x - 1), maxX = Math.min(size - 1, x + 1);
+            int minY = Math.max(0, y - 1), maxY = Math.min(size - 1, y + 1);
+            for (int i = minX; i <= maxX; i++) {
+                for (int j = minY; j <= maxY; j++) {
+                    int index = i * size + j;
+                    if (delta > 0) {
+                        if (exclusionCount[index]++ == 0) {
+                            BitboardStorage.setBit(exclusionBits, index);
+                        }
+                    } else if (exclusionCount[index] > 0 && --exclusionCount[index] == 0) {
+                        BitboardStorage.clearBit(exclusionBits, index);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Verifica si una casilla está libre de barcos y sin barcos vecinos
+     */
+    private boolean isFreeForPlacement(int x, int y) {
+        if (exclusionBits != null) {
+            return !BitboardStorage.testBit(exclusionBits, x * getSize() + y);
+        }
+        // Tablero disperso: revisar la vecindad recortada a los bordes
+        int size = getSize();
+        for (int i = Math.max(0, x - 1); i <= Math.min(size - 1, x + 1); i++) {
+            for (int j = Math.max(0, y - 1); j <= Math.min(size - 1, y + 1); j++) {
+                if (storage.hasShip(i, j) || lookupShipId(i, j) != null) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Búsqueda lineal en la flota, solo para tableros sin índice denso
+     */
+    private Ship scanShips(Coordinate coord) {
+        for (Ship ship : ships) {
+            if (ship.occupiesCoordinate(coord)) {
+                return ship;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Verifica si (x, y) está dentro del tablero
+     */
+    private boolean isInside(int x, int y) {
+        int size = storage.getSize();
+        return x >= 0 && x < size && y >= 0 && y < size;
     }
 
     /**
@@ -59,27 +271,26 @@ public class Board {
         int y = coord.getY();
 
         // Validar coordenadas
-        if (x < 0 || x >= getSize() || y < 0 || y >= getSize()) {
-            System.err.println("❌ Coordenada fuera de los límites: " + coord);
+        if (!isInside(x, y)) {
+            LOG.error(() -> "❌ Coordenada fuera de los límites: " + coord);
             return null;
         }
 
-        // Buscar en la celda
-        Cell cell = grid[x][y];
-        if (cell != null && cell.hasShip()) {
-            return cell.getShip();
+        // Buscar en la casilla y, como respaldo, en el índice de la flota
+        Ship cellShip = storage.getShip(x, y);
+        if (cellShip != null) {
+            return cellShip;
         }
-
-        // Buscar en la lista de barcos (backup)
-        for (Ship ship : ships) {
-            if (ship.occupiesCoordinate(coord)) {
-                return ship;
-            }
-        }
-
-        return null;
+        return lookupShipId(x, y);
     }
 
+    /**
+     * Verifica si un barco puede ocupar las coordenadas indicadas: todas dentro
+     * del tablero, sin barcos y sin barcos en las 8 casillas vecinas
+     *
+     * @param coordinates Coordenadas candidatas
+     * @return true si la colocación es válida
+     */
     public boolean canPlaceShip(List<Coordinate> coordinates) {
         if (coordinates == null || coordinates.isEmpty()) {
             return false;
@@ -92,32 +303,81 @@ public class Board {
             }
         }
 
-        // Verificar que no haya superposición con barcos existentes
+        // Superposición y separación se resuelven con la zona de exclusión
         for (Coordinate coord : coordinates) {
-            if (hasShipAt(coord)) {
+            if (!isFreeForPlacement(coord.getX(), coord.getY())) {
                 return false;
             }
         }
 
-        // Verificar reglas de separación (opcional, dependiendo de tus reglas)
-        for (Coordinate coord : coordinates) {
-            for (int dx = -1; dx <= 1; dx++) {
-                for (int dy = -1; dy <= 1; dy++) {
-                    if (dx == 0 && dy == 0) {
-                        continue;
-                    }
+        return true;
+    }
 
-                    Coordinate adjacent = coord.desplazar(dx, dy);
-                    if (isValidCoordinate(adjacent) && hasShipAt(adjacent)) {
-                        return false;
-                    }
-                }
+    /**
+     * Versión sin asignaciones de canPlaceShip para búsquedas de colocación
+     * (colocación aleatoria, IA): no crea coordenadas ni lanza excepciones
+     *
+     * @param startX Fila inicial
+     * @param startY Columna inicial
+     * @param dx Avance por segmento en filas (0 o 1)
+     * @param dy Avance por segmento en columnas (0 o 1)
+     * @param length Número de segmentos
+     * @return true si la colocación es válida
+     */
+    public boolean canPlaceShip(int startX, int startY, int dx, int dy, int length) {
+        if (length <= 0 || !isInside(startX, startY)
+                || !isInside(startX + dx * (length - 1), startY + dy * (length - 1))) {
+            return false;
+        }
+        if (exclusionBits != null && dx + dy == 1 && dx * dy == 0
+                && PlacementTable.isSupported(getSize())) {
+            // Tablero denso: una sola operación de máscara sobre la tabla precalculada
+            PlacementTable table = PlacementTable.of(getSize(), length, dy == 1);
+            return !table.intersects(table.placementAt(startX, startY), exclusionBits);
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isFreeForPlacement(startX + dx * i, startY + dy * i)) {
+                return false;
             }
         }
-
         return true;
     }
 
+    /**
+     * Ocupa las casillas con un barco sin registrarlo en la flota del tablero
+     *
+     * @param ship Barco a colocar
+     * @param coordinates Casillas que ocupará
+     * @throws IllegalArgumentException si alguna coordenada está fuera del tablero
+     */
+    public void occupyCells(Ship ship, List<Coordinate> coordinates) {
+        for (Coordinate coord : coordinates) {
+            if (!isValidCoordinate(coord)) {
+                throw new IllegalArgumentException("Coordenada fuera del tablero: " + coord);
+            }
+        }
+        for (Coordinate coord : coordinates) {
+            storage.setShip(coord.getX(), coord.getY(), ship);
+        }
+        updateExclusion(coordinates, 1);
+    }
+
+    /**
+     * Libera las casillas ocupadas por un barco (p. ej. al recolocarlo)
+     *
+     * @param coordinates Casillas a liberar
+     */
+    public void releaseCells(List<Coordinate> coordinates) {
+        List<Coordinate> released = new ArrayList<>();
+        for (Coordinate coord : coordinates) {
+            if (isValidCoordinate(coord) && storage.hasShip(coord.getX(), coord.getY())) {
+                storage.setShip(coord.getX(), coord.getY(), null);
+                released.add(coord);
+            }
+        }
+        updateExclusion(released, -1);
+    }
+
     /**
      * Obtiene la celda en una coordenada específica
      *
@@ -132,11 +392,97 @@ public class Board {
         int x = coord.getX();
         int y = coord.getY();
 
-        if (x < 0 || x >= getSize() || y < 0 || y >= getSize()) {
+        if (!isInside(x, y)) {
             throw new IllegalArgumentException("Coordenada fuera de los límites: " + coord);
         }
 
-        return grid[x][y];
+        return storage.getCell(x, y);
+    }
+
+    // ========== ITERACIÓN DE VECINOS ==========
+    /**
+     * Índice empaquetado de la casilla (x * tamaño + y) en este tablero
+     */
+    public int indexOf(int x, int y) {
+        return x * getSize() + y;
+    }
+
+    public int indexOf(Coordinate coord) {
+        return coord.index(getSize());
+    }
+
+    /**
+     * Coordenada de un índice empaquetado de este tablero
+     *
+     * @throws IllegalArgumentException si el índice está fuera del tablero
+     */
+    public Coordinate coordinateOf(int index) {
+        return coordinates.ofIndex(index);
+    }
+
+    public int rowOf(int index) {
+        return index / getSize();
+    }
+
+    public int columnOf(int index) {
+        return index % getSize();
+    }
+
+    /**
+     * Verifica si un índice empaquetado pertenece al tablero
+     */
+    public boolean isValidIndex(int index) {
+        return index >= 0 && index < getSize() * getSize();
+    }
+
+    /**
+     * Desplaza un índice sin crear coordenadas ni lanzar excepciones
+     *
+     * @return El índice destino, o -1 si queda fuera del tablero
+     */
+    public int offset(int index, int dx, int dy) {
+        if (!isValidIndex(index)) {
+            return -1;
+        }
+        int x = rowOf(index) + dx;
+        int y = columnOf(index) + dy;
+        return isInside(x, y) ? indexOf(x, y) : -1;
+    }
+
+    /**
+     * Recorre los vecinos ortogonales de una casilla (recortados al tablero)
+     */
+    public void forEachNeighbor4(int index, IntConsumer action) {
+        forEachInStencil(index, STENCIL_CROSS, action);
+    }
+
+    /**
+     * Recorre los 8 vecinos de una casilla (recortados al tablero)
+     */
+    public void forEachNeighbor8(int index, IntConsumer action) {
+        forEachInStencil(index, STENCIL_RING, action);
+    }
+
+    /**
+     * Recorre las casillas del entorno 3x3 seleccionadas por la máscara
+     * (constantes STENCIL_*), omitiendo las que caen fuera del tablero.
+     * Nunca lanza excepciones ni crea coordenadas; un índice inválido no
+     * produce ninguna visita.
+     *
+     * @param index Índice de la casilla central
+     * @param mask Máscara de 9 bits del entorno a visitar
+     * @param action Acción que recibe el índice de cada casilla visitada
+     */
+    public void forEachInStencil(int index, int mask, IntConsumer action) {
+        if (!isValidIndex(index)) {
+            return;
+        }
+        int bits = mask & neighbors.clipMask(index);
+        while (bits != 0) {
+            int bit = Integer.numberOfTrailingZeros(bits);
+            action.accept(index + neighbors.offset(bit));
+            bits &= bits - 1;
+        }
     }
 
     // ========== MÉTODOS DE DISPARO ==========
@@ -154,12 +500,38 @@ public class Board {
         int x = coord.getX();
         int y = coord.getY();
 
-        if (x < 0 || x >= getSize() || y < 0 || y >= getSize()) {
+        if (!isInside(x, y)) {
             return ShotResult.INVALID;
         }
 
-        Cell cell = grid[x][y];
-        return cell != null ? cell.shoot() : ShotResult.INVALID;
+        return storage.shoot(x, y);
+    }
+
+    /**
+     * Resuelve una ráfaga de disparos en una sola pasada. Los barcos hundidos
+     * salen del índice de flota, sin buscarlos en la lista de barcos
+     *
+     * @param targets Casillas (x * size + y); las repetidas dan ALREADY_SHOT
+     * y las que no existen, INVALID
+     * @return Resultado de cada disparo y totales de la ráfaga
+     */
+    public ShotBatch shootAll(int[] targets) {
+        if (targets == null) {
+            throw new IllegalArgumentException("La lista de casillas no puede ser nula");
+        }
+        ShotBatch batch = new ShotBatch(targets);
+        for (int i = 0; i < targets.length; i++) {
+            int index = targets[i];
+            if (!isValidIndex(index)) {
+                batch.record(i, ShotResult.INVALID, null);
+                continue;
+            }
+            int x = rowOf(index);
+            int y = columnOf(index);
+            ShotResult result = storage.shoot(x, y);
+            batch.record(i, result, result == ShotResult.SUNK ? lookupShipId(x, y) : null);
+        }
+        return batch;
     }
 
     /**
@@ -179,8 +551,13 @@ public class Board {
      * @return El estado de la celda (con barco, impactada, etc.)
      */
     public CellState getCellState(Coordinate coord) {
-        Cell cell = getCellAt(coord);
-        return cell != null ? cell.getState() : CellState.WATER;
+        if (coord == null) {
+            throw new IllegalArgumentException("La coordenada no puede ser nula");
+        }
+        if (!isInside(coord.getX(), coord.getY())) {
+            throw new IllegalArgumentException("Coordenada fuera de los límites: " + coord);
+        }
+        return storage.getState(coord.getX(), coord.getY());
     }
 
     /**
@@ -194,8 +571,9 @@ public class Board {
         }
 
         if (!ships.contains(ship)) {
-            ships.add(ship);
-            System.out.println("✅ Barco " + ship.getType().getName() + " agregado al tablero");
+            registerShip(ship, ship.getCoordinates());
+            updateExclusion(ship.getCoordinates(), 1);
+            LOG.info(() -> "✅ Barco " + ship.getType().getName() + " agregado al tablero");
         }
     }
 
@@ -214,7 +592,11 @@ public class Board {
      * @return Lista de barcos activos
      */
     public List<Ship> getActiveShips() {
-        List<Ship> activeShips = new ArrayList<>();
+        List<Ship> activeShips = new ArrayList<>(getRemainingShips());
+        if (sunkShips == 0) {
+            activeShips.addAll(ships);
+            return activeShips;
+        }
         for (Ship ship : ships) {
             if (!ship.isSunk()) {
                 activeShips.add(ship);
@@ -229,12 +611,7 @@ public class Board {
      * @return true si todos los barcos están hundidos
      */
     public boolean allShipsSunk() {
-        for (Ship ship : ships) {
-            if (!ship.isSunk()) {
-                return false;
-            }
-        }
-        return true;
+        return sunkShips == ships.size();
     }
 
     // ========== MÉTODOS DE ACCESO A CELDAS ==========
@@ -246,11 +623,7 @@ public class Board {
      * @throws IllegalArgumentException si la coordenada está fuera del tablero
      */
     public Cell getCell(Coordinate coord) {
-        if (coord.getX() < 0 || coord.getX() >= getSize()
-                || coord.getY() < 0 || coord.getY() >= getSize()) {
-            throw new IllegalArgumentException("Coordenada fuera del tablero: " + coord);
-        }
-        return grid[coord.getX()][coord.getY()];
+        return getCell(coord.getX(), coord.getY());
     }
 
     /**
@@ -261,7 +634,10 @@ public class Board {
      * @return La celda en esa posición
      */
     public Cell getCell(int x, int y) {
-        return getCell(new Coordinate(x, y));
+        if (!isInside(x, y)) {
+            throw new IllegalArgumentException("Coordenada fuera del tablero: (" + x + ", " + y + ")");
+        }
+        return storage.getCell(x, y);
     }
 
     /**
@@ -271,8 +647,10 @@ public class Board {
      * @return true si hay un barco en esa celda
      */
     public boolean hasShip(Coordinate coord) {
-        Cell cell = getCell(coord);
-        return cell != null && cell.hasShip();
+        if (!isInside(coord.getX(), coord.getY())) {
+            throw new IllegalArgumentException("Coordenada fuera del tablero: " + coord);
+        }
+        return storage.hasShip(coord.getX(), coord.getY());
     }
 
     /**
@@ -282,12 +660,7 @@ public class Board {
      * @return true si se puede disparar en esa celda
      */
     public boolean canShootAt(Coordinate coord) {
-        try {
-            Cell cell = getCell(coord);
-            return cell.isShotAvailable();
-        } catch (IllegalArgumentException e) {
-            return false;
-        }
+        return isValidCoordinate(coord) && !storage.hasBeenShot(coord.getX(), coord.getY());
     }
 
     /**
@@ -297,12 +670,7 @@ public class Board {
      * @return true si la celda ya ha sido disparada
      */
     public boolean hasBeenShot(Coordinate coord) {
-        try {
-            Cell cell = getCell(coord);
-            return cell.hasBeenShot();
-        } catch (IllegalArgumentException e) {
-            return false;
-        }
+        return isValidCoordinate(coord) && storage.hasBeenShot(coord.getX(), coord.getY());
     }
 
     /**
@@ -312,12 +680,7 @@ public class Board {
      * @return true si fue un impacto
      */
     public boolean isHit(Coordinate coord) {
-        try {
-            Cell cell = getCell(coord);
-            return cell.isHit();
-        } catch (IllegalArgumentException e) {
-            return false;
-        }
+        return isValidCoordinate(coord) && storage.isHit(coord.getX(), coord.getY());
     }
 
     // ========== MÉTODOS DE COLOCACIÓN DE BARCOS ==========
@@ -337,13 +700,11 @@ public class Board {
         }
 
         // Colocar el barco en todas las coordenadas
-        for (Coordinate coord : coordinates) {
-            Cell cell = getCell(coord);
-            cell.setShip(ship);
+        occupyCells(ship, coordinates);
+        if (!ships.contains(ship)) {
+            registerShip(ship, coordinates);
         }
-
-        ships.add(ship);
-        System.out.println("✅ Barco " + ship.getType().getName() + " colocado en "
+        LOG.info(() -> "✅ Barco " + ship.getType().getName() + " colocado en "
                 + coordinates.get(0).aNotacion() + " a "
                 + coordinates.get(coordinates.size() - 1).aNotacion());
     }
@@ -355,9 +716,7 @@ public class Board {
      * @return true si la coordenada está dentro del tablero
      */
     public boolean isValidCoordinate(Coordinate coord) {
-        return coord != null
-                && coord.getX() >= 0 && coord.getX() < getSize()
-                && coord.getY() >= 0 && coord.getY() < getSize();
+        return coord != null && isInside(coord.getX(), coord.getY());
     }
 
     // ========== MÉTODOS DE INFORMACIÓN ==========
@@ -367,13 +726,7 @@ public class Board {
      * @return Número de barcos no hundidos
      */
     public int getRemainingShips() {
-        int count = 0;
-        for (Ship ship : ships) {
-            if (!ship.isSunk()) {
-                count++;
-            }
-        }
-        return count;
+        return ships.size() - sunkShips;
     }
 
     /**
@@ -394,13 +747,6 @@ public class Board {
         if (ships.isEmpty()) {
             return 0.0;
         }
-
-        int sunkShips = 0;
-        for (Ship ship : ships) {
-            if (ship.isSunk()) {
-                sunkShips++;
-            }
-        }
         return (double) sunkShips / ships.size();
     }
 
@@ -423,7 +769,7 @@ public class Board {
         String[][] display = new String[getSize()][getSize()];
         for (int i = 0; i < getSize(); i++) {
             for (int j = 0; j < getSize(); j++) {
-                display[i][j] = grid[i][j].getDisplayState(showShips);
+                display[i][j] = Cell.getDisplayState(storage.getState(i, j), showShips);
             }
         }
         return display;
@@ -459,20 +805,46 @@ public class Board {
      * Reinicia el tablero a su estado inicial
      */
     public void reset() {
-        initializeGrid();
-        ships.clear();
+        storage.reset();
+        unregisterAllShips();
     }
 
     /**
      * Limpia todos los barcos del tablero
      */
     public void clearShips() {
-        for (int i = 0; i < getSize(); i++) {
-            for (int j = 0; j < getSize(); j++) {
-                grid[i][j].removeShip();
-            }
+        storage.clearShips();
+        unregisterAllShips();
+    }
+
+    // ========== INSTANTÁNEAS ==========
+    /**
+     * Obtiene una instantánea inmutable del tablero, segura para leerse desde
+     * otros hilos (IA, guardado automático). Debe llamarse desde el hilo dueño
+     * del tablero. Si nada cambió desde la última llamada (según los
+     * contadores del almacenamiento, sin recorrer las casillas) se devuelve la
+     * misma instancia, con la misma versión; si cambió, la nueva comparte los
+     * bitsets que siguen iguales.
+     *
+     * @return Instantánea del estado actual
+     */
+    public BoardSnapshot snapshot() {
+        long shipVersion = storage.getShipVersion();
+        long shotVersion = storage.getShotVersion();
+        boolean sameShips = lastSnapshot != null && shipVersion == snapshotShipVersion;
+        boolean sameShots = lastSnapshot != null && shotVersion == snapshotShotVersion;
+        // Los hundidos (y los totales) solo cambian con la flota o al mover barcos
+        boolean sameSunk = sameShips && fleetVersion == snapshotFleetVersion;
+        if (sameShips && sameShots && sameSunk) {
+            return lastSnapshot;
         }
-        ships.clear();
+        long nextVersion = lastSnapshot == null ? 1 : lastSnapshot.getVersion() + 1;
+        lastSnapshot = BoardSnapshot.capture(storage, nextVersion, getTotalShips(), getRemainingShips(),
+                lastSnapshot, sameShips, sameShots, sameSunk);
+        snapshotShipVersion = shipVersion;
+        snapshotShotVersion = shotVersion;
+        snapshotFleetVersion = fleetVersion;
+        return lastSnapshot;
     }
 
     /**
@@ -0,0 +1,191 @@
+package com.cenit.battleship.model;
+
+import com.cenit.battleship.model.enums.CellState;
+
+/**
+ * Instantánea inmutable del estado de un tablero.
+ *
+ * Guarda la ocupación, los disparos, los impactos y los barcos hundidos en
+ * bitsets long[] (índice = x * size + y) que nunca se modifican después de
+ * crearse, por lo que puede leerse desde cualquier hilo (IA, guardado
+ * automático, render) sin bloquear al hilo de JavaFX. Board reutiliza la
+ * misma instancia mientras el tablero no cambie (lo sabe por los contadores
+ * de su almacenamiento, sin recorrer las casillas) y, cuando cambia, comparte
+ * con la instancia anterior los bitsets que siguen iguales: tras un disparo
+ * solo se copian los de disparos e impactos. El número de versión solo
+ * avanza cuando el contenido es distinto.
+ */
+public final class BoardSnapshot {
+
+    private final int size;
+    private final long version;
+    private final long[] shipBits;
+    private final long[] shotBits;
+    private final long[] hitBits;
+    private final long[] sunkBits;
+    private final int totalShips;
+    private final int remainingShips;
+
+    private BoardSnapshot(int size, long version, long[] shipBits, long[] shotBits, long[] hitBits,
+            long[] sunkBits, int totalShips, int remainingShips) {
+        this.size = size;
+        this.version = version;
+        this.shipBits = shipBits;
+        this.shotBits = shotBits;
+        this.hitBits = hitBits;
+        this.sunkBits = sunkBits;
+        this.totalShips = totalShips;
+        this.remainingShips = remainingShips;
+    }
+
+    /**
+     * Captura el estado actual del almacenamiento. Debe llamarse desde el
+     * hilo dueño del tablero.
+     *
+     * @param previous Instantánea anterior del mismo tablero (o null)
+     * @param sameShips true si la colocación de barcos no cambió desde previous
+     * @param sameShots true si los disparos e impactos no cambiaron
+     * @param sameSunk true si los barcos hundidos no cambiaron
+     */
+    static BoardSnapshot capture(BoardStorage storage, long version, int totalShips, int remainingShips,
+            BoardSnapshot previous, boolean sameShips, boolean sameShots, boolean sameSunk) {
+        int size = storage.getSize();
+        int words = (size * size + 63) >>> 6;
+        boolean shared = previous != null && previous.size == size;
+        boolean keepShips = shared && sameShips;
+        boolean keepShots = shared && sameShots;
+        boolean keepSunk = shared && sameSunk;
+        long[] ship = keepShips ? null : new long[words];
+        long[] shot = keepShots ? null : new long[words];
+        long[] hit = keepShots ? null : new long[words];
+        long[] sunk = keepSunk ? null : new long[words];
+        storage.exportBits(ship, shot, hit, sunk);
+        // Los bitsets nunca se modifican: los que no cambiaron se comparten
+        return new BoardSnapshot(size, version,
+                keepShips ? previous.shipBits : ship,
+                keepShots ? previous.shotBits : shot,
+                keepShots ? previous.hitBits : hit,
+                keepSunk ? previous.sunkBits : sunk,
+                totalShips, remainingShips);
+    }
+
+    // ========== CONSULTAS ==========
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Versión del tablero en el momento de la captura
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public int getTotalShips() {
+        return totalShips;
+    }
+
+    public int getRemainingShips() {
+        return remainingShips;
+    }
+
+    public boolean allShipsSunk() {
+        return remainingShips == 0;
+    }
+
+    public boolean isValidCoordinate(Coordinate coord) {
+        return coord != null && isInside(coord.getX(), coord.getY());
+    }
+
+    private boolean isInside(int x, int y) {
+        return x >= 0 && x < size && y >= 0 && y < size;
+    }
+
+    private int indexOf(Coordinate coord) {
+        if (!isValidCoordinate(coord)) {
+            throw new IllegalArgumentException("Coordenada fuera de los límites: " + coord);
+        }
+        return coord.getX() * size + coord.getY();
+    }
+
+    public boolean hasShip(Coordinate coord) {
+        return BitboardStorage.testBit(shipBits, indexOf(coord));
+    }
+
+    public boolean hasBeenShot(Coordinate coord) {
+        return BitboardStorage.testBit(shotBits, indexOf(coord));
+    }
+
+    public boolean isHit(Coordinate coord) {
+        return BitboardStorage.testBit(hitBits, indexOf(coord));
+    }
+
+    public boolean canShootAt(Coordinate coord) {
+        return isValidCoordinate(coord) && !BitboardStorage.testBit(shotBits, indexOf(coord));
+    }
+
+    /**
+     * Obtiene el estado de una casilla con la misma semántica que Board
+     */
+    public CellState getCellState(Coordinate coord) {
+        return stateAt(indexOf(coord));
+    }
+
+    /**
+     * Obtiene el estado de la casilla (x, y) sin crear la coordenada
+     */
+    public CellState getCellState(int x, int y) {
+        if (!isInside(x, y)) {
+            throw new IllegalArgumentException("Coordenada fuera de los límites: (" + x + ", " + y + ")");
+        }
+        return stateAt(x * size + y);
+    }
+
+    boolean isShot(int index) {
+        return BitboardStorage.testBit(shotBits, index);
+    }
+
+    CellState stateAt(int index) {
+        boolean ship = BitboardStorage.testBit(shipBits, index);
+        if (!BitboardStorage.testBit(shotBits, index)) {
+            return ship ? CellState.SHIP : CellState.WATER;
+        }
+        if (!BitboardStorage.testBit(hitBits, index)) {
+            return CellState.MISS;
+        }
+        return BitboardStorage.testBit(sunkBits, index) ? CellState.SUNK_SHIP : CellState.IMPACT;
+    }
+
+    /**
+     * Número de disparos registrados en el tablero
+     */
+    public int getShotCount() {
+        int count = 0;
+        for (long word : shotBits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Obtiene una representación visual del tablero
+     *
+     * @param showShips true para mostrar barcos ocultos
+     * @return Matriz de strings representando el tablero
+     */
+    public String[][] getBoardDisplay(boolean showShips) {
+        String[][] display = new String[size][size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                display[i][j] = Cell.getDisplayState(stateAt(i * size + j), showShips);
+            }
+        }
+        return display;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BoardSnapshot{v%d, %dx%d, disparos=%d, barcos=%d/%d a flote}",
+                version, size, size, getShotCount(), remainingShips, totalShips);
+    }
+}
@@ -0,0 +1,99 @@
+package com.cenit.battleship.model;
+
+import com.cenit.battleship.model.enums.CellState;
+import com.cenit.battleship.model.enums.ShotResult;
+
+/**
+ * Motor de almacenamiento del tablero.
+ * Patrón Strategy que permite diferentes representaciones internas de las casillas
+ * (matriz de objetos Cell, bitsets empaquetados, etc.) detrás de la API de Board.
+ *
+ * Todas las coordenadas recibidas ya han sido validadas por Board.
+ */
+public interface BoardStorage {
+
+    /**
+     * Obtiene el tamaño (lado) del tablero
+     * @return Número de filas/columnas
+     */
+    int getSize();
+
+    /**
+     * Obtiene la celda en (x, y)
+     * @return La celda; en motores compactos es una vista sobre el almacenamiento
+     */
+    Cell getCell(int x, int y);
+
+    /**
+     * Obtiene el barco que ocupa la casilla, o null si no hay barco
+     */
+    Ship getShip(int x, int y);
+
+    /**
+     * Asigna (o quita, si es null) el barco de una casilla
+     */
+    void setShip(int x, int y, Ship ship);
+
+    boolean hasShip(int x, int y);
+
+    boolean hasBeenShot(int x, int y);
+
+    boolean isHit(int x, int y);
+
+    /**
+     * Realiza un disparo en la casilla
+     * @return Resultado del disparo
+     */
+    ShotResult shoot(int x, int y);
+
+    /**
+     * Obtiene el estado de la casilla sin necesidad de materializar la celda
+     */
+    CellState getState(int x, int y);
+
+    /**
+     * Reinicia todas las casillas a agua sin disparos
+     */
+    void reset();
+
+    /**
+     * Quita todos los barcos manteniendo los disparos registrados
+     */
+    void clearShips();
+
+    /**
+     * Contador que avanza cada vez que cambia la colocación de los barcos
+     */
+    long getShipVersion();
+
+    /**
+     * Contador que avanza cada vez que cambian los disparos o los impactos
+     */
+    long getShotVersion();
+
+    /**
+     * Vuelca el estado de todas las casillas en bitsets (índice = x * size + y),
+     * usados por las instantáneas inmutables del tablero. Los arreglos llegan
+     * vacíos y con tamaño suficiente; los que son null no se rellenan.
+     */
+    default void exportBits(long[] shipBits, long[] shotBits, long[] hitBits, long[] sunkBits) {
+        int size = getSize();
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                int index = x * size + y;
+                if (shipBits != null && hasShip(x, y)) {
+                    BitboardStorage.setBit(shipBits, index);
+                }
+                if (shotBits != null && hasBeenShot(x, y)) {
+                    BitboardStorage.setBit(shotBits, index);
+                }
+                if (hitBits != null && isHit(x, y)) {
+                    BitboardStorage.setBit(hitBits, index);
+                }
+                if (sunkBits != null && getState(x, y) == CellState.SUNK_SHIP) {
+                    BitboardStorage.setBit(sunkBits, index);
+                }
+            }
+        }
+    }
+}
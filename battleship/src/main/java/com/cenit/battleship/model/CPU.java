@@ -3,25 +3,36 @@ package com.cenit.battleship.model;
 import com.cenit.battleship.model.enums.Difficulty;
 import com.cenit.battleship.model.enums.Direction;
 import com.cenit.battleship.model.enums.ShotResult;
+import com.cenit.battleship.util.GameLog;
 import java.util.List;
 import java.util.Random;
+import java.util.function.Supplier;
 
 /**
  * Representa la CPU como jugador controlado por la computadora
  */
 public class CPU extends Player {
+
+    private static final GameLog.Logger LOG = GameLog.getLogger(CPU.class);
     
     private Random random;
-    private List<Coordinate> availableShots;
-    private Coordinate lastHit;
-    private Direction searchDirection;
-    private boolean isHuntingMode;
+    private ShotStrategy shotStrategy;
+    // Solo se toca desde el hilo dueño de la partida: el cálculo en segundo
+    // plano trabaja sobre la copia de prepareShot
+    private ShotContext targeting;
+    private PlacementHeatmap placementHeatmap;
     
     public CPU(Difficulty difficulty) {
-        super("CPU", new Board(), true, difficulty);
+        this(difficulty, new Board());
+    }
+
+    /**
+     * Crea la CPU sobre un tablero propio (p. ej. con otro motor de almacenamiento)
+     */
+    public CPU(Difficulty difficulty, Board board) {
+        super("CPU", board, true, difficulty);
         this.random = new Random();
-        initializeAvailableShots();
-        this.isHuntingMode = false;
+        this.shotStrategy = ShotStrategies.create(difficulty);
     }
     
     public CPU() {
@@ -29,358 +40,261 @@ public class CPU extends Player {
     }
     
     /**
-     * Inicializa la lista de todos los posibles disparos
+     * Fija la semilla de la colocación aleatoria (partidas reproducibles)
      */
-    private void initializeAvailableShots() {
-        availableShots = new java.util.ArrayList<>();
-        for (int x = 0; x < Board.BOARD_SIZE; x++) {
-            for (int y = 0; y < Board.BOARD_SIZE; y++) {
-                availableShots.add(new Coordinate(x, y));
-            }
-        }
+    public void setSeed(long seed) {
+        random.setSeed(seed);
     }
-    
+
     /**
      * Coloca todos los barcos de la CPU aleatoriamente
      */
     public void placeShipsRandomly() {
-        System.out.println("🤖 CPU colocando barcos...");
+        LOG.info("🤖 CPU colocando barcos...");
         
         for (Ship ship : getShips()) {
             boolean placed = false;
             int attempts = 0;
             final int MAX_ATTEMPTS = 100;
             
+            int size = getBoard().getSize();
+            int length = ship.getType().getSize();
+            
+            boolean tables = PlacementTable.isSupported(size) && length <= size;
             while (!placed && attempts < MAX_ATTEMPTS) {
-                try {
-                    int x = random.nextInt(Board.BOARD_SIZE);
-                    int y = random.nextInt(Board.BOARD_SIZE);
-                    Direction direction = random.nextBoolean() ? Direction.HORIZONTAL : Direction.VERTICAL;
-                    
-                    Coordinate coord = new Coordinate(x, y);
-                    
-                    if (canPlaceShip(ship, coord, direction)) {
-                        placeShip(ship, coord, direction);
-                        placed = true;
-                        System.out.println("✅ CPU colocó " + ship.getType().getName());
-                    }
-                    
-                } catch (IllegalArgumentException e) {
-                    // Coordenada inválida, intentar de nuevo
+                boolean horizontal = random.nextBoolean();
+                int x;
+                int y;
+                if (tables) {
+                    // Solo se sortean inicios donde el barco cabe (HORIZONTAL avanza en x)
+                    PlacementTable table = PlacementTable.of(size, length, !horizontal);
+                    int start = table.startOf(random.nextInt(table.getPlacementCount()));
+                    x = start / size;
+                    y = start % size;
+                } else {
+                    x = random.nextInt(size);
+                    y = random.nextInt(size);
+                }
+                
+                // Consulta sin asignaciones a la zona de exclusión del tablero
+                if (getBoard().canPlaceShip(x, y, horizontal ? 1 : 0, horizontal ? 0 : 1, length)) {
+                    placed = placeShip(ship, Coordinate.of(x, y),
+                            horizontal ? Direction.HORIZONTAL : Direction.VERTICAL);
                 }
                 attempts++;
             }
             
+            // Flotas densas: elegir entre todas las posiciones válidas restantes
             if (!placed) {
-                System.err.println("❌ CPU no pudo colocar: " + ship.getType().getName());
+                placed = placeShipAnywhere(ship, size, length);
+            }
+            
+            if (placed) {
+                LOG.info(() -> "✅ CPU colocó " + ship.getType().getName());
+            } else {
+                LOG.error(() -> "❌ CPU no pudo colocar: " + ship.getType().getName());
             }
         }
         
-        System.out.println("🎯 CPU terminó de colocar barcos");
+        LOG.info("🎯 CPU terminó de colocar barcos");
     }
     
     /**
-     * Elige una coordenada para disparar según la dificultad
+     * Coloca el barco en una posición elegida al azar entre todas las válidas
+     *
+     * @return true si existía al menos una posición válida
      */
-    public Coordinate chooseShotTarget(Player opponent) {
-        switch (getDifficulty()) {
-            case EASY:
-                return chooseShotEasy();
-            case NORMAL:
-                return chooseShotNormal();
-            case HARD:
-                return chooseShotHard(opponent);
-            case EXPERT:
-                return chooseShotExpert(opponent);
-            default:
-                return chooseShotNormal();
+    private boolean placeShipAnywhere(Ship ship, int size, int length) {
+        List<int[]> candidates = new java.util.ArrayList<>();
+        if (PlacementTable.isSupported(size) && length <= size) {
+            for (int axis = 0; axis <= 1; axis++) {
+                PlacementTable table = PlacementTable.of(size, length, axis == 0);
+                for (int p = 0; p < table.getPlacementCount(); p++) {
+                    int start = table.startOf(p);
+                    if (getBoard().canPlaceShip(start / size, start % size, axis, 1 - axis, length)) {
+                        candidates.add(new int[]{start / size, start % size, axis});
+                    }
+                }
+            }
+        } else {
+            for (int x = 0; x < size; x++) {
+                for (int y = 0; y < size; y++) {
+                    if (getBoard().canPlaceShip(x, y, 1, 0, length)) {
+                        candidates.add(new int[]{x, y, 1});
+                    }
+                    if (getBoard().canPlaceShip(x, y, 0, 1, length)) {
+                        candidates.add(new int[]{x, y, 0});
+                    }
+                }
+            }
+        }
+        if (candidates.isEmpty()) {
+            return false;
         }
+        int[] choice = candidates.get(random.nextInt(candidates.size()));
+        return placeShip(ship, Coordinate.of(choice[0], choice[1]),
+                choice[2] == 1 ? Direction.HORIZONTAL : Direction.VERTICAL);
     }
     
     /**
-     * Disparo aleatorio simple (fácil)
+     * Elige una coordenada para disparar según la estrategia de la dificultad
      */
-    private Coordinate chooseShotEasy() {
-        if (availableShots.isEmpty()) {
-            initializeAvailableShots();
-        }
-        
-        int index = random.nextInt(availableShots.size());
-        Coordinate shot = availableShots.remove(index);
-        System.out.println("🎯 CPU (Fácil) disparando en: " + shot.aNotacion());
+    public Coordinate chooseShotTarget(Player opponent) {
+        return chooseShotTarget(opponent.getBoard(), opponent.getShips());
+    }
+    
+    /**
+     * Elige una coordenada para disparar sobre un tablero rival
+     *
+     * @param opponentBoard Tablero sobre el que se dispara
+     * @param opponentFleet Flota rival (solo se consulta qué barcos siguen a flote)
+     * @return Coordenada elegida, ya marcada como disparada
+     */
+    public Coordinate chooseShotTarget(Board opponentBoard, List<Ship> opponentFleet) {
+        ShotContext context = targetingFor(opponentBoard, opponentFleet);
+        int index = shotStrategy.chooseShot(context);
+        context.markShot(index);
+        Coordinate shot = context.toCoordinate(index);
+        LOG.info(() -> "🎯 CPU (" + getDifficulty().getDisplayName() + ") disparando en: " + shot.aNotacion());
         return shot;
     }
     
     /**
-     * Disparo con patrón básico (normal)
+     * Calcula el próximo disparo sin marcarlo como realizado, de modo que
+     * puede descartarse (turno cancelado) sin dejar casillas perdidas. El
+     * disparo queda registrado al llamar a updateAfterShot. Para calcularlo en
+     * otro hilo, ver prepareShot.
+     *
+     * @param opponentBoard Tablero sobre el que se dispara
+     * @param opponentFleet Flota rival (solo se consulta qué barcos siguen a flote)
+     * @return Coordenada elegida
      */
-    private Coordinate chooseShotNormal() {
-        if (availableShots.isEmpty()) {
-            initializeAvailableShots();
-        }
-        
-        // 70% aleatorio, 30% en patrón de tablero de ajedrez
-        if (random.nextDouble() < 0.7 || availableShots.size() < 10) {
-            return chooseShotEasy();
-        }
-        
-        // Patrón de tablero de ajedrez (solo casillas del mismo color)
-        List<Coordinate> chessPatternShots = new java.util.ArrayList<>();
-        for (Coordinate coord : availableShots) {
-            if ((coord.getX() + coord.getY()) % 2 == 0) { // Mismo color
-                chessPatternShots.add(coord);
-            }
-        }
-        
-        if (!chessPatternShots.isEmpty()) {
-            int index = random.nextInt(chessPatternShots.size());
-            Coordinate shot = chessPatternShots.get(index);
-            availableShots.remove(shot);
-            System.out.println("🎯 CPU (Normal) disparando en patrón: " + shot.aNotacion());
-            return shot;
-        }
-        
-        return chooseShotEasy();
+    public Coordinate planShot(Board opponentBoard, List<Ship> opponentFleet) {
+        ShotContext context = targetingFor(opponentBoard, opponentFleet);
+        Coordinate shot = context.toCoordinate(shotStrategy.chooseShot(context));
+        LOG.info(() -> "🎯 CPU (" + getDifficulty().getDisplayName() + ") apunta a: " + shot.aNotacion());
+        return shot;
     }
     
     /**
-     * Disparo con búsqueda inteligente (difícil)
+     * Prepara el cálculo del próximo disparo para hacerlo en otro hilo. Debe
+     * llamarse desde el hilo dueño de la partida: copia la puntería (cerrando
+     * las casillas que la instantánea da por disparadas) y saca del generador
+     * de la CPU la semilla de la copia, de modo que el cálculo no comparte
+     * tableros, flotas ni generador con la partida y puede seguir aunque ésta
+     * se reinicie (su resultado se descarta). Como en planShot, el disparo no
+     * queda marcado.
+     *
+     * @param opponentBoard Tablero sobre el que se dispara
+     * @param opponentFleet Flota rival (solo se consulta qué barcos siguen a flote)
+     * @param visible Instantánea actual de opponentBoard
+     * @return Cálculo que devuelve la coordenada elegida
      */
-    private Coordinate chooseShotHard(Player opponent) {
-        // Si estamos en modo caza y tenemos un último impacto
-        if (isHuntingMode && lastHit != null) {
-            Coordinate nextShot = getNextHuntingShot(opponent);
-            if (nextShot != null) {
-                availableShots.remove(nextShot);
-                System.out.println("🎯 CPU (Difícil) cazando desde: " + lastHit.aNotacion());
-                return nextShot;
-            }
-        }
-        
-        // Si no, buscar nuevo objetivo
-        return findNewTarget(opponent);
+    public Supplier<Coordinate> prepareShot(Board opponentBoard, List<Ship> opponentFleet, BoardSnapshot visible) {
+        ShotContext copy = targetingFor(opponentBoard, opponentFleet)
+                .copyForPlanning(new Random(random.nextLong()), visible);
+        ShotStrategy strategy = shotStrategy;
+        return () -> {
+            Coordinate shot = copy.toCoordinate(strategy.chooseShot(copy));
+            LOG.info(() -> "🎯 CPU (" + getDifficulty().getDisplayName() + ") apunta a: " + shot.aNotacion());
+            return shot;
+        };
     }
     
     /**
-     * Disparo con algoritmo avanzado (experto)
+     * Disparo barato a una casilla abierta cualquiera según la instantánea,
+     * sin pasar por la estrategia. Sirve de último recurso cuando una jugada
+     * calculada en segundo plano ya no vale y no se puede esperar a otra.
+     *
+     * @param opponentBoard Tablero sobre el que se dispara
+     * @param opponentFleet Flota rival
+     * @param visible Instantánea actual de opponentBoard
+     * @return Coordenada elegida
      */
-    private Coordinate chooseShotExpert(Player opponent) {
-        // 50% usar algoritmo difícil, 50% usar probabilidad de densidad
-        if (random.nextBoolean()) {
-            return chooseShotHard(opponent);
-        }
-        
-        return chooseShotByProbability(opponent);
+    public Coordinate quickShot(Board opponentBoard, List<Ship> opponentFleet, BoardSnapshot visible) {
+        ShotContext copy = targetingFor(opponentBoard, opponentFleet)
+                .copyForPlanning(new Random(random.nextLong()), visible);
+        return copy.toCoordinate(ShotStrategy.anyOpenCell(copy));
     }
     
     /**
-     * Encuentra el siguiente disparo cuando se está cazando un barco
+     * Estado de puntería actual sobre un tablero rival (lo crea si hace falta).
+     * Lo usa, por ejemplo, el planificador de habilidades.
      */
-    private Coordinate getNextHuntingShot(Player opponent) {
-        // Intentar en la dirección actual primero
-        if (searchDirection != null) {
-            Coordinate next = tryDirection(lastHit, searchDirection, opponent);
-            if (next != null) {
-                return next;
-            }
-        }
-        
-        // Si no funciona, probar otras direcciones
-        for (Direction dir : Direction.values()) {
-            if (searchDirection != dir) {
-                Coordinate next = tryDirection(lastHit, dir, opponent);
-                if (next != null) {
-                    searchDirection = dir;
-                    return next;
-                }
-            }
-        }
-        
-        // Si no hay más disparos en esta caza, resetear
-        isHuntingMode = false;
-        lastHit = null;
-        searchDirection = null;
-        return null;
+    public ShotContext getTargeting(Board opponentBoard, List<Ship> opponentFleet) {
+        return targetingFor(opponentBoard, opponentFleet);
     }
     
-    private Coordinate tryDirection(Coordinate from, Direction direction, Player opponent) {
-        int dx = (direction == Direction.HORIZONTAL) ? 1 : 0;
-        int dy = (direction == Direction.VERTICAL) ? 1 : 0;
-        
-        // Probar en ambas direcciones
-        for (int i = 1; i <= 3; i++) { // Máximo 3 casillas de distancia
-            for (int sign = -1; sign <= 1; sign += 2) {
-                try {
-                    Coordinate target = from.desplazar(dx * i * sign, dy * i * sign);
-                    if (availableShots.contains(target) && isValidHuntingShot(target, opponent)) {
-                        return target;
-                    }
-                } catch (IllegalArgumentException e) {
-                    // Fuera del tablero
-                }
+    private ShotContext targetingFor(Board opponentBoard, List<Ship> opponentFleet) {
+        ShotContext context = targeting;
+        if (context == null || !context.isFor(opponentBoard)) {
+            context = new ShotContext(opponentBoard, opponentFleet, random);
+            PlacementHeatmap heatmap = placementHeatmap;
+            if (heatmap != null && opponentFleet != null && !opponentFleet.isEmpty()) {
+                // Una vez por partida: después no cuesta nada por jugada
+                context.setPlacementPrior(heatmap.toPriorWeights(opponentBoard.getSize(), opponentFleet));
             }
+            targeting = context;
+        } else if (context.getOpenCells().isEmpty()) {
+            LOG.warn("⚠️ CPU sin casillas por disparar, reiniciando puntería");
+            context.reset();
         }
-        
-        return null;
+        return context;
     }
     
-    private boolean isValidHuntingShot(Coordinate coord, Player opponent) {
-    // Verificar que la coordenada esté en la lista de disparos disponibles
-    if (!availableShots.contains(coord)) {
-        return false;
-    }
-    
-    // Verificar que la celda exista
-    Cell targetCell = opponent.getBoard().getCell(coord);
-    if (targetCell == null) {
-        return false;
-    }
-    
-    // Verificar que no se haya disparado ya en esta celda
-    return !targetCell.hasBeenShot();
-}
-    
     /**
-     * Encuentra un nuevo objetivo usando probabilidad de densidad
+     * Actualiza el estado de la CPU después de un disparo
      */
-    private Coordinate findNewTarget(Player opponent) {
-        // Crear mapa de probabilidades
-        double[][] probabilities = createProbabilityMap(opponent);
-        
-        // Encontrar la coordenada con mayor probabilidad
-        Coordinate bestShot = null;
-        double bestProb = -1;
-        
-        for (Coordinate coord : availableShots) {
-            double prob = probabilities[coord.getX()][coord.getY()];
-            if (prob > bestProb) {
-                bestProb = prob;
-                bestShot = coord;
-            }
-        }
-        
-        if (bestShot != null) {
-            availableShots.remove(bestShot);
-            System.out.println("🎯 CPU (Difícil) nuevo objetivo: " + bestShot.aNotacion());
-            return bestShot;
+    public void updateAfterShot(Coordinate shot, ShotResult result) {
+        ShotContext context = targeting;
+        if (context == null || shot == null || result == null) {
+            return;
         }
-        
-        return chooseShotNormal();
+        int index = context.indexOf(shot);
+        context.recordResult(index, result);
+        shotStrategy.onShotResult(context, index, result);
     }
     
+    // ========== ESTRATEGIA ==========
     /**
-     * Crea un mapa de probabilidades basado en barcos restantes
+     * Historial de colocaciones del rival humano, usado como prior de la
+     * densidad a partir de la siguiente partida (o del siguiente tablero)
      */
-    private double[][] createProbabilityMap(Player opponent) {
-        double[][] probMap = new double[Board.BOARD_SIZE][Board.BOARD_SIZE];
-        
-        // Para cada barco posible que pueda quedar
-        for (Ship ship : opponent.getShips()) {
-            if (!ship.isSunk()) {
-                addShipProbability(probMap, ship.getType().getSize());
-            }
-        }
-        
-        return probMap;
+    public void setPlacementHeatmap(PlacementHeatmap placementHeatmap) {
+        this.placementHeatmap = placementHeatmap;
     }
-    
-    private void addShipProbability(double[][] probMap, int shipSize) {
-        // Aumentar probabilidad en todas las posiciones donde podría caber el barco
-        for (int x = 0; x < Board.BOARD_SIZE; x++) {
-            for (int y = 0; y < Board.BOARD_SIZE; y++) {
-                for (Direction dir : Direction.values()) {
-                    if (canFitShip(x, y, shipSize, dir)) {
-                        for (int i = 0; i < shipSize; i++) {
-                            int dx = (dir == Direction.HORIZONTAL) ? i : 0;
-                            int dy = (dir == Direction.VERTICAL) ? i : 0;
-                            if (x + dx < Board.BOARD_SIZE && y + dy < Board.BOARD_SIZE) {
-                                probMap[x + dx][y + dy] += 1.0;
-                            }
-                        }
-                    }
-                }
-            }
-        }
+
+    public PlacementHeatmap getPlacementHeatmap() {
+        return placementHeatmap;
     }
     
-    private boolean canFitShip(int x, int y, int size, Direction direction) {
-        for (int i = 0; i < size; i++) {
-            int checkX = x + ((direction == Direction.HORIZONTAL) ? i : 0);
-            int checkY = y + ((direction == Direction.VERTICAL) ? i : 0);
-            
-            if (checkX >= Board.BOARD_SIZE || checkY >= Board.BOARD_SIZE) {
-                return false;
-            }
-            
-            // Verificar que no sea una casilla ya revelada con agua
-            Coordinate coord = new Coordinate(checkX, checkY);
-            if (!availableShots.contains(coord)) {
-                return false;
-            }
-        }
-        return true;
+    public ShotStrategy getShotStrategy() {
+        return shotStrategy;
     }
     
     /**
-     * Disparo basado en probabilidad de densidad (algoritmo más avanzado)
+     * Sustituye la estrategia de disparo (por ejemplo, una registrada por
+     * terceros). El estado de puntería de la partida se conserva.
      */
-    private Coordinate chooseShotByProbability(Player opponent) {
-        double[][] probMap = createProbabilityMap(opponent);
-        
-        // Encontrar la mejor coordenada
-        Coordinate bestShot = null;
-        double bestProb = -1;
-        
-        for (Coordinate coord : availableShots) {
-            double prob = probMap[coord.getX()][coord.getY()];
-            if (prob > bestProb) {
-                bestProb = prob;
-                bestShot = coord;
-            }
-        }
-        
-        if (bestShot != null) {
-            availableShots.remove(bestShot);
-            System.out.println("🎯 CPU (Experto) disparo probabilístico: " + bestShot.aNotacion());
-            return bestShot;
+    public void setShotStrategy(ShotStrategy shotStrategy) {
+        if (shotStrategy == null) {
+            throw new IllegalArgumentException("La estrategia de disparo no puede ser nula");
         }
-        
-        return chooseShotHard(opponent);
+        this.shotStrategy = shotStrategy;
     }
     
-    /**
- * Actualiza el estado de la CPU después de un disparo
- */
-public void updateAfterShot(Coordinate shot, ShotResult result) {
-    switch (result) {
-        case HIT:
-            lastHit = shot;
-            isHuntingMode = true;
-            if (getDifficulty() == Difficulty.EXPERT) {
-                searchDirection = null;
-            }
-            break;
-            
-        case SUNK:
-            lastHit = null;
-            isHuntingMode = false;
-            searchDirection = null;
-            break;
-            
-        case MISS:
-            // En modo experto, puede cambiar de estrategia después de varios misses
-            if (getDifficulty() == Difficulty.EXPERT && random.nextDouble() < 0.3) {
-                isHuntingMode = false;
-            }
-            break;
-            
-        default:
-            // No hacer nada para otros resultados
-            break;
+    @Override
+    public void setDifficulty(Difficulty difficulty) {
+        super.setDifficulty(difficulty);
+        this.shotStrategy = ShotStrategies.create(difficulty);
     }
-}
     
-   
+    /**
+     * Olvida los disparos realizados sin tocar la flota propia
+     */
+    public void resetTargeting() {
+        targeting = null;
+    }
     
     /**
      * Reinicia la CPU para una nueva partida
@@ -388,9 +302,6 @@ public void updateAfterShot(Coordinate shot, ShotResult result) {
     @Override
     public void reset() {
         super.reset();
-        initializeAvailableShots();
-        lastHit = null;
-        searchDirection = null;
-        isHuntingMode = false;
+        resetTargeting();
     }
 }
\ No newline at end of file
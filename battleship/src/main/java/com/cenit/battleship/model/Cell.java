@@ -2,22 +2,34 @@ package com.cenit.battleship.model;
 
 import com.cenit.battleship.model.enums.CellState;
 import com.cenit.battleship.model.enums.ShotResult;
+import com.cenit.battleship.util.GameLog;
 
 /**
  * Representa una celda en el tablero de batalla naval
  */
 public class Cell {
 
+    private static final GameLog.Logger LOG = GameLog.getLogger(Cell.class);
+
     private Coordinate coordinate;
     private Ship ship;
     private boolean hasBeenShot;
     private boolean isHit;
 
+    // Si no es null, la celda es una vista sobre un tablero bitboard
+    private final BitboardStorage backing;
+    private final int index;
+    // Contadores del almacenamiento dueño de la celda (null si es suelta)
+    private final StorageVersion version;
+
     public Cell() {
         this.coordinate = null;
         this.ship = null;
         this.hasBeenShot = false;
         this.isHit = false;
+        this.backing = null;
+        this.index = -1;
+        this.version = null;
     }
 
     public Cell(Coordinate coordinate) {
@@ -25,6 +37,46 @@ public class Cell {
         this.ship = null;
         this.hasBeenShot = false;
         this.isHit = false;
+        this.backing = null;
+        this.index = -1;
+        this.version = null;
+    }
+
+    /**
+     * Crea una celda que lee y escribe su estado en un BitboardStorage
+     */
+    Cell(Coordinate coordinate, BitboardStorage backing, int index) {
+        this.coordinate = coordinate;
+        this.backing = backing;
+        this.index = index;
+        // El bitboard lleva sus propios contadores
+        this.version = null;
+    }
+
+    /**
+     * Crea una celda de un almacenamiento que debe enterarse de sus cambios
+     */
+    Cell(Coordinate coordinate, StorageVersion version) {
+        this.coordinate = coordinate;
+        this.backing = null;
+        this.index = -1;
+        this.version = version;
+    }
+
+    /**
+     * Actualiza los indicadores de disparo e impacto en el almacenamiento
+     * correspondiente
+     */
+    private void writeShotState(boolean shot, boolean hit) {
+        if (backing != null) {
+            backing.setShotState(index, shot, hit);
+        } else {
+            this.hasBeenShot = shot;
+            this.isHit = hit;
+            if (version != null) {
+                version.shotsChanged();
+            }
+        }
     }
 
     /**
@@ -33,6 +85,9 @@ public class Cell {
      * @return Estado de la celda
      */
     public CellState getState() {
+        if (backing != null) {
+            return backing.stateAt(index);
+        }
         if (!hasBeenShot) {
             // Celda no disparada
             return hasShip() ? CellState.SHIP : CellState.WATER;
@@ -56,11 +111,17 @@ public class Cell {
      * @return Resultado del disparo
      */
     public ShotResult shoot() {
+        if (backing != null) {
+            return backing.shootAt(index);
+        }
         if (hasBeenShot) {
             return ShotResult.ALREADY_SHOT;
         }
 
         this.hasBeenShot = true;
+        if (version != null) {
+            version.shotsChanged();
+        }
 
         if (hasShip()) {
             this.isHit = true;
@@ -84,8 +145,18 @@ public class Cell {
      * @return String representando el estado visual
      */
     public String getDisplayState(boolean showShips) {
-        CellState state = getState();
+        return getDisplayState(getState(), showShips);
+    }
 
+    /**
+     * Obtiene el estado visual de un estado de celda sin necesidad de una
+     * instancia de Cell
+     *
+     * @param state Estado de la celda
+     * @param showShips Si debe mostrar barcos no disparados
+     * @return String representando el estado visual
+     */
+    public static String getDisplayState(CellState state, boolean showShips) {
         switch (state) {
             case WATER:
                 return "🌊"; // Agua no disparada
@@ -154,23 +225,30 @@ public class Cell {
 
     // ========== MÉTODOS DE CONSULTA ==========
     public boolean hasShip() {
-        return ship != null;
+        return getShip() != null;
     }
 
     public Ship getShip() {
-        return ship;
+        return backing != null ? backing.shipAt(index) : ship;
     }
 
     public void setShip(Ship ship) {
-        this.ship = ship;
+        if (backing != null) {
+            backing.setShipAt(index, ship);
+        } else {
+            this.ship = ship;
+            if (version != null) {
+                version.shipsChanged();
+            }
+        }
     }
 
     public boolean hasBeenShot() {
-        return hasBeenShot;
+        return backing != null ? backing.isShotAt(index) : hasBeenShot;
     }
 
     public boolean isHit() {
-        return isHit;
+        return backing != null ? backing.isHitAt(index) : isHit;
     }
 
     public Coordinate getCoordinate() {
@@ -182,55 +260,57 @@ public class Cell {
     }
 
     public boolean isShotAvailable() {
-        return !hasBeenShot;
+        return !hasBeenShot();
     }
 
     /**
      * Verifica si esta celda es parte de un barco hundido
      */
     public boolean isPartOfSunkShip() {
-        return hasShip() && ship.isSunk();
+        return hasShip() && getShip().isSunk();
     }
 
     /**
      * Verifica si esta celda es un barco intacto (no disparado)
      */
     public boolean isIntactShip() {
-        return hasShip() && !hasBeenShot;
+        return hasShip() && !hasBeenShot();
     }
     
     /**
      * Remueve el barco de esta celda y restablece su estado
      */
     public void removeShip() {
-        this.ship = null;
+        setShip(null);
+        boolean shot = hasBeenShot();
+        boolean hit = isHit();
         
         // Si la celda tenía un barco pero no había sido disparada, restablecer a agua
         // Si ya fue disparada y era un impacto, mantener el estado de disparo pero sin barco
-        if (!hasBeenShot && isHit) {
+        if (!shot && hit) {
             // Este caso no debería ocurrir normalmente, pero por seguridad
-            this.isHit = false;
-        } else if (hasBeenShot && isHit) {
+            writeShotState(false, false);
+        } else if (shot && hit) {
             // Si fue un impacto y quitamos el barco, mantenemos el disparo registrado
             // pero ya no es un impacto (debería ser un fallo ahora que no hay barco)
-            this.isHit = false;
+            writeShotState(true, false);
         }
         
-        System.out.println("✅ Barco removido de celda " + (coordinate != null ? coordinate.aNotacion() : "desconocida"));
+        LOG.info(() -> "✅ Barco removido de celda " + (coordinate != null ? coordinate.aNotacion() : "desconocida"));
     }
 
     /**
      * Verifica si la celda está vacía (sin barco y sin disparos)
      */
     public boolean isEmpty() {
-        return this.ship == null && !this.hasBeenShot;
+        return getShip() == null && !hasBeenShot();
     }
 
     /**
      * Verifica si la celda está disponible para colocar un barco
      */
     public boolean isAvailableForShip() {
-        return this.ship == null && !this.hasBeenShot;
+        return getShip() == null && !hasBeenShot();
     }
 
     // ========== MÉTODOS DE RESET ==========
@@ -238,17 +318,15 @@ public class Cell {
      * Reinicia la celda a su estado inicial
      */
     public void reset() {
-        this.ship = null;
-        this.hasBeenShot = false;
-        this.isHit = false;
+        setShip(null);
+        writeShotState(false, false);
     }
 
     /**
      * Reinicia solo el estado de disparo (mantiene el barco si existe)
      */
     public void resetShotState() {
-        this.hasBeenShot = false;
-        this.isHit = false;
+        writeShotState(false, false);
     }
 
     /**
@@ -257,9 +335,9 @@ public class Cell {
     public String getDetailedInfo() {
         return String.format("Celda %s | Barco: %s | Disparada: %s | Impacto: %s | Estado: %s",
             coordinate != null ? coordinate.aNotacion() : "N/A",
-            ship != null ? ship.getType().getName() : "Ninguno",
-            hasBeenShot ? "Sí" : "No",
-            isHit ? "Sí" : "No",
+            hasShip() ? getShip().getType().getName() : "Ninguno",
+            hasBeenShot() ? "Sí" : "No",
+            isHit() ? "Sí" : "No",
             getState()
         );
     }
@@ -298,9 +376,9 @@ public class Cell {
     public String getDebugInfo() {
         return String.format("Cell{coord=%s, ship=%s, shot=%s, hit=%s, state=%s}",
                 coordinate != null ? coordinate.aNotacion() : "null",
-                hasShip() ? ship.getType().getName() : "null",
-                hasBeenShot,
-                isHit,
+                hasShip() ? getShip().getType().getName() : "null",
+                hasBeenShot(),
+                isHit(),
                 getState()
         );
     }
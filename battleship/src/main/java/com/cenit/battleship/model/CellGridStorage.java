@@ -0,0 +1,101 @@
+package com.cenit.battleship.model;
+
+import com.cenit.battleship.model.enums.CellState;
+import com.cenit.battleship.model.enums.ShotResult;
+
+/**
+ * Almacenamiento clásico del tablero: una matriz con un objeto Cell por casilla
+ */
+public class CellGridStorage implements BoardStorage {
+
+    private final Cell[][] grid;
+    private final StorageVersion version = new StorageVersion();
+
+    public CellGridStorage(int size) {
+        this.grid = new Cell[size][size];
+        initializeGrid();
+    }
+
+    /**
+     * Inicializa el grid con celdas vacías
+     */
+    private void initializeGrid() {
+        Coordinate.Table coordinates = Coordinate.tableFor(grid.length);
+        for (int i = 0; i < grid.length; i++) {
+            for (int j = 0; j < grid[i].length; j++) {
+                grid[i][j] = new Cell(coordinates.of(i, j), version);
+            }
+        }
+    }
+
+    @Override
+    public int getSize() {
+        return grid.length;
+    }
+
+    @Override
+    public long getShipVersion() {
+        return version.getShips();
+    }
+
+    @Override
+    public long getShotVersion() {
+        return version.getShots();
+    }
+
+    @Override
+    public Cell getCell(int x, int y) {
+        return grid[x][y];
+    }
+
+    @Override
+    public Ship getShip(int x, int y) {
+        return grid[x][y].getShip();
+    }
+
+    @Override
+    public void setShip(int x, int y, Ship ship) {
+        grid[x][y].setShip(ship);
+    }
+
+    @Override
+    public boolean hasShip(int x, int y) {
+        return grid[x][y].hasShip();
+    }
+
+    @Override
+    public boolean hasBeenShot(int x, int y) {
+        return grid[x][y].hasBeenShot();
+    }
+
+    @Override
+    public boolean isHit(int x, int y) {
+        return grid[x][y].isHit();
+    }
+
+    @Override
+    public ShotResult shoot(int x, int y) {
+        return grid[x][y].shoot();
+    }
+
+    @Override
+    public CellState getState(int x, int y) {
+        return grid[x][y].getState();
+    }
+
+    @Override
+    public void reset() {
+        initializeGrid();
+        version.shipsChanged();
+        version.shotsChanged();
+    }
+
+    @Override
+    public void clearShips() {
+        for (int i = 0; i < grid.length; i++) {
+            for (int j = 0; j < grid[i].length; j++) {
+                grid[i][j].removeShip();
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.cenit.battleship.model;
+
+/**
+ * Núcleo de cálculo que puntúa todas las casillas a partir de un muestreo de
+ * flotas (ver InformationGainShotStrategy).
+ *
+ * Separa el bucle numérico de la estrategia para poder cambiar su
+ * implementación (escalar, vectorial en un perfil o versión de Java
+ * concretos) sin tocar a quien lo usa. Las implementaciones no guardan
+ * estado: el arreglo de salida lo pone quien llama.
+ */
+public interface CellScoringKernel {
+
+    /**
+     * Puntúa todas las casillas en un solo recorrido: entropía del resultado
+     * (agua, tocado, hundido) en bits más la probabilidad de impacto ponderada
+     *
+     * @param estimate Conteos del muestreo (con al menos una muestra)
+     * @param hitWeight Peso de la probabilidad de impacto frente a la entropía
+     * @param out Puntuación de cada casilla (NEGATIVE_INFINITY si está cerrada)
+     * @return Casilla con mayor puntuación (la primera en caso de empate), o
+     * -1 si no queda ninguna abierta
+     */
+    int scoreCells(FleetLayoutSampler.Estimate estimate, double hitWeight, double[] out);
+
+    /**
+     * Núcleo que usa la estrategia si no se le indica otro
+     */
+    static CellScoringKernel getDefault() {
+        return ScalarCellScoringKernel.INSTANCE;
+    }
+}
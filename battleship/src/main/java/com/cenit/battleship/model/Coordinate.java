@@ -1,16 +1,147 @@
 package com.cenit.battleship.model;
 
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
 public record Coordinate(int x, int y) {
 
     //instancia de la configuración tiene que se static
     private static final GameConfiguration config = GameConfiguration.getInstance();
 
+    // Por encima de este tamaño (mapas gigantes) no se internan instancias
+    private static final int MAX_INTERNED_SIZE = GameConfiguration.MAX_BOARD_SIZE;
+
+    // Instancias compartidas por todas las tablas (x * MAX_INTERNED_SIZE + y)
+    private static final Coordinate[] INTERNED = new Coordinate[MAX_INTERNED_SIZE * MAX_INTERNED_SIZE];
+
+    // Tabla de cada tamaño de tablero, creada la primera vez que se pide
+    private static final AtomicReferenceArray<Table> TABLES = new AtomicReferenceArray<>(MAX_INTERNED_SIZE + 1);
+
+    static {
+        for (int i = 0; i < MAX_INTERNED_SIZE; i++) {
+            for (int j = 0; j < MAX_INTERNED_SIZE; j++) {
+                INTERNED[i * MAX_INTERNED_SIZE + j] = new Coordinate(i, j);
+            }
+        }
+    }
+
+    /**
+     * Una coordenada no conoce su tablero: solo se rechazan valores negativos.
+     * Los límites los comprueba Board (o la tabla de su tamaño).
+     */
     public Coordinate  {
-        if (x < 0 || x >= config.getBoardSize() || y < 0 || y >= config.getBoardSize()) {
+        if (x < 0 || y < 0) {
             throw new IllegalArgumentException("Coordenada fuera del tablero: (" + x + ", " + y + ")");
         }
     }
 
+    // ========== FLYWEIGHT ==========
+    /**
+     * Tabla inmutable con todas las coordenadas de un tablero de un tamaño
+     * dado, indexadas por x * size + y. Las de tamaños hasta MAX_BOARD_SIZE
+     * comparten instancias; en mapas gigantes se crea una por llamada.
+     */
+    public static final class Table {
+
+        private final int size;
+        private final Coordinate[] cells;
+
+        private Table(int size, boolean interned) {
+            this.size = size;
+            if (!interned) {
+                this.cells = null;
+                return;
+            }
+            this.cells = new Coordinate[size * size];
+            for (int i = 0; i < size; i++) {
+                for (int j = 0; j < size; j++) {
+                    cells[i * size + j] = INTERNED[i * MAX_INTERNED_SIZE + j];
+                }
+            }
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public boolean contains(int x, int y) {
+            return x >= 0 && x < size && y >= 0 && y < size;
+        }
+
+        /**
+         * Obtiene la coordenada (x, y) de este tablero
+         *
+         * @throws IllegalArgumentException si la coordenada está fuera del tablero
+         */
+        public Coordinate of(int x, int y) {
+            if (!contains(x, y)) {
+                throw new IllegalArgumentException("Coordenada fuera del tablero: (" + x + ", " + y + ")");
+            }
+            return cells != null ? cells[x * size + y] : new Coordinate(x, y);
+        }
+
+        /**
+         * Obtiene la coordenada a partir de su índice empaquetado
+         *
+         * @param index Índice x * tamaño + y
+         * @throws IllegalArgumentException si el índice está fuera del tablero
+         */
+        public Coordinate ofIndex(int index) {
+            if (index < 0 || index >= size * size) {
+                throw new IllegalArgumentException("Índice fuera del tablero: " + index);
+            }
+            return cells != null ? cells[index] : new Coordinate(index / size, index % size);
+        }
+    }
+
+    /**
+     * Obtiene la tabla de coordenadas de un tablero del tamaño indicado
+     * (cada tamaño tiene la suya, independiente de la configuración)
+     *
+     * @param size Tamaño del tablero
+     * @throws IllegalArgumentException si el tamaño no es positivo
+     */
+    public static Table tableFor(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Tamaño de tablero inválido: " + size);
+        }
+        if (size > MAX_INTERNED_SIZE) {
+            return new Table(size, false);
+        }
+        Table table = TABLES.get(size);
+        if (table == null) {
+            TABLES.compareAndSet(size, null, new Table(size, true));
+            table = TABLES.get(size);
+        }
+        return table;
+    }
+
+    /**
+     * Obtiene la instancia compartida de la coordenada (x, y) sin crear
+     * objetos nuevos (fuera del rango internado se crea una instancia por
+     * llamada). No comprueba los límites de ningún tablero: para eso está
+     * la tabla de su tamaño (ver tableFor).
+     *
+     * @param x Fila
+     * @param y Columna
+     * @return Coordenada interna
+     * @throws IllegalArgumentException si alguna componente es negativa
+     */
+    public static Coordinate of(int x, int y) {
+        if (x >= 0 && x < MAX_INTERNED_SIZE && y >= 0 && y < MAX_INTERNED_SIZE) {
+            return INTERNED[x * MAX_INTERNED_SIZE + y];
+        }
+        return new Coordinate(x, y);
+    }
+
+    /**
+     * Índice empaquetado de la coordenada (x * tamaño + y) en un tablero del
+     * tamaño indicado, igual que Board.indexOf. Útil para usar arreglos o
+     * bitsets en lugar de colecciones de objetos.
+     */
+    public int index(int size) {
+        return x * size + y;
+    }
+
     // Los records generan automáticamente:
     // public int x() { return x; }
     // public int y() { return y; }
@@ -77,7 +208,7 @@ public record Coordinate(int x, int y) {
                         + " (Tablero: " + config.getBoardSize() + "x" + config.getBoardSize() + ")");
             }
 
-            return new Coordinate(x, y);
+            return Coordinate.of(x, y);
         } catch (NumberFormatException e) {
             throw new IllegalArgumentException("Número inválido en notación: " + notacion, e);
         }
@@ -114,7 +245,7 @@ public record Coordinate(int x, int y) {
      */
     public Coordinate desplazar(int dx, int dy) {
         try {
-            return new Coordinate(x + dx, y + dy);
+            return Coordinate.of(x + dx, y + dy);
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException("Desplazamiento fuera del tablero: (" + dx + ", " + dy + ")", e);
         }
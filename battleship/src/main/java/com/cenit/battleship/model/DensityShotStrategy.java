@@ -0,0 +1,89 @@
+package com.cenit.battleship.model;
+
+import com.cenit.battleship.model.enums.ShotResult;
+
+/**
+ * Búsqueda por densidad de probabilidad y caza en línea recta en cuanto dos
+ * impactos contiguos revelan la orientación del barco (dificultad difícil)
+ */
+public class DensityShotStrategy implements ShotStrategy {
+
+    public static final String CACHE_NAMESPACE = "density";
+    private static final ShotCache CACHE = ShotCache.shared(CACHE_NAMESPACE);
+
+    @Override
+    public int chooseShot(ShotContext context) {
+        int target = context.pollTarget();
+        if (target >= 0) {
+            return target;
+        }
+
+        // Los estados de búsqueda se repiten entre partidas: caché compartida
+        long key = context.getKnowledgeKey();
+        int cached = CACHE.get(key);
+        if (cached >= 0 && cached < context.getSize() * context.getSize() && context.isOpen(cached)) {
+            return cached;
+        }
+
+        int best = context.getDensity().bestCell();
+        CACHE.put(key, best);
+        return best >= 0 ? best : ShotStrategy.anyOpenCell(context);
+    }
+
+    @Override
+    public void onShotResult(ShotContext context, int index, ShotResult result) {
+        if (result.isSunk()) {
+            context.clearTargets();
+            context.requeueUnresolvedHits();
+            return;
+        }
+        if (!result.isHit()) {
+            return;
+        }
+
+        // Si hay un impacto pendiente contiguo, seguir esa línea primero
+        boolean lineFound = false;
+        if (hasUnresolvedNeighbor(context, index, 1, 0) || hasUnresolvedNeighbor(context, index, -1, 0)) {
+            pushLineEnds(context, index, 1, 0);
+            lineFound = true;
+        }
+        if (hasUnresolvedNeighbor(context, index, 0, 1) || hasUnresolvedNeighbor(context, index, 0, -1)) {
+            pushLineEnds(context, index, 0, 1);
+            lineFound = true;
+        }
+        if (!lineFound) {
+            context.addNeighborTargets(index);
+        }
+    }
+
+    private boolean hasUnresolvedNeighbor(ShotContext context, int index, int dx, int dy) {
+        int neighbor = context.offset(index, dx, dy);
+        return neighbor >= 0 && context.isUnresolvedHit(neighbor);
+    }
+
+    /**
+     * Pone al frente de la cola las casillas abiertas en ambos extremos de la
+     * línea de impactos que pasa por la casilla
+     */
+    private void pushLineEnds(ShotContext context, int index, int dx, int dy) {
+        for (int sign = -1; sign <= 1; sign += 2) {
+            int cell = index;
+            while (cell >= 0 && context.isUnresolvedHit(cell)) {
+                cell = context.offset(cell, dx * sign, dy * sign);
+            }
+            if (cell >= 0 && context.isOpen(cell)) {
+                context.pushTarget(cell);
+            }
+        }
+    }
+
+    @Override
+    public boolean usesRevealedCells() {
+        return true;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Búsqueda inteligente";
+    }
+}
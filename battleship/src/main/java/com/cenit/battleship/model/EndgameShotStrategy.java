@@ -0,0 +1,59 @@
+package com.cenit.battleship.model;
+
+import com.cenit.battleship.model.enums.ShotResult;
+import com.cenit.battleship.util.GameLog;
+
+/**
+ * Envuelve otra estrategia y, cuando el final de partida es lo bastante
+ * pequeño, dispara según el solucionador exacto (EndgameSolver). Mientras
+ * tanto, o si el solucionador agota sus límites, decide la estrategia
+ * envuelta, que sigue recibiendo todos los resultados.
+ */
+public class EndgameShotStrategy implements ShotStrategy {
+
+    private static final GameLog.Logger LOG = GameLog.getLogger(EndgameShotStrategy.class);
+
+    private final ShotStrategy delegate;
+    private final EndgameSolver solver;
+
+    public EndgameShotStrategy(ShotStrategy delegate) {
+        this(delegate, new EndgameSolver());
+    }
+
+    public EndgameShotStrategy(ShotStrategy delegate, EndgameSolver solver) {
+        if (delegate == null || solver == null) {
+            throw new IllegalArgumentException("La estrategia y el solucionador son obligatorios");
+        }
+        this.delegate = delegate;
+        this.solver = solver;
+    }
+
+    public ShotStrategy getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public int chooseShot(ShotContext context) {
+        int index = solver.solve(context);
+        if (index >= 0 && context.isOpen(index)) {
+            LOG.debug(() -> "🧩 Final de partida resuelto: disparo exacto en " + context.toCoordinate(index).aNotacion());
+            return index;
+        }
+        return delegate.chooseShot(context);
+    }
+
+    @Override
+    public void onShotResult(ShotContext context, int index, ShotResult result) {
+        delegate.onShotResult(context, index, result);
+    }
+
+    @Override
+    public boolean usesRevealedCells() {
+        return true;
+    }
+
+    @Override
+    public String getDescription() {
+        return delegate.getDescription();
+    }
+}
@@ -0,0 +1,451 @@
+package com.cenit.battleship.model;
+
+import java.util.Arrays;
+
+/**
+ * Solucionador exacto del final de partida.
+ *
+ * Cuando quedan pocos segmentos de barco por encontrar, enumera todas las
+ * disposiciones de los barcos restantes consistentes con lo observado
+ * (búsqueda en profundidad con máscaras de PlacementTable; ningún barco a
+ * flote puede quedar entero sobre impactos) y busca el
+ * disparo que minimiza el número esperado de disparos hasta tocar todas las
+ * casillas de barco, suponiendo todas las disposiciones igual de probables.
+ *
+ * Los estados del árbol de búsqueda (disparos hechos y su resultado) se
+ * identifican con claves Zobrist y se guardan en una tabla de
+ * transposición. La enumeración y la búsqueda comparten un límite duro de
+ * nodos y de tiempo; si se agota, no hay respuesta y la CPU sigue con su
+ * heurística. Índices de casilla = x * size + y.
+ */
+public final class EndgameSolver {
+
+    public static final int DEFAULT_MAX_LAYOUTS = 1024;
+    public static final int DEFAULT_MAX_NODES = 200_000;
+    public static final long DEFAULT_TIME_BUDGET_MS = 20;
+
+    // Segmentos de barco por encontrar a partir de los cuales ni se intenta
+    public static final int MAX_REMAINING_SEGMENTS = 10;
+    // Las disposiciones se comprimen en un long: como mucho 64 casillas candidatas
+    private static final int MAX_CANDIDATE_CELLS = 64;
+    private static final int CLOCK_CHECK_INTERVAL = 64;
+
+    private static final int TABLE_BITS = 16;
+    private static final long[][] ZOBRIST = new long[MAX_CANDIDATE_CELLS][2];
+
+    static {
+        java.util.SplittableRandom seed = new java.util.SplittableRandom(0x5EA_BA77L);
+        for (long[] keys : ZOBRIST) {
+            keys[0] = seed.nextLong();
+            keys[1] = seed.nextLong();
+        }
+    }
+
+    /**
+     * Búsqueda abortada por el límite de nodos o de tiempo
+     */
+    private static final class LimitReached extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        LimitReached() {
+            // Sin traza ni supresiones: se lanza como control de flujo
+            super("Límite de búsqueda alcanzado", null, false, false);
+        }
+    }
+
+    private static final LimitReached LIMIT_REACHED = new LimitReached();
+
+    private final int maxLayouts;
+    private final int maxNodes;
+    private final long timeBudgetMillis;
+
+    // Estado de una resolución (la instancia no es segura entre hilos)
+    private long deadline;
+    private int nodes;
+    private int size;
+    private int words;
+    private int[] lengths;
+    // Impactos sin resolver y casillas reveladas con barco: toda disposición las cubre
+    private int[] requiredCells;
+    private long[][] forbiddenStack;
+
+    private int[] cellOfBit;
+    private int[] bitOfCell;
+    private int candidateCells;
+    private long[] layouts;
+    private int[] weights;
+    private int layoutCount;
+
+    private final long[] tableKeys = new long[1 << TABLE_BITS];
+    private final double[] tableValues = new double[1 << TABLE_BITS];
+    private final int[] tableStamps = new int[1 << TABLE_BITS];
+    private int tableStamp;
+
+    public EndgameSolver() {
+        this(DEFAULT_MAX_LAYOUTS, DEFAULT_MAX_NODES, DEFAULT_TIME_BUDGET_MS);
+    }
+
+    public EndgameSolver(int maxLayouts, int maxNodes, long timeBudgetMillis) {
+        if (maxLayouts <= 0 || maxNodes <= 0 || timeBudgetMillis <= 0) {
+            throw new IllegalArgumentException("Límites del solucionador inválidos: disposiciones "
+                    + maxLayouts + ", nodos " + maxNodes + ", tiempo " + timeBudgetMillis + "ms");
+        }
+        this.maxLayouts = maxLayouts;
+        this.maxNodes = maxNodes;
+        this.timeBudgetMillis = timeBudgetMillis;
+    }
+
+    // ========== RESOLUCIÓN ==========
+    /**
+     * Busca el disparo óptimo si el espacio de disposiciones es pequeño
+     *
+     * @param context Estado de puntería sobre el tablero rival
+     * @return Índice de la casilla, o -1 si no es un final resoluble dentro
+     * de los límites
+     */
+    public int solve(ShotContext context) {
+        if (context == null) {
+            throw new IllegalArgumentException("El contexto de disparo es obligatorio");
+        }
+        int[] remaining = context.getRemainingShipLengths();
+        int segments = -context.getUnresolvedHitCount();
+        for (int length : remaining) {
+            segments += length;
+        }
+        if (remaining.length == 0 || segments > MAX_REMAINING_SEGMENTS
+                || !PlacementTable.isSupported(context.getSize())) {
+            return -1;
+        }
+
+        deadline = System.nanoTime() + timeBudgetMillis * 1_000_000L;
+        nodes = 0;
+        try {
+            if (!enumerateLayouts(context, remaining)) {
+                return -1;
+            }
+            tableStamp++;
+            return bestShot();
+        } catch (LimitReached limit) {
+            return -1;
+        }
+    }
+
+    private void countNode() {
+        if (++nodes > maxNodes
+                || (nodes % CLOCK_CHECK_INTERVAL == 0 && System.nanoTime() >= deadline)) {
+            throw LIMIT_REACHED;
+        }
+    }
+
+    // ========== ENUMERACIÓN ==========
+    /**
+     * @return false si hay demasiadas disposiciones o casillas candidatas
+     */
+    private boolean enumerateLayouts(ShotContext context, int[] remaining) {
+        size = context.getSize();
+        int cells = size * size;
+        words = (cells + 63) >>> 6;
+        lengths = remaining.clone();
+        Arrays.sort(lengths);
+        // Los barcos largos primero: podan antes
+        for (int i = 0, j = lengths.length - 1; i < j; i++, j--) {
+            int tmp = lengths[i];
+            lengths[i] = lengths[j];
+            lengths[j] = tmp;
+        }
+
+        int ships = lengths.length;
+        forbiddenStack = new long[ships + 1][words];
+
+        // Agua disparada o revelada y entorno de barcos hundidos no admiten
+        // barcos; los impactos y las casillas reveladas con barco deben cubrirse
+        long[] blocked = forbiddenStack[0];
+        NeighborTable neighbors = context.getNeighbors();
+        int[] hits = new int[cells];
+        int hitCount = 0;
+        for (int i = 0; i < cells; i++) {
+            if (context.isRevealedWater(i)) {
+                BitboardStorage.setBit(blocked, i);
+                continue;
+            }
+            if (context.isRevealedShip(i)) {
+                hits[hitCount++] = i;
+                continue;
+            }
+            if (context.isOpen(i)) {
+                continue;
+            }
+            if (context.isSunk(i)) {
+                int mask = neighbors.clipMask(i);
+                for (int bit = 0; bit < 9; bit++) {
+                    if ((mask & (1 << bit)) != 0) {
+                        BitboardStorage.setBit(blocked, i + neighbors.offset(bit));
+                    }
+                }
+            } else if (context.isHit(i)) {
+                hits[hitCount++] = i;
+            } else {
+                BitboardStorage.setBit(blocked, i);
+            }
+        }
+        requiredCells = Arrays.copyOf(hits, hitCount);
+
+        cellOfBit = new int[MAX_CANDIDATE_CELLS];
+        bitOfCell = new int[cells];
+        Arrays.fill(bitOfCell, -1);
+        candidateCells = 0;
+        layouts = new long[maxLayouts];
+        weights = new int[maxLayouts];
+        layoutCount = 0;
+
+        return place(0, new long[words], -1, context);
+    }
+
+    /**
+     * Coloca el barco {@code ship} y los siguientes en todas las posiciones
+     * posibles
+     *
+     * @param occupied Casillas ocupadas por los barcos ya colocados
+     * @param previousKey Clave de colocación del barco anterior (para no
+     * repetir permutaciones de barcos de igual longitud)
+     */
+    private boolean place(int ship, long[] occupied, int previousKey, ShotContext context) {
+        countNode();
+        long[] forbidden = forbiddenStack[ship];
+        // Un impacto sin cubrir pegado a un barco ya no podrá cubrirse
+        for (int hit : requiredCells) {
+            if (!BitboardStorage.testBit(occupied, hit) && BitboardStorage.testBit(forbidden, hit)) {
+                return true;
+            }
+        }
+        if (ship == lengths.length) {
+            for (int hit : requiredCells) {
+                if (!BitboardStorage.testBit(occupied, hit)) {
+                    return true;
+                }
+            }
+            return recordLayout(occupied, context);
+        }
+
+        int length = lengths[ship];
+        boolean sameAsPrevious = ship > 0 && lengths[ship - 1] == length;
+        long[] next = forbiddenStack[ship + 1];
+        long[] nextOccupied = new long[words];
+        for (int axis = 0; axis < 2; axis++) {
+            PlacementTable table = PlacementTable.of(size, length, axis == 1);
+            int count = table.getPlacementCount();
+            for (int p = 0; p < count; p++) {
+                int key = axis * count + p;
+                if (sameAsPrevious && key <= previousKey) {
+                    continue;
+                }
+                if (length == 1 && axis == 1) {
+                    continue; // Un barco de una casilla no tiene orientación
+                }
+                if (table.intersects(p, forbidden) || !hasOpenCell(table, p, length, context)) {
+                    continue;
+                }
+                System.arraycopy(forbidden, 0, next, 0, words);
+                table.addHaloTo(p, next);
+                System.arraycopy(occupied, 0, nextOccupied, 0, words);
+                for (int i = 0; i < length; i++) {
+                    BitboardStorage.setBit(nextOccupied, table.cellOf(p, i));
+                }
+                if (!place(ship + 1, nextOccupied, key, context)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Un barco a flote no puede caer entero sobre impactos sin resolver: ya
+     * se habría anunciado hundido
+     */
+    private static boolean hasOpenCell(PlacementTable table, int placement, int length, ShotContext context) {
+        for (int i = 0; i < length; i++) {
+            if (context.isOpen(table.cellOf(placement, i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Guarda una disposición comprimida a las casillas candidatas (abiertas
+     * y ocupadas en alguna disposición)
+     *
+     * @return false si se superan los límites de disposiciones o casillas
+     */
+    private boolean recordLayout(long[] occupied, ShotContext context) {
+        long mask = 0L;
+        for (int word = 0; word < words; word++) {
+            long bits = occupied[word];
+            while (bits != 0) {
+                int cell = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                if (!context.isOpen(cell)) {
+                    continue;
+                }
+                int bit = bitOfCell[cell];
+                if (bit < 0) {
+                    if (candidateCells == MAX_CANDIDATE_CELLS) {
+                        return false;
+                    }
+                    bit = candidateCells++;
+                    bitOfCell[cell] = bit;
+                    cellOfBit[bit] = cell;
+                }
+                mask |= 1L << bit;
+            }
+        }
+        // Disposiciones iguales sobre las casillas abiertas son indistinguibles
+        for (int i = 0; i < layoutCount; i++) {
+            if (layouts[i] == mask) {
+                weights[i]++;
+                return true;
+            }
+        }
+        if (layoutCount == maxLayouts) {
+            return false;
+        }
+        layouts[layoutCount] = mask;
+        weights[layoutCount++] = 1;
+        return true;
+    }
+
+    // ========== BÚSQUEDA ==========
+    private int bestShot() {
+        if (layoutCount == 0) {
+            return -1;
+        }
+        int[] all = new int[layoutCount];
+        for (int i = 0; i < layoutCount; i++) {
+            all[i] = i;
+        }
+        long union = 0L;
+        long inter = -1L;
+        for (int i = 0; i < layoutCount; i++) {
+            union |= layouts[i];
+            inter &= layouts[i];
+        }
+        if (union == 0L) {
+            return -1;
+        }
+        // Casilla con barco en todas las disposiciones: disparo seguro
+        if (inter != 0L) {
+            return cellOfBit[Long.numberOfTrailingZeros(inter)];
+        }
+
+        int best = -1;
+        double bestValue = Double.MAX_VALUE;
+        int bestHits = -1;
+        int[] hitSet = new int[layoutCount];
+        int[] missSet = new int[layoutCount];
+        for (long cells = union; cells != 0; cells &= cells - 1) {
+            int bit = Long.numberOfTrailingZeros(cells);
+            int hitCount = split(all, layoutCount, bit, hitSet, missSet);
+            int hitWeight = weightOf(hitSet, hitCount);
+            double value = expectedAfter(all, layoutCount, bit, hitSet, hitCount, missSet, 0L, 0L);
+            if (value < bestValue - 1e-9 || (Math.abs(value - bestValue) <= 1e-9 && hitWeight > bestHits)) {
+                bestValue = value;
+                bestHits = hitWeight;
+                best = bit;
+            }
+        }
+        return best < 0 ? -1 : cellOfBit[best];
+    }
+
+    /**
+     * Disparos esperados si se dispara a {@code bit} en el estado dado
+     */
+    private double expectedAfter(int[] set, int count, int bit, int[] hitSet, int hitCount,
+            int[] missSet, long shot, long hash) {
+        int total = weightOf(set, count);
+        int missCount = count - hitCount;
+        int hitWeight = weightOf(hitSet, hitCount);
+        long nextShot = shot | (1L << bit);
+        double value = 1.0;
+        if (hitCount > 0) {
+            value += (double) hitWeight / total
+                    * expected(Arrays.copyOf(hitSet, hitCount), hitCount, nextShot, hash ^ ZOBRIST[bit][1]);
+        }
+        if (missCount > 0) {
+            value += (double) (total - hitWeight) / total
+                    * expected(Arrays.copyOf(missSet, missCount), missCount, nextShot, hash ^ ZOBRIST[bit][0]);
+        }
+        return value;
+    }
+
+    /**
+     * Mínimo número esperado de disparos restantes para un conjunto de
+     * disposiciones consistentes con los disparos {@code shot}
+     */
+    private double expected(int[] set, int count, long shot, long hash) {
+        countNode();
+        if (count == 1) {
+            return Long.bitCount(layouts[set[0]] & ~shot);
+        }
+        long union = 0L;
+        long inter = -1L;
+        for (int i = 0; i < count; i++) {
+            long open = layouts[set[i]] & ~shot;
+            union |= open;
+            inter &= open;
+        }
+        if (union == 0L) {
+            return 0.0;
+        }
+        // Las casillas seguras se disparan sin ramificar
+        int certain = Long.bitCount(inter);
+        if (certain > 0) {
+            for (long cells = inter; cells != 0; cells &= cells - 1) {
+                hash ^= ZOBRIST[Long.numberOfTrailingZeros(cells)][1];
+            }
+            return certain + expected(set, count, shot | inter, hash);
+        }
+
+        int slot = (int) (hash ^ (hash >>> 29)) & ((1 << TABLE_BITS) - 1);
+        if (tableStamps[slot] == tableStamp && tableKeys[slot] == hash) {
+            return tableValues[slot];
+        }
+
+        double best = Double.MAX_VALUE;
+        int[] hitSet = new int[count];
+        int[] missSet = new int[count];
+        for (long cells = union; cells != 0; cells &= cells - 1) {
+            int bit = Long.numberOfTrailingZeros(cells);
+            int hitCount = split(set, count, bit, hitSet, missSet);
+            best = Math.min(best, expectedAfter(set, count, bit, hitSet, hitCount, missSet, shot, hash));
+        }
+
+        tableStamps[slot] = tableStamp;
+        tableKeys[slot] = hash;
+        tableValues[slot] = best;
+        return best;
+    }
+
+    private int split(int[] set, int count, int bit, int[] hitSet, int[] missSet) {
+        int hits = 0;
+        int misses = 0;
+        long mask = 1L << bit;
+        for (int i = 0; i < count; i++) {
+            if ((layouts[set[i]] & mask) != 0) {
+                hitSet[hits++] = set[i];
+            } else {
+                missSet[misses++] = set[i];
+            }
+        }
+        return hits;
+    }
+
+    private int weightOf(int[] set, int count) {
+        int total = 0;
+        for (int i = 0; i < count; i++) {
+            total += weights[set[i]];
+        }
+        return total;
+    }
+}
@@ -0,0 +1,604 @@
+package com.cenit.battleship.model;
+
+import com.cenit.battleship.model.enums.CellState;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Muestreador Monte Carlo de flotas para la CPU experta.
+ *
+ * Genera muchas disposiciones completas de los barcos que siguen a flote,
+ * todas consistentes con lo observado en el tablero rival: ningún barco pasa
+ * por agua ya disparada (o revelada por una habilidad) ni toca un barco
+ * hundido, todos los impactos sin resolver y las casillas reveladas con
+ * barco quedan cubiertos, se respeta la separación entre barcos y ningún
+ * barco a flote cae entero sobre impactos (ya se habría anunciado hundido).
+ * Contando cuántas disposiciones ocupan cada casilla abierta se obtiene una
+ * estimación de la probabilidad a posteriori de impacto.
+ *
+ * La colocación es secuencial (primero barcos que expliquen los impactos,
+ * después el resto al azar) y no lleva pesos de importancia, así que las
+ * disposiciones no salen con la misma probabilidad entre todas las
+ * consistentes: la estimación es aproximada, no la distribución exacta.
+ *
+ * El trabajo se reparte entre los hilos de un ForkJoinPool (o se hace en el
+ * hilo que pide la estimación, ver onCallingThread) y se detiene al agotar el
+ * tiempo por jugada (o el máximo de muestras). Índices de casilla =
+ * x * size + y.
+ */
+public class FleetLayoutSampler {
+
+    public static final int DEFAULT_MAX_SAMPLES = 200_000;
+
+    // Estados observados de cada casilla
+    private static final byte OPEN = 0;
+    private static final byte MISS = 1;
+    private static final byte HIT = 2;
+    private static final byte SUNK = 3;
+
+    // Cada cuántas muestras se consulta el reloj
+    private static final int CLOCK_CHECK_INTERVAL = 32;
+    // Intentos aleatorios por barco antes de descartar la muestra
+    private static final int RANDOM_ATTEMPTS = 64;
+
+    // null: se muestrea en el hilo que llama
+    private final ForkJoinPool pool;
+    private final int maxSamples;
+    private volatile long timeBudgetMillis;
+
+    public FleetLayoutSampler(long timeBudgetMillis) {
+        this(ForkJoinPool.commonPool(), timeBudgetMillis, DEFAULT_MAX_SAMPLES);
+    }
+
+    public FleetLayoutSampler(ForkJoinPool pool, long timeBudgetMillis, int maxSamples) {
+        if (pool == null) {
+            throw new IllegalArgumentException("El pool de muestreo no puede ser nulo (ver onCallingThread)");
+        }
+        this.pool = pool;
+        this.maxSamples = checkMaxSamples(maxSamples);
+        setTimeBudgetMillis(timeBudgetMillis);
+    }
+
+    private FleetLayoutSampler(long timeBudgetMillis, int maxSamples) {
+        this.pool = null;
+        this.maxSamples = checkMaxSamples(maxSamples);
+        setTimeBudgetMillis(timeBudgetMillis);
+    }
+
+    /**
+     * Muestreador de un solo hilo que trabaja en el hilo que pide la
+     * estimación, sin pool propio ni compartido
+     */
+    public static FleetLayoutSampler onCallingThread(long timeBudgetMillis, int maxSamples) {
+        return new FleetLayoutSampler(timeBudgetMillis, maxSamples);
+    }
+
+    private static int checkMaxSamples(int maxSamples) {
+        if (maxSamples <= 0) {
+            throw new IllegalArgumentException("Parámetros de muestreo inválidos: muestras " + maxSamples);
+        }
+        return maxSamples;
+    }
+
+    public long getTimeBudgetMillis() {
+        return timeBudgetMillis;
+    }
+
+    public void setTimeBudgetMillis(long timeBudgetMillis) {
+        if (timeBudgetMillis <= 0) {
+            throw new IllegalArgumentException("Tiempo por jugada inválido: " + timeBudgetMillis + "ms");
+        }
+        this.timeBudgetMillis = timeBudgetMillis;
+    }
+
+    // ========== ESTIMACIÓN ==========
+    /**
+     * Estima la probabilidad de impacto de cada casilla abierta
+     *
+     * @param board Instantánea del tablero rival (solo se usa lo visible)
+     * @param shipLengths Longitudes de los barcos que siguen a flote
+     * @param seed Semilla del muestreo
+     * @return Conteos por casilla y número de disposiciones aceptadas
+     */
+    public Estimate estimate(BoardSnapshot board, int[] shipLengths, long seed) {
+        if (board == null || shipLengths == null) {
+            throw new IllegalArgumentException("Tablero y barcos son obligatorios para el muestreo");
+        }
+        return run(Observation.from(board, shipLengths), seed);
+    }
+
+    /**
+     * Estima la probabilidad de impacto a partir del estado de puntería de
+     * una partida (no necesita tocar el tablero, por lo que puede llamarse
+     * desde cualquier hilo mientras nadie modifique el contexto). La semilla
+     * sale del generador del contexto, así que una partida con semilla fija
+     * pide siempre las mismas secuencias; el número de muestras sigue
+     * dependiendo del tiempo por jugada.
+     *
+     * @param context Disparos, impactos y barcos hundidos observados
+     * @return Conteos por casilla y número de disposiciones aceptadas
+     */
+    public Estimate estimate(ShotContext context) {
+        if (context == null) {
+            throw new IllegalArgumentException("El contexto de disparo es obligatorio para el muestreo");
+        }
+        return run(Observation.from(context), context.getRandom().nextLong());
+    }
+
+    private Estimate run(Observation observation, long seed) {
+        long deadline = System.nanoTime() + timeBudgetMillis * 1_000_000L;
+        int workers = pool != null ? Math.max(1, pool.getParallelism()) : 1;
+        SamplingTask task = new SamplingTask(observation, deadline, maxSamples, workers, new SplittableRandom(seed));
+        SamplingTask.Result result;
+        if (pool == null) {
+            // Un solo trabajador: compute() no divide ni usa ningún pool
+            result = task.compute();
+        } else {
+            // Desde otro ForkJoinPool (un torneo que ya ocupa todos los núcleos) se
+            // muestrea en ese mismo pool en vez de hacer cola en el configurado
+            result = ForkJoinTask.inForkJoinPool() ? task.invoke() : pool.invoke(task);
+        }
+        return new Estimate(observation.state, result.counts, result.sunkCounts, result.samples);
+    }
+
+    /**
+     * Resultado de un muestreo: cuántas disposiciones aceptadas ocupan cada
+     * casilla abierta
+     */
+    public static final class Estimate {
+
+        private final byte[] state;
+        private final int[] hitCounts;
+        private final int[] sunkCounts;
+        private final int samples;
+
+        private Estimate(byte[] state, int[] hitCounts, int[] sunkCounts, int samples) {
+            this.state = state;
+            this.hitCounts = hitCounts;
+            this.sunkCounts = sunkCounts;
+            this.samples = samples;
+        }
+
+        public int getSamples() {
+            return samples;
+        }
+
+        public int getHitCount(int index) {
+            return hitCounts[index];
+        }
+
+        /**
+         * Disposiciones en las que disparar a la casilla hundiría un barco
+         * (es la única casilla que le queda sin tocar)
+         */
+        public int getSunkCount(int index) {
+            return sunkCounts[index];
+        }
+
+        public boolean isOpen(int index) {
+            return state[index] == OPEN;
+        }
+
+        public int getCellCount() {
+            return state.length;
+        }
+
+        /**
+         * Probabilidad estimada de impacto en una casilla (0 sin muestras)
+         */
+        public double getProbability(int index) {
+            return samples == 0 ? 0.0 : (double) hitCounts[index] / samples;
+        }
+
+        /**
+         * Casilla abierta con más disposiciones que la ocupan (la primera en
+         * caso de empate)
+         *
+         * @return Índice de la casilla, o -1 si no se aceptó ninguna muestra
+         */
+        public int bestCell() {
+            if (samples == 0) {
+                return -1;
+            }
+            int best = -1;
+            int bestCount = -1;
+            for (int i = 0; i < hitCounts.length; i++) {
+                if (state[i] == OPEN && hitCounts[i] > bestCount) {
+                    bestCount = hitCounts[i];
+                    best = i;
+                }
+            }
+            return best;
+        }
+    }
+
+    // ========== OBSERVACIÓN ==========
+    /**
+     * Lo que la CPU sabe del tablero rival, compartido sin cambios por todos
+     * los hilos
+     */
+    private static final class Observation {
+
+        final int size;
+        final byte[] state;
+        final boolean[] blocked;
+        final int[] hits;
+        final int[] lengths;
+        final NeighborTable neighbors;
+
+        private Observation(int size, byte[] state, boolean[] blocked, int[] hits, int[] lengths) {
+            this.size = size;
+            this.state = state;
+            this.blocked = blocked;
+            this.hits = hits;
+            this.lengths = lengths;
+            this.neighbors = NeighborTable.forSize(size);
+        }
+
+        static Observation from(BoardSnapshot board, int[] shipLengths) {
+            int size = board.getSize();
+            byte[] state = new byte[size * size];
+            for (int i = 0; i < state.length; i++) {
+                CellState cell = board.stateAt(i);
+                if (cell == CellState.MISS) {
+                    state[i] = MISS;
+                } else if (cell == CellState.IMPACT) {
+                    state[i] = HIT;
+                } else if (cell == CellState.SUNK_SHIP) {
+                    state[i] = SUNK;
+                }
+            }
+            return of(size, state, shipLengths, new int[0]);
+        }
+
+        static Observation from(ShotContext context) {
+            int size = context.getSize();
+            byte[] state = new byte[size * size];
+            int[] revealed = new int[state.length];
+            int revealedCount = 0;
+            for (int i = 0; i < state.length; i++) {
+                if (context.isRevealedWater(i)) {
+                    // Agua sin disparar: no admite barcos y no merece un disparo
+                    state[i] = MISS;
+                    continue;
+                }
+                if (context.isRevealedShip(i)) {
+                    revealed[revealedCount++] = i;
+                    continue;
+                }
+                if (context.isOpen(i)) {
+                    continue;
+                }
+                if (context.isSunk(i)) {
+                    state[i] = SUNK;
+                } else {
+                    state[i] = context.isHit(i) ? HIT : MISS;
+                }
+            }
+            return of(size, state, context.getRemainingShipLengths(), Arrays.copyOf(revealed, revealedCount));
+        }
+
+        /**
+         * @param revealed Casillas abiertas que se sabe que tienen barco: como
+         * los impactos, toda disposición debe cubrirlas
+         */
+        private static Observation of(int size, byte[] state, int[] shipLengths, int[] revealed) {
+            int cells = size * size;
+            NeighborTable neighbors = NeighborTable.forSize(size);
+            boolean[] blocked = new boolean[cells];
+            int[] hits = new int[cells];
+            int hitCount = 0;
+            for (int cell : revealed) {
+                hits[hitCount++] = cell;
+            }
+            for (int i = 0; i < cells; i++) {
+                if (state[i] == MISS) {
+                    blocked[i] = true;
+                } else if (state[i] == HIT) {
+                    hits[hitCount++] = i;
+                } else if (state[i] == SUNK) {
+                    // Ni el barco hundido ni su entorno pueden alojar otro barco
+                    int mask = neighbors.clipMask(i);
+                    for (int bit = 0; bit < 9; bit++) {
+                        if ((mask & (1 << bit)) != 0) {
+                            blocked[i + neighbors.offset(bit)] = true;
+                        }
+                    }
+                }
+            }
+            int[] lengths = shipLengths.clone();
+            Arrays.sort(lengths);
+            // Los barcos largos primero: son los más difíciles de encajar
+            for (int i = 0, j = lengths.length - 1; i < j; i++, j--) {
+                int tmp = lengths[i];
+                lengths[i] = lengths[j];
+                lengths[j] = tmp;
+            }
+            return new Observation(size, state, blocked, Arrays.copyOf(hits, hitCount), lengths);
+        }
+    }
+
+    // ========== TAREAS ==========
+    /**
+     * Divide los hilos de trabajo en mitades hasta llegar a un trabajador por
+     * hoja y suma los conteos al unir
+     */
+    private static final class SamplingTask extends RecursiveTask<SamplingTask.Result> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Observation observation;
+        private final long deadline;
+        private final int sampleQuota;
+        private final int workers;
+        private final SplittableRandom random;
+
+        SamplingTask(Observation observation, long deadline, int sampleQuota, int workers, SplittableRandom random) {
+            this.observation = observation;
+            this.deadline = deadline;
+            this.sampleQuota = sampleQuota;
+            this.workers = workers;
+            this.random = random;
+        }
+
+        static final class Result {
+
+            final int[] counts;
+            final int[] sunkCounts;
+            int samples;
+
+            Result(int[] counts, int[] sunkCounts, int samples) {
+                this.counts = counts;
+                this.sunkCounts = sunkCounts;
+                this.samples = samples;
+            }
+        }
+
+        @Override
+        protected Result compute() {
+            if (workers <= 1) {
+                return new Worker(observation, random).run(deadline, sampleQuota);
+            }
+            int leftWorkers = workers / 2;
+            int leftQuota = (int) ((long) sampleQuota * leftWorkers / workers);
+            SamplingTask left = new SamplingTask(observation, deadline, leftQuota, leftWorkers, random.split());
+            SamplingTask right = new SamplingTask(observation, deadline, sampleQuota - leftQuota,
+                    workers - leftWorkers, random.split());
+            left.fork();
+            Result merged = right.compute();
+            Result other = left.join();
+            for (int i = 0; i < merged.counts.length; i++) {
+                merged.counts[i] += other.counts[i];
+                merged.sunkCounts[i] += other.sunkCounts[i];
+            }
+            merged.samples += other.samples;
+            return merged;
+        }
+    }
+
+    /**
+     * Genera disposiciones en un solo hilo. Las marcas de casilla usan un
+     * sello por muestra para no limpiar arreglos entre intentos.
+     */
+    private static final class Worker {
+
+        private final Observation obs;
+        private final SplittableRandom random;
+        private final int[] counts;
+        private final int[] sunkCounts;
+        private final int[] forbidden;
+        private final int[] covered;
+        private int stamp;
+
+        private final boolean[] used;
+        private final int[] placedStart;
+        private final int[] placedStep;
+        private final int[] placedLength;
+        private int placedCount;
+
+        private final int[] candidateShip;
+        private final int[] candidateStart;
+        private final int[] candidateStep;
+        private final int[] uncovered;
+
+        Worker(Observation obs, SplittableRandom random) {
+            this.obs = obs;
+            this.random = random;
+            int cells = obs.size * obs.size;
+            int ships = obs.lengths.length;
+            this.counts = new int[cells];
+            this.sunkCounts = new int[cells];
+            this.forbidden = new int[cells];
+            this.covered = new int[cells];
+            this.used = new boolean[ships];
+            this.placedStart = new int[ships];
+            this.placedStep = new int[ships];
+            this.placedLength = new int[ships];
+            int maxCandidates = 0;
+            for (int length : obs.lengths) {
+                maxCandidates += 2 * length;
+            }
+            this.candidateShip = new int[maxCandidates];
+            this.candidateStart = new int[maxCandidates];
+            this.candidateStep = new int[maxCandidates];
+            this.uncovered = new int[obs.hits.length];
+        }
+
+        SamplingTask.Result run(long deadline, int quota) {
+            int samples = 0;
+            int attempts = 0;
+            while (samples < quota) {
+                if (++attempts % CLOCK_CHECK_INTERVAL == 0 && System.nanoTime() >= deadline) {
+                    break;
+                }
+                if (sampleLayout()) {
+                    accept();
+                    samples++;
+                }
+            }
+            return new SamplingTask.Result(counts, sunkCounts, samples);
+        }
+
+        /**
+         * Intenta construir una disposición completa consistente
+         *
+         * @return false si la muestra quedó en un callejón sin salida
+         */
+        private boolean sampleLayout() {
+            stamp++;
+            placedCount = 0;
+            Arrays.fill(used, false);
+
+            // Primero se explican los impactos sin resolver
+            while (true) {
+                int pending = 0;
+                for (int hit : obs.hits) {
+                    if (covered[hit] != stamp) {
+                        if (forbidden[hit] == stamp) {
+                            return false; // Un impacto pegado a otro barco
+                        }
+                        uncovered[pending++] = hit;
+                    }
+                }
+                if (pending == 0) {
+                    break;
+                }
+                if (!placeThrough(uncovered[random.nextInt(pending)])) {
+                    return false;
+                }
+            }
+
+            // Después, el resto de barcos en cualquier lugar libre
+            for (int ship = 0; ship < used.length; ship++) {
+                if (!used[ship] && !placeAnywhere(ship)) {
+                    return false;
+                }
+            }
+            return allAfloat();
+        }
+
+        /**
+         * Comprueba que todos los barcos colocados tengan alguna casilla sin
+         * disparar: uno que cayera entero sobre impactos ya estaría hundido
+         */
+        private boolean allAfloat() {
+            for (int p = 0; p < placedCount; p++) {
+                boolean open = false;
+                for (int i = 0, cell = placedStart[p]; i < placedLength[p] && !open; i++, cell += placedStep[p]) {
+                    open = obs.state[cell] == OPEN;
+                }
+                if (!open) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Coloca uno de los barcos sin usar de modo que pase por un impacto
+         */
+        private boolean placeThrough(int hit) {
+            int size = obs.size;
+            int hx = hit / size;
+            int hy = hit % size;
+            int candidates = 0;
+            for (int ship = 0; ship < used.length; ship++) {
+                if (used[ship]) {
+                    continue;
+                }
+                int length = obs.lengths[ship];
+                for (int k = 0; k < length; k++) {
+                    // A lo largo de la fila (avanza en y)
+                    int startY = hy - k;
+                    if (startY >= 0 && startY + length <= size && fits(hx * size + startY, 1, length)) {
+                        candidateShip[candidates] = ship;
+                        candidateStart[candidates] = hx * size + startY;
+                        candidateStep[candidates++] = 1;
+                    }
+                    // A lo largo de la columna (avanza en x)
+                    int startX = hx - k;
+                    if (length > 1 && startX >= 0 && startX + length <= size
+                            && fits(startX * size + hy, size, length)) {
+                        candidateShip[candidates] = ship;
+                        candidateStart[candidates] = startX * size + hy;
+                        candidateStep[candidates++] = size;
+                    }
+                }
+            }
+            if (candidates == 0) {
+                return false;
+            }
+            int choice = random.nextInt(candidates);
+            place(candidateShip[choice], candidateStart[choice], candidateStep[choice]);
+            return true;
+        }
+
+        private boolean placeAnywhere(int ship) {
+            int size = obs.size;
+            int length = obs.lengths[ship];
+            if (length > size) {
+                return false;
+            }
+            for (int attempt = 0; attempt < RANDOM_ATTEMPTS; attempt++) {
+                boolean alongRow = random.nextBoolean();
+                int fixed = random.nextInt(size);
+                int from = random.nextInt(size - length + 1);
+                int start = alongRow ? fixed * size + from : from * size + fixed;
+                int step = alongRow ? 1 : size;
+                if (fits(start, step, length)) {
+                    place(ship, start, step);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean fits(int start, int step, int length) {
+            for (int i = 0, cell = start; i < length; i++, cell += step) {
+                if (obs.blocked[cell] || forbidden[cell] == stamp) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void place(int ship, int start, int step) {
+            int length = obs.lengths[ship];
+            used[ship] = true;
+            placedStart[placedCount] = start;
+            placedStep[placedCount] = step;
+            placedLength[placedCount++] = length;
+            NeighborTable neighbors = obs.neighbors;
+            for (int i = 0, cell = start; i < length; i++, cell += step) {
+                covered[cell] = stamp;
+                int mask = neighbors.clipMask(cell);
+                for (int bit = 0; bit < 9; bit++) {
+                    if ((mask & (1 << bit)) != 0) {
+                        forbidden[cell + neighbors.offset(bit)] = stamp;
+                    }
+                }
+            }
+        }
+
+        private void accept() {
+            for (int p = 0; p < placedCount; p++) {
+                int open = 0;
+                int lastOpen = -1;
+                for (int i = 0, cell = placedStart[p]; i < placedLength[p]; i++, cell += placedStep[p]) {
+                    if (obs.state[cell] == OPEN) {
+                        counts[cell]++;
+                        open++;
+                        lastOpen = cell;
+                    }
+                }
+                // Un disparo a la última casilla sin tocar hunde el barco
+                if (open == 1) {
+                    sunkCounts[lastOpen]++;
+                }
+            }
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.cenit.battleship.model;
 import com.cenit.battleship.model.enums.Direction;
 import com.cenit.battleship.model.enums.GamePhase;
 import com.cenit.battleship.model.enums.ShotResult;
+import com.cenit.battleship.util.GameLog;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -11,6 +12,8 @@ import java.util.List;
  * @author Usuario
  */
 public class Game {
+
+    private static final GameLog.Logger LOG = GameLog.getLogger(Game.class);
     
     private final Board boardPlayer;
     private final Board boardCPU;
@@ -77,7 +80,7 @@ public class Game {
      */
     public boolean canPlacePlayerShip(Ship ship, Coordinate coord, Direction direction) {
         if (ship == null || coord == null || direction == null) {
-            System.err.println("❌ Parámetros inválidos para canPlacePlayerShip");
+            LOG.error("❌ Parámetros inválidos para canPlacePlayerShip");
             return false;
         }
 
@@ -85,7 +88,7 @@ public class Game {
             List<Coordinate> shipCoordinates = calculateShipCoordinates(ship, coord, direction);
             return canPlaceShipOnBoard(boardPlayer, shipCoordinates);
         } catch (Exception e) {
-            System.err.println("❌ Error en canPlacePlayerShip: " + e.getMessage());
+            LOG.error(() -> "❌ Error en canPlacePlayerShip: " + e.getMessage());
             return false;
         }
     }
@@ -95,7 +98,7 @@ public class Game {
      */
     public boolean canPlaceCPUShip(Ship ship, Coordinate coord, Direction direction) {
         if (ship == null || coord == null || direction == null) {
-            System.err.println("❌ Parámetros inválidos para canPlaceCPUShip");
+            LOG.error("❌ Parámetros inválidos para canPlaceCPUShip");
             return false;
         }
 
@@ -103,7 +106,7 @@ public class Game {
             List<Coordinate> shipCoordinates = calculateShipCoordinates(ship, coord, direction);
             return canPlaceShipOnBoard(boardCPU, shipCoordinates);
         } catch (Exception e) {
-            System.err.println("❌ Error en canPlaceCPUShip: " + e.getMessage());
+            LOG.error(() -> "❌ Error en canPlaceCPUShip: " + e.getMessage());
             return false;
         }
     }
@@ -116,11 +119,9 @@ public class Game {
             return false;
         }
 
-        if (hasShipOverlapOnBoard(board, coordinates)) {
-            return false;
-        }
-
-        if (!respectsSeparationRulesOnBoard(board, coordinates)) {
+        // Superposición y separación mediante la zona de exclusión del tablero
+        if (!board.canPlaceShip(coordinates)) {
+            LOG.info("🚫 Posición ocupada o demasiado cerca de otro barco");
             return false;
         }
 
@@ -148,12 +149,12 @@ public class Game {
             // Colocar en el tablero
             boardPlayer.placeShip(ship, shipCoordinates);
             
-            System.out.println("✅ Barco del jugador " + ship.getType().getName() + " colocado exitosamente");
+            LOG.info(() -> "✅ Barco del jugador " + ship.getType().getName() + " colocado exitosamente");
             notifyShipPlaced(true, ship, shipCoordinates);
             return true;
             
         } catch (Exception e) {
-            System.err.println("❌ Error al colocar barco del jugador: " + e.getMessage());
+            LOG.error(() -> "❌ Error al colocar barco del jugador: " + e.getMessage());
             return false;
         }
     }
@@ -179,12 +180,12 @@ public class Game {
             // Colocar en el tablero
             boardCPU.placeShip(ship, shipCoordinates);
             
-            System.out.println("✅ Barco de la CPU " + ship.getType().getName() + " colocado exitosamente");
+            LOG.info(() -> "✅ Barco de la CPU " + ship.getType().getName() + " colocado exitosamente");
             notifyShipPlaced(false, ship, shipCoordinates);
             return true;
             
         } catch (Exception e) {
-            System.err.println("❌ Error al colocar barco de la CPU: " + e.getMessage());
+            LOG.error(() -> "❌ Error al colocar barco de la CPU: " + e.getMessage());
             return false;
         }
     }
@@ -193,9 +194,19 @@ public class Game {
      * Calcula las coordenadas que ocuparía el barco
      */
     private List<Coordinate> calculateShipCoordinates(Ship ship, Coordinate start, Direction direction) {
-        List<Coordinate> coordinates = new ArrayList<>();
         int size = ship.getType().getSize();
+        int boardSize = boardPlayer.getSize();
+        if (PlacementTable.isSupported(boardSize) && size <= boardSize) {
+            // HORIZONTAL avanza en filas (x): misma columna
+            PlacementTable table = PlacementTable.of(boardSize, size, direction != Direction.HORIZONTAL);
+            int placement = table.placementAt(start.getX(), start.getY());
+            if (placement < 0) {
+                throw new IllegalArgumentException("El barco no cabe desde " + start.aNotacion());
+            }
+            return table.coordinatesOf(placement);
+        }
 
+        List<Coordinate> coordinates = new ArrayList<>();
         int dx = 0, dy = 0;
         if (direction == Direction.HORIZONTAL) {
             dx = 1;
@@ -206,7 +217,7 @@ public class Game {
         for (int i = 0; i < size; i++) {
             int x = start.getX() + (dx * i);
             int y = start.getY() + (dy * i);
-            coordinates.add(new Coordinate(x, y));
+            coordinates.add(Coordinate.of(x, y));
         }
 
         return coordinates;
@@ -219,50 +230,13 @@ public class Game {
         for (Coordinate coord : coordinates) {
             if (coord.getX() < 0 || coord.getX() >= Board.BOARD_SIZE
                     || coord.getY() < 0 || coord.getY() >= Board.BOARD_SIZE) {
-                System.out.println("🚫 Coordenada fuera del tablero: " + coord.aNotacion());
+                LOG.info(() -> "🚫 Coordenada fuera del tablero: " + coord.aNotacion());
                 return false;
             }
         }
         return true;
     }
     
-    /**
-     * Verifica si hay superposición con barcos existentes en un tablero
-     */
-    private boolean hasShipOverlapOnBoard(Board board, List<Coordinate> coordinates) {
-        for (Coordinate coord : coordinates) {
-            if (board.hasShipAt(coord)) {
-                System.out.println("🚫 Superposición en: " + coord.aNotacion());
-                return true;
-            }
-        }
-        return false;
-    }
-    
-    /**
-     * Verifica reglas de separación entre barcos en un tablero
-     */
-    private boolean respectsSeparationRulesOnBoard(Board board, List<Coordinate> coordinates) {
-        for (Coordinate coord : coordinates) {
-            for (int dx = -1; dx <= 1; dx++) {
-                for (int dy = -1; dy <= 1; dy++) {
-                    if (dx == 0 && dy == 0) continue;
-                    
-                    try {
-                        Coordinate adjacent = coord.desplazar(dx, dy);
-                        if (board.hasShipAt(adjacent)) {
-                            System.out.println("🚫 Barco muy cercano en: " + adjacent.aNotacion());
-                            return false;
-                        }
-                    } catch (IllegalArgumentException e) {
-                        // Coordenada fuera del tablero, ignorar
-                    }
-                }
-            }
-        }
-        return true;
-    }
-    
     // ========== COMPORTAMIENTO DEL JUEGO ==========
     
     /**
@@ -353,7 +327,7 @@ public class Game {
         setPlayerTurn(true);
         turnCount = 0;
         
-        System.out.println("🎮 ¡Juego iniciado! Es el turno del jugador");
+        LOG.info("🎮 ¡Juego iniciado! Es el turno del jugador");
         notifyGameStarted();
     }
     
@@ -365,10 +339,10 @@ public class Game {
         boolean cpuReady = boardCPU.getShips().size() > 0;
         
         if (!playerReady) {
-            System.err.println("❌ El jugador no tiene barcos colocados");
+            LOG.error("❌ El jugador no tiene barcos colocados");
         }
         if (!cpuReady) {
-            System.err.println("❌ La CPU no tiene barcos colocados");
+            LOG.error("❌ La CPU no tiene barcos colocados");
         }
         
         return playerReady && cpuReady;
@@ -381,11 +355,11 @@ public class Game {
         if (boardCPU.allShipsSunk()) {
             setPhase(GamePhase.PLAYER_WIN);
             notifyGameEnded(true);
-            System.out.println("🎉 ¡El jugador ha ganado la partida!");
+            LOG.info("🎉 ¡El jugador ha ganado la partida!");
         } else if (boardPlayer.allShipsSunk()) {
             setPhase(GamePhase.CPU_WIN);
             notifyGameEnded(false);
-            System.out.println("💀 La CPU ha ganado la partida");
+            LOG.info("💀 La CPU ha ganado la partida");
         }
     }
     
@@ -399,7 +373,7 @@ public class Game {
         setPhase(GamePhase.SHIP_PLACEMENT);
         turnCount = 0;
         
-        System.out.println("🔄 Juego reiniciado");
+        LOG.info("🔄 Juego reiniciado");
         notifyGameReset();
     }
     
@@ -1,7 +1,9 @@
 package com.cenit.battleship.model;
 
+import com.cenit.battleship.model.enums.BoardStorageType;
 import com.cenit.battleship.model.enums.Difficulty;
 import com.cenit.battleship.model.enums.GameMode;
+import com.cenit.battleship.util.GameLog;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
@@ -16,6 +18,8 @@ import java.util.Properties;
  */
 public class GameConfiguration {
 
+    private static final GameLog.Logger LOG = GameLog.getLogger(GameConfiguration.class);
+
     private static GameConfiguration instancia;
     
     // Propiedades de configuración
@@ -31,6 +35,9 @@ public class GameConfiguration {
     private String language;
     private int boardSize;
     private int cellSize;
+    private BoardStorageType boardStorageType;
+    private int expertTimeBudgetMs;
+    private String replayDirectory;
     
     // Archivo de configuración
     private static final String CONFIG_FILE = "config.properties";
@@ -51,6 +58,16 @@ public class GameConfiguration {
     // Valores por defecto para el tablero
     public static final int DEFAULT_BOARD_SIZE = 15;
     public static final int DEFAULT_CELL_SIZE = 40;
+    public static final int MAX_BOARD_SIZE = 30;
+    // Motor de las casillas en las partidas: la interfaz trabaja con objetos Cell
+    public static final BoardStorageType DEFAULT_BOARD_STORAGE_TYPE = BoardStorageType.CELL_GRID;
+    
+    // Tiempo de cálculo por jugada de la CPU experta (muestreo de flotas)
+    public static final int DEFAULT_EXPERT_TIME_BUDGET_MS = 150;
+    public static final int MAX_EXPERT_TIME_BUDGET_MS = 5000;
+    
+    // Carpeta de las repeticiones de cada partida (vacía: no se graban)
+    public static final String DEFAULT_REPLAY_DIRECTORY = "replays";
     
     private GameConfiguration() {
         loadConfiguration();
@@ -71,14 +88,14 @@ public class GameConfiguration {
         try (InputStream input = new FileInputStream(CONFIG_FILE)) {
             properties.load(input);
             loadFromProperties();
-            System.out.println("✅ Configuración cargada desde: " + CONFIG_FILE);
+            LOG.info(() -> "✅ Configuración cargada desde: " + CONFIG_FILE);
         } catch (FileNotFoundException e) {
             // Archivo no existe, usar valores por defecto
-            System.out.println("📁 Archivo de configuración no encontrado. Usando valores por defecto.");
+            LOG.info("📁 Archivo de configuración no encontrado. Usando valores por defecto.");
             useDefaultValues();
             saveConfiguration(); // Crear archivo con valores por defecto
         } catch (IOException e) {
-            System.err.println("❌ Error al cargar configuración: " + e.getMessage());
+            LOG.error(() -> "❌ Error al cargar configuración: " + e.getMessage());
             useDefaultValues();
         }
     }
@@ -87,9 +104,9 @@ public class GameConfiguration {
         try (OutputStream output = new FileOutputStream(CONFIG_FILE)) {
             saveToProperties();
             properties.store(output, "Configuración del juego Battleship");
-            System.out.println("💾 Configuración guardada en: " + CONFIG_FILE);
+            LOG.info(() -> "💾 Configuración guardada en: " + CONFIG_FILE);
         } catch (IOException e) {
-            System.err.println("❌ Error al guardar configuración: " + e.getMessage());
+            LOG.error(() -> "❌ Error al guardar configuración: " + e.getMessage());
         }
     }
     
@@ -123,9 +140,18 @@ public class GameConfiguration {
             // Tablero
             this.boardSize = Integer.parseInt(properties.getProperty("boardSize", String.valueOf(DEFAULT_BOARD_SIZE)));
             this.cellSize = Integer.parseInt(properties.getProperty("cellSize", String.valueOf(DEFAULT_CELL_SIZE)));
+            this.boardStorageType = BoardStorageType.valueOf(properties.getProperty("boardStorageType",
+                    DEFAULT_BOARD_STORAGE_TYPE.name()));
+            
+            // IA
+            this.expertTimeBudgetMs = Integer.parseInt(properties.getProperty("expertTimeBudgetMs",
+                    String.valueOf(DEFAULT_EXPERT_TIME_BUDGET_MS)));
+            
+            // Repeticiones
+            this.replayDirectory = properties.getProperty("replayDirectory", DEFAULT_REPLAY_DIRECTORY).trim();
             
         } catch (Exception e) {
-            System.err.println("❌ Error al parsear configuración: " + e.getMessage());
+            LOG.error(() -> "❌ Error al parsear configuración: " + e.getMessage());
             useDefaultValues();
         }
     }
@@ -154,6 +180,13 @@ public class GameConfiguration {
         // Tablero
         properties.setProperty("boardSize", String.valueOf(this.boardSize));
         properties.setProperty("cellSize", String.valueOf(this.cellSize));
+        properties.setProperty("boardStorageType", boardStorageType.name());
+        
+        // IA
+        properties.setProperty("expertTimeBudgetMs", String.valueOf(this.expertTimeBudgetMs));
+        
+        // Repeticiones
+        properties.setProperty("replayDirectory", replayDirectory);
     }
     
     private void useDefaultValues() {
@@ -169,6 +202,9 @@ public class GameConfiguration {
         this.language = DEFAULT_LANGUAGE;
         this.boardSize = DEFAULT_BOARD_SIZE;
         this.cellSize = DEFAULT_CELL_SIZE;
+        this.boardStorageType = DEFAULT_BOARD_STORAGE_TYPE;
+        this.expertTimeBudgetMs = DEFAULT_EXPERT_TIME_BUDGET_MS;
+        this.replayDirectory = DEFAULT_REPLAY_DIRECTORY;
     }
     
     // ========== GETTERS Y SETTERS ==========
@@ -183,11 +219,29 @@ public class GameConfiguration {
      * @param size Tamaño del tablero
      */
     public void setBoardSize(int size) {
-        if (size > 0 && size <= 30) { // Poner un límite razonable
+        if (size > 0 && size <= MAX_BOARD_SIZE) { // Poner un límite razonable
             this.boardSize = size;
-            System.out.println("📐 Tamaño del tablero establecido a: " + size + "x" + size);
+            LOG.info(() -> "📐 Tamaño del tablero establecido a: " + size + "x" + size);
         } else {
-            System.err.println("⚠️ Tamaño de tablero inválido: " + size + ". Debe estar entre 1 y 30.");
+            LOG.warn(() -> "⚠️ Tamaño de tablero inválido: " + size + ". Debe estar entre 1 y " + MAX_BOARD_SIZE + ".");
+        }
+    }
+
+    public BoardStorageType getBoardStorageType() {
+        return boardStorageType;
+    }
+
+    /**
+     * Establece el motor de almacenamiento de los tableros de las partidas
+     * (los mapas gigantes, que no pasan por la configuración, usan siempre SPARSE).
+     * @param storageType Motor de almacenamiento de las casillas
+     */
+    public void setBoardStorageType(BoardStorageType storageType) {
+        if (storageType != null) {
+            this.boardStorageType = storageType;
+            LOG.info(() -> "🧮 Almacenamiento del tablero: " + storageType.getDisplayName());
+        } else {
+            LOG.warn("⚠️ El tipo de almacenamiento del tablero no puede ser nulo.");
         }
     }
 
@@ -202,19 +256,57 @@ public class GameConfiguration {
     public void setCellSize(int size) {
         if (size > 10 && size <= 100) { // Poner un límite razonable
             this.cellSize = size;
-            System.out.println("📏 Tamaño de casilla establecido a: " + size + "px");
+            LOG.info(() -> "📏 Tamaño de casilla establecido a: " + size + "px");
         } else {
-            System.err.println("⚠️ Tamaño de casilla inválido: " + size + ". Debe estar entre 10 y 100.");
+            LOG.warn(() -> "⚠️ Tamaño de casilla inválido: " + size + ". Debe estar entre 10 y 100.");
         }
     }
     
+    public int getExpertTimeBudgetMs() {
+        return expertTimeBudgetMs;
+    }
+
+    /**
+     * Establece el tiempo máximo que la CPU experta dedica a muestrear
+     * flotas posibles en cada jugada.
+     * @param millis Milisegundos por jugada
+     */
+    public void setExpertTimeBudgetMs(int millis) {
+        if (millis > 0 && millis <= MAX_EXPERT_TIME_BUDGET_MS) {
+            this.expertTimeBudgetMs = millis;
+            LOG.info(() -> "⏱️ Tiempo por jugada de la CPU experta: " + millis + "ms");
+        } else {
+            LOG.warn(() -> "⚠️ Tiempo por jugada inválido: " + millis + ". Debe estar entre 1 y " + MAX_EXPERT_TIME_BUDGET_MS + ".");
+        }
+    }
+    
+    public String getReplayDirectory() {
+        return replayDirectory;
+    }
+
+    /**
+     * Establece la carpeta donde se guarda la repetición de cada partida
+     * terminada.
+     * @param directory Ruta de la carpeta (null o vacía: no grabar)
+     */
+    public void setReplayDirectory(String directory) {
+        this.replayDirectory = directory != null ? directory.trim() : "";
+        LOG.info(() -> replayDirectory.isEmpty()
+                ? "🎬 Grabación de repeticiones desactivada"
+                : "🎬 Repeticiones en: " + replayDirectory);
+    }
+
+    public boolean isReplayRecordingEnabled() {
+        return !replayDirectory.isEmpty();
+    }
+    
     public Difficulty getCpuDifficulty() {
         return cpuDifficulty;
     }
     
     public void setCpuDifficulty(Difficulty difficulty) {
         this.cpuDifficulty = difficulty;
-        System.out.println("🎯 Dificultad establecida: " + difficulty);
+        LOG.info(() -> "🎯 Dificultad establecida: " + difficulty);
     }
     
     public boolean isSoundEnabled() {
@@ -223,7 +315,7 @@ public class GameConfiguration {
     
     public void setSoundEnabled(boolean enabled) {
         this.soundEnabled = enabled;
-        System.out.println("🔊 Sonido " + (enabled ? "habilitado" : "deshabilitado"));
+        LOG.info(() -> "🔊 Sonido " + (enabled ? "habilitado" : "deshabilitado"));
     }
     
     public boolean isAnimationsEnabled() {
@@ -232,7 +324,7 @@ public class GameConfiguration {
     
     public void setAnimationsEnabled(boolean enabled) {
         this.animationsEnabled = enabled;
-        System.out.println("🎬 Animaciones " + (enabled ? "habilitadas" : "deshabilitadas"));
+        LOG.info(() -> "🎬 Animaciones " + (enabled ? "habilitadas" : "deshabilitadas"));
     }
     
     public double getSoundVolume() {
@@ -241,7 +333,7 @@ public class GameConfiguration {
     
     public void setSoundVolume(double volume) {
         this.soundVolume = Math.max(0.0, Math.min(1.0, volume));
-        System.out.println("🔊 Volumen establecido: " + (int)(soundVolume * 100) + "%");
+        LOG.info(() -> "🔊 Volumen establecido: " + (int)(soundVolume * 100) + "%");
     }
     
     public double getGameSpeed() {
@@ -250,7 +342,7 @@ public class GameConfiguration {
     
     public void setGameSpeed(double speed) {
         this.gameSpeed = Math.max(0.1, Math.min(2.0, speed));
-        System.out.println("⚡ Velocidad del juego: " + (int)(gameSpeed * 100) + "%");
+        LOG.info(() -> "⚡ Velocidad del juego: " + (int)(gameSpeed * 100) + "%");
     }
     
     public String getPlayerName() {
@@ -260,7 +352,7 @@ public class GameConfiguration {
     public void setPlayerName(String name) {
         if (name != null && !name.trim().isEmpty()) {
             this.playerName = name.trim();
-            System.out.println("👤 Nombre del jugador: " + playerName);
+            LOG.info(() -> "👤 Nombre del jugador: " + playerName);
         }
     }
     
@@ -271,7 +363,7 @@ public class GameConfiguration {
     public void setGameMode(GameMode gameMode) {
         if (gameMode != null) {
             this.gameMode = gameMode;
-            System.out.println("🎮 Modo de juego: " + gameMode.getName());
+            LOG.info(() -> "🎮 Modo de juego: " + gameMode.getName());
         }
     }
     
@@ -281,7 +373,7 @@ public class GameConfiguration {
     
     public void setShowHelp(boolean show) {
         this.showHelp = show;
-        System.out.println("💡 Ayudas " + (show ? "habilitadas" : "deshabilitadas"));
+        LOG.info(() -> "💡 Ayudas " + (show ? "habilitadas" : "deshabilitadas"));
     }
     
     public String getVisualTheme() {
@@ -291,7 +383,7 @@ public class GameConfiguration {
     public void setVisualTheme(String theme) {
         if (theme != null && !theme.trim().isEmpty()) {
             this.visualTheme = theme.trim();
-            System.out.println("🎨 Tema visual: " + visualTheme);
+            LOG.info(() -> "🎨 Tema visual: " + visualTheme);
         }
     }
     
@@ -302,7 +394,7 @@ public class GameConfiguration {
     public void setLanguage(String lang) {
         if (lang != null && !lang.trim().isEmpty()) {
             this.language = lang.trim();
-            System.out.println("🌐 Idioma: " + language);
+            LOG.info(() -> "🌐 Idioma: " + language);
         }
     }
     
@@ -318,6 +410,8 @@ public class GameConfiguration {
                 return "Difícil - Para jugadores experimentados";
             case EXPERT:
                 return "Experto - ¡Solo para los mejores!";
+            case MASTER:
+                return "Maestro - Cada disparo busca la máxima información";
             default:
                 return "Normal";
         }
@@ -329,6 +423,7 @@ public class GameConfiguration {
             case NORMAL: return "Normal";
             case HARD: return "Difícil";
             case EXPERT: return "Experto";
+            case MASTER: return "Maestro";
             default: return "Normal";
         }
     }
@@ -339,76 +434,76 @@ public class GameConfiguration {
     }
     
     public void resetToDefaults() {
-        System.out.println("🔄 Restableciendo configuración a valores por defecto...");
+        LOG.info("🔄 Restableciendo configuración a valores por defecto...");
         useDefaultValues();
         saveConfiguration();
     }
     
     public void showCurrentSettings() {
-        System.out.println("=== CONFIGURACIÓN ACTUAL ===");
-        System.out.println("🎯 Dificultad: " + cpuDifficulty + " - " + getDifficultyDescription());
-        System.out.println("🔊 Sonido: " + (soundEnabled ? "HABILITADO" : "DESHABILITADO"));
-        System.out.println("📊 Volumen: " + (int)(soundVolume * 100) + "%");
-        System.out.println("🎬 Animaciones: " + (animationsEnabled ? "HABILITADAS" : "DESHABILITADAS"));
-        System.out.println("⚡ Velocidad: " + (int)(gameSpeed * 100) + "%");
-        System.out.println("👤 Jugador: " + playerName);
-        System.out.println("🎮 Modo: " + (gameMode != null ? gameMode.getName() : "No establecido"));
-        System.out.println("💡 Ayudas: " + (showHelp ? "HABILITADAS" : "DESHABILITADAS"));
-        System.out.println("🎨 Tema: " + visualTheme);
-        System.out.println("🌐 Idioma: " + language);
-        System.out.println("📐 Tamaño tablero: " + boardSize + "x" + boardSize);
-        System.out.println("📏 Tamaño casilla: " + cellSize + "px");
-        System.out.println("=============================");
+        LOG.info("=== CONFIGURACIÓN ACTUAL ===");
+        LOG.info(() -> "🎯 Dificultad: " + cpuDifficulty + " - " + getDifficultyDescription());
+        LOG.info(() -> "🔊 Sonido: " + (soundEnabled ? "HABILITADO" : "DESHABILITADO"));
+        LOG.info(() -> "📊 Volumen: " + (int)(soundVolume * 100) + "%");
+        LOG.info(() -> "🎬 Animaciones: " + (animationsEnabled ? "HABILITADAS" : "DESHABILITADAS"));
+        LOG.info(() -> "⚡ Velocidad: " + (int)(gameSpeed * 100) + "%");
+        LOG.info(() -> "👤 Jugador: " + playerName);
+        LOG.info(() -> "🎮 Modo: " + (gameMode != null ? gameMode.getName() : "No establecido"));
+        LOG.info(() -> "💡 Ayudas: " + (showHelp ? "HABILITADAS" : "DESHABILITADAS"));
+        LOG.info(() -> "🎨 Tema: " + visualTheme);
+        LOG.info(() -> "🌐 Idioma: " + language);
+        LOG.info(() -> "📐 Tamaño tablero: " + boardSize + "x" + boardSize);
+        LOG.info(() -> "📏 Tamaño casilla: " + cellSize + "px");
+        LOG.info("=============================");
     }
     
     // ========== CONFIGURACIONES PREDEFINIDAS ==========
     
     public void configureBeginnerMode() {
-        System.out.println("👶 Configurando modo Principiante...");
+        LOG.info("👶 Configurando modo Principiante...");
         this.cpuDifficulty = Difficulty.EASY;
         this.showHelp = true;
         this.gameSpeed = 0.8;
         this.soundVolume = 0.7;
         this.gameMode = GameMode.CLASSIC;
         saveConfiguration();
-        System.out.println("✅ Modo Principiante configurado");
+        LOG.info("✅ Modo Principiante configurado");
     }
     
     public void configureNormalMode() {
-        System.out.println("🎯 Configurando modo Normal...");
+        LOG.info("🎯 Configurando modo Normal...");
         this.cpuDifficulty = Difficulty.NORMAL;
         this.showHelp = true;
         this.gameSpeed = 1.0;
         this.soundVolume = 0.8;
         this.gameMode = GameMode.CLASSIC;
         saveConfiguration();
-        System.out.println("✅ Modo Normal configurado");
+        LOG.info("✅ Modo Normal configurado");
     }
     
     public void configureHardMode() {
-        System.out.println("🚀 Configurando modo Difícil...");
+        LOG.info("🚀 Configurando modo Difícil...");
         this.cpuDifficulty = Difficulty.HARD;
         this.showHelp = false;
         this.gameSpeed = 1.2;
         this.soundVolume = 0.9;
         this.gameMode = GameMode.TACTICAL;
         saveConfiguration();
-        System.out.println("✅ Modo Difícil configurado");
+        LOG.info("✅ Modo Difícil configurado");
     }
     
     public void configureExpertMode() {
-        System.out.println("💀 Configurando modo Experto...");
+        LOG.info("💀 Configurando modo Experto...");
         this.cpuDifficulty = Difficulty.EXPERT;
         this.showHelp = false;
         this.gameSpeed = 1.5;
         this.soundVolume = 1.0;
         this.gameMode = GameMode.TACTICAL;
         saveConfiguration();
-        System.out.println("✅ Modo Experto configurado");
+        LOG.info("✅ Modo Experto configurado");
     }
     
     public void configureCompetitiveMode() {
-        System.out.println("🏆 Configurando modo Competitivo...");
+        LOG.info("🏆 Configurando modo Competitivo...");
         this.cpuDifficulty = Difficulty.HARD;
         this.showHelp = false;
         this.animationsEnabled = true;
@@ -416,11 +511,11 @@ public class GameConfiguration {
         this.soundVolume = 0.9;
         this.gameMode = GameMode.TACTICAL;
         saveConfiguration();
-        System.out.println("✅ Modo Competitivo configurado");
+        LOG.info("✅ Modo Competitivo configurado");
     }
     
     public void configureCasualMode() {
-        System.out.println("😊 Configurando modo Casual...");
+        LOG.info("😊 Configurando modo Casual...");
         this.cpuDifficulty = Difficulty.EASY;
         this.showHelp = true;
         this.animationsEnabled = true;
@@ -428,7 +523,7 @@ public class GameConfiguration {
         this.soundVolume = 0.6;
         this.gameMode = GameMode.CLASSIC;
         saveConfiguration();
-        System.out.println("✅ Modo Casual configurado");
+        LOG.info("✅ Modo Casual configurado");
     }
     
     // ========== MÉTODOS DE VALIDACIÓN ==========
@@ -483,6 +578,8 @@ public class GameConfiguration {
         gameProps.setProperty("playerName", playerName);
         gameProps.setProperty("boardSize", String.valueOf(boardSize));
         gameProps.setProperty("cellSize", String.valueOf(cellSize));
+        gameProps.setProperty("expertTimeBudgetMs", String.valueOf(expertTimeBudgetMs));
+        gameProps.setProperty("replayDirectory", replayDirectory);
         return gameProps;
     }
     
@@ -511,12 +608,18 @@ public class GameConfiguration {
             if (importedProps.containsKey("cellSize")) {
                 this.cellSize = Integer.parseInt(importedProps.getProperty("cellSize"));
             }
+            if (importedProps.containsKey("expertTimeBudgetMs")) {
+                this.expertTimeBudgetMs = Integer.parseInt(importedProps.getProperty("expertTimeBudgetMs"));
+            }
+            if (importedProps.containsKey("replayDirectory")) {
+                this.replayDirectory = importedProps.getProperty("replayDirectory").trim();
+            }
             
             saveConfiguration();
-            System.out.println("✅ Configuración importada exitosamente");
+            LOG.info("✅ Configuración importada exitosamente");
             
         } catch (Exception e) {
-            System.err.println("❌ Error al importar configuración: " + e.getMessage());
+            LOG.error(() -> "❌ Error al importar configuración: " + e.getMessage());
         }
     }
     
@@ -6,10 +6,13 @@
 package com.cenit.battleship.model;
 
 import com.cenit.battleship.model.enums.ShipType;
+import com.cenit.battleship.util.GameLog;
 import java.util.*;
 import java.io.Serializable;
 
 public class GameStatistics implements Serializable {
+
+    private static final GameLog.Logger LOG = GameLog.getLogger(GameStatistics.class);
     private static final long serialVersionUID = 1L;
     
     // ========== ESTADÍSTICAS BÁSICAS ==========
@@ -108,6 +111,7 @@ public class GameStatistics implements Serializable {
         victoriesByDifficulty.put("NORMAL", 0);
         victoriesByDifficulty.put("HARD", 0);
         victoriesByDifficulty.put("EXPERT", 0);
+        victoriesByDifficulty.put("MASTER", 0);
     }
     
     // ========== MÉTODOS PARA ACTUALIZAR ESTADÍSTICAS ==========
@@ -183,7 +187,7 @@ public void recordGameWin() {
     // Actualizar fecha del último juego
     lastGameDate = new Date();
     
-    System.out.println("✅ Victoria registrada. Racha actual: " + currentWinStreak);
+    LOG.info(() -> "✅ Victoria registrada. Racha actual: " + currentWinStreak);
 }
 
 /**
@@ -219,7 +223,7 @@ public void recordGameLoss() {
     // Actualizar fecha del último juego
     lastGameDate = new Date();
     
-    System.out.println("❌ Derrota registrada. Racha de derrotas: " + currentLossStreak);
+    LOG.info(() -> "❌ Derrota registrada. Racha de derrotas: " + currentLossStreak);
 }
 
 /**
@@ -232,7 +236,7 @@ public void recordGameLoss(int shipsSunk, String difficulty) {
     
     // Registrar barcos hundidos incluso en derrota
     if (shipsSunk > 0) {
-        System.out.println("💥 Hundiste " + shipsSunk + " barcos enemigos antes de caer");
+        LOG.info(() -> "💥 Hundiste " + shipsSunk + " barcos enemigos antes de caer");
     }
 }
 
@@ -242,7 +246,7 @@ private void updateVictoryRecords(int turns) {
     // Récord de victoria más rápida
     if (turns < fastestVictory) {
         fastestVictory = turns;
-        System.out.println("⚡ ¡Nuevo récord! Victoria más rápida en " + turns + " turnos");
+        LOG.info(() -> "⚡ ¡Nuevo récord! Victoria más rápida en " + turns + " turnos");
     }
     
     // Récord de victoria más lenta
@@ -276,7 +280,7 @@ public void recordGameStart() {
     }
     lastGameDate = new Date();
     
-    System.out.println("🎮 Iniciando partida #" + gamesPlayed);
+    LOG.info(() -> "🎮 Iniciando partida #" + gamesPlayed);
 }
 
 /**
@@ -325,7 +329,7 @@ public void recordDetailedGameResult(boolean won, int turns, int totalShots, int
     this.totalShotsFired += totalShots;
     this.successfulShots += successfulShots;
     
-    System.out.println(String.format("🎯 Precisión esta partida: %.1f%%", 
+    LOG.info(() -> String.format("🎯 Precisión esta partida: %.1f%%", 
         totalShots > 0 ? (double) successfulShots / totalShots * 100 : 0));
 }
 
@@ -333,7 +337,7 @@ private void updateGameRecords(int shipsSunkThisGame, int turns) {
     // Récord de más barcos hundidos en un juego
     if (shipsSunkThisGame > mostShipsSunkInGame) {
         mostShipsSunkInGame = shipsSunkThisGame;
-        System.out.println("🚀 ¡Nuevo récord! " + shipsSunkThisGame + " barcos hundidos en una partida");
+        LOG.info(() -> "🚀 ¡Nuevo récord! " + shipsSunkThisGame + " barcos hundidos en una partida");
     }
     
     // Récord de más disparos en un juego (si se está trackeando)
@@ -388,7 +392,7 @@ public String getBestStreakInfo() {
 public void resetStreaks() {
     currentWinStreak = 0;
     currentLossStreak = 0;
-    System.out.println("🔄 Rachas reiniciadas");
+    LOG.info("🔄 Rachas reiniciadas");
 }
 
 /**
@@ -396,7 +400,7 @@ public void resetStreaks() {
  */
 public void resetAll() {
     initializeStatistics();
-    System.out.println("🔄 Todas las estadísticas reiniciadas");
+    LOG.info("🔄 Todas las estadísticas reiniciadas");
 }
     
     
@@ -0,0 +1,50 @@
+package com.cenit.battleship.model;
+
+import com.cenit.battleship.model.enums.ShotResult;
+
+/**
+ * Búsqueda aleatoria con algo de patrón de ajedrez y, tras un impacto,
+ * disparos a las casillas vecinas (dificultad normal)
+ */
+public class HuntTargetShotStrategy implements ShotStrategy {
+
+    // Probabilidad de buscar en el patrón de ajedrez en lugar de al azar
+    private static final double PARITY_SEARCH_RATE = 0.3;
+
+    @Override
+    public int chooseShot(ShotContext context) {
+        int target = context.pollTarget();
+        if (target >= 0) {
+            return target;
+        }
+
+        if (context.getRandom().nextDouble() < PARITY_SEARCH_RATE) {
+            int index = context.getOpenCells().randomCellWithParity(context.getRandom(), 0);
+            if (index >= 0) {
+                return index;
+            }
+        }
+        return ShotStrategy.anyOpenCell(context);
+    }
+
+    @Override
+    public void onShotResult(ShotContext context, int index, ShotResult result) {
+        if (result.isSunk()) {
+            // Volver a buscar, salvo que queden barcos tocados sin hundir
+            context.clearTargets();
+            context.requeueUnresolvedHits();
+        } else if (result.isHit()) {
+            context.addNeighborTargets(index);
+        }
+    }
+
+    @Override
+    public boolean usesRevealedCells() {
+        return true;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Estrategia básica";
+    }
+}
@@ -0,0 +1,90 @@
+package com.cenit.battleship.model;
+
+import com.cenit.battleship.model.enums.ShotResult;
+import com.cenit.battleship.util.GameLog;
+
+/**
+ * Dispara a la casilla que más información espera obtener sobre la flota
+ * rival (dificultad maestra).
+ *
+ * El muestreo Monte Carlo da, para cada casilla abierta, en cuántas flotas
+ * consistentes el disparo sería agua, tocado o hundido. La ganancia de
+ * información esperada de un disparo es la entropía de ese resultado: cuanto
+ * más incierto, más flotas descarta la respuesta. Todas las casillas se
+ * puntúan en un único recorrido sobre los conteos, sumando a la entropía un
+ * término por la probabilidad de impacto (solo buscar información sin
+ * rematar los barcos tocados alarga la partida).
+ *
+ * Cada instancia muestrea en el hilo que le pide la jugada, con un tiempo
+ * fijo por jugada para mantenerse por debajo de 10 ms. La puntuación la hace
+ * un CellScoringKernel sobre el arreglo de trabajo del ShotContext.
+ */
+public class InformationGainShotStrategy implements ShotStrategy {
+
+    private static final GameLog.Logger LOG = GameLog.getLogger(InformationGainShotStrategy.class);
+
+    public static final long DEFAULT_TIME_BUDGET_MS = 6;
+    // Peso de la probabilidad de impacto frente a la entropía (en bits),
+    // ajustado en torneo contra HARD: entre 2 y 3 la curva es casi plana
+    private static final double HIT_WEIGHT = 2.0;
+
+    private final FleetLayoutSampler sampler;
+    private final CellScoringKernel kernel;
+    private final DensityShotStrategy fallback = new DensityShotStrategy();
+
+    public InformationGainShotStrategy() {
+        // Sin pool: la jugada no compite con el resto de núcleos ni con otras instancias
+        this(FleetLayoutSampler.onCallingThread(DEFAULT_TIME_BUDGET_MS, FleetLayoutSampler.DEFAULT_MAX_SAMPLES));
+    }
+
+    /**
+     * Usa un muestreador propio (pool y tiempo por jugada fijos)
+     */
+    public InformationGainShotStrategy(FleetLayoutSampler sampler) {
+        this(sampler, CellScoringKernel.getDefault());
+    }
+
+    /**
+     * Usa un muestreador y un núcleo de puntuación propios
+     */
+    public InformationGainShotStrategy(FleetLayoutSampler sampler, CellScoringKernel kernel) {
+        if (sampler == null || kernel == null) {
+            throw new IllegalArgumentException("El muestreador y el núcleo de puntuación no pueden ser nulos");
+        }
+        this.sampler = sampler;
+        this.kernel = kernel;
+    }
+
+    @Override
+    public int chooseShot(ShotContext context) {
+        FleetLayoutSampler.Estimate estimate = sampler.estimate(context);
+        if (estimate.getSamples() > 0) {
+            double[] scores = context.getScoreBuffer();
+            int index = kernel.scoreCells(estimate, HIT_WEIGHT, scores);
+            if (index >= 0 && context.isOpen(index)) {
+                LOG.debug(() -> String.format("🧠 Información: %.3f bits (p=%.2f) con %d flotas",
+                        scores[index] - HIT_WEIGHT * estimate.getProbability(index),
+                        estimate.getProbability(index), estimate.getSamples()));
+                return index;
+            }
+        }
+
+        // Sin flotas consistentes (tablero incoherente o sin tiempo): densidad
+        return fallback.chooseShot(context);
+    }
+
+    @Override
+    public void onShotResult(ShotContext context, int index, ShotResult result) {
+        fallback.onShotResult(context, index, result);
+    }
+
+    @Override
+    public boolean usesRevealedCells() {
+        return true;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Máxima información";
+    }
+}
@@ -0,0 +1,72 @@
+package com.cenit.battleship.model;
+
+import com.cenit.battleship.model.enums.ShotResult;
+import com.cenit.battleship.util.GameLog;
+
+/**
+ * Dispara a la casilla con mayor probabilidad a posteriori de impacto según
+ * el muestreo Monte Carlo de flotas consistentes (dificultad experta). Si no
+ * se encuentra ninguna flota consistente recurre a la estrategia de densidad.
+ */
+public class MonteCarloShotStrategy implements ShotStrategy {
+
+    private static final GameLog.Logger LOG = GameLog.getLogger(MonteCarloShotStrategy.class);
+
+    private final FleetLayoutSampler sampler;
+    private final boolean followConfiguration;
+    private final DensityShotStrategy fallback = new DensityShotStrategy();
+
+    /**
+     * Usa el pool común y el tiempo por jugada de GameConfiguration
+     */
+    public MonteCarloShotStrategy() {
+        this.sampler = new FleetLayoutSampler(GameConfiguration.getInstance().getExpertTimeBudgetMs());
+        this.followConfiguration = true;
+    }
+
+    /**
+     * Usa un muestreador propio (pool y tiempo por jugada fijos)
+     */
+    public MonteCarloShotStrategy(FleetLayoutSampler sampler) {
+        if (sampler == null) {
+            throw new IllegalArgumentException("El muestreador no puede ser nulo");
+        }
+        this.sampler = sampler;
+        this.followConfiguration = false;
+    }
+
+    @Override
+    public int chooseShot(ShotContext context) {
+        if (followConfiguration) {
+            sampler.setTimeBudgetMillis(GameConfiguration.getInstance().getExpertTimeBudgetMs());
+        }
+
+        // Sin ShotCache: guardar el máximo de una muestra corta congelaría su
+        // ruido como apertura fija para todas las partidas
+        FleetLayoutSampler.Estimate estimate = sampler.estimate(context);
+        int index = estimate.bestCell();
+        if (index >= 0 && context.isOpen(index)) {
+            LOG.debug(() -> String.format("🎲 Monte Carlo: p=%.2f con %d flotas",
+                    estimate.getProbability(index), estimate.getSamples()));
+            return index;
+        }
+
+        // Sin flotas consistentes (tablero incoherente o sin tiempo): densidad
+        return fallback.chooseShot(context);
+    }
+
+    @Override
+    public void onShotResult(ShotContext context, int index, ShotResult result) {
+        fallback.onShotResult(context, index, result);
+    }
+
+    @Override
+    public boolean usesRevealedCells() {
+        return true;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Algoritmo avanzado";
+    }
+}
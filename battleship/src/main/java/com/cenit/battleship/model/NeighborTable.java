@@ -0,0 +1,79 @@
+package com.cenit.battleship.model;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tabla precalculada de vecindad para un tamaño de tablero.
+ *
+ * Para cada casilla guarda una máscara de 9 bits con las posiciones de su
+ * entorno 3x3 que caen dentro del tablero (bit = (dx + 1) * 3 + (dy + 1)),
+ * de modo que recorrer vecinos no necesita comprobar bordes ni lanzar
+ * excepciones. Las tablas se comparten entre todos los tableros del mismo
+ * tamaño; en mapas gigantes la máscara se calcula al vuelo.
+ */
+final class NeighborTable {
+
+    private static final Map<Integer, NeighborTable> CACHE = new ConcurrentHashMap<>();
+
+    private final int size;
+    private final short[] clipMasks;
+    private final int[] offsets;
+
+    private NeighborTable(int size, boolean precompute) {
+        this.size = size;
+        this.offsets = new int[9];
+        for (int bit = 0; bit < 9; bit++) {
+            offsets[bit] = (bit / 3 - 1) * size + (bit % 3 - 1);
+        }
+        if (precompute) {
+            clipMasks = new short[size * size];
+            for (int x = 0; x < size; x++) {
+                for (int y = 0; y < size; y++) {
+                    clipMasks[x * size + y] = (short) computeClipMask(x, y);
+                }
+            }
+        } else {
+            clipMasks = null;
+        }
+    }
+
+    /**
+     * Obtiene la tabla compartida para un tamaño de tablero
+     */
+    static NeighborTable forSize(int size) {
+        if (size > GameConfiguration.MAX_BOARD_SIZE) {
+            return new NeighborTable(size, false);
+        }
+        return CACHE.computeIfAbsent(size, s -> new NeighborTable(s, true));
+    }
+
+    private int computeClipMask(int x, int y) {
+        int mask = 0;
+        for (int bit = 0; bit < 9; bit++) {
+            int nx = x + bit / 3 - 1;
+            int ny = y + bit % 3 - 1;
+            if (nx >= 0 && nx < size && ny >= 0 && ny < size) {
+                mask |= 1 << bit;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Máscara de posiciones del entorno 3x3 que caen dentro del tablero
+     */
+    int clipMask(int index) {
+        if (clipMasks != null) {
+            return clipMasks[index];
+        }
+        return computeClipMask(index / size, index % size);
+    }
+
+    /**
+     * Desplazamiento de índice correspondiente a un bit del entorno 3x3
+     */
+    int offset(int bit) {
+        return offsets[bit];
+    }
+}
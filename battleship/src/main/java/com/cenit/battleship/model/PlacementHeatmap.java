@@ -0,0 +1,125 @@
+package com.cenit.battleship.model;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mapa de calor de dónde ha colocado un jugador sus barcos en partidas
+ * anteriores, guardado en su perfil.
+ *
+ * Hay un int[] fijo por tipo de flota (tamaño de tablero y longitudes de los
+ * barcos). Cada partida envejece los conteos anteriores (se conserva 7/8) y
+ * suma un valor fijo a las casillas ocupadas, así que los hábitos recientes
+ * pesan más. La CPU lo convierte una vez por partida en pesos para el motor
+ * de densidad (ver toPriorWeights), sin coste adicional por jugada.
+ */
+public class PlacementHeatmap implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    // Valor sumado por casilla ocupada y envejecimiento (c -= c >> DECAY_SHIFT)
+    private static final int OCCUPIED_WEIGHT = 256;
+    private static final int DECAY_SHIFT = 3;
+    // Partidas necesarias para dar al mapa su peso máximo
+    private static final int FULL_CONFIDENCE_GAMES = 10;
+
+    /**
+     * Peso neutro de una casilla en los pesos de toPriorWeights
+     */
+    public static final int PRIOR_ONE = 1024;
+
+    private final Map<String, int[]> heat = new HashMap<>();
+    private final Map<String, Integer> games = new HashMap<>();
+
+    /**
+     * Tipo de flota: tamaño de tablero y longitudes ordenadas (p. ej. "15:5-4-3-3-2")
+     */
+    public static String fleetKey(int boardSize, List<Ship> fleet) {
+        int[] lengths = fleet.stream().mapToInt(ship -> ship.getType().getSize()).sorted().toArray();
+        StringBuilder key = new StringBuilder().append(boardSize).append(':');
+        for (int i = lengths.length - 1; i >= 0; i--) {
+            key.append(lengths[i]);
+            if (i > 0) {
+                key.append('-');
+            }
+        }
+        return key.toString();
+    }
+
+    // ========== ACTUALIZACIÓN ==========
+    /**
+     * Añade la colocación de una partida terminada
+     *
+     * @param boardSize Tamaño del tablero del jugador
+     * @param fleet Barcos del jugador (los que no estén colocados se ignoran)
+     */
+    public synchronized void record(int boardSize, List<Ship> fleet) {
+        if (boardSize <= 0 || fleet == null || fleet.isEmpty()) {
+            return;
+        }
+        String key = fleetKey(boardSize, fleet);
+        int[] counts = heat.computeIfAbsent(key, k -> new int[boardSize * boardSize]);
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] -= counts[i] >> DECAY_SHIFT;
+        }
+        for (Ship ship : fleet) {
+            for (Coordinate coord : ship.getCoordinates()) {
+                int index = coord.getX() * boardSize + coord.getY();
+                if (index >= 0 && index < counts.length) {
+                    counts[index] += OCCUPIED_WEIGHT;
+                }
+            }
+        }
+        games.merge(key, 1, Integer::sum);
+    }
+
+    public synchronized void clear() {
+        heat.clear();
+        games.clear();
+    }
+
+    // ========== CONSULTAS ==========
+    public synchronized int getGames(int boardSize, List<Ship> fleet) {
+        return games.getOrDefault(fleetKey(boardSize, fleet), 0);
+    }
+
+    /**
+     * Conteos envejecidos de un tipo de flota
+     *
+     * @return Copia de los conteos, o null si no hay partidas registradas
+     */
+    public synchronized int[] getCounts(int boardSize, List<Ship> fleet) {
+        int[] counts = heat.get(fleetKey(boardSize, fleet));
+        return counts != null ? counts.clone() : null;
+    }
+
+    /**
+     * Pesos por casilla para el motor de densidad: PRIOR_ONE es neutro y las
+     * casillas más usadas llegan hasta 2 * PRIOR_ONE cuando hay partidas
+     * suficientes
+     *
+     * @return Pesos, o null si no hay historial para esa flota
+     */
+    public synchronized int[] toPriorWeights(int boardSize, List<Ship> fleet) {
+        String key = fleetKey(boardSize, fleet);
+        int[] counts = heat.get(key);
+        if (counts == null || counts.length != boardSize * boardSize) {
+            return null;
+        }
+        int max = 0;
+        for (int count : counts) {
+            max = Math.max(max, count);
+        }
+        if (max == 0) {
+            return null;
+        }
+        int confidence = Math.min(games.getOrDefault(key, 0), FULL_CONFIDENCE_GAMES);
+        int[] weights = new int[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            weights[i] = PRIOR_ONE + (int) ((long) PRIOR_ONE * counts[i] * confidence / ((long) max * FULL_CONFIDENCE_GAMES));
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,228 @@
+package com.cenit.battleship.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tabla inmutable con todas las colocaciones posibles de un barco de una
+ * longitud dada, en un tablero de un tamaño dado y a lo largo de un eje.
+ *
+ * Cada colocación se guarda como sus índices de casilla y como dos bitsets
+ * sobre todo el tablero: las casillas que ocupa y su halo (las casillas más
+ * las 8 vecinas de cada una). Así, validar una colocación contra la zona de
+ * exclusión de un tablero, comprobar si toca a otro barco o contar cuántas
+ * colocaciones cubren una casilla son operaciones de máscara sobre arreglos
+ * ya calculados. Las tablas se construyen la primera vez que se piden y se
+ * comparten entre todas las partidas de la JVM.
+ *
+ * El eje es neutral respecto a las convenciones de Direction de cada clase:
+ * alongRow = true significa misma fila, avanzando en la columna (y);
+ * alongRow = false significa misma columna, avanzando en la fila (x).
+ * Índices de casilla = x * size + y.
+ */
+public final class PlacementTable {
+
+    private static final Map<Integer, PlacementTable> CACHE = new ConcurrentHashMap<>();
+
+    private final int boardSize;
+    private final int length;
+    private final boolean alongRow;
+    private final int words;
+    private final int count;
+    private final int[] starts;
+    private final int[] cells;
+    private final long[] cellMasks;
+    private final long[] haloMasks;
+    private final int[] placementByStart;
+    private final int[] coverage;
+
+    private PlacementTable(int boardSize, int length, boolean alongRow) {
+        this.boardSize = boardSize;
+        this.length = length;
+        this.alongRow = alongRow;
+        this.words = (boardSize * boardSize + 63) >>> 6;
+
+        int span = boardSize - length + 1;
+        this.count = span * boardSize;
+        this.starts = new int[count];
+        this.cells = new int[count * length];
+        this.cellMasks = new long[count * words];
+        this.haloMasks = new long[count * words];
+        this.placementByStart = new int[boardSize * boardSize];
+        this.coverage = new int[boardSize * boardSize];
+        java.util.Arrays.fill(placementByStart, -1);
+
+        NeighborTable neighbors = NeighborTable.forSize(boardSize);
+        int step = alongRow ? 1 : boardSize;
+        int placement = 0;
+        for (int x = 0; x < boardSize; x++) {
+            for (int y = 0; y < boardSize; y++) {
+                boolean fits = alongRow ? y + length <= boardSize : x + length <= boardSize;
+                if (!fits) {
+                    continue;
+                }
+                int start = x * boardSize + y;
+                starts[placement] = start;
+                placementByStart[start] = placement;
+                int maskBase = placement * words;
+                for (int i = 0, cell = start; i < length; i++, cell += step) {
+                    cells[placement * length + i] = cell;
+                    coverage[cell]++;
+                    cellMasks[maskBase + (cell >>> 6)] |= 1L << cell;
+                    int clip = neighbors.clipMask(cell);
+                    for (int bit = 0; bit < 9; bit++) {
+                        if ((clip & (1 << bit)) != 0) {
+                            int near = cell + neighbors.offset(bit);
+                            haloMasks[maskBase + (near >>> 6)] |= 1L << near;
+                        }
+                    }
+                }
+                placement++;
+            }
+        }
+    }
+
+    /**
+     * Obtiene la tabla compartida, construyéndola la primera vez
+     *
+     * @param boardSize Tamaño del tablero (como máximo MAX_BOARD_SIZE)
+     * @param length Longitud del barco
+     * @param alongRow true para misma fila (avanza y), false para misma columna (avanza x)
+     * @throws IllegalArgumentException si los parámetros no son válidos
+     */
+    public static PlacementTable of(int boardSize, int length, boolean alongRow) {
+        if (!isSupported(boardSize) || length <= 0 || length > boardSize) {
+            throw new IllegalArgumentException("Tabla de colocaciones inválida: tablero "
+                    + boardSize + ", longitud " + length);
+        }
+        int key = (boardSize << 16) | (length << 1) | (alongRow ? 1 : 0);
+        return CACHE.computeIfAbsent(key, k -> new PlacementTable(boardSize, length, alongRow));
+    }
+
+    /**
+     * Las tablas solo se precalculan para tableros normales; los mapas
+     * gigantes deben recorrer coordenadas
+     */
+    public static boolean isSupported(int boardSize) {
+        return boardSize > 0 && boardSize <= GameConfiguration.MAX_BOARD_SIZE;
+    }
+
+    // ========== CONSULTAS ==========
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public boolean isAlongRow() {
+        return alongRow;
+    }
+
+    /**
+     * Número de palabras long de los bitsets de tablero que usa la tabla
+     */
+    public int getWords() {
+        return words;
+    }
+
+    public int getPlacementCount() {
+        return count;
+    }
+
+    /**
+     * Colocación que empieza en (x, y)
+     *
+     * @return Número de colocación, o -1 si el barco no cabe ahí
+     */
+    public int placementAt(int x, int y) {
+        if (x < 0 || x >= boardSize || y < 0 || y >= boardSize) {
+            return -1;
+        }
+        return placementByStart[x * boardSize + y];
+    }
+
+    public int startOf(int placement) {
+        return starts[placement];
+    }
+
+    public int cellOf(int placement, int segment) {
+        return cells[placement * length + segment];
+    }
+
+    /**
+     * Número de colocaciones de la tabla que pasan por una casilla
+     */
+    public int coverageOf(int cell) {
+        return coverage[cell];
+    }
+
+    /**
+     * Coordenadas de una colocación, en orden desde el inicio
+     */
+    public List<Coordinate> coordinatesOf(int placement) {
+        List<Coordinate> coordinates = new ArrayList<>(length);
+        Coordinate.Table table = Coordinate.tableFor(boardSize);
+        for (int i = 0; i < length; i++) {
+            coordinates.add(table.ofIndex(cells[placement * length + i]));
+        }
+        return coordinates;
+    }
+
+    // ========== OPERACIONES DE MÁSCARA ==========
+    /**
+     * Verifica si alguna casilla de la colocación está marcada en el bitset
+     * (por ejemplo, la zona de exclusión de un tablero)
+     */
+    public boolean intersects(int placement, long[] bits) {
+        int base = placement * words;
+        for (int w = 0; w < words; w++) {
+            if ((cellMasks[base + w] & bits[w]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Marca en el bitset las casillas de la colocación y sus vecinas
+     */
+    public void addHaloTo(int placement, long[] bits) {
+        int base = placement * words;
+        for (int w = 0; w < words; w++) {
+            bits[w] |= haloMasks[base + w];
+        }
+    }
+
+    /**
+     * Marca en el bitset el halo de un barco ya colocado, localizando su
+     * colocación en la tabla correspondiente
+     *
+     * @param boardSize Tamaño del tablero
+     * @param segments Casillas del barco, en línea recta
+     * @param bits Bitset de destino (de getWords() palabras)
+     */
+    public static void addHaloTo(int boardSize, List<Coordinate> segments, long[] bits) {
+        if (segments == null || segments.isEmpty()) {
+            return;
+        }
+        int minX = Integer.MAX_VALUE;
+        int minY = Integer.MAX_VALUE;
+        boolean sameRow = true;
+        int row = segments.get(0).getX();
+        for (Coordinate coord : segments) {
+            minX = Math.min(minX, coord.getX());
+            minY = Math.min(minY, coord.getY());
+            sameRow &= coord.getX() == row;
+        }
+        PlacementTable table = of(boardSize, segments.size(), sameRow);
+        int placement = table.placementAt(minX, minY);
+        if (placement < 0) {
+            throw new IllegalArgumentException("Segmentos fuera del tablero: " + segments);
+        }
+        table.addHaloTo(placement, bits);
+    }
+}
@@ -5,6 +5,7 @@ import com.cenit.battleship.model.enums.Difficulty;
 import com.cenit.battleship.model.enums.Direction;
 import com.cenit.battleship.model.enums.ShipType;
 import com.cenit.battleship.model.enums.ShotResult;
+import com.cenit.battleship.util.GameLog;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -12,6 +13,8 @@ import java.util.List;
  * Representa un jugador en el juego de batalla naval
  */
 public class Player {
+
+    private static final GameLog.Logger LOG = GameLog.getLogger(Player.class);
     private String name;
     private Board board;
     private List<Ship> ships;
@@ -49,29 +52,26 @@ public class Player {
      */
     public boolean placeShip(Ship ship, Coordinate startCoord, Direction direction) {
         try {
-            // Calcular coordenadas del barco
-            List<Coordinate> coordinates = calculateShipCoordinates(ship, startCoord, direction);
-            
             // Verificar si se puede colocar
             if (!canPlaceShip(ship, startCoord, direction)) {
                 return false;
             }
             
+            // Calcular coordenadas del barco
+            List<Coordinate> coordinates = calculateShipCoordinates(ship, startCoord, direction);
+            
             // Establecer posición en el barco
             ship.setPosition(coordinates);
             
-            // Colocar en el tablero
-            for (Coordinate coord : coordinates) {
-                Cell cell = board.getCell(coord);
-                cell.setShip(ship);
-            }
+            // Colocar en el tablero (y registrarlo en su flota)
+            board.placeShip(ship, coordinates);
             
-            System.out.println("✅ " + name + " colocó " + ship.getType().getName() + 
+            LOG.info(() -> "✅ " + name + " colocó " + ship.getType().getName() + 
                              " en " + startCoord.aNotacion() + " (" + direction + ")");
             return true;
             
         } catch (Exception e) {
-            System.err.println("❌ Error al colocar barco: " + e.getMessage());
+            LOG.error(() -> "❌ Error al colocar barco: " + e.getMessage());
             return false;
         }
     }
@@ -93,7 +93,7 @@ public class Player {
         for (int i = 0; i < size; i++) {
             int x = start.getX() + (dx * i);
             int y = start.getY() + (dy * i);
-            coordinates.add(new Coordinate(x, y));
+            coordinates.add(Coordinate.of(x, y));
         }
         
         return coordinates;
@@ -103,42 +103,10 @@ public class Player {
      * Verifica si un barco puede colocarse en una posición
      */
     public boolean canPlaceShip(Ship ship, Coordinate startCoord, Direction direction) {
-        List<Coordinate> coordinates = calculateShipCoordinates(ship, startCoord, direction);
-        
-        // Verificar límites del tablero
-        for (Coordinate coord : coordinates) {
-            if (coord.getX() < 0 || coord.getX() >= Board.BOARD_SIZE || 
-                coord.getY() < 0 || coord.getY() >= Board.BOARD_SIZE) {
-                return false;
-            }
-        }
-        
-        // Verificar superposición con otros barcos
-        for (Coordinate coord : coordinates) {
-            if (board.hasShipAt(coord)) {
-                return false;
-            }
-        }
-        
-        // Verificar separación (1 casilla de distancia)
-        for (Coordinate coord : coordinates) {
-            for (int dx = -1; dx <= 1; dx++) {
-                for (int dy = -1; dy <= 1; dy++) {
-                    if (dx == 0 && dy == 0) continue;
-                    
-                    try {
-                        Coordinate adjacent = coord.desplazar(dx, dy);
-                        if (board.hasShipAt(adjacent)) {
-                            return false;
-                        }
-                    } catch (IllegalArgumentException e) {
-                        // Fuera del tablero, ignorar
-                    }
-                }
-            }
-        }
-        
-        return true;
+        // Límites, superposición y separación en una sola consulta a la zona de exclusión
+        int dx = direction == Direction.HORIZONTAL ? 1 : 0;
+        int dy = direction == Direction.HORIZONTAL ? 0 : 1;
+        return board.canPlaceShip(startCoord.getX(), startCoord.getY(), dx, dy, ship.getType().getSize());
     }
     
     /**
@@ -171,26 +139,26 @@ public ShotResult shootAt(Player opponent, Coordinate target) {
     switch (result) {
         case HIT:
             Ship hitShip = targetCell.getShip();
-            System.out.println("💥 " + name + " impactó " + hitShip.getType().getName() + 
+            LOG.info(() -> "💥 " + name + " impactó " + hitShip.getType().getName() + 
                              " en " + target.aNotacion());
             break;
             
         case SUNK:
             Ship sunkShip = targetCell.getShip();
-            System.out.println("💀 " + name + " hundió " + sunkShip.getType().getName() + 
+            LOG.info(() -> "💀 " + name + " hundió " + sunkShip.getType().getName() + 
                              " en " + target.aNotacion() + "!");
             break;
             
         case MISS:
-            System.out.println("💧 " + name + " disparó al agua en " + target.aNotacion());
+            LOG.info(() -> "💧 " + name + " disparó al agua en " + target.aNotacion());
             break;
             
         case ALREADY_HIT:
-            System.out.println("⚠️ " + name + " impactó nuevamente en " + target.aNotacion());
+            LOG.info(() -> "⚠️ " + name + " impactó nuevamente en " + target.aNotacion());
             break;
             
         default:
-            System.out.println("❌ " + name + " disparo inválido en " + target.aNotacion());
+            LOG.info(() -> "❌ " + name + " disparo inválido en " + target.aNotacion());
             break;
     }
     
@@ -245,10 +213,28 @@ public ShotResult shootAt(Player opponent, Coordinate target) {
      * Reinicia el jugador para una nueva partida
      */
     public void reset() {
-        board = new Board();
+        // Mismo tamaño y motor de almacenamiento que el tablero anterior
+        board = new Board(board.getSize(), board.getStorageType());
         ships.clear();
         initializeShips();
     }
+
+    /**
+     * Prepara al jugador para otra partida con la flota indicada,
+     * reutilizando su tablero y su lista de barcos (simulaciones masivas)
+     *
+     * @param fleet Tipos de barco de la nueva flota, sin colocar
+     */
+    public void resetFleet(List<ShipType> fleet) {
+        if (fleet == null || fleet.isEmpty()) {
+            throw new IllegalArgumentException("La flota no puede estar vacía");
+        }
+        board.reset();
+        ships.clear();
+        for (ShipType type : fleet) {
+            ships.add(new Ship(type));
+        }
+    }
     
     // Getters y Setters
     public String getName() {
@@ -2,11 +2,14 @@ package com.cenit.battleship.model;
 
 import com.cenit.battleship.controller.GameController;
 import com.cenit.battleship.model.enums.Achievement;
+import com.cenit.battleship.util.GameLog;
 import java.util.*;
 import java.io.Serializable;
 
 public class PlayerProfile implements Serializable {
 
+    private static final GameLog.Logger LOG = GameLog.getLogger(PlayerProfile.class);
+
     private static final long serialVersionUID = 1L;
 
     private String playerId;
@@ -22,6 +25,8 @@ public class PlayerProfile implements Serializable {
     private Map<String, Object> preferences;
     private List<String> unlockedShips;
     private List<String> unlockedThemes;
+    // Se crea al primer uso: los perfiles guardados antes no lo tienen
+    private PlacementHeatmap placementHeatmap;
 
     // ========== CONSTRUCTORES ==========
     public PlayerProfile(String playerName) {
@@ -75,8 +80,8 @@ public class PlayerProfile implements Serializable {
             totalScore += achievement.getPoints();
             addExperience(achievement.getPoints() * 10);
 
-            System.out.println("🎉 Logro desbloqueado: " + achievement.getName());
-            System.out.println("➕ " + achievement.getPoints() + " puntos obtenidos");
+            LOG.info(() -> "🎉 Logro desbloqueado: " + achievement.getName());
+            LOG.info(() -> "➕ " + achievement.getPoints() + " puntos obtenidos");
 
             return true;
         }
@@ -106,7 +111,7 @@ public class PlayerProfile implements Serializable {
         }
 
         experiencePoints += exp;
-        System.out.println("➕ " + exp + " EXP obtenida. Total: " + experiencePoints);
+        LOG.info(() -> "➕ " + exp + " EXP obtenida. Total: " + experiencePoints);
 
         checkLevelUp();
     }
@@ -122,7 +127,7 @@ public class PlayerProfile implements Serializable {
             grantLevelUpRewards();
 
             expRequired = getExperienceForNextLevel();
-            System.out.println("🎊 ¡Nivel " + currentLevel + " alcanzado!");
+            LOG.info(() -> "🎊 ¡Nivel " + currentLevel + " alcanzado!");
         }
     }
 
@@ -131,26 +136,26 @@ public class PlayerProfile implements Serializable {
         switch (currentLevel) {
             case 5:
                 unlockedShips.add("CRUISER");
-                System.out.println("🎁 ¡Nuevo barco desbloqueado: CRUISER!");
+                LOG.info("🎁 ¡Nuevo barco desbloqueado: CRUISER!");
                 break;
             case 10:
                 unlockedShips.add("BATTLESHIP");
-                System.out.println("🎁 ¡Nuevo barco desbloqueado: BATTLESHIP!");
+                LOG.info("🎁 ¡Nuevo barco desbloqueado: BATTLESHIP!");
                 break;
             case 15:
                 unlockedShips.add("CARRIER");
-                System.out.println("🎁 ¡Nuevo barco desbloqueado: CARRIER!");
+                LOG.info("🎁 ¡Nuevo barco desbloqueado: CARRIER!");
                 break;
             case 20:
                 unlockedThemes.add("premium");
-                System.out.println("🎁 ¡Nuevo tema desbloqueado: PREMIUM!");
+                LOG.info("🎁 ¡Nuevo tema desbloqueado: PREMIUM!");
                 break;
         }
 
         // Puntos adicionales cada 5 niveles
         if (currentLevel % 5 == 0) {
             totalScore += 50;
-            System.out.println("💰 +50 puntos por alcanzar nivel " + currentLevel);
+            LOG.info(() -> "💰 +50 puntos por alcanzar nivel " + currentLevel);
         }
     }
 
@@ -207,12 +212,18 @@ public class PlayerProfile implements Serializable {
         addExperience(totalExp);
         totalScore += 25; // Puntos base por victoria
 
-        System.out.println("🏆 Victoria! +" + totalExp + " EXP, +25 puntos");
+        LOG.info(() -> "🏆 Victoria! +" + totalExp + " EXP, +25 puntos");
     }
 
     private void recordGameStatistics(GameController gameController) {
         // Aquí puedes registrar estadísticas específicas del juego
         // como precisión, barcos hundidos, etc.
+
+        // Dónde colocó el jugador sus barcos, para la CPU de próximas partidas
+        if (gameController.getPlayerBoard() != null) {
+            getPlacementHeatmap().record(gameController.getPlayerBoard().getSize(),
+                    gameController.getPlayerShips());
+        }
     }
 
     // ========== VERIFICACIÓN DE LOGROS ==========
@@ -357,7 +368,10 @@ public class PlayerProfile implements Serializable {
         currentLevel = 1;
         experiencePoints = 0;
         unlockedAchievements.clear();
-        System.out.println("🔄 Estadísticas reiniciadas");
+        if (placementHeatmap != null) {
+            placementHeatmap.clear();
+        }
+        LOG.info("🔄 Estadísticas reiniciadas");
     }
 
     public void mergeProfile(PlayerProfile other) {
@@ -450,6 +464,13 @@ public class PlayerProfile implements Serializable {
         return new ArrayList<>(unlockedShips);
     }
 
+    public synchronized PlacementHeatmap getPlacementHeatmap() {
+        if (placementHeatmap == null) {
+            placementHeatmap = new PlacementHeatmap();
+        }
+        return placementHeatmap;
+    }
+
     public List<String> getUnlockedThemes() {
         return new ArrayList<>(unlockedThemes);
     }
@@ -0,0 +1,254 @@
+package com.cenit.battleship.model;
+
+import com.cenit.battleship.model.enums.ShipType;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Motor incremental de densidad de probabilidad para la IA.
+ *
+ * Para cada longitud de barco mantiene cuántas colocaciones posibles (en
+ * ambas orientaciones y solo sobre casillas aún no disparadas) cubren cada
+ * casilla. La densidad de una casilla es la suma de esos conteos ponderada
+ * por cuántos barcos de cada longitud siguen a flote.
+ *
+ * Al marcar un disparo solo se descuentan las colocaciones que pasaban por
+ * esa casilla (como máximo 2 * L por longitud), en lugar de recalcular todo
+ * el mapa, y elegir la mejor casilla es un recorrido lineal de enteros.
+ * Opcionalmente, la elección se pondera con un mapa de calor de las
+ * colocaciones habituales del rival (ver PlacementHeatmap).
+ * Índices de casilla = x * size + y.
+ */
+public class ProbabilityDensityEngine {
+
+    private final int size;
+    private final int maxLength;
+    private final boolean[] open;
+    private final int[][] counts;
+    private final int[] multiplicity;
+    private final int[] density;
+    private int openCount;
+    // Pesos por casilla (PlacementHeatmap.PRIOR_ONE = neutro); null sin historial
+    private int[] prior;
+
+    public ProbabilityDensityEngine(int size) {
+        this(size, longestShipType());
+    }
+
+    public ProbabilityDensityEngine(int size, int maxLength) {
+        if (size <= 0 || maxLength <= 0) {
+            throw new IllegalArgumentException("Parámetros de densidad inválidos: tamaño "
+                    + size + ", longitud " + maxLength);
+        }
+        this.size = size;
+        this.maxLength = Math.min(maxLength, size);
+        this.open = new boolean[size * size];
+        this.counts = new int[this.maxLength + 1][size * size];
+        this.multiplicity = new int[this.maxLength + 1];
+        this.density = new int[size * size];
+        reset();
+    }
+
+    /**
+     * Copia independiente de otro motor (los pesos a priori, que nunca se
+     * modifican, se comparten)
+     */
+    ProbabilityDensityEngine(ProbabilityDensityEngine other) {
+        this.size = other.size;
+        this.maxLength = other.maxLength;
+        this.open = other.open.clone();
+        this.counts = new int[other.counts.length][];
+        for (int length = 0; length < counts.length; length++) {
+            counts[length] = other.counts[length].clone();
+        }
+        this.multiplicity = other.multiplicity.clone();
+        this.density = other.density.clone();
+        this.openCount = other.openCount;
+        this.prior = other.prior;
+    }
+
+    private static int longestShipType() {
+        int longest = 1;
+        for (ShipType type : ShipType.values()) {
+            longest = Math.max(longest, type.getSize());
+        }
+        return longest;
+    }
+
+    /**
+     * Vuelve al tablero sin disparos (conserva los barcos restantes)
+     */
+    public final void reset() {
+        Arrays.fill(open, true);
+        Arrays.fill(density, 0);
+        openCount = open.length;
+        for (int length = 1; length <= maxLength; length++) {
+            int[] lengthCounts = counts[length];
+            Arrays.fill(lengthCounts, 0);
+            if (PlacementTable.isSupported(size)) {
+                // Se cuentan ambas orientaciones, también para longitud 1
+                PlacementTable down = PlacementTable.of(size, length, false);
+                PlacementTable across = PlacementTable.of(size, length, true);
+                for (int cell = 0; cell < lengthCounts.length; cell++) {
+                    lengthCounts[cell] = down.coverageOf(cell) + across.coverageOf(cell);
+                }
+            } else {
+                for (int x = 0; x < size; x++) {
+                    for (int y = 0; y < size; y++) {
+                        if (x + length <= size) {
+                            for (int i = 0; i < length; i++) {
+                                lengthCounts[(x + i) * size + y]++;
+                            }
+                        }
+                        if (y + length <= size) {
+                            for (int i = 0; i < length; i++) {
+                                lengthCounts[x * size + y + i]++;
+                            }
+                        }
+                    }
+                }
+            }
+            addWeighted(length, multiplicity[length]);
+        }
+    }
+
+    private void addWeighted(int length, int weight) {
+        if (weight == 0) {
+            return;
+        }
+        int[] lengthCounts = counts[length];
+        for (int i = 0; i < density.length; i++) {
+            density[i] += weight * lengthCounts[i];
+        }
+    }
+
+    // ========== BARCOS RESTANTES ==========
+    /**
+     * Actualiza cuántos barcos de cada longitud siguen a flote
+     *
+     * @param ships Flota del oponente (los hundidos se ignoran)
+     */
+    public void setRemainingShips(List<Ship> ships) {
+        int[] remaining = new int[maxLength + 1];
+        for (Ship ship : ships) {
+            int length = ship.getType().getSize();
+            if (!ship.isSunk() && length <= maxLength) {
+                remaining[length]++;
+            }
+        }
+        for (int length = 1; length <= maxLength; length++) {
+            int delta = remaining[length] - multiplicity[length];
+            if (delta != 0) {
+                multiplicity[length] = remaining[length];
+                addWeighted(length, delta);
+            }
+        }
+    }
+
+    /**
+     * Establece los pesos a priori por casilla usados por bestCell
+     *
+     * @param weights Un peso por casilla (PlacementHeatmap.PRIOR_ONE es
+     * neutro), o null para no usar ninguno
+     */
+    public void setPrior(int[] weights) {
+        if (weights != null && weights.length != density.length) {
+            throw new IllegalArgumentException("Pesos a priori para otro tablero: " + weights.length
+                    + " casillas, se esperaban " + density.length);
+        }
+        this.prior = weights != null ? weights.clone() : null;
+    }
+
+    public boolean hasPrior() {
+        return prior != null;
+    }
+
+    // ========== DISPAROS ==========
+    public boolean isOpen(int index) {
+        return open[index];
+    }
+
+    public int getOpenCount() {
+        return openCount;
+    }
+
+    /**
+     * Marca una casilla como disparada y descuenta las colocaciones que la
+     * atravesaban
+     */
+    public void markShot(int index) {
+        if (!open[index]) {
+            return;
+        }
+        int x = index / size;
+        int y = index % size;
+        for (int length = 1; length <= maxLength; length++) {
+            // Colocaciones verticales (avanzan en x) y horizontales (avanzan en y)
+            for (int start = Math.max(0, x - length + 1); start <= x && start + length <= size; start++) {
+                removePlacementIfOpen(length, start * size + y, size);
+            }
+            for (int start = Math.max(0, y - length + 1); start <= y && start + length <= size; start++) {
+                removePlacementIfOpen(length, x * size + start, 1);
+            }
+        }
+        open[index] = false;
+        openCount--;
+    }
+
+    private void removePlacementIfOpen(int length, int first, int step) {
+        for (int i = 0, cell = first; i < length; i++, cell += step) {
+            if (!open[cell]) {
+                return;
+            }
+        }
+        int[] lengthCounts = counts[length];
+        int weight = multiplicity[length];
+        for (int i = 0, cell = first; i < length; i++, cell += step) {
+            lengthCounts[cell]--;
+            density[cell] -= weight;
+        }
+    }
+
+    // ========== CONSULTAS ==========
+    public int getDensity(int index) {
+        return density[index];
+    }
+
+    /**
+     * Casilla abierta con mayor densidad, ponderada por los pesos a priori
+     * si los hay (la primera en caso de empate)
+     *
+     * @return Índice de la casilla, o -1 si no quedan casillas abiertas
+     */
+    public int bestCell() {
+        if (prior != null) {
+            return bestWeightedCell();
+        }
+        int best = -1;
+        int bestDensity = -1;
+        for (int i = 0; i < density.length; i++) {
+            if (open[i] && density[i] > bestDensity) {
+                bestDensity = density[i];
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private int bestWeightedCell() {
+        int best = -1;
+        long bestScore = -1;
+        for (int i = 0; i < density.length; i++) {
+            long score = (long) density[i] * prior[i];
+            if (open[i] && score > bestScore) {
+                bestScore = score;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    public int getSize() {
+        return size;
+    }
+}
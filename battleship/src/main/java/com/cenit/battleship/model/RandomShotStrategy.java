@@ -0,0 +1,17 @@
+package com.cenit.battleship.model;
+
+/**
+ * Disparos completamente aleatorios (dificultad fácil)
+ */
+public class RandomShotStrategy implements ShotStrategy {
+
+    @Override
+    public int chooseShot(ShotContext context) {
+        return ShotStrategy.anyOpenCell(context);
+    }
+
+    @Override
+    public String getDescription() {
+        return "Disparos aleatorios";
+    }
+}
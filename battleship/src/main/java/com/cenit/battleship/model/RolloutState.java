@@ -0,0 +1,314 @@
+package com.cenit.battleship.model;
+
+import com.cenit.battleship.model.enums.GamePhase;
+import com.cenit.battleship.model.enums.ShotResult;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Estado compacto de una partida para simulaciones (rollouts) y análisis
+ * "¿qué pasaría si...?".
+ *
+ * Todo el estado vive en arreglos planos de primitivos: bits de barcos y de
+ * disparos de cada tablero, el barco de cada casilla, las casillas intactas
+ * de cada barco y los puntos y usos de habilidades. fork() copia esos
+ * arreglos (sin reflexión ni serialización) y devuelve un estado
+ * independiente en bastante menos de un microsegundo para un tablero de
+ * 15x15, así que una IA de búsqueda puede copiar la partida miles de veces
+ * por jugada.
+ *
+ * Se captura una vez por jugada desde Board/Ship/SkillSystem (ver
+ * GameController.fork()); después solo se trabaja con las copias. Las reglas
+ * de disparo son las de GameController: quien acierta repite turno y cada
+ * impacto o hundimiento da puntos de habilidad. Bando 0 = jugador, 1 = CPU.
+ */
+public final class RolloutState {
+
+    public static final int PLAYER = 0;
+    public static final int CPU = 1;
+
+    private static final int SKILL_COUNT = Skill.values().length;
+    // Mismos puntos que SkillSystem.earnHitPoints y earnSinkingPoints
+    private static final int HIT_POINTS = 1;
+    private static final int SINK_POINTS = 3;
+
+    private final int size;
+    private final int cells;
+    private final int words;
+
+    // Bando b ocupa [b * words, (b + 1) * words)
+    private final long[] shipBits;
+    private final long[] shotBits;
+    // Barco de cada casilla (1..n dentro de su bando, 0 = agua); bando b en [b * cells, ...)
+    private final byte[] shipIds;
+    // Casillas intactas de cada barco; los del bando b empiezan en shipOffset[b]
+    private final int[] intactCells;
+    private final int[] shipOffset;
+    private final int[] shipsAfloat;
+
+    // Coste y usos restantes por habilidad (ordinal); bando b en [b * SKILL_COUNT, ...)
+    private final int[] skillCosts;
+    private final int[] skillUses;
+    private final int[] skillPoints;
+
+    private int turn;
+    private int elapsedTurns;
+    private GamePhase phase;
+
+    /**
+     * Captura los dos tableros y sus flotas. Habilidades, turno y fase
+     * empiezan vacíos (jugador al turno, partida en juego).
+     *
+     * @throws IllegalArgumentException si los tableros no son del mismo tamaño
+     */
+    public RolloutState(Board playerBoard, List<Ship> playerShips, Board cpuBoard, List<Ship> cpuShips) {
+        if (playerBoard == null || cpuBoard == null) {
+            throw new IllegalArgumentException("Los dos tableros son obligatorios");
+        }
+        if (playerBoard.getSize() != cpuBoard.getSize()) {
+            throw new IllegalArgumentException("Tableros de distinto tamaño: "
+                    + playerBoard.getSize() + " y " + cpuBoard.getSize());
+        }
+        this.size = playerBoard.getSize();
+        this.cells = size * size;
+        this.words = (cells + 63) >>> 6;
+        this.shipBits = new long[2 * words];
+        this.shotBits = new long[2 * words];
+        this.shipIds = new byte[2 * cells];
+        this.shipsAfloat = new int[2];
+        this.skillCosts = new int[2 * SKILL_COUNT];
+        this.skillUses = new int[2 * SKILL_COUNT];
+        this.skillPoints = new int[2];
+        this.turn = PLAYER;
+        this.phase = GamePhase.IN_PLAY;
+
+        Map<Ship, Integer> playerIds = numberShips(playerBoard, playerShips);
+        Map<Ship, Integer> cpuIds = numberShips(cpuBoard, cpuShips);
+        this.shipOffset = new int[]{0, playerIds.size()};
+        this.intactCells = new int[playerIds.size() + cpuIds.size()];
+        captureBoard(PLAYER, playerBoard, playerIds);
+        captureBoard(CPU, cpuBoard, cpuIds);
+    }
+
+    private RolloutState(RolloutState source) {
+        this.size = source.size;
+        this.cells = source.cells;
+        this.words = source.words;
+        this.shipBits = source.shipBits.clone();
+        this.shotBits = source.shotBits.clone();
+        this.shipIds = source.shipIds.clone();
+        this.intactCells = source.intactCells.clone();
+        this.shipOffset = source.shipOffset.clone();
+        this.shipsAfloat = source.shipsAfloat.clone();
+        this.skillCosts = source.skillCosts.clone();
+        this.skillUses = source.skillUses.clone();
+        this.skillPoints = source.skillPoints.clone();
+        this.turn = source.turn;
+        this.elapsedTurns = source.elapsedTurns;
+        this.phase = source.phase;
+    }
+
+    /**
+     * Numera los barcos de un bando: primero los de la flota, en orden, y
+     * después cualquier otro que aparezca en el tablero
+     */
+    private Map<Ship, Integer> numberShips(Board board, List<Ship> fleet) {
+        Map<Ship, Integer> ids = new IdentityHashMap<>();
+        if (fleet != null) {
+            for (Ship ship : fleet) {
+                ids.putIfAbsent(ship, ids.size());
+            }
+        }
+        for (int index = 0; index < cells; index++) {
+            Ship ship = board.getShipAt(board.coordinateOf(index));
+            if (ship != null) {
+                ids.putIfAbsent(ship, ids.size());
+            }
+        }
+        if (ids.size() > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Demasiados barcos para el estado compacto: " + ids.size());
+        }
+        return ids;
+    }
+
+    private void captureBoard(int side, Board board, Map<Ship, Integer> ids) {
+        for (int index = 0; index < cells; index++) {
+            Coordinate coord = board.coordinateOf(index);
+            int bit = side * words * 64 + index;
+            if (board.hasBeenShot(coord)) {
+                BitboardStorage.setBit(shotBits, bit);
+            }
+            Ship ship = board.getShipAt(coord);
+            if (ship != null) {
+                int id = ids.get(ship);
+                BitboardStorage.setBit(shipBits, bit);
+                shipIds[side * cells + index] = (byte) (id + 1);
+                if (!board.hasBeenShot(coord)) {
+                    intactCells[shipOffset[side] + id]++;
+                }
+            }
+        }
+        int end = side == PLAYER ? shipOffset[CPU] : intactCells.length;
+        for (int ship = shipOffset[side]; ship < end; ship++) {
+            if (intactCells[ship] > 0) {
+                shipsAfloat[side]++;
+            }
+        }
+    }
+
+    /**
+     * Copia los puntos, costes y usos restantes de las habilidades de un bando
+     */
+    public void setSkills(int side, SkillSystem skills) {
+        checkSide(side);
+        int base = side * SKILL_COUNT;
+        for (Skill skill : Skill.values()) {
+            boolean available = skills != null && skills.hasSkill(skill);
+            skillCosts[base + skill.ordinal()] = available ? skills.getSkillCost(skill) : 0;
+            skillUses[base + skill.ordinal()] = available ? skills.getRemainingUses(skill) : 0;
+        }
+        skillPoints[side] = skills != null ? skills.getSkillPoints() : 0;
+    }
+
+    public void setTurn(int side) {
+        checkSide(side);
+        this.turn = side;
+    }
+
+    public void setElapsedTurns(int elapsedTurns) {
+        this.elapsedTurns = elapsedTurns;
+    }
+
+    public void setPhase(GamePhase phase) {
+        if (phase == null) {
+            throw new IllegalArgumentException("La fase no puede ser nula");
+        }
+        this.phase = phase;
+    }
+
+    // ========== COPIA ==========
+    /**
+     * Copia independiente del estado (no comparte ningún arreglo)
+     */
+    public RolloutState fork() {
+        return new RolloutState(this);
+    }
+
+    // ========== JUGADAS ==========
+    /**
+     * Dispara el bando al que le toca sobre el tablero rival
+     *
+     * @param index Casilla (x * size + y)
+     * @return Resultado; INVALID si la casilla no existe o la partida terminó
+     */
+    public ShotResult shoot(int index) {
+        if (index < 0 || index >= cells || phase != GamePhase.IN_PLAY) {
+            return ShotResult.INVALID;
+        }
+        int target = 1 - turn;
+        int bit = target * words * 64 + index;
+        if (BitboardStorage.testBit(shotBits, bit)) {
+            return ShotResult.ALREADY_SHOT;
+        }
+        BitboardStorage.setBit(shotBits, bit);
+        elapsedTurns++;
+
+        if (!BitboardStorage.testBit(shipBits, bit)) {
+            turn = target;
+            return ShotResult.MISS;
+        }
+
+        skillPoints[turn] += HIT_POINTS;
+        int ship = shipOffset[target] + shipIds[target * cells + index] - 1;
+        if (--intactCells[ship] > 0) {
+            return ShotResult.HIT;
+        }
+        skillPoints[turn] += SINK_POINTS;
+        if (--shipsAfloat[target] == 0) {
+            phase = turn == PLAYER ? GamePhase.PLAYER_WIN : GamePhase.CPU_WIN;
+        }
+        return ShotResult.SUNK;
+    }
+
+    /**
+     * Gasta una habilidad del bando al que le toca (solo su coste y su uso;
+     * el efecto lo simula quien llama)
+     *
+     * @return true si se pudo pagar
+     */
+    public boolean useSkill(Skill skill) {
+        if (!canUseSkill(turn, skill)) {
+            return false;
+        }
+        int slot = turn * SKILL_COUNT + skill.ordinal();
+        skillPoints[turn] -= skillCosts[slot];
+        skillUses[slot]--;
+        return true;
+    }
+
+    // ========== CONSULTAS ==========
+    public int getSize() {
+        return size;
+    }
+
+    public int getTurn() {
+        return turn;
+    }
+
+    public boolean isPlayerTurn() {
+        return turn == PLAYER;
+    }
+
+    public int getElapsedTurns() {
+        return elapsedTurns;
+    }
+
+    public GamePhase getPhase() {
+        return phase;
+    }
+
+    public boolean isGameOver() {
+        return phase != GamePhase.IN_PLAY;
+    }
+
+    /**
+     * @param side Bando dueño del tablero
+     */
+    public boolean hasBeenShot(int side, int index) {
+        checkSide(side);
+        return BitboardStorage.testBit(shotBits, side * words * 64 + index);
+    }
+
+    public boolean hasShip(int side, int index) {
+        checkSide(side);
+        return BitboardStorage.testBit(shipBits, side * words * 64 + index);
+    }
+
+    public int getShipsAfloat(int side) {
+        checkSide(side);
+        return shipsAfloat[side];
+    }
+
+    public int getSkillPoints(int side) {
+        checkSide(side);
+        return skillPoints[side];
+    }
+
+    public int getRemainingUses(int side, Skill skill) {
+        checkSide(side);
+        return skillUses[side * SKILL_COUNT + skill.ordinal()];
+    }
+
+    public boolean canUseSkill(int side, Skill skill) {
+        checkSide(side);
+        int slot = side * SKILL_COUNT + skill.ordinal();
+        return skillUses[slot] > 0 && skillPoints[side] >= skillCosts[slot];
+    }
+
+    private static void checkSide(int side) {
+        if (side != PLAYER && side != CPU) {
+            throw new IllegalArgumentException("Bando inválido: " + side);
+        }
+    }
+}
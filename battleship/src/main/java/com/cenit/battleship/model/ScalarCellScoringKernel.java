@@ -0,0 +1,45 @@
+package com.cenit.battleship.model;
+
+/**
+ * Implementación escalar de CellScoringKernel: una casilla por iteración,
+ * válida en cualquier JVM
+ */
+final class ScalarCellScoringKernel implements CellScoringKernel {
+
+    static final ScalarCellScoringKernel INSTANCE = new ScalarCellScoringKernel();
+
+    private static final double LN2 = Math.log(2);
+
+    private ScalarCellScoringKernel() {
+    }
+
+    @Override
+    public int scoreCells(FleetLayoutSampler.Estimate estimate, double hitWeight, double[] out) {
+        double total = estimate.getSamples();
+        double logTotal = Math.log(total);
+        int best = -1;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < out.length; i++) {
+            if (!estimate.isOpen(i)) {
+                out[i] = Double.NEGATIVE_INFINITY;
+                continue;
+            }
+            int hits = estimate.getHitCount(i);
+            int sunk = estimate.getSunkCount(i);
+            // H = log N - (1/N) * sum(c * log c) sobre agua, tocado y hundido
+            double sum = xLogX(total - hits) + xLogX(hits - sunk) + xLogX(sunk);
+            double entropy = (logTotal - sum / total) / LN2;
+            double score = entropy + hitWeight * hits / total;
+            out[i] = score;
+            if (score > bestScore) {
+                bestScore = score;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private static double xLogX(double count) {
+        return count <= 0 ? 0.0 : count * Math.log(count);
+    }
+}
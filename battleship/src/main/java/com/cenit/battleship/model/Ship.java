@@ -2,6 +2,7 @@ package com.cenit.battleship.model;
 
 import com.cenit.battleship.model.enums.ShipType;
 import com.cenit.battleship.model.enums.Direction;
+import com.cenit.battleship.util.GameLog;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -13,24 +14,85 @@ import java.util.List;
  */
 public class Ship {
 
+    private static final GameLog.Logger LOG = GameLog.getLogger(Ship.class);
+
     private final ShipType type;
     private final List<Cell> positions;
-    private int impactsReceived;
     private List<Coordinate> coordinates;
     private Direction direction;
 
-    // Array para trackear qué segmentos están dañados
-    private List<Boolean> segmentDamage;
+    // Posición: casilla inicial y sentido en que avanzan los segmentos
+    private Coordinate anchor;
+    private boolean alongY;
+
+    // Bit i activo = segmento i dañado
+    private int damageMask;
+    private final int fullMask;
+
+    // Interesados en los cambios hundido/a flote (p. ej. el tablero que lo contiene)
+    private final List<StatusListener> statusListeners = new ArrayList<>();
 
-    private final GameConfiguration config = GameConfiguration.getInstance();
 
     public Ship(ShipType type) {
         this.type = type;
         this.positions = new ArrayList<>();
-        this.coordinates = new ArrayList<>();
-        this.impactsReceived = 0;
+        this.coordinates = Collections.emptyList();
         this.direction = Direction.HORIZONTAL;
-        this.segmentDamage = new ArrayList<>();
+        this.damageMask = 0;
+        this.fullMask = (1 << type.getSize()) - 1;
+    }
+
+    /**
+     * Establece las coordenadas del barco y reinicia el daño. Las coordenadas
+     * deben ser consecutivas; el sentido de avance se deduce de ellas.
+     */
+    private void applyLayout(List<Coordinate> newCoordinates) {
+        boolean wasSunk = isSunk();
+        this.coordinates = Collections.unmodifiableList(new ArrayList<>(newCoordinates));
+        this.anchor = newCoordinates.isEmpty() ? null : newCoordinates.get(0);
+        this.alongY = newCoordinates.size() < 2
+                || newCoordinates.get(0).getX() == newCoordinates.get(1).getX();
+        this.damageMask = 0;
+        notifyStatusChange(wasSunk);
+    }
+
+    /**
+     * Obtiene el índice del segmento que ocupa la coordenada
+     *
+     * @param coord Coordenada a buscar
+     * @return Índice del segmento (0 = inicio) o -1 si no pertenece al barco
+     */
+    public int segmentIndexOf(Coordinate coord) {
+        if (anchor == null || coord == null) {
+            return -1;
+        }
+        int offset;
+        if (alongY) {
+            if (coord.getX() != anchor.getX()) {
+                return -1;
+            }
+            offset = coord.getY() - anchor.getY();
+        } else {
+            if (coord.getY() != anchor.getY()) {
+                return -1;
+            }
+            offset = coord.getX() - anchor.getX();
+        }
+        return offset >= 0 && offset < coordinates.size() ? offset : -1;
+    }
+
+    /**
+     * Verifica si el segmento i está dañado
+     */
+    public boolean isSegmentDamaged(int segment) {
+        return (damageMask & (1 << segment)) != 0;
+    }
+
+    /**
+     * Obtiene la máscara de daño (bit i activo = segmento i dañado)
+     */
+    public int getDamageMask() {
+        return damageMask;
     }
 
     /**
@@ -38,7 +100,7 @@ public class Ship {
      * método que necesitas para la validación de colocación
      */
     public List<Coordinate> getSegments() {
-        return Collections.unmodifiableList(coordinates);
+        return coordinates;
     }
 
     /**
@@ -46,6 +108,14 @@ public class Ship {
      * tamaño Útil para validación antes de colocar el barco
      */
     public List<Coordinate> calculateSegments(Coordinate start, Direction dir, int size) {
+        int boardSize = boardSize();
+        if (PlacementTable.isSupported(boardSize) && size > 0 && size <= boardSize) {
+            // Colocación precalculada: -1 si alguna casilla quedaría fuera
+            PlacementTable table = PlacementTable.of(boardSize, size, dir == Direction.HORIZONTAL);
+            int placement = table.placementAt(start.getX(), start.getY());
+            return placement < 0 ? new ArrayList<>() : table.coordinatesOf(placement);
+        }
+
         List<Coordinate> calculatedSegments = new ArrayList<>();
         int dx = dir == Direction.HORIZONTAL ? 0 : 1;
         int dy = dir == Direction.HORIZONTAL ? 1 : 0;
@@ -55,9 +125,8 @@ public class Ship {
             int y = start.getY() + i * dy;
 
             // Validar que la coordenada esté dentro del tablero
-            if (x >= 0 && x < config.getBoardSize()
-                    && y >= 0 && y < config.getBoardSize()) {
-                calculatedSegments.add(new Coordinate(x, y));
+            if (x >= 0 && x < boardSize && y >= 0 && y < boardSize) {
+                calculatedSegments.add(Coordinate.of(x, y));
             } else {
                 // Si alguna coordenada está fuera, devolver lista vacía
                 return new ArrayList<>();
@@ -74,16 +143,15 @@ public class Ship {
         List<Coordinate> newSegments = calculateSegments(start, direction, type.getSize());
 
         if (newSegments.size() != type.getSize()) {
-            System.err.println("❌ No se puede colocar " + type.getName()
+            LOG.error(() -> "❌ No se puede colocar " + type.getName()
                     + " en " + start.aNotacion() + " - coordenadas inválidas");
             return false;
         }
 
-        this.coordinates = newSegments;
+        applyLayout(newSegments);
         this.direction = direction;
-        initializeSegmentDamage();
 
-        System.out.println("📍 " + type.getName() + " colocado en "
+        LOG.info(() -> "📍 " + type.getName() + " colocado en "
                 + coordinates.get(0).aNotacion() + " a "
                 + coordinates.get(coordinates.size() - 1).aNotacion()
                 + " (" + direction + ")");
@@ -94,7 +162,7 @@ public class Ship {
      * Sobrecarga para colocar con coordenadas x,y
      */
     public boolean place(int startX, int startY, Direction direction) {
-        return place(new Coordinate(startX, startY), direction);
+        return place(Coordinate.of(startX, startY), direction);
     }
 
     /**
@@ -103,28 +171,19 @@ public class Ship {
      */
     public List<Coordinate> getAdjacentCoordinates() {
         List<Coordinate> adjacent = new ArrayList<>();
-
-        for (Coordinate segment : coordinates) {
-            // Revisar las 8 direcciones alrededor de cada segmento
-            for (int dx = -1; dx <= 1; dx++) {
-                for (int dy = -1; dy <= 1; dy++) {
-                    if (dx == 0 && dy == 0) {
-                        continue; // Saltar el segmento mismo
-                    }
-                    int adjX = segment.getX() + dx;
-                    int adjY = segment.getY() + dy;
-
-                    // Verificar límites del tablero
-                    if (adjX >= 0 && adjX < config.getBoardSize()
-                            && adjY >= 0 && adjY < config.getBoardSize()) {
-
-                        Coordinate adjCoord = new Coordinate(adjX, adjY);
-
-                        // Solo agregar si no es parte del barco y no está ya en la lista
-                        if (!coordinates.contains(adjCoord) && !adjacent.contains(adjCoord)) {
-                            adjacent.add(adjCoord);
-                        }
-                    }
+        if (coordinates.isEmpty()) {
+            return adjacent;
+        }
+
+        // El barco es una línea recta: su zona adyacente es el rectángulo que lo
+        // rodea, recortado a los bordes del tablero y sin las casillas propias
+        int boardSize = boardSize();
+        int minX = Math.max(0, getMinX() - 1), maxX = Math.min(boardSize - 1, getMaxX() + 1);
+        int minY = Math.max(0, getMinY() - 1), maxY = Math.min(boardSize - 1, getMaxY() + 1);
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                if (!isWithinBounds(x, y)) {
+                    adjacent.add(Coordinate.of(x, y));
                 }
             }
         }
@@ -132,15 +191,36 @@ public class Ship {
         return adjacent;
     }
 
+    /**
+     * Verifica si (x, y) cae dentro del rectángulo ocupado por el barco
+     */
+    private boolean isWithinBounds(int x, int y) {
+        return x >= getMinX() && x <= getMaxX() && y >= getMinY() && y <= getMaxY();
+    }
+
+    private int getMinX() {
+        return Math.min(anchor.getX(), coordinates.get(coordinates.size() - 1).getX());
+    }
+
+    private int getMaxX() {
+        return Math.max(anchor.getX(), coordinates.get(coordinates.size() - 1).getX());
+    }
+
+    private int getMinY() {
+        return Math.min(anchor.getY(), coordinates.get(coordinates.size() - 1).getY());
+    }
+
+    private int getMaxY() {
+        return Math.max(anchor.getY(), coordinates.get(coordinates.size() - 1).getY());
+    }
+
     /**
      * Verifica si este barco se superpone con otro barco
      */
     public boolean overlapsWith(Ship other) {
-        for (Coordinate myCoord : coordinates) {
-            for (Coordinate otherCoord : other.getSegments()) {
-                if (myCoord.equals(otherCoord)) {
-                    return true;
-                }
+        for (Coordinate otherCoord : other.getSegments()) {
+            if (segmentIndexOf(otherCoord) >= 0) {
+                return true;
             }
         }
         return false;
@@ -150,9 +230,17 @@ public class Ship {
      * Verifica si este barco está demasiado cerca de otro barco (adyacente)
      */
     public boolean isTooCloseTo(Ship other) {
-        List<Coordinate> myAdjacent = getAdjacentCoordinates();
+        if (coordinates.isEmpty()) {
+            return false;
+        }
+        // Un segmento ajeno es adyacente si cae en el rectángulo ampliado en 1
+        // casilla pero fuera del propio barco
         for (Coordinate otherCoord : other.getSegments()) {
-            if (myAdjacent.contains(otherCoord)) {
+            int x = otherCoord.getX();
+            int y = otherCoord.getY();
+            if (x >= getMinX() - 1 && x <= getMaxX() + 1
+                    && y >= getMinY() - 1 && y <= getMaxY() + 1
+                    && !isWithinBounds(x, y)) {
                 return true;
             }
         }
@@ -174,7 +262,7 @@ public class Ship {
 
         // Crear un barco temporal para validación
         Ship tempShip = new Ship(this.type);
-        tempShip.coordinates = potentialSegments;
+        tempShip.applyLayout(potentialSegments);
         tempShip.direction = direction;
 
         // Verificar contra otros barcos
@@ -215,8 +303,7 @@ public class Ship {
             throw new IllegalArgumentException("Las coordenadas del barco deben ser consecutivas");
         }
 
-        this.coordinates = new ArrayList<>(coordinates);
-        initializeSegmentDamage();
+        applyLayout(coordinates);
 
         // USAR LA DIRECCIÓN PROPORCIONADA O CALCULARLA SI ES NULL
         if (direction != null) {
@@ -225,7 +312,7 @@ public class Ship {
             determineDirection(coordinates);
         }
 
-        System.out.println("📍 Barco " + type.getName() + " posicionado en "
+        LOG.info(() -> "📍 Barco " + type.getName() + " posicionado en "
                 + coordinates.get(0).aNotacion() + " a "
                 + coordinates.get(coordinates.size() - 1).aNotacion()
                 + " (" + this.direction + ")");
@@ -244,17 +331,7 @@ public class Ship {
             throw new IllegalArgumentException("La dirección no puede ser nula");
         }
         this.direction = direction;
-        System.out.println("🔄 Dirección de " + type.getName() + " establecida a: " + direction);
-    }
-
-    /**
-     * Inicializa el array de daño por segmento (todos false inicialmente)
-     */
-    private void initializeSegmentDamage() {
-        segmentDamage = new ArrayList<>();
-        for (int i = 0; i < coordinates.size(); i++) {
-            segmentDamage.add(false);
-        }
+        LOG.info(() -> "🔄 Dirección de " + type.getName() + " establecida a: " + direction);
     }
 
     /**
@@ -281,7 +358,7 @@ public class Ship {
             throw new IllegalArgumentException("El barco debe estar en línea recta horizontal o vertical");
         }
 
-        System.out.println("🧭 Dirección calculada para " + type.getName() + ": " + this.direction);
+        LOG.info(() -> "🧭 Dirección calculada para " + type.getName() + ": " + this.direction);
     }
 
     /**
@@ -331,47 +408,42 @@ public class Ship {
      * @return true si el impacto fue registrado exitosamente
      */
     public boolean registerHitAtCoordinate(Coordinate coord) {
-        for (int i = 0; i < coordinates.size(); i++) {
-            if (coordinates.get(i).equals(coord)) {
-                if (!segmentDamage.get(i)) {
-                    segmentDamage.set(i, true);
-                    impactsReceived++;
-
-                    System.out.println("💥 Impacto en " + type.getName() + " en "
-                            + coord.aNotacion() + " (" + (impactsReceived) + "/" + type.getSize() + ")");
-
-                    if (isSunk()) {
-                        System.out.println("💀 " + type.getName() + " HUNDIDO!");
-                    }
-                    return true;
-                } else {
-                    System.out.println("⚠️ Impacto repetido en " + type.getName() + " en " + coord.aNotacion());
-                    return false;
-                }
-            }
+        int segment = segmentIndexOf(coord);
+        if (segment < 0) {
+            return false;
         }
-        return false;
+
+        int bit = 1 << segment;
+        if ((damageMask & bit) != 0) {
+            LOG.info(() -> "⚠️ Impacto repetido en " + type.getName() + " en " + coord.aNotacion());
+            return false;
+        }
+
+        damageMask |= bit;
+        LOG.info(() -> "💥 Impacto en " + type.getName() + " en "
+                + coord.aNotacion() + " (" + getImpactsReceived() + "/" + type.getSize() + ")");
+
+        if (isSunk()) {
+            LOG.info(() -> "💀 " + type.getName() + " HUNDIDO!");
+            notifyStatusChange(false);
+        }
+        return true;
     }
 
     /**
      * Registra un impacto general (sin coordenada específica)
      */
     public void recordImpact() {
-        if (!isSunk()) {
-            // Encontrar el primer segmento no dañado
-            for (int i = 0; i < segmentDamage.size(); i++) {
-                if (!segmentDamage.get(i)) {
-                    segmentDamage.set(i, true);
-                    impactsReceived++;
-
-                    System.out.println("💥 Impacto en " + type.getName()
-                            + " (" + impactsReceived + "/" + type.getSize() + ")");
-
-                    if (isSunk()) {
-                        System.out.println("💀 " + type.getName() + " HUNDIDO!");
-                    }
-                    return;
-                }
+        if (!isSunk() && !coordinates.isEmpty()) {
+            // Marcar el primer segmento no dañado (bit libre más bajo)
+            damageMask |= Integer.lowestOneBit(~damageMask & fullMask);
+
+            LOG.info(() -> "💥 Impacto en " + type.getName()
+                    + " (" + getImpactsReceived() + "/" + type.getSize() + ")");
+
+            if (isSunk()) {
+                LOG.info(() -> "💀 " + type.getName() + " HUNDIDO!");
+                notifyStatusChange(false);
             }
         }
     }
@@ -384,37 +456,32 @@ public class Ship {
      */
     public boolean repairAtCoordinate(Coordinate position) {
         if (!isPlaced()) {
-            System.err.println("❌ No se puede reparar: el barco no está colocado");
+            LOG.error("❌ No se puede reparar: el barco no está colocado");
             return false;
         }
 
-        if (!occupiesCoordinate(position)) {
-            System.err.println("❌ No se puede reparar: la coordenada " + position.aNotacion()
+        int segment = segmentIndexOf(position);
+        if (segment < 0) {
+            LOG.error(() -> "❌ No se puede reparar: la coordenada " + position.aNotacion()
                     + " no pertenece a este barco");
             return false;
         }
 
-        // Buscar la posición en las coordenadas del barco
-        for (int i = 0; i < coordinates.size(); i++) {
-            if (coordinates.get(i).equals(position)) {
-                // Verificar si esta parte está dañada
-                if (segmentDamage.get(i)) {
-                    // Reparar este segmento
-                    segmentDamage.set(i, false);
-                    impactsReceived--;
-
-                    System.out.println("🔧 Parte reparada: " + type.getName() + " en "
-                            + position.aNotacion() + " | Impactos restantes: "
-                            + impactsReceived + "/" + type.getSize());
-                    return true;
-                } else {
-                    System.out.println("ℹ️ La parte en " + position.aNotacion() + " ya está intacta");
-                    return false;
-                }
-            }
+        // Verificar si esta parte está dañada
+        int bit = 1 << segment;
+        if ((damageMask & bit) == 0) {
+            LOG.info(() -> "ℹ️ La parte en " + position.aNotacion() + " ya está intacta");
+            return false;
         }
 
-        return false;
+        // Reparar este segmento
+        boolean wasSunk = isSunk();
+        damageMask &= ~bit;
+        notifyStatusChange(wasSunk);
+        LOG.info(() -> "🔧 Parte reparada: " + type.getName() + " en "
+                + position.aNotacion() + " | Impactos restantes: "
+                + getImpactsReceived() + "/" + type.getSize());
+        return true;
     }
 
     /**
@@ -423,20 +490,19 @@ public class Ship {
      * @return true si se reparó al menos una parte
      */
     public boolean fullRepair() {
-        if (impactsReceived == 0) {
-            System.out.println("ℹ️ " + type.getName() + " ya está completamente reparado");
+        if (damageMask == 0) {
+            LOG.info(() -> "ℹ️ " + type.getName() + " ya está completamente reparado");
             return false;
         }
 
-        int repairedCount = impactsReceived;
-        impactsReceived = 0;
+        int repairedCount = getImpactsReceived();
+        boolean wasSunk = isSunk();
 
         // Resetear todos los segmentos
-        for (int i = 0; i < segmentDamage.size(); i++) {
-            segmentDamage.set(i, false);
-        }
+        damageMask = 0;
+        notifyStatusChange(wasSunk);
 
-        System.out.println("🔧 " + type.getName() + " completamente reparado: "
+        LOG.info(() -> "🔧 " + type.getName() + " completamente reparado: "
                 + repairedCount + " partes restauradas");
         return true;
     }
@@ -448,16 +514,8 @@ public class Ship {
      * @return true si esa parte está dañada
      */
     public boolean isPartDamaged(Coordinate position) {
-        if (!occupiesCoordinate(position)) {
-            return false;
-        }
-
-        for (int i = 0; i < coordinates.size(); i++) {
-            if (coordinates.get(i).equals(position)) {
-                return segmentDamage.get(i);
-            }
-        }
-        return false;
+        int segment = segmentIndexOf(position);
+        return segment >= 0 && isSegmentDamaged(segment);
     }
 
     /**
@@ -466,7 +524,7 @@ public class Ship {
      * @return true si tiene al menos una parte dañada
      */
     public boolean canBeRepaired() {
-        return impactsReceived > 0 && !isSunk();
+        return damageMask != 0 && !isSunk();
     }
 
     // ========== MÉTODOS DE CONSULTA ==========
@@ -474,7 +532,7 @@ public class Ship {
      * Verifica si el barco está hundido
      */
     public boolean isSunk() {
-        return impactsReceived >= type.getSize();
+        return damageMask == fullMask;
     }
 
     /**
@@ -488,14 +546,14 @@ public class Ship {
      * Verifica si el barco ocupa una coordenada específica
      */
     public boolean occupiesCoordinate(Coordinate coord) {
-        return coordinates.contains(coord);
+        return segmentIndexOf(coord) >= 0;
     }
 
     /**
      * Obtiene el porcentaje de daño del barco
      */
     public double getDamagePercentage() {
-        return (double) impactsReceived / type.getSize();
+        return (double) getImpactsReceived() / type.getSize();
     }
 
     /**
@@ -509,25 +567,23 @@ public class Ship {
      * Obtiene la cantidad de partes reparables (dañadas)
      */
     public int getRepairablePartsCount() {
-        return impactsReceived;
+        return getImpactsReceived();
     }
 
     /**
      * Obtiene la cantidad de partes intactas
      */
     public int getIntactPartsCount() {
-        return type.getSize() - impactsReceived;
+        return type.getSize() - getImpactsReceived();
     }
 
     /**
      * Obtiene las coordenadas de las partes dañadas
      */
     public List<Coordinate> getDamagedCoordinates() {
-        List<Coordinate> damaged = new ArrayList<>();
-        for (int i = 0; i < coordinates.size(); i++) {
-            if (segmentDamage.get(i)) {
-                damaged.add(coordinates.get(i));
-            }
+        List<Coordinate> damaged = new ArrayList<>(Integer.bitCount(damageMask));
+        for (int mask = damageMask; mask != 0; mask &= mask - 1) {
+            damaged.add(coordinates.get(Integer.numberOfTrailingZeros(mask)));
         }
         return Collections.unmodifiableList(damaged);
     }
@@ -537,10 +593,9 @@ public class Ship {
      */
     public List<Coordinate> getIntactCoordinates() {
         List<Coordinate> intact = new ArrayList<>();
-        for (int i = 0; i < coordinates.size(); i++) {
-            if (!segmentDamage.get(i)) {
-                intact.add(coordinates.get(i));
-            }
+        int intactMask = ~damageMask & ((1 << coordinates.size()) - 1);
+        for (int mask = intactMask; mask != 0; mask &= mask - 1) {
+            intact.add(coordinates.get(Integer.numberOfTrailingZeros(mask)));
         }
         return Collections.unmodifiableList(intact);
     }
@@ -551,7 +606,7 @@ public class Ship {
     public String[] getVisualState() {
         String[] visual = new String[type.getSize()];
         for (int i = 0; i < type.getSize(); i++) {
-            if (i < segmentDamage.size() && segmentDamage.get(i)) {
+            if (isSegmentDamaged(i)) {
                 visual[i] = "💥"; // Segmento impactado
             } else {
                 visual[i] = "🚢"; // Segmento intacto
@@ -568,14 +623,14 @@ public class Ship {
         sb.append(type.getName()).append(": ");
 
         for (int i = 0; i < type.getSize(); i++) {
-            if (i < segmentDamage.size() && segmentDamage.get(i)) {
+            if (isSegmentDamaged(i)) {
                 sb.append("💥");
             } else {
                 sb.append("🚢");
             }
         }
 
-        sb.append(" (").append(impactsReceived).append("/").append(type.getSize()).append(")");
+        sb.append(" (").append(getImpactsReceived()).append("/").append(type.getSize()).append(")");
         sb.append(" | Integridad: ").append(String.format("%.0f", getIntegrityPercentage() * 100)).append("%");
 
         return sb.toString();
@@ -619,7 +674,7 @@ public class Ship {
     }
 
     public int getImpactsReceived() {
-        return impactsReceived;
+        return Integer.bitCount(damageMask);
     }
 
     public Direction getDirection() {
@@ -627,7 +682,7 @@ public class Ship {
     }
 
     public List<Coordinate> getCoordinates() {
-        return Collections.unmodifiableList(coordinates);
+        return coordinates;
     }
 
     public List<Cell> getPositions() {
@@ -642,6 +697,16 @@ public class Ship {
         return type.getName();
     }
 
+    /**
+     * Tamaño de tablero configurado. Se consulta al usarlo y no al crear el
+     * barco: las flotas predefinidas (FleetConfiguration) se crean durante la
+     * inicialización de clases, y GameConfiguration depende a su vez de
+     * GameMode, que depende de esas flotas.
+     */
+    private static int boardSize() {
+        return GameConfiguration.getInstance().getBoardSize();
+    }
+
     // ========== RESET ==========
     /**
      * Reinicia el barco a su estado inicial
@@ -651,10 +716,36 @@ public class Ship {
             cell.reset();
         }
         positions.clear();
-        coordinates.clear();
-        impactsReceived = 0;
+        applyLayout(Collections.emptyList());
         direction = Direction.HORIZONTAL;
-        segmentDamage.clear();
+    }
+
+    // ========== SISTEMA DE EVENTOS ==========
+    public void addStatusListener(StatusListener listener) {
+        if (!statusListeners.contains(listener)) {
+            statusListeners.add(listener);
+        }
+    }
+
+    public void removeStatusListener(StatusListener listener) {
+        statusListeners.remove(listener);
+    }
+
+    /**
+     * Notifica a los listeners si el barco pasó de a flote a hundido o al revés
+     */
+    private void notifyStatusChange(boolean wasSunk) {
+        boolean sunk = isSunk();
+        if (wasSunk == sunk) {
+            return;
+        }
+        for (StatusListener listener : statusListeners) {
+            if (sunk) {
+                listener.onShipSunk(this);
+            } else {
+                listener.onShipRefloated(this);
+            }
+        }
     }
 
     // ========== TO STRING ==========
@@ -694,4 +785,10 @@ public class Ship {
 
         return sb.toString();
     }
+
+    // ========== INTERFACE PARA LISTENERS ==========
+    public interface StatusListener {
+        void onShipSunk(Ship ship);
+        void onShipRefloated(Ship ship);
+    }
 }
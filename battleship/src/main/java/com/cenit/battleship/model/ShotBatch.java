@@ -0,0 +1,97 @@
+package com.cenit.battleship.model;
+
+import com.cenit.battleship.model.enums.ShotResult;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resultado de una ráfaga de disparos resuelta de una vez (Board.shootAll).
+ *
+ * Guarda un byte por disparo (ordinal de ShotResult), en el mismo orden que
+ * las casillas pedidas, más los totales de impactos y los barcos hundidos
+ * por la ráfaga, para que quien la procesa actualice contadores y puntos
+ * una sola vez.
+ */
+public final class ShotBatch {
+
+    private static final ShotResult[] RESULTS = ShotResult.values();
+
+    private final int[] targets;
+    private final byte[] results;
+    private final List<Ship> sunkShips = new ArrayList<>(2);
+    private int hits;
+    private int misses;
+
+    ShotBatch(int[] targets) {
+        this.targets = targets.clone();
+        this.results = new byte[targets.length];
+    }
+
+    /**
+     * Ráfaga rechazada sin disparar: todos los resultados son INVALID
+     */
+    public static ShotBatch rejected(int[] targets) {
+        ShotBatch batch = new ShotBatch(targets);
+        for (int i = 0; i < batch.results.length; i++) {
+            batch.record(i, ShotResult.INVALID, null);
+        }
+        return batch;
+    }
+
+    void record(int position, ShotResult result, Ship sunkShip) {
+        results[position] = (byte) result.ordinal();
+        if (result.isHit()) {
+            hits++;
+        } else if (result == ShotResult.MISS) {
+            misses++;
+        }
+        if (sunkShip != null) {
+            sunkShips.add(sunkShip);
+        }
+    }
+
+    /**
+     * @return Número de disparos de la ráfaga (incluidos los inválidos)
+     */
+    public int size() {
+        return targets.length;
+    }
+
+    /**
+     * @return Casilla (x * size + y) del disparo en esa posición
+     */
+    public int getTarget(int position) {
+        return targets[position];
+    }
+
+    public ShotResult getResult(int position) {
+        return RESULTS[results[position]];
+    }
+
+    /**
+     * @return Disparos que llegaron a resolverse (impacto, hundimiento o agua)
+     */
+    public int getShotsResolved() {
+        return hits + misses;
+    }
+
+    public int getHits() {
+        return hits;
+    }
+
+    public int getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return Barcos hundidos por esta ráfaga, en orden de hundimiento
+     */
+    public List<Ship> getSunkShips() {
+        return Collections.unmodifiableList(sunkShips);
+    }
+
+    public boolean hasHits() {
+        return hits > 0;
+    }
+}
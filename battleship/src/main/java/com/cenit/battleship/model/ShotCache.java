@@ -0,0 +1,191 @@
+package com.cenit.battleship.model;
+
+import com.cenit.battleship.util.GameLog;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caché LRU acotada, compartida entre partidas, del mejor disparo calculado
+ * para cada estado de conocimiento.
+ *
+ * La clave es el hash Zobrist de ShotContext (tamaño de tablero, flota
+ * restante y conjuntos de disparos, impactos y hundidos), así que los
+ * estados que se repiten en miles de partidas simuladas (tablero vacío,
+ * primeros fallos en damero) se resuelven sin volver a calcular. Cada
+ * estrategia usa su propio espacio de nombres. Solo deben usarla las
+ * estrategias deterministas: la primera respuesta guardada es definitiva. Las claves son deterministas
+ * entre ejecuciones, por lo que la caché puede guardarse en disco.
+ */
+public final class ShotCache {
+
+    private static final GameLog.Logger LOG = GameLog.getLogger(ShotCache.class);
+
+    public static final int DEFAULT_CAPACITY = 65_536;
+
+    private static final int FILE_MAGIC = 0x53484F54; // "SHOT"
+    private static final int FILE_VERSION = 1;
+    private static final String FILE_EXTENSION = ".cache";
+
+    private static final Map<String, ShotCache> SHARED = new ConcurrentHashMap<>();
+
+    private final String namespace;
+    private final int capacity;
+    private final LinkedHashMap<Long, Integer> entries;
+    private long hits;
+    private long misses;
+
+    public ShotCache(String namespace, int capacity) {
+        if (namespace == null || namespace.isBlank() || capacity <= 0) {
+            throw new IllegalArgumentException("Caché de disparos inválida: " + namespace + ", capacidad " + capacity);
+        }
+        this.namespace = namespace.trim();
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(Math.min(capacity, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Integer> eldest) {
+                return size() > ShotCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Caché compartida de la JVM para un espacio de nombres (normalmente una
+     * estrategia de disparo)
+     */
+    public static ShotCache shared(String namespace) {
+        if (namespace == null || namespace.isBlank()) {
+            throw new IllegalArgumentException("El espacio de nombres de la caché es obligatorio");
+        }
+        return SHARED.computeIfAbsent(namespace.trim(), id -> new ShotCache(id, DEFAULT_CAPACITY));
+    }
+
+    // ========== CONSULTAS ==========
+    /**
+     * @return Casilla guardada para la clave, o -1 si no está
+     */
+    public synchronized int get(long key) {
+        Integer cell = entries.get(key);
+        if (cell == null) {
+            misses++;
+            return -1;
+        }
+        hits++;
+        return cell;
+    }
+
+    public synchronized void put(long key, int cell) {
+        if (cell >= 0) {
+            entries.put(key, cell);
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        hits = 0;
+        misses = 0;
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    // ========== PERSISTENCIA ==========
+    /**
+     * Guarda las entradas en un archivo binario (de la menos a la más
+     * usada, para conservar el orden LRU al cargar)
+     */
+    public synchronized void save(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(FILE_MAGIC);
+            out.writeInt(FILE_VERSION);
+            out.writeInt(entries.size());
+            for (Map.Entry<Long, Integer> entry : entries.entrySet()) {
+                out.writeLong(entry.getKey());
+                out.writeInt(entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Añade las entradas de un archivo guardado con save
+     *
+     * @return Número de entradas leídas (0 si el archivo no existe)
+     * @throws IOException si el archivo no es una caché válida
+     */
+    public synchronized int load(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != FILE_MAGIC || in.readInt() != FILE_VERSION) {
+                throw new IOException("Archivo de caché no reconocido: " + file);
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                entries.put(in.readLong(), in.readInt());
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Carga las cachés compartidas desde un directorio y las guarda allí al
+     * cerrar la JVM
+     *
+     * @param directory Directorio con un archivo por espacio de nombres
+     */
+    public static void enablePersistence(Path directory, String... namespaces) {
+        if (directory == null) {
+            throw new IllegalArgumentException("El directorio de la caché es obligatorio");
+        }
+        for (String namespace : namespaces) {
+            ShotCache cache = shared(namespace);
+            Path file = directory.resolve(cache.namespace + FILE_EXTENSION);
+            try {
+                int loaded = cache.load(file);
+                LOG.info(() -> "📂 Caché de disparos " + cache.namespace + ": " + loaded + " entradas");
+            } catch (IOException e) {
+                LOG.warn(() -> "⚠️ No se pudo cargar la caché " + file + ": " + e.getMessage());
+            }
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            for (String namespace : namespaces) {
+                ShotCache cache = shared(namespace);
+                Path file = directory.resolve(cache.namespace + FILE_EXTENSION);
+                try {
+                    cache.save(file);
+                } catch (IOException e) {
+                    LOG.warn(() -> "⚠️ No se pudo guardar la caché " + file + ": " + e.getMessage());
+                }
+            }
+        }, "battleship-shot-cache"));
+    }
+}
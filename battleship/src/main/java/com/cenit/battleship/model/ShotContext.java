@@ -0,0 +1,546 @@
+package com.cenit.battleship.model;
+
+import com.cenit.battleship.model.enums.ShipType;
+import com.cenit.battleship.model.enums.ShotResult;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Estado de puntería de una partida, compartido por todas las estrategias de
+ * disparo (ShotStrategy).
+ *
+ * Todo se guarda en estructuras primitivas dimensionadas según el tablero
+ * real: bitsets de disparos, impactos y casillas hundidas, el conjunto de
+ * casillas aún no disparadas (ShotPool), una cola doble de objetivos
+ * pendientes y el motor de densidad. Solo contiene lo que el tirador puede
+ * ver; los barcos ocultos del rival nunca se consultan. Lo que revelan las
+ * habilidades (sonar, radar) sin disparar se guarda en dos bitsets más:
+ * casillas con barco y casillas de agua.
+ * Índices de casilla = x * size + y.
+ */
+public final class ShotContext {
+
+    private static final long KEY_SIZE = 1;
+    private static final long KEY_SHOT = 2;
+    private static final long KEY_HIT = 3;
+    private static final long KEY_SUNK = 4;
+    private static final long KEY_FLEET = 5;
+    private static final long KEY_PRIOR = 6;
+    private static final long KEY_REVEALED_SHIP = 7;
+    private static final long KEY_REVEALED_WATER = 8;
+
+    private final Board board;
+    private final List<Ship> fleet;
+    private final Random random;
+    private final int size;
+    private final NeighborTable neighbors;
+
+    private final long[] shotBits;
+    private final long[] hitBits;
+    private final long[] sunkBits;
+    // Casillas sin disparar que una habilidad reveló como barco o como agua
+    private final long[] revealedShipBits;
+    private final long[] revealedWaterBits;
+    private int shotCount;
+    private int unresolvedHits;
+    // Hash Zobrist de los disparos, impactos y hundidos (ver getKnowledgeKey)
+    private long knowledgeKey;
+    private long priorKey;
+
+    private final ShotPool openCells;
+    private final ProbabilityDensityEngine density;
+
+    // Cola doble circular de objetivos pendientes
+    private final int[] targets;
+    private final long[] queuedBits;
+    private int targetHead;
+    private int targetCount;
+
+    // Puntuación por casilla para las estrategias que la necesitan
+    private double[] scores;
+
+    /**
+     * @param board Tablero rival sobre el que se dispara
+     * @param fleet Flota rival (solo se consulta qué barcos siguen a flote);
+     * si está vacía se asume la flota clásica
+     * @param random Generador de números aleatorios de la partida
+     */
+    public ShotContext(Board board, List<Ship> fleet, Random random) {
+        if (board == null || random == null) {
+            throw new IllegalArgumentException("El tablero y el generador aleatorio son obligatorios");
+        }
+        this.board = board;
+        this.fleet = fleet != null && !fleet.isEmpty() ? fleet : classicFleet();
+        this.random = random;
+        this.size = board.getSize();
+        this.neighbors = NeighborTable.forSize(size);
+
+        int cells = size * size;
+        int words = (cells + 63) >>> 6;
+        this.shotBits = new long[words];
+        this.hitBits = new long[words];
+        this.sunkBits = new long[words];
+        this.revealedShipBits = new long[words];
+        this.revealedWaterBits = new long[words];
+        this.queuedBits = new long[words];
+        this.targets = new int[cells];
+        this.openCells = new ShotPool(size);
+        this.density = new ProbabilityDensityEngine(size);
+        density.setRemainingShips(this.fleet);
+        this.knowledgeKey = zobrist(KEY_SIZE, size);
+    }
+
+    /**
+     * Copia independiente de otro contexto, con la flota congelada en los
+     * barcos que seguían a flote (ver copyForPlanning)
+     */
+    private ShotContext(ShotContext other, Random random) {
+        this.board = other.board;
+        List<Ship> afloat = new ArrayList<>();
+        for (Ship ship : other.fleet) {
+            if (!ship.isSunk()) {
+                afloat.add(new Ship(ship.getType()));
+            }
+        }
+        this.fleet = afloat;
+        this.random = random;
+        this.size = other.size;
+        this.neighbors = other.neighbors;
+
+        this.shotBits = other.shotBits.clone();
+        this.hitBits = other.hitBits.clone();
+        this.sunkBits = other.sunkBits.clone();
+        this.revealedShipBits = other.revealedShipBits.clone();
+        this.revealedWaterBits = other.revealedWaterBits.clone();
+        this.shotCount = other.shotCount;
+        this.unresolvedHits = other.unresolvedHits;
+        this.knowledgeKey = other.knowledgeKey;
+        this.priorKey = other.priorKey;
+
+        this.openCells = new ShotPool(other.openCells);
+        this.density = new ProbabilityDensityEngine(other.density);
+        this.targets = other.targets.clone();
+        this.queuedBits = other.queuedBits.clone();
+        this.targetHead = other.targetHead;
+        this.targetCount = other.targetCount;
+    }
+
+    /**
+     * Copia del estado de puntería para elegir una jugada en otro hilo sin
+     * tocar este contexto, la flota real ni el generador de la partida. Debe
+     * crearse en el hilo dueño de la partida; la copia solo sirve para elegir
+     * disparos, no para registrar sus resultados.
+     *
+     * Las casillas que la instantánea da por disparadas (por ejemplo, por una
+     * habilidad) quedan cerradas en la copia aunque este contexto aún no lo
+     * sepa, para no elegir un disparo imposible.
+     *
+     * @param random Generador propio de la copia
+     * @param visible Instantánea del tablero rival (o null)
+     */
+    public ShotContext copyForPlanning(Random random, BoardSnapshot visible) {
+        if (random == null) {
+            throw new IllegalArgumentException("El generador aleatorio es obligatorio");
+        }
+        ShotContext copy = new ShotContext(this, random);
+        if (visible != null && visible.getSize() == size) {
+            for (int index = 0; index < size * size; index++) {
+                if (visible.isShot(index)) {
+                    copy.markShot(index);
+                }
+            }
+        }
+        return copy;
+    }
+
+    private static List<Ship> classicFleet() {
+        List<Ship> ships = new ArrayList<>();
+        for (ShipType type : ShipType.values()) {
+            ships.add(new Ship(type));
+        }
+        return ships;
+    }
+
+    /**
+     * Vuelve al estado inicial de la partida (sin disparos ni objetivos)
+     */
+    public void reset() {
+        Arrays.fill(shotBits, 0L);
+        Arrays.fill(hitBits, 0L);
+        Arrays.fill(sunkBits, 0L);
+        Arrays.fill(revealedShipBits, 0L);
+        Arrays.fill(revealedWaterBits, 0L);
+        Arrays.fill(queuedBits, 0L);
+        shotCount = 0;
+        unresolvedHits = 0;
+        knowledgeKey = zobrist(KEY_SIZE, size);
+        targetHead = 0;
+        targetCount = 0;
+        openCells.reset();
+        density.reset();
+        density.setRemainingShips(fleet);
+    }
+
+    /**
+     * Verifica si este estado corresponde al tablero indicado
+     */
+    public boolean isFor(Board other) {
+        return board == other;
+    }
+
+    // ========== GEOMETRÍA ==========
+    public int getSize() {
+        return size;
+    }
+
+    public Random getRandom() {
+        return random;
+    }
+
+    /**
+     * Arreglo de trabajo de size * size puntuaciones, reservado la primera
+     * vez y reutilizado en cada jugada (su contenido no se conserva)
+     */
+    double[] getScoreBuffer() {
+        if (scores == null) {
+            scores = new double[size * size];
+        }
+        return scores;
+    }
+
+    NeighborTable getNeighbors() {
+        return neighbors;
+    }
+
+    public int indexOf(Coordinate coord) {
+        return coord.getX() * size + coord.getY();
+    }
+
+    public Coordinate toCoordinate(int index) {
+        return board.coordinateOf(index);
+    }
+
+    /**
+     * Casilla desplazada (dx, dy) desde otra
+     *
+     * @return Índice de destino, o -1 si cae fuera del tablero
+     */
+    public int offset(int index, int dx, int dy) {
+        int x = index / size + dx;
+        int y = index % size + dy;
+        if (x < 0 || x >= size || y < 0 || y >= size) {
+            return -1;
+        }
+        return x * size + y;
+    }
+
+    // ========== DISPAROS ==========
+    public boolean isOpen(int index) {
+        return !BitboardStorage.testBit(shotBits, index);
+    }
+
+    public boolean isHit(int index) {
+        return BitboardStorage.testBit(hitBits, index);
+    }
+
+    public boolean isSunk(int index) {
+        return BitboardStorage.testBit(sunkBits, index);
+    }
+
+    /**
+     * Impacto que aún no pertenece a ningún barco hundido
+     */
+    public boolean isUnresolvedHit(int index) {
+        return isHit(index) && !isSunk(index);
+    }
+
+    public int getShotCount() {
+        return shotCount;
+    }
+
+    public int getUnresolvedHitCount() {
+        return unresolvedHits;
+    }
+
+    /**
+     * Casillas aún no disparadas, con extracción aleatoria y por paridad
+     */
+    public ShotPool getOpenCells() {
+        return openCells;
+    }
+
+    /**
+     * Motor de densidad al día con los barcos que siguen a flote
+     */
+    public ProbabilityDensityEngine getDensity() {
+        density.setRemainingShips(fleet);
+        return density;
+    }
+
+    /**
+     * Pondera la búsqueda del motor de densidad con las colocaciones
+     * habituales del rival (se conserva al reiniciar)
+     *
+     * @param weights Pesos por casilla (ver PlacementHeatmap), o null
+     */
+    public void setPlacementPrior(int[] weights) {
+        density.setPrior(weights);
+        // Con otros pesos el mejor disparo cambia: la clave también
+        priorKey = weights != null ? zobrist(KEY_PRIOR, Arrays.hashCode(weights)) : 0L;
+    }
+
+    /**
+     * Longitudes de los barcos rivales que siguen a flote
+     */
+    public int[] getRemainingShipLengths() {
+        return fleet.stream()
+                .filter(ship -> !ship.isSunk())
+                .mapToInt(ship -> ship.getType().getSize())
+                .toArray();
+    }
+
+    /**
+     * Marca una casilla como disparada (antes de conocer el resultado)
+     */
+    public void markShot(int index) {
+        if (!isOpen(index)) {
+            return;
+        }
+        BitboardStorage.setBit(shotBits, index);
+        knowledgeKey ^= zobrist(KEY_SHOT, index);
+        shotCount++;
+        openCells.remove(index);
+        density.markShot(index);
+    }
+
+    /**
+     * Registra el resultado visible de un disparo. Al hundirse un barco sus
+     * casillas quedan resueltas y dejan de contar como impactos pendientes.
+     */
+    public void recordResult(int index, ShotResult result) {
+        markShot(index);
+        if (!result.isHit() || isHit(index)) {
+            return;
+        }
+        BitboardStorage.setBit(hitBits, index);
+        knowledgeKey ^= zobrist(KEY_HIT, index);
+        unresolvedHits++;
+        if (result.isSunk()) {
+            Ship sunk = board.getShipAt(toCoordinate(index));
+            if (sunk != null) {
+                for (Coordinate coord : sunk.getCoordinates()) {
+                    markSunk(indexOf(coord));
+                }
+            } else {
+                markSunk(index);
+            }
+        }
+    }
+
+    private void markSunk(int index) {
+        if (isSunk(index)) {
+            return;
+        }
+        // Casillas tocadas por otras vías (habilidades) también quedan resueltas
+        markShot(index);
+        BitboardStorage.setBit(sunkBits, index);
+        knowledgeKey ^= zobrist(KEY_SUNK, index);
+        if (isHit(index)) {
+            unresolvedHits--;
+        } else {
+            BitboardStorage.setBit(hitBits, index);
+            knowledgeKey ^= zobrist(KEY_HIT, index);
+        }
+    }
+
+    // ========== CASILLAS REVELADAS ==========
+    /**
+     * Registra que una casilla sin disparar tiene barco (sonar, radar). Pasa
+     * al frente de la cola de objetivos y el muestreo y el final exacto la
+     * tratan como un impacto que aún hay que disparar.
+     */
+    public void revealShip(int index) {
+        if (!isOpen(index)) {
+            return;
+        }
+        if (!BitboardStorage.testBit(revealedShipBits, index)) {
+            BitboardStorage.setBit(revealedShipBits, index);
+            knowledgeKey ^= zobrist(KEY_REVEALED_SHIP, index);
+        }
+        pushTarget(index);
+    }
+
+    /**
+     * Registra que una casilla sin disparar es agua (sonar). Sigue pudiendo
+     * dispararse, pero ninguna colocación de barco pasa ya por ella.
+     */
+    public void revealWater(int index) {
+        if (!isOpen(index) || BitboardStorage.testBit(revealedWaterBits, index)) {
+            return;
+        }
+        BitboardStorage.setBit(revealedWaterBits, index);
+        knowledgeKey ^= zobrist(KEY_REVEALED_WATER, index);
+        density.markShot(index);
+        if (BitboardStorage.testBit(queuedBits, index)) {
+            removeQueued(index);
+        }
+    }
+
+    /**
+     * Casilla sin disparar que se sabe que tiene barco
+     */
+    public boolean isRevealedShip(int index) {
+        return isOpen(index) && BitboardStorage.testBit(revealedShipBits, index);
+    }
+
+    /**
+     * Casilla sin disparar que se sabe que es agua
+     */
+    public boolean isRevealedWater(int index) {
+        return isOpen(index) && BitboardStorage.testBit(revealedWaterBits, index);
+    }
+
+    // ========== CLAVE DE CONOCIMIENTO ==========
+    /**
+     * Hash Zobrist de todo lo que se sabe del tablero rival: tamaño, barcos
+     * que siguen a flote y conjuntos de disparos, impactos y hundidos. Dos
+     * partidas con el mismo conocimiento tienen la misma clave, también entre
+     * ejecuciones distintas (ver ShotCache).
+     */
+    public long getKnowledgeKey() {
+        int[] remaining = getRemainingShipLengths();
+        Arrays.sort(remaining);
+        long key = knowledgeKey ^ priorKey;
+        for (int i = 0; i < remaining.length; i++) {
+            // El n-ésimo barco de una longitud tiene su propia clave
+            int copy = 0;
+            while (i - copy - 1 >= 0 && remaining[i - copy - 1] == remaining[i]) {
+                copy++;
+            }
+            key ^= zobrist(KEY_FLEET, remaining[i] * 64 + copy);
+        }
+        return key;
+    }
+
+    /**
+     * Clave pseudoaleatoria fija para (tipo, valor), generada con el
+     * mezclador de SplitMix64 en lugar de con una tabla para servir a
+     * cualquier tamaño de tablero
+     */
+    private static long zobrist(long kind, long value) {
+        long z = (kind << 40 ^ value) * 0x9E3779B97F4A7C15L + 0x5EA_BA77L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // ========== COLA DE OBJETIVOS ==========
+    public boolean hasTargets() {
+        return targetCount > 0;
+    }
+
+    /**
+     * Añade un objetivo al final de la cola (si sigue abierto y no está ya)
+     */
+    public void addTarget(int index) {
+        if (index < 0 || !isOpen(index) || isRevealedWater(index) || BitboardStorage.testBit(queuedBits, index)) {
+            return;
+        }
+        BitboardStorage.setBit(queuedBits, index);
+        targets[(targetHead + targetCount++) % targets.length] = index;
+    }
+
+    /**
+     * Añade un objetivo prioritario al principio de la cola
+     */
+    public void pushTarget(int index) {
+        if (index < 0 || !isOpen(index) || isRevealedWater(index)) {
+            return;
+        }
+        if (BitboardStorage.testBit(queuedBits, index)) {
+            removeQueued(index);
+        }
+        BitboardStorage.setBit(queuedBits, index);
+        targetHead = (targetHead - 1 + targets.length) % targets.length;
+        targets[targetHead] = index;
+        targetCount++;
+    }
+
+    /**
+     * Saca el siguiente objetivo que siga sin disparar
+     *
+     * @return Índice de la casilla, o -1 si la cola está vacía
+     */
+    public int pollTarget() {
+        while (targetCount > 0) {
+            int index = targets[targetHead];
+            targetHead = (targetHead + 1) % targets.length;
+            targetCount--;
+            BitboardStorage.clearBit(queuedBits, index);
+            if (isOpen(index)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    public void clearTargets() {
+        while (targetCount > 0) {
+            BitboardStorage.clearBit(queuedBits, targets[targetHead]);
+            targetHead = (targetHead + 1) % targets.length;
+            targetCount--;
+        }
+    }
+
+    private void removeQueued(int index) {
+        int write = 0;
+        for (int read = 0; read < targetCount; read++) {
+            int value = targets[(targetHead + read) % targets.length];
+            if (value != index) {
+                targets[(targetHead + write++) % targets.length] = value;
+            }
+        }
+        targetCount = write;
+        BitboardStorage.clearBit(queuedBits, index);
+    }
+
+    /**
+     * Encola las casillas abiertas vecinas (en cruz) de una casilla
+     */
+    public void addNeighborTargets(int index) {
+        int mask = neighbors.clipMask(index) & Board.STENCIL_CROSS;
+        for (int bit = 0; bit < 9; bit++) {
+            if ((mask & (1 << bit)) != 0) {
+                addTarget(index + neighbors.offset(bit));
+            }
+        }
+    }
+
+    /**
+     * Vuelve a encolar los vecinos de todos los impactos sin resolver (por
+     * ejemplo, tras hundir un barco que estaba junto a otro tocado) y las
+     * casillas reveladas con barco que siguen sin disparar
+     */
+    public void requeueUnresolvedHits() {
+        for (int word = 0; word < revealedShipBits.length; word++) {
+            long pending = revealedShipBits[word] & ~shotBits[word];
+            while (pending != 0) {
+                addTarget((word << 6) + Long.numberOfTrailingZeros(pending));
+                pending &= pending - 1;
+            }
+        }
+        if (unresolvedHits == 0) {
+            return;
+        }
+        for (int word = 0; word < hitBits.length; word++) {
+            long pending = hitBits[word] & ~sunkBits[word];
+            while (pending != 0) {
+                int index = (word << 6) + Long.numberOfTrailingZeros(pending);
+                addNeighborTargets(index);
+                pending &= pending - 1;
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.cenit.battleship.model;
+
+import java.util.Random;
+
+/**
+ * Conjunto de casillas aún no disparadas con operaciones en tiempo constante.
+ *
+ * Las casillas se guardan en un arreglo denso junto con un mapa de posiciones
+ * (índice de casilla -> posición en el arreglo), de modo que sacar una al
+ * azar, retirar una concreta o consultar si sigue disponible son O(1): al
+ * retirar, el hueco se rellena con la última casilla del arreglo.
+ *
+ * Además mantiene por separado las dos clases de paridad del tablero de
+ * ajedrez ((x + y) % 2), precalculadas al construir el conjunto, para que los
+ * patrones de búsqueda no tengan que filtrar ni copiar listas.
+ * Índices de casilla = x * size + y.
+ */
+public final class ShotPool {
+
+    private final int size;
+    private final int[] cells;
+    private final int[] positions;
+    private int count;
+
+    private final int[][] parityCells;
+    private final int[] parityPositions;
+    private final int[] parityCounts;
+
+    public ShotPool(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Tamaño de tablero inválido: " + size);
+        }
+        this.size = size;
+        this.cells = new int[size * size];
+        this.positions = new int[size * size];
+        this.parityCells = new int[2][(size * size + 1) / 2];
+        this.parityPositions = new int[size * size];
+        this.parityCounts = new int[2];
+        reset();
+    }
+
+    /**
+     * Copia independiente de otro conjunto (mismas casillas, mismo orden)
+     */
+    ShotPool(ShotPool other) {
+        this.size = other.size;
+        this.cells = other.cells.clone();
+        this.positions = other.positions.clone();
+        this.count = other.count;
+        this.parityCells = new int[][]{other.parityCells[0].clone(), other.parityCells[1].clone()};
+        this.parityPositions = other.parityPositions.clone();
+        this.parityCounts = other.parityCounts.clone();
+    }
+
+    /**
+     * Vuelve a llenar el conjunto con todas las casillas del tablero
+     */
+    public void reset() {
+        parityCounts[0] = 0;
+        parityCounts[1] = 0;
+        for (int index = 0; index < cells.length; index++) {
+            cells[index] = index;
+            positions[index] = index;
+            int parity = parityOf(index);
+            parityPositions[index] = parityCounts[parity];
+            parityCells[parity][parityCounts[parity]++] = index;
+        }
+        count = cells.length;
+    }
+
+    // ========== CONSULTAS ==========
+    public int getSize() {
+        return size;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public boolean contains(int index) {
+        return index >= 0 && index < positions.length && positions[index] >= 0;
+    }
+
+    /**
+     * Clase de paridad de una casilla en el patrón de tablero de ajedrez
+     */
+    public int parityOf(int index) {
+        return (index / size + index % size) & 1;
+    }
+
+    public int countWithParity(int parity) {
+        return parityCounts[parity & 1];
+    }
+
+    /**
+     * Elige al azar una casilla disponible sin retirarla
+     *
+     * @return Índice de la casilla, o -1 si no quedan
+     */
+    public int randomCell(Random random) {
+        return count == 0 ? -1 : cells[random.nextInt(count)];
+    }
+
+    /**
+     * Elige al azar, sin retirarla, una casilla de la clase de paridad indicada
+     *
+     * @return Índice de la casilla, o -1 si esa clase está vacía
+     */
+    public int randomCellWithParity(Random random, int parity) {
+        int classCount = parityCounts[parity & 1];
+        return classCount == 0 ? -1 : parityCells[parity & 1][random.nextInt(classCount)];
+    }
+
+    // ========== EXTRACCIÓN ==========
+    /**
+     * Retira una casilla concreta
+     *
+     * @return true si la casilla seguía disponible
+     */
+    public boolean remove(int index) {
+        if (!contains(index)) {
+            return false;
+        }
+        int position = positions[index];
+        int last = cells[--count];
+        cells[position] = last;
+        positions[last] = position;
+        positions[index] = -1;
+
+        int parity = parityOf(index);
+        int[] classCells = parityCells[parity];
+        int classPosition = parityPositions[index];
+        int classLast = classCells[--parityCounts[parity]];
+        classCells[classPosition] = classLast;
+        parityPositions[classLast] = classPosition;
+        parityPositions[index] = -1;
+        return true;
+    }
+
+    /**
+     * Saca una casilla cualquiera al azar
+     *
+     * @return Índice de la casilla retirada, o -1 si no quedan
+     */
+    public int drawRandom(Random random) {
+        int index = randomCell(random);
+        if (index >= 0) {
+            remove(index);
+        }
+        return index;
+    }
+
+    /**
+     * Saca al azar una casilla de la clase de paridad indicada
+     *
+     * @return Índice de la casilla retirada, o -1 si esa clase está vacía
+     */
+    public int drawRandomWithParity(Random random, int parity) {
+        int index = randomCellWithParity(random, parity);
+        if (index >= 0) {
+            remove(index);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,77 @@
+package com.cenit.battleship.model;
+
+import com.cenit.battleship.model.enums.Difficulty;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Registro de estrategias de disparo disponibles.
+ *
+ * Cada dificultad se registra con su nombre (EASY, NORMAL, ...) y terceros
+ * pueden añadir las suyas con cualquier otro identificador, o reemplazar las
+ * de serie registrando el mismo nombre.
+ */
+public final class ShotStrategies {
+
+    private static final Map<String, Supplier<? extends ShotStrategy>> REGISTRY = new ConcurrentHashMap<>();
+
+    private static final long MASTER_SOLVER_BUDGET_MS = 2;
+
+    static {
+        register(Difficulty.EASY.name(), RandomShotStrategy::new);
+        register(Difficulty.NORMAL.name(), HuntTargetShotStrategy::new);
+        register(Difficulty.HARD.name(), () -> new EndgameShotStrategy(new DensityShotStrategy()));
+        register(Difficulty.EXPERT.name(), () -> new EndgameShotStrategy(new MonteCarloShotStrategy()));
+        // MASTER no debe pasar de 10 ms por jugada: si el solucionador agota su
+        // tiempo (2 ms), el muestreo (6 ms) corre después en la misma jugada
+        register(Difficulty.MASTER.name(), () -> new EndgameShotStrategy(new InformationGainShotStrategy(),
+                new EndgameSolver(EndgameSolver.DEFAULT_MAX_LAYOUTS, EndgameSolver.DEFAULT_MAX_NODES,
+                        MASTER_SOLVER_BUDGET_MS)));
+    }
+
+    private ShotStrategies() {
+    }
+
+    /**
+     * Registra (o reemplaza) una estrategia
+     * @param id Identificador de la estrategia
+     * @param factory Crea una instancia nueva por cada jugador CPU
+     */
+    public static void register(String id, Supplier<? extends ShotStrategy> factory) {
+        if (id == null || id.isBlank() || factory == null) {
+            throw new IllegalArgumentException("Identificador y fábrica de estrategia son obligatorios");
+        }
+        REGISTRY.put(id.trim(), factory);
+    }
+
+    public static boolean unregister(String id) {
+        return id != null && REGISTRY.remove(id.trim()) != null;
+    }
+
+    public static boolean isRegistered(String id) {
+        return id != null && REGISTRY.containsKey(id.trim());
+    }
+
+    public static Set<String> getRegisteredIds() {
+        return new TreeSet<>(REGISTRY.keySet());
+    }
+
+    /**
+     * Crea la estrategia registrada con un identificador
+     * @throws IllegalArgumentException si no hay ninguna con ese nombre
+     */
+    public static ShotStrategy create(String id) {
+        Supplier<? extends ShotStrategy> factory = id == null ? null : REGISTRY.get(id.trim());
+        if (factory == null) {
+            throw new IllegalArgumentException("Estrategia de disparo desconocida: " + id);
+        }
+        return factory.get();
+    }
+
+    public static ShotStrategy create(Difficulty difficulty) {
+        return create(difficulty != null ? difficulty.name() : Difficulty.NORMAL.name());
+    }
+}
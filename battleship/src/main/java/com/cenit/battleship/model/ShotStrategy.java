@@ -0,0 +1,61 @@
+package com.cenit.battleship.model;
+
+import com.cenit.battleship.model.enums.ShotResult;
+
+/**
+ * Interfaz que define cómo elige sus disparos una IA.
+ * Patrón Strategy que permite diferentes inteligencias (aleatoria, caza y
+ * destrucción, densidad, Monte Carlo, o las que registren terceros en
+ * ShotStrategies) sobre el mismo estado de partida.
+ *
+ * Las implementaciones no guardan estado de la partida: todo vive en el
+ * ShotContext, de modo que una misma instancia puede atender varias partidas.
+ */
+public interface ShotStrategy {
+
+    /**
+     * Elige la próxima casilla a disparar
+     * @param context Estado de puntería de la partida
+     * @return Índice (x * size + y) de una casilla aún no disparada
+     */
+    int chooseShot(ShotContext context);
+
+    /**
+     * Recibe el resultado de un disparo, ya registrado en el contexto
+     * @param context Estado de puntería de la partida
+     * @param index Casilla disparada
+     * @param result Resultado visible del disparo
+     */
+    default void onShotResult(ShotContext context, int index, ShotResult result) {
+        // Las estrategias sin memoria de caza no necesitan hacer nada
+    }
+
+    /**
+     * Indica si la estrategia aprovecha las casillas que revelan el sonar y
+     * el radar (ShotContext.revealShip / revealWater). Si no, el planificador
+     * de habilidades no gasta puntos en ellas.
+     */
+    default boolean usesRevealedCells() {
+        return false;
+    }
+
+    /**
+     * Obtiene información básica sobre la estrategia
+     * @return Descripción de la estrategia
+     */
+    default String getDescription() {
+        return "Estrategia de disparo genérica";
+    }
+
+    /**
+     * Casilla abierta cualquiera, para cuando la estrategia no tiene preferencia
+     * @throws IllegalStateException si ya se disparó a todo el tablero
+     */
+    static int anyOpenCell(ShotContext context) {
+        int index = context.getOpenCells().randomCell(context.getRandom());
+        if (index < 0) {
+            throw new IllegalStateException("No quedan casillas por disparar");
+        }
+        return index;
+    }
+}
@@ -0,0 +1,250 @@
+package com.cenit.battleship.model;
+
+/**
+ * Planificador de habilidades de la CPU basado en utilidad.
+ *
+ * Puntúa cada habilidad que la CPU puede pagar según lo que sabe del tablero
+ * rival (ShotContext) y elige la de mayor valor esperado por punto de
+ * habilidad:
+ * - Bomba de racimo: impactos esperados en la cruz mejor situada.
+ * - Sonar: información esperada (bits) del bloque 3x3 más incierto.
+ * - Radar: lo que aporta localizar un barco frente al mejor disparo normal.
+ * Sonar y radar solo puntúan si la estrategia de disparo aprovecha las
+ * casillas que revelan (ShotStrategy.usesRevealedCells).
+ * - Interferencia: un disparo extra, valorado como el mejor disparo normal.
+ *
+ * La probabilidad de impacto de cada casilla sale del motor de densidad y
+ * las áreas se recorren con las máscaras precalculadas de NeighborTable. El
+ * recorrido de centros se corta al agotar un tiempo fijo (en microsegundos),
+ * de modo que puede ejecutarse en cada turno de simulaciones masivas.
+ */
+public final class SkillPlanner {
+
+    public static final long DEFAULT_BUDGET_NANOS = 200_000;
+
+    // Por debajo de este valor por punto compensa guardar los puntos
+    private static final double MIN_UTILITY_PER_POINT = 0.15;
+    // Impactos equivalentes a un bit de información sobre la flota
+    private static final double HITS_PER_BIT = 0.25;
+    // Probabilidad mínima junto a un impacto sin resolver
+    private static final double NEAR_HIT_PROBABILITY = 0.35;
+    // Cada cuántos centros se consulta el reloj
+    private static final int CLOCK_CHECK_INTERVAL = 16;
+
+    private static final int CLUSTER_STENCIL = Board.STENCIL_CROSS | Board.STENCIL_CENTER;
+    private static final int SONAR_STENCIL = Board.STENCIL_BLOCK;
+
+    private final long budgetNanos;
+    private double[] probability = new double[0];
+
+    public SkillPlanner() {
+        this(DEFAULT_BUDGET_NANOS);
+    }
+
+    /**
+     * @param budgetNanos Tiempo máximo por decisión, en nanosegundos
+     */
+    public SkillPlanner(long budgetNanos) {
+        if (budgetNanos <= 0) {
+            throw new IllegalArgumentException("Tiempo de planificación inválido: " + budgetNanos + "ns");
+        }
+        this.budgetNanos = budgetNanos;
+    }
+
+    public long getBudgetNanos() {
+        return budgetNanos;
+    }
+
+    // ========== PLANIFICACIÓN ==========
+    /**
+     * Elige la habilidad con mayor utilidad por punto entre las que se pueden
+     * usar ahora
+     *
+     * @param context Estado de puntería de la CPU sobre el tablero rival
+     * @param skills Habilidades y puntos de la CPU
+     * @param strategy Estrategia de disparo de la CPU: el sonar y el radar
+     * no valen nada si no aprovecha lo que revelan
+     * @return Plan elegido, o null si ninguna habilidad compensa su coste
+     */
+    public Plan plan(ShotContext context, SkillSystem skills, ShotStrategy strategy) {
+        if (context == null || skills == null || strategy == null) {
+            throw new IllegalArgumentException("Contexto, habilidades y estrategia son obligatorios para planificar");
+        }
+        boolean revealsUsable = strategy.usesRevealedCells();
+        long deadline = System.nanoTime() + budgetNanos;
+        double bestShot = refreshProbabilities(context);
+
+        Plan best = null;
+        for (Skill skill : Skill.values()) {
+            if (!skills.canUseSkill(skill)
+                    || (!revealsUsable && (skill == Skill.SONAR || skill == Skill.RADAR))) {
+                continue;
+            }
+            Plan candidate = score(context, skill, skills.getSkillCost(skill), bestShot, deadline);
+            if (candidate != null && candidate.getUtilityPerPoint() >= MIN_UTILITY_PER_POINT
+                    && (best == null || candidate.getUtilityPerPoint() > best.getUtilityPerPoint())) {
+                best = candidate;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Puntúa una habilidad concreta aunque no se pueda pagar (por ejemplo,
+     * para elegir el objetivo de una habilidad ya decidida)
+     *
+     * @return Plan con su mejor objetivo, o null si la CPU no sabe usarla
+     */
+    public Plan evaluate(ShotContext context, Skill skill) {
+        if (context == null || skill == null) {
+            throw new IllegalArgumentException("Contexto y habilidad son obligatorios para planificar");
+        }
+        long deadline = System.nanoTime() + budgetNanos;
+        double bestShot = refreshProbabilities(context);
+        return score(context, skill, Math.max(1, skill.getCost()), bestShot, deadline);
+    }
+
+    private Plan score(ShotContext context, Skill skill, int cost, double bestShot, long deadline) {
+        int points = Math.max(1, cost);
+        switch (skill) {
+            case CLUSTER_BOMB:
+                return bestArea(context, skill, CLUSTER_STENCIL, false, points, deadline);
+            case SONAR:
+                return bestArea(context, skill, SONAR_STENCIL, true, points, deadline);
+            case RADAR:
+                // Con impactos sin resolver ya se sabe dónde hay un barco
+                double radar = context.getUnresolvedHitCount() > 0 ? 0.0 : 1.0 - bestShot;
+                return new Plan(skill, -1, radar / points);
+            case JAMMING:
+                return new Plan(skill, -1, bestShot / points);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Recalcula la probabilidad de impacto de cada casilla abierta
+     *
+     * @return Probabilidad del mejor disparo normal
+     */
+    private double refreshProbabilities(ShotContext context) {
+        int cells = context.getSize() * context.getSize();
+        if (probability.length != cells) {
+            probability = new double[cells];
+        }
+        ProbabilityDensityEngine density = context.getDensity();
+
+        int remainingCells = 0;
+        for (int length : context.getRemainingShipLengths()) {
+            remainingCells += length;
+        }
+        remainingCells -= context.getUnresolvedHitCount();
+
+        long total = 0;
+        for (int i = 0; i < cells; i++) {
+            if (context.isOpen(i)) {
+                total += density.getDensity(i);
+            }
+        }
+        double scale = total == 0 ? 0.0 : (double) Math.max(0, remainingCells) / total;
+        double best = 0.0;
+        for (int i = 0; i < cells; i++) {
+            double p = context.isOpen(i) ? Math.min(1.0, density.getDensity(i) * scale) : 0.0;
+            if (p > 0.0 && nextToUnresolvedHit(context, i)) {
+                p = Math.max(p, NEAR_HIT_PROBABILITY);
+            }
+            probability[i] = p;
+            best = Math.max(best, p);
+        }
+        return best;
+    }
+
+    private static boolean nextToUnresolvedHit(ShotContext context, int index) {
+        if (context.getUnresolvedHitCount() == 0) {
+            return false;
+        }
+        NeighborTable neighbors = context.getNeighbors();
+        int mask = neighbors.clipMask(index) & Board.STENCIL_CROSS;
+        for (int bit = 0; bit < 9; bit++) {
+            if ((mask & (1 << bit)) != 0 && context.isUnresolvedHit(index + neighbors.offset(bit))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Centro cuyo entorno suma más valor (impactos o bits de información)
+     */
+    private Plan bestArea(ShotContext context, Skill skill, int stencil, boolean information,
+            int points, long deadline) {
+        NeighborTable neighbors = context.getNeighbors();
+        int bestCenter = -1;
+        double bestValue = 0.0;
+        for (int center = 0; center < probability.length; center++) {
+            if (center % CLOCK_CHECK_INTERVAL == 0 && center > 0 && System.nanoTime() >= deadline) {
+                break;
+            }
+            int mask = neighbors.clipMask(center) & stencil;
+            double value = 0.0;
+            for (int bit = 0; bit < 9; bit++) {
+                if ((mask & (1 << bit)) != 0) {
+                    double p = probability[center + neighbors.offset(bit)];
+                    value += information ? binaryEntropy(p) * HITS_PER_BIT : p;
+                }
+            }
+            if (value > bestValue) {
+                bestValue = value;
+                bestCenter = center;
+            }
+        }
+        return bestCenter < 0 ? null : new Plan(skill, bestCenter, bestValue / points);
+    }
+
+    private static double binaryEntropy(double p) {
+        if (p <= 0.0 || p >= 1.0) {
+            return 0.0;
+        }
+        return -(p * Math.log(p) + (1 - p) * Math.log(1 - p)) / Math.log(2);
+    }
+
+    /**
+     * Habilidad elegida, su casilla objetivo y su valor esperado por punto
+     */
+    public static final class Plan {
+
+        private final Skill skill;
+        private final int target;
+        private final double utilityPerPoint;
+
+        private Plan(Skill skill, int target, double utilityPerPoint) {
+            this.skill = skill;
+            this.target = target;
+            this.utilityPerPoint = utilityPerPoint;
+        }
+
+        public Skill getSkill() {
+            return skill;
+        }
+
+        /**
+         * @return Índice de la casilla objetivo, o -1 si la habilidad no apunta
+         */
+        public int getTarget() {
+            return target;
+        }
+
+        public boolean hasTarget() {
+            return target >= 0;
+        }
+
+        public double getUtilityPerPoint() {
+            return utilityPerPoint;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s (objetivo %d, %.2f por punto)", skill.getName(), target, utilityPerPoint);
+        }
+    }
+}
@@ -9,10 +9,14 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
  */
+import com.cenit.battleship.model.enums.Difficulty;
+import com.cenit.battleship.util.GameLog;
 import java.util.*;
 
 public class SkillSystem {
 
+    private static final GameLog.Logger LOG = GameLog.getLogger(SkillSystem.class);
+
     private Map<Skill, Integer> availableSkills;
     private Map<Skill, Integer> remainingUses;
     private int skillPoints;
@@ -66,7 +70,7 @@ public class SkillSystem {
             throw new IllegalArgumentException("Los puntos de habilidad no pueden ser negativos");
         }
         this.skillPoints = points;
-        System.out.println("Puntos de habilidad establecidos a: " + points);
+        LOG.info(() -> "Puntos de habilidad establecidos a: " + points);
     }
 
     /**
@@ -80,7 +84,7 @@ public class SkillSystem {
             throw new IllegalArgumentException("Los puntos de habilidad no pueden ser negativos");
         }
         this.skillPoints = Math.min(points, maxPoints);
-        System.out.println("Puntos de habilidad establecidos a: " + this.skillPoints + " (máximo: " + maxPoints + ")");
+        LOG.info(() -> "Puntos de habilidad establecidos a: " + this.skillPoints + " (máximo: " + maxPoints + ")");
     }
 
     public boolean canUseSkill(Skill skill) {
@@ -108,7 +112,7 @@ public class SkillSystem {
                 remainingUses.remove(skill);
             }
 
-            System.out.println("Habilidad " + skill.getName() + " usada. Puntos restantes: " + skillPoints);
+            LOG.info(() -> "Habilidad " + skill.getName() + " usada. Puntos restantes: " + skillPoints);
             return true;
         }
 
@@ -122,12 +126,12 @@ public class SkillSystem {
     public void gainHitPoints() {
 
         this.skillPoints += IMPACT_POINTS;
-        System.out.println("+1 punto por impacto! Total: " + skillPoints);
+        LOG.info(() -> "+1 punto por impacto! Total: " + skillPoints);
     }
 
     public void gainSinkPoints() {
         this.skillPoints += SINKING_POINTS;
-        System.out.println("+3 puntos por hundimiento! Total: " + skillPoints);
+        LOG.info(() -> "+3 puntos por hundimiento! Total: " + skillPoints);
     }
 
     public void registerSunkenShip(Ship ship) {
@@ -153,19 +157,29 @@ public class SkillSystem {
     public void earnHitPoints() {
         // En la clase SistemaHabilidades (PlayerSkills en tu código)
         this.skillPoints += 1;
-        System.out.println("+1 punto por impacto! Total: " + skillPoints);
+        LOG.info(() -> "+1 punto por impacto! Total: " + skillPoints);
     }
 
     public void earnSinkingPoints() {
         // En la clase SistemaHabilidades
         this.skillPoints += 3;
-        System.out.println("+3 puntos por hundimiento! Total: " + skillPoints);
+        LOG.info(() -> "+3 puntos por hundimiento! Total: " + skillPoints);
+    }
+
+    /**
+     * Puntos de una ráfaga de disparos, sumados de una vez
+     *
+     * @param hits Impactos (incluidos los que hundieron)
+     * @param sinkings Barcos hundidos
+     */
+    public void earnShotPoints(int hits, int sinkings) {
+        earnSkillPoints(hits * IMPACT_POINTS + sinkings * SINKING_POINTS);
     }
 
     public void earnSkillPoints(int points) {
         if (points > 0) {
             this.skillPoints += points;
-            System.out.println("+" + points + " puntos de habilidad! Total: " + skillPoints);
+            LOG.info(() -> "+" + points + " puntos de habilidad! Total: " + skillPoints);
         }
     }
 
@@ -215,9 +229,41 @@ public class SkillSystem {
         initializeSkills();
     }
 
+    /**
+     * Reinicia las habilidades y puntos de una CPU según su dificultad
+     */
+    public void setupForCPU(Difficulty difficulty) {
+        reset();
+        switch (difficulty) {
+            case EASY:
+                addSkill(Skill.SONAR, 1);
+                setSkillPoints(2);
+                break;
+            case NORMAL:
+                addSkill(Skill.SONAR, 1);
+                addSkill(Skill.RADAR, 1);
+                setSkillPoints(3);
+                break;
+            case HARD:
+                addSkill(Skill.SONAR, 2);
+                addSkill(Skill.RADAR, 1);
+                addSkill(Skill.JAMMING, 1);
+                setSkillPoints(5);
+                break;
+            case EXPERT:
+            case MASTER:
+                addSkill(Skill.SONAR, 2);
+                addSkill(Skill.RADAR, 2);
+                addSkill(Skill.JAMMING, 2);
+                addSkill(Skill.CLUSTER_BOMB, 1);
+                setSkillPoints(8);
+                break;
+        }
+    }
+
     public void resetPointsOnly() {
         this.skillPoints = 0;
-        System.out.println("Puntos de habilidad reiniciados a 0");
+        LOG.info("Puntos de habilidad reiniciados a 0");
     }
 
     // ========== MÉTODOS DE INFORMACIÓN ==========
@@ -0,0 +1,286 @@
+package com.cenit.battleship.model;
+
+import com.cenit.battleship.model.enums.CellState;
+import com.cenit.battleship.model.enums.ShotResult;
+import java.util.Arrays;
+
+/**
+ * Almacenamiento disperso del tablero para mapas muy grandes.
+ *
+ * Solo se guarda un registro (Cell) para las casillas que contienen un barco
+ * o que han recibido un disparo; el resto se considera agua sin disparar.
+ * Las consultas de estado, barco y disparo no crean registros; únicamente
+ * getCell materializa la casilla, porque el llamador puede modificarla.
+ * Los registros se indexan por x * size + y en una tabla hash de claves int
+ * primitivas, sin encapsular cada clave en un Integer.
+ */
+public class SparseBoardStorage implements BoardStorage {
+
+    private final int size;
+    private final CellMap cells;
+    private final Coordinate.Table coordinates;
+    private final StorageVersion version = new StorageVersion();
+
+    public SparseBoardStorage(int size) {
+        this.size = size;
+        this.cells = new CellMap();
+        this.coordinates = Coordinate.tableFor(size);
+    }
+
+    private int indexOf(int x, int y) {
+        return x * size + y;
+    }
+
+    /**
+     * Obtiene el registro existente o lo crea si la casilla aún es agua implícita
+     */
+    private Cell materialize(int x, int y) {
+        int index = indexOf(x, y);
+        Cell cell = cells.get(index);
+        if (cell == null) {
+            cell = new Cell(coordinates.of(x, y), version);
+            cells.put(index, cell);
+        }
+        return cell;
+    }
+
+    /**
+     * Obtiene el número de casillas con registro propio
+     */
+    public int getMaterializedCount() {
+        return cells.size();
+    }
+
+    // ========== API DE BoardStorage ==========
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public long getShipVersion() {
+        return version.getShips();
+    }
+
+    @Override
+    public long getShotVersion() {
+        return version.getShots();
+    }
+
+    @Override
+    public Cell getCell(int x, int y) {
+        return materialize(x, y);
+    }
+
+    @Override
+    public Ship getShip(int x, int y) {
+        Cell cell = cells.get(indexOf(x, y));
+        return cell != null ? cell.getShip() : null;
+    }
+
+    @Override
+    public void setShip(int x, int y, Ship ship) {
+        if (ship != null) {
+            materialize(x, y).setShip(ship);
+            return;
+        }
+        Cell cell = cells.get(indexOf(x, y));
+        if (cell != null) {
+            cell.setShip(null);
+            if (!cell.hasBeenShot()) {
+                cells.remove(indexOf(x, y));
+            }
+        }
+    }
+
+    @Override
+    public boolean hasShip(int x, int y) {
+        Cell cell = cells.get(indexOf(x, y));
+        return cell != null && cell.hasShip();
+    }
+
+    @Override
+    public boolean hasBeenShot(int x, int y) {
+        Cell cell = cells.get(indexOf(x, y));
+        return cell != null && cell.hasBeenShot();
+    }
+
+    @Override
+    public boolean isHit(int x, int y) {
+        Cell cell = cells.get(indexOf(x, y));
+        return cell != null && cell.isHit();
+    }
+
+    @Override
+    public ShotResult shoot(int x, int y) {
+        return materialize(x, y).shoot();
+    }
+
+    @Override
+    public CellState getState(int x, int y) {
+        Cell cell = cells.get(indexOf(x, y));
+        return cell != null ? cell.getState() : CellState.WATER;
+    }
+
+    @Override
+    public void reset() {
+        cells.clear();
+        version.shipsChanged();
+        version.shotsChanged();
+    }
+
+    @Override
+    public void exportBits(long[] shipBits, long[] shotBits, long[] hitBits, long[] sunkBits) {
+        for (int slot = 0; slot < cells.capacity(); slot++) {
+            Cell cell = cells.valueAt(slot);
+            if (cell == null) {
+                continue;
+            }
+            int index = cells.keyAt(slot);
+            if (shipBits != null && cell.hasShip()) {
+                BitboardStorage.setBit(shipBits, index);
+            }
+            if (shotBits != null && cell.hasBeenShot()) {
+                BitboardStorage.setBit(shotBits, index);
+            }
+            if (hitBits != null && cell.isHit()) {
+                BitboardStorage.setBit(hitBits, index);
+            }
+            if (sunkBits != null && cell.getState() == CellState.SUNK_SHIP) {
+                BitboardStorage.setBit(sunkBits, index);
+            }
+        }
+    }
+
+    @Override
+    public void clearShips() {
+        // Borrar desplaza registros dentro de la tabla: primero se anotan las claves
+        int[] unused = new int[cells.size()];
+        int count = 0;
+        for (int slot = 0; slot < cells.capacity(); slot++) {
+            Cell cell = cells.valueAt(slot);
+            if (cell == null) {
+                continue;
+            }
+            cell.removeShip();
+            if (!cell.hasBeenShot()) {
+                unused[count++] = cells.keyAt(slot);
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            cells.remove(unused[i]);
+        }
+    }
+
+    // ========== TABLA HASH ==========
+    /**
+     * Tabla hash de direccionamiento abierto (sondeo lineal) de índice de
+     * casilla a Cell. Las ranuras libres tienen valor null; al borrar se
+     * desplazan los registros siguientes para no dejar marcas de borrado.
+     */
+    private static final class CellMap {
+
+        private static final int INITIAL_CAPACITY = 64;
+
+        private int[] keys = new int[INITIAL_CAPACITY];
+        private Cell[] values = new Cell[INITIAL_CAPACITY];
+        private int count;
+
+        int size() {
+            return count;
+        }
+
+        int capacity() {
+            return values.length;
+        }
+
+        int keyAt(int slot) {
+            return keys[slot];
+        }
+
+        Cell valueAt(int slot) {
+            return values[slot];
+        }
+
+        private int slotOf(int key) {
+            // Mezcla de Fibonacci: casillas vecinas quedan repartidas por la tabla
+            int hash = key * 0x9E3779B9;
+            return (hash ^ (hash >>> 16)) & (values.length - 1);
+        }
+
+        Cell get(int key) {
+            int mask = values.length - 1;
+            for (int slot = slotOf(key); values[slot] != null; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return values[slot];
+                }
+            }
+            return null;
+        }
+
+        void put(int key, Cell value) {
+            if ((count + 1) * 4 > values.length * 3) {
+                resize(values.length * 2);
+            }
+            int mask = values.length - 1;
+            int slot = slotOf(key);
+            while (values[slot] != null) {
+                if (keys[slot] == key) {
+                    values[slot] = value;
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = value;
+            count++;
+        }
+
+        void remove(int key) {
+            int mask = values.length - 1;
+            int slot = slotOf(key);
+            while (values[slot] != null && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            if (values[slot] == null) {
+                return;
+            }
+            values[slot] = null;
+            count--;
+            // Recolocar el resto de la secuencia de sondeo
+            for (int next = (slot + 1) & mask; values[next] != null; next = (next + 1) & mask) {
+                int home = slotOf(keys[next]);
+                // ¿Está 'home' fuera del tramo circular (slot, next]?
+                if (slot <= next ? (home <= slot || home > next) : (home <= slot && home > next)) {
+                    keys[slot] = keys[next];
+                    values[slot] = values[next];
+                    values[next] = null;
+                    slot = next;
+                }
+            }
+        }
+
+        void clear() {
+            if (values.length > INITIAL_CAPACITY) {
+                keys = new int[INITIAL_CAPACITY];
+                values = new Cell[INITIAL_CAPACITY];
+            } else {
+                Arrays.fill(values, null);
+            }
+            count = 0;
+        }
+
+        private void resize(int capacity) {
+            int[] oldKeys = keys;
+            Cell[] oldValues = values;
+            keys = new int[capacity];
+            values = new Cell[capacity];
+            count = 0;
+            for (int slot = 0; slot < oldValues.length; slot++) {
+                if (oldValues[slot] != null) {
+                    put(oldKeys[slot], oldValues[slot]);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.cenit.battleship.model;
+
+/**
+ * Contadores de modificación de un BoardStorage.
+ *
+ * Avanzan con cada cambio en la colocación de barcos o en los disparos, ya
+ * llegue por el almacenamiento o por una Cell modificada directamente, para
+ * que Board sepa sin recorrer el tablero si su última instantánea sigue al
+ * día y qué bitsets puede reutilizar. Solo los usa el hilo dueño del tablero.
+ */
+final class StorageVersion {
+
+    private long ships;
+    private long shots;
+
+    void shipsChanged() {
+        ships++;
+    }
+
+    void shotsChanged() {
+        shots++;
+    }
+
+    long getShips() {
+        return ships;
+    }
+
+    long getShots() {
+        return shots;
+    }
+}
@@ -0,0 +1,22 @@
+package com.cenit.battleship.model.enums;
+
+/**
+ * Tipos de motor de almacenamiento disponibles para el tablero
+ */
+public enum BoardStorageType {
+
+    CELL_GRID("Matriz de celdas", "Un objeto Cell por casilla (modo clásico)"),
+    BITBOARD("Bitboard", "Ocupación, disparos e impactos en bitsets long[] empaquetados"),
+    SPARSE("Disperso", "Solo guarda las casillas con barco o disparo; para mapas gigantes");
+
+    private final String displayName;
+    private final String description;
+
+    BoardStorageType(String displayName, String description) {
+        this.displayName = displayName;
+        this.description = description;
+    }
+
+    public String getDisplayName() { return displayName; }
+    public String getDescription() { return description; }
+}
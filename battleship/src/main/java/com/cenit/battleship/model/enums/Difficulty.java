@@ -4,7 +4,8 @@ public enum Difficulty {
     EASY("Fácil", "Disparos aleatorios"),
     NORMAL("Normal", "Estrategia básica"),
     HARD("Difícil", "Búsqueda inteligente"),
-    EXPERT("Experto", "Algoritmo avanzado");
+    EXPERT("Experto", "Algoritmo avanzado"),
+    MASTER("Maestro", "Máxima información");
     
     private final String displayName;
     private final String description;
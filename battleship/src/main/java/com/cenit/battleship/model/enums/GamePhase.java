@@ -4,6 +4,9 @@
  */
 package com.cenit.battleship.model.enums;
 
+import com.cenit.battleship.util.GameLog;
+
+
 /**
  *
  * @author Usuario
@@ -17,6 +20,8 @@ public enum GamePhase {
     SHIP_PLACEMENT("SHIP_PLACEMENT", "Colocando barcos"),
     PAUSED("PAUSED", "Pausado"),
     GAME_OVER("GAME_OVER", "Juego terminado");
+
+    private static final GameLog.Logger LOG = GameLog.getLogger(GamePhase.class);
     
     private final String code;
     private final String description;
@@ -91,7 +96,7 @@ public enum GamePhase {
         try {
             return fromValue(value);
         } catch (IllegalArgumentException e) {
-            System.err.println("Error convirtiendo GameState: " + value + " - Usando IN_PLAY por defecto");
+            LOG.error(() -> "Error convirtiendo GameState: " + value + " - Usando IN_PLAY por defecto");
             return IN_PLAY;
         }
     }
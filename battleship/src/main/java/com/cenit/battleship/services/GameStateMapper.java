@@ -2,6 +2,7 @@ package com.cenit.battleship.services;
 
 import com.cenit.battleship.controller.GameController;
 import com.cenit.battleship.model.Board;
+import com.cenit.battleship.model.BoardSnapshot;
 import com.cenit.battleship.model.Cell;
 import com.cenit.battleship.model.Coordinate;
 import com.cenit.battleship.model.Ship;
@@ -82,14 +83,16 @@ public class GameStateMapper {
     // ========== MÉTODOS DE MAPEO ESPECÍFICOS ==========
     
     private BoardDTO mapBoardState(Board board) {
+        // Instantánea inmutable: se reutiliza si el tablero no cambió desde el último guardado
+        BoardSnapshot snapshot = board.snapshot();
+        int size = snapshot.getSize();
         BoardDTO dto = new BoardDTO();
-        dto.setSize(Board.BOARD_SIZE);
+        dto.setSize(size);
         
-        String[][] states = new String[Board.BOARD_SIZE][Board.BOARD_SIZE];
-        for (int i = 0; i < Board.BOARD_SIZE; i++) {
-            for (int j = 0; j < Board.BOARD_SIZE; j++) {
-                Cell cell = board.getCell(i, j);
-                states[i][j] = cell.getState().name();
+        String[][] states = new String[size][size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                states[i][j] = snapshot.getCellState(i, j).name();
             }
         }
         dto.setCellStates(states);
@@ -155,7 +158,7 @@ public class GameStateMapper {
         for (int j = 0; j < size; j++) {
             String estadoStr = dto.getCellStates()[i][j];
             CellState estado = parseCellState(estadoStr);
-            Coordinate coord = new Coordinate(i, j);
+            Coordinate coord = Coordinate.of(i, j);
             Cell cell = board.getCell(coord);
             
             restoreCellState(cell, estado);
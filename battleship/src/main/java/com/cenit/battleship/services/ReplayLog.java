@@ -0,0 +1,536 @@
+package com.cenit.battleship.services;
+
+import com.cenit.battleship.model.Coordinate;
+import com.cenit.battleship.model.Ship;
+import com.cenit.battleship.model.Skill;
+import com.cenit.battleship.model.enums.Difficulty;
+import com.cenit.battleship.model.enums.ShipType;
+import com.cenit.battleship.model.enums.ShotResult;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Registro binario compacto de una partida: semilla, colocación inicial de
+ * las dos flotas y cada jugada (disparo, ráfaga o habilidad) con su
+ * resultado.
+ *
+ * Todo va codificado en varints: un disparo ocupa 2 o 3 bytes (etiqueta con
+ * tipo, bando y resultado + casilla), frente a los kilobytes de una
+ * instantánea JSON. Las jugadas se decodifican en flujo con un MoveVisitor,
+ * sin crear objetos por jugada, para que ReplayPlayer pueda re-simular miles
+ * de partidas a toda velocidad.
+ *
+ * Formato (versión 1):
+ * <pre>
+ * "BSRP" | versión | semilla (zigzag) | tamaño | dificultad CPU
+ * | flota jugador | flota CPU | nº de jugadas | jugadas...
+ * flota  = nº barcos, y por barco: tipo, colocación
+ * colocación = 0 (sin colocar) o ((casilla inicial + 1) &lt;&lt; 1 | eje)
+ * jugada = etiqueta (resultado &lt;&lt; 4 | tipo &lt;&lt; 1 | jugador) + datos del tipo
+ * </pre>
+ */
+public final class ReplayLog {
+
+    public static final String FILE_EXTENSION = ".bsr";
+
+    private static final byte[] MAGIC = {'B', 'S', 'R', 'P'};
+    private static final int VERSION = 1;
+
+    // Tipos de jugada (3 bits de la etiqueta)
+    static final int MOVE_SHOT = 0;
+    static final int MOVE_BATCH = 1;
+    static final int MOVE_MISSILE = 2;
+    static final int MOVE_SKILL = 3;
+    static final int MOVE_REPAIR = 4;
+    static final int MOVE_CAMOUFLAGE = 5;
+    static final int MOVE_END = 6;
+    static final int MOVE_RESTORE = 7;
+
+    private static final ShotResult[] RESULTS = ShotResult.values();
+    private static final Skill[] SKILLS = Skill.values();
+    private static final ShipType[] SHIP_TYPES = ShipType.values();
+    private static final Difficulty[] DIFFICULTIES = Difficulty.values();
+
+    private final long seed;
+    private final int boardSize;
+    private final Difficulty difficulty;
+    private final List<Placement> playerFleet;
+    private final List<Placement> cpuFleet;
+
+    private byte[] moves;
+    private int length;
+    private int moveCount;
+
+    ReplayLog(long seed, int boardSize, Difficulty difficulty, List<Placement> playerFleet, List<Placement> cpuFleet) {
+        if (boardSize <= 0 || difficulty == null || playerFleet == null || cpuFleet == null) {
+            throw new IllegalArgumentException("Cabecera de repetición incompleta");
+        }
+        this.seed = seed;
+        this.boardSize = boardSize;
+        this.difficulty = difficulty;
+        this.playerFleet = Collections.unmodifiableList(new ArrayList<>(playerFleet));
+        this.cpuFleet = Collections.unmodifiableList(new ArrayList<>(cpuFleet));
+        this.moves = new byte[256];
+    }
+
+    // ========== ESCRITURA DE JUGADAS ==========
+    void appendShot(boolean byPlayer, int target, ShotResult result) {
+        appendTag(MOVE_SHOT, byPlayer, result);
+        writeVarint(target);
+        moveCount++;
+    }
+
+    void appendBatch(boolean byPlayer, int[] targets, ShotResult[] results) {
+        appendTag(MOVE_BATCH, byPlayer, null);
+        writeVarint(targets.length);
+        for (int i = 0; i < targets.length; i++) {
+            writeVarint(targets[i]);
+            writeVarint(results[i].ordinal());
+        }
+        moveCount++;
+    }
+
+    void appendMissile(boolean byPlayer, int target, ShotResult result) {
+        appendTag(MOVE_MISSILE, byPlayer, result);
+        writeVarint(target);
+        moveCount++;
+    }
+
+    /**
+     * Habilidad sin efecto sobre los tableros (sonar, radar, dron,
+     * interferencia); el parámetro depende de la habilidad
+     */
+    void appendSkill(boolean byPlayer, Skill skill, int parameter) {
+        appendTag(MOVE_SKILL, byPlayer, null);
+        writeVarint(skill.ordinal());
+        writeVarint(zigzag(parameter));
+        moveCount++;
+    }
+
+    void appendRepair(boolean byPlayer, int target) {
+        appendTag(MOVE_REPAIR, byPlayer, null);
+        writeVarint(target);
+        moveCount++;
+    }
+
+    void appendCamouflage(boolean byPlayer, int ship, Placement placement) {
+        appendTag(MOVE_CAMOUFLAGE, byPlayer, null);
+        writeVarint(ship);
+        writeVarint(placement.encode());
+        moveCount++;
+    }
+
+    void appendEnd(boolean playerWon) {
+        appendTag(MOVE_END, playerWon, null);
+        moveCount++;
+    }
+
+    /**
+     * Disparo que ya existía al empezar a grabar (partida cargada); se
+     * reproduce sin comprobar su resultado
+     */
+    void appendRestore(boolean byPlayer, int target) {
+        appendTag(MOVE_RESTORE, byPlayer, null);
+        writeVarint(target);
+        moveCount++;
+    }
+
+    private void appendTag(int kind, boolean byPlayer, ShotResult result) {
+        int code = result != null ? result.ordinal() : 0;
+        writeVarint(code << 4 | kind << 1 | (byPlayer ? 1 : 0));
+    }
+
+    private void writeVarint(int value) {
+        ensureCapacity(5);
+        length = putVarint(moves, length, value & 0xFFFFFFFFL);
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > moves.length) {
+            moves = Arrays.copyOf(moves, Math.max(moves.length * 2, length + extra));
+        }
+    }
+
+    // ========== LECTURA DE JUGADAS ==========
+    /**
+     * Recorre todas las jugadas en orden
+     */
+    public void forEachMove(MoveVisitor visitor) {
+        Reader reader = reader();
+        while (reader.next(visitor)) {
+            // La decodificación ocurre en next()
+        }
+    }
+
+    /**
+     * Lector de jugadas de una en una (repetición paso a paso)
+     */
+    public Reader reader() {
+        return new Reader();
+    }
+
+    /**
+     * Cursor sobre las jugadas codificadas
+     */
+    public final class Reader {
+
+        private int position;
+        private int index;
+
+        private Reader() {
+        }
+
+        public boolean hasNext() {
+            return position < length;
+        }
+
+        /**
+         * @return Número de la próxima jugada (desde 0)
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * Decodifica la siguiente jugada y la entrega al visitante
+         *
+         * @return false si no quedaban jugadas
+         */
+        public boolean next(MoveVisitor visitor) {
+            if (!hasNext()) {
+                return false;
+            }
+            int tag = readInt();
+            boolean byPlayer = (tag & 1) != 0;
+            int kind = (tag >>> 1) & 0x7;
+            ShotResult result = RESULTS[tag >>> 4];
+            int move = index++;
+            switch (kind) {
+                case MOVE_SHOT:
+                    visitor.onShot(move, byPlayer, readInt(), result);
+                    break;
+                case MOVE_BATCH: {
+                    int count = readInt();
+                    int[] targets = new int[count];
+                    ShotResult[] results = new ShotResult[count];
+                    for (int i = 0; i < count; i++) {
+                        targets[i] = readInt();
+                        results[i] = RESULTS[readInt()];
+                    }
+                    visitor.onBatch(move, byPlayer, targets, results);
+                    break;
+                }
+                case MOVE_MISSILE:
+                    visitor.onMissile(move, byPlayer, readInt(), result);
+                    break;
+                case MOVE_SKILL:
+                    visitor.onSkill(move, byPlayer, SKILLS[readInt()], unzigzag(readInt()));
+                    break;
+                case MOVE_REPAIR:
+                    visitor.onRepair(move, byPlayer, readInt());
+                    break;
+                case MOVE_CAMOUFLAGE: {
+                    int ship = readInt();
+                    List<Placement> fleet = byPlayer ? playerFleet : cpuFleet;
+                    ShipType type = ship < fleet.size() ? fleet.get(ship).getType() : null;
+                    visitor.onCamouflage(move, byPlayer, ship, Placement.decode(type, readInt()));
+                    break;
+                }
+                case MOVE_END:
+                    visitor.onEnd(move, byPlayer);
+                    break;
+                case MOVE_RESTORE:
+                default:
+                    visitor.onRestore(move, byPlayer, readInt());
+                    break;
+            }
+            return true;
+        }
+
+        private int readInt() {
+            long value = 0;
+            int shift = 0;
+            while (true) {
+                if (position >= length) {
+                    throw new IllegalStateException("Registro de repetición truncado");
+                }
+                byte b = moves[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return (int) value;
+                }
+                shift += 7;
+            }
+        }
+    }
+
+    /**
+     * Receptor de jugadas decodificadas. Las casillas son índices
+     * (x * tamaño + y) del tablero que recibe el disparo: el de la CPU si
+     * dispara el jugador y al revés. Todos los métodos son opcionales.
+     */
+    public interface MoveVisitor {
+
+        default void onShot(int move, boolean byPlayer, int target, ShotResult result) {
+        }
+
+        default void onBatch(int move, boolean byPlayer, int[] targets, ShotResult[] results) {
+        }
+
+        default void onMissile(int move, boolean byPlayer, int target, ShotResult result) {
+        }
+
+        default void onSkill(int move, boolean byPlayer, Skill skill, int parameter) {
+        }
+
+        /**
+         * @param target Casilla reparada, en el tablero propio
+         */
+        default void onRepair(int move, boolean byPlayer, int target) {
+        }
+
+        /**
+         * @param ship Posición del barco en la flota propia
+         */
+        default void onCamouflage(int move, boolean byPlayer, int ship, Placement placement) {
+        }
+
+        default void onEnd(int move, boolean playerWon) {
+        }
+
+        default void onRestore(int move, boolean byPlayer, int target) {
+        }
+    }
+
+    // ========== COLOCACIONES ==========
+    /**
+     * Tipo y posición de un barco: casilla inicial y eje (0 = avanza en x,
+     * 1 = avanza en y), o sin colocar
+     */
+    public static final class Placement {
+
+        private final ShipType type;
+        private final int start;
+        private final int axis;
+
+        public Placement(ShipType type, int start, int axis) {
+            if (axis != 0 && axis != 1) {
+                throw new IllegalArgumentException("Eje inválido: " + axis);
+            }
+            this.type = type;
+            this.start = start;
+            this.axis = axis;
+        }
+
+        /**
+         * Colocación actual de un barco en un tablero de ese tamaño
+         */
+        public static Placement of(Ship ship, int boardSize) {
+            List<Coordinate> coordinates = ship.getCoordinates();
+            if (coordinates == null || coordinates.isEmpty()) {
+                return new Placement(ship.getType(), -1, 0);
+            }
+            Coordinate first = coordinates.get(0);
+            int axis = coordinates.size() > 1 && coordinates.get(1).getX() == first.getX() ? 1 : 0;
+            return new Placement(ship.getType(), first.getX() * boardSize + first.getY(), axis);
+        }
+
+        public ShipType getType() {
+            return type;
+        }
+
+        /**
+         * @return Casilla inicial, o -1 si el barco no está colocado
+         */
+        public int getStart() {
+            return start;
+        }
+
+        public int getAxis() {
+            return axis;
+        }
+
+        public boolean isPlaced() {
+            return start >= 0;
+        }
+
+        /**
+         * Coordenadas que ocupa el barco en un tablero de ese tamaño
+         */
+        public List<Coordinate> coordinates(int boardSize) {
+            List<Coordinate> coordinates = new ArrayList<>(type.getSize());
+            int x = start / boardSize;
+            int y = start % boardSize;
+            for (int i = 0; i < type.getSize(); i++) {
+                coordinates.add(axis == 0 ? Coordinate.of(x + i, y) : Coordinate.of(x, y + i));
+            }
+            return coordinates;
+        }
+
+        int encode() {
+            return isPlaced() ? (start + 1) << 1 | axis : 0;
+        }
+
+        static Placement decode(ShipType type, int code) {
+            return code == 0 ? new Placement(type, -1, 0) : new Placement(type, (code >>> 1) - 1, code & 1);
+        }
+    }
+
+    // ========== CONSULTAS ==========
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    public List<Placement> getPlayerFleet() {
+        return playerFleet;
+    }
+
+    public List<Placement> getCpuFleet() {
+        return cpuFleet;
+    }
+
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    /**
+     * @return Bytes ocupados por las jugadas (sin la cabecera)
+     */
+    public int getMovesSize() {
+        return length;
+    }
+
+    // ========== SERIALIZACIÓN ==========
+    public byte[] toBytes() {
+        byte[] out = new byte[64 + 10 * (playerFleet.size() + cpuFleet.size()) + length];
+        System.arraycopy(MAGIC, 0, out, 0, MAGIC.length);
+        int pos = MAGIC.length;
+        pos = putVarint(out, pos, VERSION);
+        pos = putVarint(out, pos, (seed << 1) ^ (seed >> 63));
+        pos = putVarint(out, pos, boardSize);
+        pos = putVarint(out, pos, difficulty.ordinal());
+        pos = putFleet(out, pos, playerFleet);
+        pos = putFleet(out, pos, cpuFleet);
+        pos = putVarint(out, pos, moveCount);
+        pos = putVarint(out, pos, length);
+        System.arraycopy(moves, 0, out, pos, length);
+        return Arrays.copyOf(out, pos + length);
+    }
+
+    /**
+     * @throws IllegalArgumentException si los bytes no son una repetición válida
+     */
+    public static ReplayLog fromBytes(byte[] data) {
+        if (data == null || data.length < MAGIC.length
+                || !Arrays.equals(Arrays.copyOf(data, MAGIC.length), MAGIC)) {
+            throw new IllegalArgumentException("No es un registro de repetición");
+        }
+        try {
+            int[] pos = {MAGIC.length};
+            long version = getVarint(data, pos);
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Versión de repetición no soportada: " + version);
+            }
+            long zigzagSeed = getVarint(data, pos);
+            long seed = (zigzagSeed >>> 1) ^ -(zigzagSeed & 1);
+            int boardSize = (int) getVarint(data, pos);
+            Difficulty difficulty = DIFFICULTIES[(int) getVarint(data, pos)];
+            List<Placement> playerFleet = getFleet(data, pos);
+            List<Placement> cpuFleet = getFleet(data, pos);
+
+            ReplayLog log = new ReplayLog(seed, boardSize, difficulty, playerFleet, cpuFleet);
+            log.moveCount = (int) getVarint(data, pos);
+            int movesLength = (int) getVarint(data, pos);
+            if (movesLength < 0 || pos[0] + movesLength > data.length) {
+                throw new IllegalArgumentException("Registro de repetición truncado");
+            }
+            log.moves = Arrays.copyOfRange(data, pos[0], pos[0] + movesLength);
+            log.length = movesLength;
+            return log;
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Registro de repetición corrupto", e);
+        }
+    }
+
+    public void save(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.write(file, toBytes());
+    }
+
+    /**
+     * @throws IOException si no se puede leer o no es una repetición válida
+     */
+    public static ReplayLog load(Path file) throws IOException {
+        try {
+            return fromBytes(Files.readAllBytes(file));
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage() + ": " + file, e);
+        }
+    }
+
+    private static int putFleet(byte[] out, int pos, List<Placement> fleet) {
+        pos = putVarint(out, pos, fleet.size());
+        for (Placement placement : fleet) {
+            pos = putVarint(out, pos, placement.getType().ordinal());
+            pos = putVarint(out, pos, placement.encode());
+        }
+        return pos;
+    }
+
+    private static List<Placement> getFleet(byte[] data, int[] pos) {
+        int count = (int) getVarint(data, pos);
+        List<Placement> fleet = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ShipType type = SHIP_TYPES[(int) getVarint(data, pos)];
+            fleet.add(Placement.decode(type, (int) getVarint(data, pos)));
+        }
+        return fleet;
+    }
+
+    // ========== VARINTS ==========
+    private static int putVarint(byte[] out, int pos, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out[pos++] = (byte) value;
+        return pos;
+    }
+
+    private static long getVarint(byte[] data, int[] pos) {
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            byte b = data[pos[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+            shift += 7;
+        }
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
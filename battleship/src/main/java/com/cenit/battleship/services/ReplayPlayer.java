@@ -0,0 +1,447 @@
+package com.cenit.battleship.services;
+
+import com.cenit.battleship.controller.GameController;
+import com.cenit.battleship.model.Board;
+import com.cenit.battleship.model.Coordinate;
+import com.cenit.battleship.model.GameConfiguration;
+import com.cenit.battleship.model.PlayerProfile;
+import com.cenit.battleship.model.Ship;
+import com.cenit.battleship.model.ShotBatch;
+import com.cenit.battleship.model.Skill;
+import com.cenit.battleship.model.enums.BoardStorageType;
+import com.cenit.battleship.model.enums.ShotResult;
+import com.cenit.battleship.util.GameLog;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Re-simula partidas grabadas (ReplayLog) de forma determinista.
+ *
+ * replay(log) trabaja solo con dos tableros, sin GameController ni interfaz,
+ * para reproducir miles de partidas a toda velocidad. session(log, game)
+ * aplica las jugadas de una en una a través de un GameController, de modo
+ * que la vista (GameViewController) y sus efectos las muestran como en una
+ * partida real. En ambos casos cada resultado se compara con el grabado y la
+ * primera diferencia queda en el Result: así se reproduce un informe de error.
+ */
+public final class ReplayPlayer {
+
+    private static final GameLog.Logger LOG = GameLog.getLogger(ReplayPlayer.class);
+
+    private ReplayPlayer() {
+    }
+
+    // ========== REPETICIÓN SIN INTERFAZ ==========
+    /**
+     * Re-simula una partida completa sobre tableros propios
+     */
+    public static Result replay(ReplayLog log) {
+        if (log == null) {
+            throw new IllegalArgumentException("El registro no puede ser nulo");
+        }
+        long start = System.nanoTime();
+        BoardSimulation simulation = new BoardSimulation(log);
+        log.forEachMove(simulation);
+        simulation.result.elapsedNanos = System.nanoTime() - start;
+        return simulation.result;
+    }
+
+    /**
+     * Re-simula todas las repeticiones (.bsr) de una carpeta
+     *
+     * @return Un resultado por archivo; los ilegibles se registran y se omiten
+     */
+    public static List<Result> replayAll(Path directory) throws IOException {
+        List<Result> results = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + ReplayLog.FILE_EXTENSION)) {
+            for (Path file : files) {
+                try {
+                    results.add(replay(ReplayLog.load(file)));
+                } catch (IOException e) {
+                    LOG.warn(() -> "⚠️ Repetición ilegible: " + e.getMessage());
+                }
+            }
+        }
+        return results;
+    }
+
+    // ========== REPETICIÓN SOBRE UN GAMECONTROLLER ==========
+    /**
+     * Crea una partida con la colocación inicial del registro, lista para
+     * session(). No graba su propia repetición.
+     */
+    public static GameController createGame(ReplayLog log) {
+        if (log == null) {
+            throw new IllegalArgumentException("El registro no puede ser nulo");
+        }
+        GameController game = new GameController(new PlayerProfile("Repetición"), log.getDifficulty());
+        // Reproducir una repetición no graba otra
+        game.setReplayRecording(false);
+
+        Board playerBoard = new Board(log.getBoardSize());
+        Board cpuBoard = new Board(log.getBoardSize());
+        game.setPlayerBoard(playerBoard);
+        game.setPlayerShips(placeFleet(playerBoard, log.getPlayerFleet()));
+        game.setCpuBoard(cpuBoard);
+        game.setCpuShips(placeFleet(cpuBoard, log.getCpuFleet()));
+        game.initializeGame();
+        return game;
+    }
+
+    /**
+     * Repetición paso a paso sobre una partida creada con createGame(log)
+     */
+    public static Session session(ReplayLog log, GameController game) {
+        if (log == null || game == null) {
+            throw new IllegalArgumentException("El registro y la partida son obligatorios");
+        }
+        return new Session(log, game);
+    }
+
+    /**
+     * Cursor de una repetición que avanza jugada a jugada
+     */
+    public static final class Session {
+
+        private final ReplayLog.Reader reader;
+        private final ControllerSimulation simulation;
+
+        private Session(ReplayLog log, GameController game) {
+            this.reader = log.reader();
+            this.simulation = new ControllerSimulation(log, game);
+        }
+
+        /**
+         * Aplica la siguiente jugada
+         *
+         * @return false si ya no quedaban jugadas
+         */
+        public boolean step() {
+            return reader.next(simulation);
+        }
+
+        public boolean hasNext() {
+            return reader.hasNext();
+        }
+
+        /**
+         * Aplica todas las jugadas pendientes
+         */
+        public Result finish() {
+            while (step()) {
+                // Cada paso aplica una jugada
+            }
+            return simulation.result;
+        }
+
+        public Result getResult() {
+            return simulation.result;
+        }
+    }
+
+    // ========== SIMULACIÓN ==========
+    private static List<Ship> placeFleet(Board board, List<ReplayLog.Placement> fleet) {
+        List<Ship> ships = new ArrayList<>(fleet.size());
+        for (ReplayLog.Placement placement : fleet) {
+            Ship ship = new Ship(placement.getType());
+            if (placement.isPlaced()) {
+                List<Coordinate> coordinates = placement.coordinates(board.getSize());
+                ship.setPosition(coordinates);
+                board.placeShip(ship, coordinates);
+            }
+            ships.add(ship);
+        }
+        return ships;
+    }
+
+    /**
+     * Reglas comunes: cada jugada se aplica y su resultado se compara con el
+     * grabado. Las subclases deciden por dónde pasan los disparos
+     */
+    private abstract static class Simulation implements ReplayLog.MoveVisitor {
+
+        final int size;
+        final Coordinate.Table coordinates;
+        final Result result = new Result();
+
+        Simulation(ReplayLog log) {
+            this.size = log.getBoardSize();
+            this.coordinates = Coordinate.tableFor(size);
+        }
+
+        abstract Board board(boolean player);
+
+        abstract List<Ship> fleet(boolean player);
+
+        abstract ShotResult shoot(boolean byPlayer, int target);
+
+        abstract ShotBatch shootAll(boolean byPlayer, int[] targets);
+
+        abstract boolean playerWon();
+
+        abstract boolean cpuWon();
+
+        Coordinate coordinate(int index) {
+            return coordinates.ofIndex(index);
+        }
+
+        void check(int move, ShotResult expected, ShotResult actual) {
+            result.moves++;
+            if (expected != actual) {
+                result.diverge(move, "se grabó " + expected.name() + " y se obtuvo " + actual.name());
+            }
+        }
+
+        @Override
+        public void onShot(int move, boolean byPlayer, int target, ShotResult expected) {
+            check(move, expected, shoot(byPlayer, target));
+        }
+
+        @Override
+        public void onBatch(int move, boolean byPlayer, int[] targets, ShotResult[] expected) {
+            ShotBatch batch = shootAll(byPlayer, targets);
+            result.moves++;
+            for (int i = 0; i < targets.length; i++) {
+                if (batch.getResult(i) != expected[i]) {
+                    result.diverge(move, "ráfaga, disparo " + i + ": se grabó " + expected[i].name()
+                            + " y se obtuvo " + batch.getResult(i).name());
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public void onMissile(int move, boolean byPlayer, int target, ShotResult expected) {
+            // El misil sobre un barco no pasa por las reglas de turno
+            check(move, expected, board(!byPlayer).shootAt(coordinate(target)));
+        }
+
+        @Override
+        public void onSkill(int move, boolean byPlayer, Skill skill, int parameter) {
+            result.moves++;
+        }
+
+        @Override
+        public void onRepair(int move, boolean byPlayer, int target) {
+            result.moves++;
+            Coordinate coord = coordinate(target);
+            Ship ship = board(byPlayer).getShipAt(coord);
+            if (ship == null || !ship.repairAtCoordinate(coord)) {
+                result.diverge(move, "no se pudo reparar " + coord.aNotacion());
+            }
+        }
+
+        @Override
+        public void onCamouflage(int move, boolean byPlayer, int shipIndex, ReplayLog.Placement placement) {
+            result.moves++;
+            List<Ship> fleet = fleet(byPlayer);
+            if (shipIndex >= fleet.size() || !placement.isPlaced()) {
+                result.diverge(move, "camuflaje de un barco inexistente: " + shipIndex);
+                return;
+            }
+            Board board = board(byPlayer);
+            Ship ship = fleet.get(shipIndex);
+            List<Coordinate> coordinates = placement.coordinates(size);
+            board.releaseCells(ship.getCoordinates());
+            try {
+                ship.setPosition(coordinates);
+                board.placeShip(ship, coordinates);
+            } catch (IllegalArgumentException e) {
+                result.diverge(move, "camuflaje imposible: " + e.getMessage());
+            }
+        }
+
+        @Override
+        public void onEnd(int move, boolean playerWon) {
+            result.moves++;
+            result.finished = true;
+            result.playerWon = playerWon;
+            if (playerWon ? !playerWon() : !cpuWon()) {
+                result.diverge(move, "la partida no terminó como se grabó");
+            }
+        }
+
+        @Override
+        public void onRestore(int move, boolean byPlayer, int target) {
+            result.moves++;
+            board(!byPlayer).shootAt(coordinate(target));
+        }
+    }
+
+    /**
+     * Solo tableros: lo más rápido posible
+     */
+    private static final class BoardSimulation extends Simulation {
+
+        private final Board playerBoard;
+        private final Board cpuBoard;
+        private final List<Ship> playerFleet;
+        private final List<Ship> cpuFleet;
+
+        BoardSimulation(ReplayLog log) {
+            super(log);
+            // Sin interfaz no hacen falta objetos Cell: bitsets salvo en mapas gigantes
+            BoardStorageType storageType = size > GameConfiguration.MAX_BOARD_SIZE
+                    ? BoardStorageType.SPARSE : BoardStorageType.BITBOARD;
+            this.playerBoard = new Board(size, storageType);
+            this.cpuBoard = new Board(size, storageType);
+            this.playerFleet = placeFleet(playerBoard, log.getPlayerFleet());
+            this.cpuFleet = placeFleet(cpuBoard, log.getCpuFleet());
+        }
+
+        @Override
+        Board board(boolean player) {
+            return player ? playerBoard : cpuBoard;
+        }
+
+        @Override
+        List<Ship> fleet(boolean player) {
+            return player ? playerFleet : cpuFleet;
+        }
+
+        @Override
+        ShotResult shoot(boolean byPlayer, int target) {
+            return board(!byPlayer).shootAt(coordinate(target));
+        }
+
+        @Override
+        ShotBatch shootAll(boolean byPlayer, int[] targets) {
+            return board(!byPlayer).shootAll(targets);
+        }
+
+        @Override
+        boolean playerWon() {
+            return cpuBoard.allShipsSunk();
+        }
+
+        @Override
+        boolean cpuWon() {
+            return playerBoard.allShipsSunk();
+        }
+    }
+
+    /**
+     * A través de GameController: turnos, puntos y eventos como en una partida
+     */
+    private static final class ControllerSimulation extends Simulation {
+
+        private final GameController game;
+
+        ControllerSimulation(ReplayLog log, GameController game) {
+            super(log);
+            this.game = game;
+        }
+
+        @Override
+        Board board(boolean player) {
+            return player ? game.getPlayerBoard() : game.getCpuBoard();
+        }
+
+        @Override
+        List<Ship> fleet(boolean player) {
+            return player ? game.getPlayerShips() : game.getCpuShips();
+        }
+
+        @Override
+        ShotResult shoot(boolean byPlayer, int target) {
+            // El turno grabado manda (interferencia incluida)
+            game.setJammingActive(false);
+            game.setPlayerTurn(byPlayer);
+            return byPlayer
+                    ? game.processPlayerShot(coordinate(target))
+                    : game.processCPUShot(coordinate(target));
+        }
+
+        @Override
+        ShotBatch shootAll(boolean byPlayer, int[] targets) {
+            return game.processShotBatch(byPlayer, targets);
+        }
+
+        @Override
+        boolean playerWon() {
+            return game.playerWin();
+        }
+
+        @Override
+        boolean cpuWon() {
+            return game.cpuWin();
+        }
+    }
+
+    // ========== RESULTADOS ==========
+    /**
+     * Resultado de una repetición: jugadas aplicadas y primera diferencia
+     * con lo grabado, si la hubo
+     */
+    public static final class Result {
+
+        private int moves;
+        private int divergences;
+        private int firstDivergence = -1;
+        private String divergenceMessage;
+        private boolean finished;
+        private boolean playerWon;
+        private long elapsedNanos;
+
+        private void diverge(int move, String message) {
+            divergences++;
+            if (firstDivergence < 0) {
+                firstDivergence = move;
+                divergenceMessage = "Jugada " + move + ": " + message;
+                LOG.warn(() -> "⚠️ Repetición divergente. " + divergenceMessage);
+            }
+        }
+
+        public int getMoves() {
+            return moves;
+        }
+
+        public boolean isConsistent() {
+            return divergences == 0;
+        }
+
+        public int getDivergences() {
+            return divergences;
+        }
+
+        /**
+         * @return Número de la primera jugada divergente, o -1
+         */
+        public int getFirstDivergence() {
+            return firstDivergence;
+        }
+
+        public String getDivergenceMessage() {
+            return divergenceMessage;
+        }
+
+        /**
+         * @return true si el registro llega hasta el final de la partida
+         */
+        public boolean isFinished() {
+            return finished;
+        }
+
+        public boolean isPlayerWon() {
+            return playerWon;
+        }
+
+        /**
+         * @return Tiempo de re-simulación (solo en replay(log))
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return "Repetición: " + moves + " jugadas, "
+                    + (finished ? (playerWon ? "gana el jugador" : "gana la CPU") : "sin terminar")
+                    + (isConsistent() ? ", sin diferencias" : ", " + divergences + " diferencias. " + divergenceMessage);
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.cenit.battleship.services;
+
+import com.cenit.battleship.controller.GameController;
+import com.cenit.battleship.model.Board;
+import com.cenit.battleship.model.Coordinate;
+import com.cenit.battleship.model.Ship;
+import com.cenit.battleship.model.ShotBatch;
+import com.cenit.battleship.model.Skill;
+import com.cenit.battleship.model.enums.ShipType;
+import com.cenit.battleship.model.enums.ShotResult;
+import com.cenit.battleship.util.GameLog;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Graba la partida de un GameController en un ReplayLog a partir de sus
+ * eventos (EffectListener), sin tocar el flujo de juego.
+ *
+ * La colocación de las flotas se toma al empezar la partida (start()) o, si
+ * nadie la empezó (partida cargada), con el primer evento; los disparos que
+ * ya hubiera entonces se guardan como jugadas de restauración. Al terminar la
+ * partida el registro se guarda solo si hay directorio de repeticiones.
+ */
+public class ReplayRecorder implements GameController.EffectListener {
+
+    private static final GameLog.Logger LOG = GameLog.getLogger(ReplayRecorder.class);
+
+    private final GameController game;
+    private final long seed;
+    private final Path directory;
+    private ReplayLog log;
+    private Path lastSaved;
+
+    /**
+     * @param game Partida a grabar
+     * @param seed Semilla de la partida (se guarda en la cabecera)
+     * @param directory Carpeta donde guardar cada partida terminada (null: no guardar)
+     */
+    public ReplayRecorder(GameController game, long seed, Path directory) {
+        if (game == null) {
+            throw new IllegalArgumentException("La partida no puede ser nula");
+        }
+        this.game = game;
+        this.seed = seed;
+        this.directory = directory;
+    }
+
+    // ========== CICLO DE GRABACIÓN ==========
+    /**
+     * Empieza un registro nuevo con la colocación actual de las flotas
+     */
+    public void start() {
+        log = begin(false, null);
+    }
+
+    /**
+     * Descarta el registro en curso; el siguiente evento empezará otro
+     */
+    public void restart() {
+        log = null;
+    }
+
+    /**
+     * @return Registro en curso, o null si todavía no hubo ninguna jugada
+     */
+    public ReplayLog getLog() {
+        return log;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return Último archivo guardado al terminar una partida, o null
+     */
+    public Path getLastSaved() {
+        return lastSaved;
+    }
+
+    /**
+     * Guarda el registro en curso en la carpeta indicada
+     *
+     * @return Archivo escrito
+     */
+    public Path save(Path targetDirectory) throws IOException {
+        if (log == null) {
+            throw new IllegalStateException("No hay ninguna partida grabada");
+        }
+        String timestamp = new java.text.SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+        Path file = targetDirectory.resolve("replay_" + timestamp + "_"
+                + Long.toHexString(seed) + ReplayLog.FILE_EXTENSION);
+        log.save(file);
+        return file;
+    }
+
+    /**
+     * Registro en curso, empezándolo si hace falta. Las casillas del evento
+     * que lo provoca ya están disparadas y no deben contarse como restauración
+     */
+    private ReplayLog log(boolean byPlayer, int[] pending) {
+        if (log == null) {
+            log = begin(byPlayer, pending);
+        }
+        return log;
+    }
+
+    private ReplayLog begin(boolean byPlayer, int[] pending) {
+        Board playerBoard = game.getPlayerBoard();
+        Board cpuBoard = game.getCpuBoard();
+        int size = playerBoard.getSize();
+        ReplayLog started = new ReplayLog(seed, size, game.getDifficulty(),
+                placements(game.getPlayerShips(), size), placements(game.getCpuShips(), size));
+        // Tablero de la CPU: disparos del jugador; tablero del jugador: de la CPU
+        appendRestores(started, cpuBoard, true, byPlayer ? pending : null);
+        appendRestores(started, playerBoard, false, byPlayer ? null : pending);
+        return started;
+    }
+
+    static List<ReplayLog.Placement> placements(List<Ship> fleet, int size) {
+        List<ReplayLog.Placement> placements = new ArrayList<>(fleet.size());
+        for (Ship ship : fleet) {
+            placements.add(ReplayLog.Placement.of(ship, size));
+        }
+        return placements;
+    }
+
+    private static void appendRestores(ReplayLog log, Board board, boolean byPlayer, int[] pending) {
+        int cells = board.getSize() * board.getSize();
+        for (int index = 0; index < cells; index++) {
+            if (board.hasBeenShot(board.coordinateOf(index))
+                    && !contains(pending, index)) {
+                log.appendRestore(byPlayer, index);
+            }
+        }
+    }
+
+    private static boolean contains(int[] values, int value) {
+        if (values != null) {
+            for (int candidate : values) {
+                if (candidate == value) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private int cpuIndex(Coordinate coord) {
+        return coord != null ? game.getCpuBoard().indexOf(coord) : -1;
+    }
+
+    private int playerIndex(Coordinate coord) {
+        return coord != null ? game.getPlayerBoard().indexOf(coord) : -1;
+    }
+
+    // ========== EVENTOS DE LA PARTIDA ==========
+    @Override
+    public void onShotFired(boolean isPlayer, Coordinate coord, ShotResult result) {
+        int target = isPlayer ? cpuIndex(coord) : playerIndex(coord);
+        log(isPlayer, new int[]{target}).appendShot(isPlayer, target, result);
+    }
+
+    @Override
+    public void onShotsFired(boolean isPlayer, ShotBatch batch) {
+        int[] targets = new int[batch.size()];
+        ShotResult[] results = new ShotResult[batch.size()];
+        for (int i = 0; i < targets.length; i++) {
+            targets[i] = batch.getTarget(i);
+            results[i] = batch.getResult(i);
+        }
+        log(isPlayer, targets).appendBatch(isPlayer, targets, results);
+    }
+
+    @Override
+    public void onGuidedMissile(Coordinate target, ShotResult result) {
+        // Si cayó al agua ya se grabó como disparo normal
+        if (result != null && result.isHit()) {
+            int index = cpuIndex(target);
+            log(true, new int[]{index}).appendMissile(true, index, result);
+        }
+    }
+
+    @Override
+    public void onSonar(Coordinate center, List<Coordinate> revealedArea) {
+        log(true, null).appendSkill(true, Skill.SONAR, cpuIndex(center));
+    }
+
+    @Override
+    public void onRadar(Coordinate detectedCoord, ShipType shipType) {
+        log(true, null).appendSkill(true, Skill.RADAR, cpuIndex(detectedCoord));
+    }
+
+    @Override
+    public void onDrone(boolean isRow, int index) {
+        log(true, null).appendSkill(true, Skill.DRONE, index << 1 | (isRow ? 1 : 0));
+    }
+
+    @Override
+    public void onJamming() {
+        log(true, null).appendSkill(true, Skill.JAMMING, 0);
+    }
+
+    @Override
+    public void onCPUSkill(Skill skill, Coordinate target) {
+        log(false, null).appendSkill(false, skill, target != null ? playerIndex(target) : 0);
+    }
+
+    @Override
+    public void onRepair(Coordinate position, Ship ship) {
+        log(true, null).appendRepair(true, playerIndex(position));
+    }
+
+    @Override
+    public void onCamouflage(Ship ship, Coordinate newPosition) {
+        ReplayLog current = log(true, null);
+        int index = game.getPlayerShips().indexOf(ship);
+        if (index >= 0) {
+            current.appendCamouflage(true, index,
+                    ReplayLog.Placement.of(ship, game.getPlayerBoard().getSize()));
+        }
+    }
+
+    @Override
+    public void onGameEnded(boolean playerWon) {
+        log(playerWon, null).appendEnd(playerWon);
+        if (directory == null) {
+            return;
+        }
+        try {
+            lastSaved = save(directory);
+            LOG.info(() -> "🎬 Repetición guardada: " + lastSaved + " (" + log.getMoveCount()
+                    + " jugadas, " + log.getMovesSize() + " bytes)");
+        } catch (IOException e) {
+            LOG.warn(() -> "⚠️ No se pudo guardar la repetición: " + e.getMessage());
+        }
+    }
+}
@@ -193,14 +193,15 @@ public class StorageService {
 
     // ========== MÉTODOS AUXILIARES DE SERIALIZACIÓN ==========
     private BoardState serializeBoard(Board board) {
+        // Instantánea inmutable: se reutiliza si el tablero no cambió desde el último guardado
+        BoardSnapshot snapshot = board.snapshot();
         BoardState state = new BoardState();
-        state.setSize(state.getSize());
+        state.setSize(snapshot.getSize());
 
         CellState[][] cellStates = new CellState[state.getSize()][state.getSize()];
         for (int i = 0; i < state.getSize(); i++) {
             for (int j = 0; j < state.getSize(); j++) {
-                // Necesitas un método getCellState en Board o Cell
-                 cellStates[i][j] = board.getCell(i, j).getState();
+                cellStates[i][j] = snapshot.getCellState(i, j);
             }
         }
         state.setCellStates(cellStates);
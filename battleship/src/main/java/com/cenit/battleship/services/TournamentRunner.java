@@ -0,0 +1,644 @@
+package com.cenit.battleship.services;
+
+import com.cenit.battleship.model.Board;
+import com.cenit.battleship.model.CPU;
+import com.cenit.battleship.model.Coordinate;
+import com.cenit.battleship.model.Ship;
+import com.cenit.battleship.model.ShotContext;
+import com.cenit.battleship.model.Skill;
+import com.cenit.battleship.model.SkillPlanner;
+import com.cenit.battleship.model.SkillSystem;
+import com.cenit.battleship.model.enums.BoardStorageType;
+import com.cenit.battleship.model.enums.Difficulty;
+import com.cenit.battleship.model.enums.FleetConfiguration;
+import com.cenit.battleship.model.enums.ShipType;
+import com.cenit.battleship.model.enums.ShotResult;
+import com.cenit.battleship.util.GameLog;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Torneo CPU contra CPU sin interfaz, para pruebas de regresión de la IA y
+ * ajuste de parámetros.
+ *
+ * Las partidas se reparten en un ForkJoinPool (robo de trabajo) con un hilo
+ * por núcleo. Cada hilo reutiliza su propia pareja de CPUs (tableros y
+ * estrategias con sus tablas) de una partida a la siguiente, y acumula sus resultados sin sincronización; se combinan al
+ * final. Las reglas son las de GameController: quien acierta repite turno y,
+ * al empezar cada turno, la CPU puede usar una habilidad (SkillPlanner).
+ * El bando que empieza se alterna para no favorecer a ninguno.
+ *
+ * Los tableros usan BoardStorageType.BITBOARD por defecto: sin interfaz no
+ * hacen falta objetos Cell, y disparos e impactos quedan en bitsets.
+ *
+ * Con una carpeta de repeticiones (setReplayDirectory) cada partida se graba
+ * en un ReplayLog, con el bando A como jugador y el B como CPU, y se puede
+ * ver o re-simular con ReplayPlayer.
+ */
+public final class TournamentRunner {
+
+    private static final GameLog.Logger LOG = GameLog.getLogger(TournamentRunner.class);
+
+    // Partidas por tarea hoja del pool
+    private static final int GAMES_PER_TASK = 2;
+    // Separa la semilla del bando B de la del A en las partidas grabadas
+    private static final long SEED_MIX = 0x9E3779B97F4A7C15L;
+
+    private final Side sideA;
+    private final Side sideB;
+    private final int threads;
+    private Path replayDirectory;
+    private BoardStorageType storageType = BoardStorageType.BITBOARD;
+
+    public TournamentRunner(Side sideA, Side sideB) {
+        this(sideA, sideB, Runtime.getRuntime().availableProcessors());
+    }
+
+    public TournamentRunner(Side sideA, Side sideB, int threads) {
+        if (sideA == null || sideB == null) {
+            throw new IllegalArgumentException("Los dos bandos son obligatorios");
+        }
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Número de hilos inválido: " + threads);
+        }
+        this.sideA = sideA;
+        this.sideB = sideB;
+        this.threads = threads;
+    }
+
+    public Side getSideA() {
+        return sideA;
+    }
+
+    public Side getSideB() {
+        return sideB;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public Path getReplayDirectory() {
+        return replayDirectory;
+    }
+
+    /**
+     * Graba cada partida del torneo en la carpeta indicada
+     *
+     * @param directory Carpeta de repeticiones (null: no grabar)
+     */
+    public void setReplayDirectory(Path directory) {
+        this.replayDirectory = directory;
+    }
+
+    public BoardStorageType getStorageType() {
+        return storageType;
+    }
+
+    /**
+     * Cambia el motor de almacenamiento de los tableros del torneo
+     *
+     * @param storageType Motor de almacenamiento de las casillas
+     */
+    public void setStorageType(BoardStorageType storageType) {
+        if (storageType == null) {
+            throw new IllegalArgumentException("El tipo de almacenamiento no puede ser nulo");
+        }
+        this.storageType = storageType;
+    }
+
+    // ========== EJECUCIÓN ==========
+    /**
+     * Juega el número de partidas indicado
+     *
+     * @param games Partidas a jugar
+     * @return Resultados combinados de todos los hilos
+     */
+    public Result run(int games) {
+        if (games <= 0) {
+            throw new IllegalArgumentException("Número de partidas inválido: " + games);
+        }
+        Queue<Match> matches = new ConcurrentLinkedQueue<>();
+        Path replays = replayDirectory;
+        BoardStorageType storage = storageType;
+        ThreadLocal<Match> local = ThreadLocal.withInitial(() -> {
+            Match match = new Match(sideA, sideB, replays, storage);
+            matches.add(match);
+            return match;
+        });
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        long start = System.nanoTime();
+        try {
+            pool.invoke(new GamesTask(local, 0, games));
+        } finally {
+            pool.shutdown();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Result result = new Result(sideA, sideB, threads, storage, elapsed);
+        for (Match match : matches) {
+            result.merge(match.stats);
+        }
+        LOG.info(() -> "🏁 Torneo terminado: " + result.getGames() + " partidas");
+        return result;
+    }
+
+    private static final class GamesTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final ThreadLocal<Match> matches;
+        private final int from;
+        private final int to;
+
+        GamesTask(ThreadLocal<Match> matches, int from, int to) {
+            this.matches = matches;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                Match match = matches.get();
+                for (int game = from; game < to; game++) {
+                    match.play(game, game % 2 == 0);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new GamesTask(matches, from, middle), new GamesTask(matches, middle, to));
+        }
+    }
+
+    // ========== PARTIDA ==========
+    /**
+     * Pareja de CPUs de un hilo, reutilizada en todas sus partidas
+     */
+    private static final class Match {
+
+        private final CPU cpuA;
+        private final CPU cpuB;
+        private final List<ShipType> fleetA;
+        private final List<ShipType> fleetB;
+        private final Difficulty difficultyA;
+        private final Difficulty difficultyB;
+        private final Path replayDirectory;
+        private final Random seeds = new Random();
+        private final Stats stats;
+        // Habilidades de cada bando, como las de la CPU en GameController
+        private final SkillSystem skillsA = new SkillSystem(false);
+        private final SkillSystem skillsB = new SkillSystem(false);
+        private final SkillPlanner planner = new SkillPlanner();
+        private final Random skillRandom = new Random();
+
+        Match(Side sideA, Side sideB, Path replayDirectory, BoardStorageType storageType) {
+            this.cpuA = new CPU(sideA.getDifficulty(), new Board(Board.BOARD_SIZE, storageType));
+            this.cpuB = new CPU(sideB.getDifficulty(), new Board(Board.BOARD_SIZE, storageType));
+            this.fleetA = sideA.getFleet();
+            this.fleetB = sideB.getFleet();
+            this.difficultyA = sideA.getDifficulty();
+            this.difficultyB = sideB.getDifficulty();
+            this.replayDirectory = replayDirectory;
+            int cells = cpuA.getBoard().getSize() * cpuA.getBoard().getSize();
+            this.stats = new Stats(cells);
+        }
+
+        void play(int game, boolean aStarts) {
+            long seed = seeds.nextLong();
+            if (replayDirectory != null) {
+                // La semilla fija la colocación y el azar de cada CPU, pero en
+                // EXPERT y MASTER el muestreo tiene tiempo por jugada y el número
+                // de muestras varía entre ejecuciones: lo que reproduce la
+                // partida es la grabación de jugadas, no la semilla
+                cpuA.setSeed(seed);
+                cpuB.setSeed(seed ^ SEED_MIX);
+            }
+            cpuA.resetFleet(fleetA);
+            cpuB.resetFleet(fleetB);
+            cpuA.placeShipsRandomly();
+            cpuB.placeShipsRandomly();
+            // La puntería va ligada a la flota rival, que es nueva en cada partida
+            cpuA.resetTargeting();
+            cpuB.resetTargeting();
+            skillsA.setupForCPU(difficultyA);
+            skillsB.setupForCPU(difficultyB);
+            skillRandom.setSeed(seed);
+            ReplayLog log = replayDirectory != null ? startReplay(seed) : null;
+
+            CPU shooter = aStarts ? cpuA : cpuB;
+            CPU target = aStarts ? cpuB : cpuA;
+            int shotsA = 0;
+            int shotsB = 0;
+            // Interferencia: el bando no cede el turno en su próximo fallo
+            boolean extraTurnA = false;
+            boolean extraTurnB = false;
+            // Cada bando tiene como mucho una casilla por disparo
+            int limit = 2 * stats.cells;
+            for (int turn = 0; turn < limit; turn++) {
+                boolean byA = shooter == cpuA;
+                SkillSystem skills = byA ? skillsA : skillsB;
+
+                // Como en GameController.useCPUSkill: la habilidad, antes del disparo
+                Skill skill = useSkill(shooter, target, skills, byA, log);
+                if (skill == Skill.JAMMING) {
+                    if (byA) {
+                        extraTurnA = true;
+                    } else {
+                        extraTurnB = true;
+                    }
+                }
+                if (skill == Skill.CLUSTER_BOMB) {
+                    // La ráfaga cuenta como una acción
+                    if (byA) {
+                        shotsA++;
+                    } else {
+                        shotsB++;
+                    }
+                }
+
+                if (!target.hasLost()) {
+                    Coordinate shot = shooter.chooseShotTarget(target.getBoard(), target.getShips());
+                    ShotResult result = shooter.shootAt(target, shot);
+                    shooter.updateAfterShot(shot, result);
+                    earnPoints(skills, result);
+                    if (log != null) {
+                        log.appendShot(byA, target.getBoard().indexOf(shot), result);
+                    }
+                    if (byA) {
+                        shotsA++;
+                    } else {
+                        shotsB++;
+                    }
+                    if (!result.isHit() && !target.hasLost()) {
+                        if (byA && extraTurnA) {
+                            extraTurnA = false;
+                            continue;
+                        }
+                        if (!byA && extraTurnB) {
+                            extraTurnB = false;
+                            continue;
+                        }
+                        CPU next = target;
+                        target = shooter;
+                        shooter = next;
+                        continue;
+                    }
+                }
+                if (target.hasLost()) {
+                    stats.recordWin(byA, byA ? shotsA : shotsB);
+                    if (log != null) {
+                        log.appendEnd(byA);
+                        saveReplay(log, game);
+                    }
+                    return;
+                }
+            }
+            // Flota imposible de colocar o estrategia atascada
+            stats.unfinished++;
+        }
+
+        /**
+         * Deja que el bando que dispara use la habilidad que elija el
+         * planificador (las mismas que SkillController para la CPU)
+         *
+         * @return Habilidad usada, o null si no usó ninguna
+         */
+        private Skill useSkill(CPU shooter, CPU target, SkillSystem skills, boolean byA, ReplayLog log) {
+            Board board = target.getBoard();
+            ShotContext context = shooter.getTargeting(board, target.getShips());
+            SkillPlanner.Plan plan = planner.plan(context, skills, shooter.getShotStrategy());
+            if (plan == null) {
+                return null;
+            }
+            Skill skill = plan.getSkill();
+            int parameter = 0;
+            switch (skill) {
+                case SONAR:
+                    if (!plan.hasTarget()) {
+                        return null;
+                    }
+                    parameter = plan.getTarget();
+                    board.forEachInStencil(parameter, Board.STENCIL_BLOCK, index -> {
+                        Coordinate coord = board.coordinateOf(index);
+                        if (board.hasBeenShot(coord)) {
+                            return;
+                        }
+                        if (board.getShipAt(coord) != null) {
+                            context.revealShip(index);
+                        } else {
+                            context.revealWater(index);
+                        }
+                    });
+                    break;
+                case RADAR:
+                    List<Coordinate> intact = new ArrayList<>();
+                    for (Ship ship : target.getShips()) {
+                        if (!ship.isSunk()) {
+                            intact.addAll(ship.getIntactCoordinates());
+                        }
+                    }
+                    if (intact.isEmpty()) {
+                        return null;
+                    }
+                    parameter = board.indexOf(intact.get(skillRandom.nextInt(intact.size())));
+                    context.revealShip(parameter);
+                    break;
+                case JAMMING:
+                    break;
+                case CLUSTER_BOMB:
+                    if (!plan.hasTarget()) {
+                        return null;
+                    }
+                    fireCluster(shooter, target, skills, plan.getTarget(), byA, log);
+                    break;
+                default:
+                    return null;
+            }
+            skills.useSkill(skill);
+            if (log != null && skill != Skill.CLUSTER_BOMB) {
+                log.appendSkill(byA, skill, parameter);
+            }
+            return skill;
+        }
+
+        /**
+         * Bomba de racimo: la cruz alrededor del centro, como una ráfaga
+         */
+        private void fireCluster(CPU shooter, CPU target, SkillSystem skills, int center, boolean byA, ReplayLog log) {
+            Board board = target.getBoard();
+            int[] targets = new int[5];
+            ShotResult[] results = new ShotResult[5];
+            int[] count = {0};
+            board.forEachInStencil(center, Board.STENCIL_CROSS | Board.STENCIL_CENTER, index -> {
+                Coordinate coord = board.coordinateOf(index);
+                if (board.hasBeenShot(coord)) {
+                    return;
+                }
+                ShotResult result = shooter.shootAt(target, coord);
+                shooter.updateAfterShot(coord, result);
+                earnPoints(skills, result);
+                targets[count[0]] = index;
+                results[count[0]++] = result;
+            });
+            if (log != null && count[0] > 0) {
+                log.appendBatch(byA, Arrays.copyOf(targets, count[0]), Arrays.copyOf(results, count[0]));
+            }
+        }
+
+        private static void earnPoints(SkillSystem skills, ShotResult result) {
+            if (result.isHit()) {
+                skills.earnHitPoints();
+                if (result.isSunk()) {
+                    skills.earnSinkingPoints();
+                }
+            }
+        }
+
+        /**
+         * Registro de la partida: el bando A hace de jugador y el B de CPU
+         */
+        private ReplayLog startReplay(long seed) {
+            int size = cpuA.getBoard().getSize();
+            return new ReplayLog(seed, size, difficultyB,
+                    ReplayRecorder.placements(cpuA.getShips(), size),
+                    ReplayRecorder.placements(cpuB.getShips(), size));
+        }
+
+        private void saveReplay(ReplayLog log, int game) {
+            Path file = replayDirectory.resolve(String.format("tournament_%06d_%s%s",
+                    game, Long.toHexString(log.getSeed()), ReplayLog.FILE_EXTENSION));
+            try {
+                log.save(file);
+            } catch (IOException e) {
+                LOG.warn(() -> "⚠️ No se pudo guardar la repetición " + file + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Victorias y disparos necesarios para ganar, en histogramas por bando
+     * (los percentiles salen exactos sin guardar cada partida)
+     */
+    private static final class Stats {
+
+        private final int cells;
+        private final long[] shotsToWinA;
+        private final long[] shotsToWinB;
+        private int unfinished;
+
+        Stats(int cells) {
+            this.cells = cells;
+            this.shotsToWinA = new long[cells + 1];
+            this.shotsToWinB = new long[cells + 1];
+        }
+
+        void recordWin(boolean sideA, int shots) {
+            long[] histogram = sideA ? shotsToWinA : shotsToWinB;
+            histogram[Math.min(shots, cells)]++;
+        }
+    }
+
+    // ========== BANDOS ==========
+    /**
+     * Dificultad y flota de un bando
+     */
+    public static final class Side {
+
+        private final String label;
+        private final Difficulty difficulty;
+        private final List<ShipType> fleet;
+
+        /**
+         * @param label Nombre para el informe (null: el de la dificultad)
+         * @param difficulty Dificultad de la CPU
+         * @param fleet Tipos de barco de su flota
+         */
+        public Side(String label, Difficulty difficulty, List<ShipType> fleet) {
+            if (difficulty == null || fleet == null || fleet.isEmpty()) {
+                throw new IllegalArgumentException("Un bando necesita dificultad y flota");
+            }
+            this.label = label != null ? label : difficulty.name();
+            this.difficulty = difficulty;
+            this.fleet = Collections.unmodifiableList(new ArrayList<>(fleet));
+        }
+
+        public Side(String label, Difficulty difficulty, FleetConfiguration fleet) {
+            this(label, difficulty, fleetTypes(fleet));
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public Difficulty getDifficulty() {
+            return difficulty;
+        }
+
+        public List<ShipType> getFleet() {
+            return fleet;
+        }
+
+        private static List<ShipType> fleetTypes(FleetConfiguration configuration) {
+            if (configuration == null) {
+                throw new IllegalArgumentException("La configuración de flota es obligatoria");
+            }
+            List<ShipType> types = new ArrayList<>();
+            for (Ship ship : configuration.getShips()) {
+                types.add(ship.getType());
+            }
+            return types;
+        }
+    }
+
+    // ========== RESULTADOS ==========
+    /**
+     * Resultados combinados de un torneo
+     */
+    public static final class Result {
+
+        private final Side sideA;
+        private final Side sideB;
+        private final int threads;
+        private final BoardStorageType storageType;
+        private final long elapsedNanos;
+        private long[] shotsToWinA = new long[0];
+        private long[] shotsToWinB = new long[0];
+        private int unfinished;
+
+        private Result(Side sideA, Side sideB, int threads, BoardStorageType storageType, long elapsedNanos) {
+            this.sideA = sideA;
+            this.sideB = sideB;
+            this.threads = threads;
+            this.storageType = storageType;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        private void merge(Stats stats) {
+            shotsToWinA = add(shotsToWinA, stats.shotsToWinA);
+            shotsToWinB = add(shotsToWinB, stats.shotsToWinB);
+            unfinished += stats.unfinished;
+        }
+
+        private static long[] add(long[] total, long[] part) {
+            long[] sum = total.length >= part.length ? total : Arrays.copyOf(total, part.length);
+            for (int i = 0; i < part.length; i++) {
+                sum[i] += part[i];
+            }
+            return sum;
+        }
+
+        public long getWins(boolean sideA) {
+            long wins = 0;
+            for (long count : histogram(sideA)) {
+                wins += count;
+            }
+            return wins;
+        }
+
+        public long getUnfinished() {
+            return unfinished;
+        }
+
+        public long getGames() {
+            return getWins(true) + getWins(false) + unfinished;
+        }
+
+        public double getWinRate(boolean sideA) {
+            long games = getGames();
+            return games == 0 ? 0.0 : (double) getWins(sideA) / games;
+        }
+
+        /**
+         * @return Media de disparos del bando en las partidas que ganó (0 si no ganó ninguna)
+         */
+        public double getMeanShotsToWin(boolean sideA) {
+            long[] histogram = histogram(sideA);
+            long wins = 0;
+            long shots = 0;
+            for (int i = 0; i < histogram.length; i++) {
+                wins += histogram[i];
+                shots += i * histogram[i];
+            }
+            return wins == 0 ? 0.0 : (double) shots / wins;
+        }
+
+        /**
+         * @param percentile Percentil entre 0 y 100
+         * @return Disparos para ganar en ese percentil (0 si no ganó ninguna)
+         */
+        public int getShotsToWinPercentile(boolean sideA, double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("Percentil fuera de rango: " + percentile);
+            }
+            long[] histogram = histogram(sideA);
+            long wins = getWins(sideA);
+            if (wins == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * wins));
+            long seen = 0;
+            for (int i = 0; i < histogram.length; i++) {
+                seen += histogram[i];
+                if (seen >= rank) {
+                    return i;
+                }
+            }
+            return histogram.length - 1;
+        }
+
+        public BoardStorageType getStorageType() {
+            return storageType;
+        }
+
+        public double getElapsedSeconds() {
+            return elapsedNanos / 1e9;
+        }
+
+        public double getGamesPerSecond() {
+            return elapsedNanos == 0 ? 0.0 : getGames() / getElapsedSeconds();
+        }
+
+        private long[] histogram(boolean sideA) {
+            return sideA ? shotsToWinA : shotsToWinB;
+        }
+
+        /**
+         * Informe de texto para la línea de comandos
+         */
+        public String format() {
+            StringBuilder report = new StringBuilder();
+            report.append(String.format("🏆 %s vs %s: %d partidas en %.1f s (%.1f partidas/s, %d hilos, tablero %s)%n",
+                    sideA.getLabel(), sideB.getLabel(), getGames(), getElapsedSeconds(),
+                    getGamesPerSecond(), threads, storageType.getDisplayName()));
+            appendSide(report, sideA, true);
+            appendSide(report, sideB, false);
+            if (unfinished > 0) {
+                report.append(String.format("   ⚠️ Sin terminar: %d%n", unfinished));
+            }
+            return report.toString();
+        }
+
+        private void appendSide(StringBuilder report, Side side, boolean isA) {
+            report.append(String.format("   %-12s victorias %5.1f%% | disparos para ganar: media %.1f, p50 %d, p90 %d, p99 %d%n",
+                    side.getLabel(), getWinRate(isA) * 100, getMeanShotsToWin(isA),
+                    getShotsToWinPercentile(isA, 50), getShotsToWinPercentile(isA, 90),
+                    getShotsToWinPercentile(isA, 99)));
+        }
+
+        @Override
+        public String toString() {
+            return format();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.cenit.battleship.util;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Destino asíncrono: los hilos del juego solo encolan el evento en un búfer
+ * circular acotado y un hilo de fondo lo entrega a los destinos reales.
+ *
+ * Si el búfer está lleno el evento se descarta (y se cuenta) en lugar de
+ * bloquear al juego. Un destino que falla no detiene la entrega a los demás
+ * ni al hilo de fondo.
+ */
+public class AsyncLogSink implements LogSink {
+
+    private final BlockingQueue<LogEvent> buffer;
+    private final List<LogSink> targets;
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong pending = new AtomicLong();
+    // flush() espera aquí a que pending llegue a cero
+    private final Object drained = new Object();
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    public AsyncLogSink(int capacity, List<LogSink> targets) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("La capacidad del búfer debe ser positiva: " + capacity);
+        }
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.targets = new CopyOnWriteArrayList<>(targets);
+        this.worker = new Thread(this::drainLoop, "battleship-log");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    private void drainLoop() {
+        while (running || !buffer.isEmpty()) {
+            try {
+                LogEvent event = buffer.poll(100, TimeUnit.MILLISECONDS);
+                if (event != null) {
+                    deliver(event);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        LogEvent event;
+        while ((event = buffer.poll()) != null) {
+            deliver(event);
+        }
+    }
+
+    private void deliver(LogEvent event) {
+        for (LogSink target : targets) {
+            try {
+                target.write(event);
+            } catch (RuntimeException e) {
+                System.err.println("❌ Error en el destino de registro " + target.getClass().getSimpleName()
+                        + ": " + e.getMessage());
+            }
+        }
+        release();
+    }
+
+    private void release() {
+        if (pending.decrementAndGet() == 0) {
+            synchronized (drained) {
+                drained.notifyAll();
+            }
+        }
+    }
+
+    @Override
+    public void write(LogEvent event) {
+        pending.incrementAndGet();
+        if (!buffer.offer(event)) {
+            dropped.incrementAndGet();
+            release();
+        }
+    }
+
+    /**
+     * Número de eventos descartados por búfer lleno
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public List<LogSink> getTargets() {
+        return List.copyOf(targets);
+    }
+
+    /**
+     * Espera (como máximo un segundo) a que se entreguen los eventos
+     * encolados y vuelca los destinos
+     */
+    @Override
+    public void flush() {
+        long deadline = System.currentTimeMillis() + 1000;
+        synchronized (drained) {
+            long remaining;
+            while (pending.get() > 0 && worker.isAlive()
+                    && (remaining = deadline - System.currentTimeMillis()) > 0) {
+                try {
+                    drained.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        for (LogSink target : targets) {
+            target.flush();
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        try {
+            worker.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (LogSink target : targets) {
+            target.close();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.cenit.battleship.util;
+
+/**
+ * Destino por consola: mantiene la salida clásica del juego (solo el mensaje),
+ * con advertencias y errores en System.err
+ */
+public class ConsoleLogSink implements LogSink {
+
+    @Override
+    public void write(LogEvent event) {
+        if (event.level().ordinal() >= LogLevel.WARN.ordinal()) {
+            System.err.println(event.message());
+            if (event.error() != null) {
+                event.error().printStackTrace();
+            }
+        } else {
+            System.out.println(event.message());
+        }
+    }
+
+    @Override
+    public void flush() {
+        System.out.flush();
+        System.err.flush();
+    }
+}
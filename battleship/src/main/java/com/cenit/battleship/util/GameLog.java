@@ -0,0 +1,231 @@
+package com.cenit.battleship.util;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Registro de eventos del juego con niveles y destinos configurables.
+ *
+ * Sustituye a los System.out/err dispersos por el modelo y los
+ * controladores. Cada clase obtiene su Logger con getLogger(); los métodos
+ * que reciben un Supplier solo construyen el mensaje si el nivel está
+ * activo, así que con el registro desactivado (LogLevel.OFF) las
+ * simulaciones no pagan ni la concatenación de cadenas ni la E/S.
+ *
+ * Configuración inicial por propiedades del sistema:
+ * battleship.log.level (DEBUG, INFO, WARN, ERROR, OFF; por defecto INFO),
+ * battleship.log.file (directorio para el archivo rotativo "battleship.log")
+ * y battleship.log.async (true para entregar los eventos en segundo plano).
+ */
+public final class GameLog {
+
+    public static final int DEFAULT_ASYNC_CAPACITY = 8192;
+    public static final long DEFAULT_FILE_MAX_BYTES = 5L * 1024 * 1024;
+    public static final int DEFAULT_FILE_MAX_FILES = 3;
+
+    private static volatile LogLevel level;
+    private static volatile List<LogSink> sinks;
+    private static volatile AsyncLogSink asyncSink;
+
+    static {
+        level = LogLevel.fromString(System.getProperty("battleship.log.level"), LogLevel.INFO);
+        sinks = List.of(new ConsoleLogSink());
+
+        String logDirectory = System.getProperty("battleship.log.file");
+        if (logDirectory != null && !logDirectory.isBlank()) {
+            addSink(new RotatingFileLogSink(Path.of(logDirectory), "battleship",
+                    DEFAULT_FILE_MAX_BYTES, DEFAULT_FILE_MAX_FILES));
+        }
+        if (Boolean.getBoolean("battleship.log.async")) {
+            enableAsync(DEFAULT_ASYNC_CAPACITY);
+        }
+        // Al salir (ventana cerrada, fin del torneo, System.exit) se entrega lo
+        // encolado y se cierran los archivos
+        Runtime.getRuntime().addShutdownHook(new Thread(GameLog::shutdown, "battleship-log-shutdown"));
+    }
+
+    private GameLog() {
+    }
+
+    // ========== CONFIGURACIÓN ==========
+    public static Logger getLogger(Class<?> owner) {
+        return new Logger(owner.getSimpleName());
+    }
+
+    public static LogLevel getLevel() {
+        return level;
+    }
+
+    public static void setLevel(LogLevel newLevel) {
+        if (newLevel == null) {
+            throw new IllegalArgumentException("El nivel de registro no puede ser nulo");
+        }
+        level = newLevel;
+    }
+
+    public static boolean isEnabled(LogLevel eventLevel) {
+        return eventLevel.isEnabledAt(level);
+    }
+
+    /**
+     * Reemplaza los destinos del registro
+     */
+    public static synchronized void setSinks(List<LogSink> newSinks) {
+        List<LogSink> old = sinks;
+        sinks = List.copyOf(newSinks);
+        for (LogSink sink : old) {
+            if (!sinks.contains(sink)) {
+                sink.close();
+            }
+        }
+    }
+
+    public static synchronized void addSink(LogSink sink) {
+        List<LogSink> updated = new ArrayList<>(sinks);
+        updated.add(sink);
+        sinks = List.copyOf(updated);
+    }
+
+    /**
+     * Agrega un archivo rotativo "battleship.log" en el directorio indicado
+     */
+    public static void enableFileOutput(Path directory) {
+        addSink(new RotatingFileLogSink(directory, "battleship", DEFAULT_FILE_MAX_BYTES, DEFAULT_FILE_MAX_FILES));
+    }
+
+    /**
+     * Envuelve los destinos actuales en un búfer circular asíncrono, de modo
+     * que registrar un evento solo cuesta encolarlo
+     *
+     * @param capacity Capacidad del búfer (eventos)
+     */
+    public static synchronized void enableAsync(int capacity) {
+        if (asyncSink != null) {
+            return;
+        }
+        asyncSink = new AsyncLogSink(capacity, sinks);
+        sinks = List.of(asyncSink);
+    }
+
+    /**
+     * Vuelve a la entrega síncrona, vaciando antes el búfer
+     */
+    public static synchronized void disableAsync() {
+        if (asyncSink == null) {
+            return;
+        }
+        AsyncLogSink current = asyncSink;
+        asyncSink = null;
+        current.flush();
+        sinks = current.getTargets();
+    }
+
+    /**
+     * Eventos descartados por el búfer asíncrono lleno
+     */
+    public static long getDroppedCount() {
+        AsyncLogSink current = asyncSink;
+        return current != null ? current.getDroppedCount() : 0;
+    }
+
+    public static void flush() {
+        for (LogSink sink : sinks) {
+            sink.flush();
+        }
+    }
+
+    /**
+     * Entrega lo pendiente y cierra los destinos; el registro sigue
+     * funcionando solo por consola
+     */
+    public static synchronized void shutdown() {
+        for (LogSink sink : sinks) {
+            sink.close();
+        }
+        asyncSink = null;
+        sinks = List.of(new ConsoleLogSink());
+    }
+
+    // ========== REGISTRO ==========
+    static void log(LogLevel eventLevel, String category, String message, Throwable error) {
+        LogEvent event = new LogEvent(System.currentTimeMillis(), eventLevel, category,
+                Thread.currentThread().getName(), message, error);
+        for (LogSink sink : sinks) {
+            sink.write(event);
+        }
+    }
+
+    /**
+     * Registrador asociado a una categoría (normalmente una clase)
+     */
+    public static final class Logger {
+
+        private final String category;
+
+        private Logger(String category) {
+            this.category = category;
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        public boolean isDebugEnabled() {
+            return isEnabled(LogLevel.DEBUG);
+        }
+
+        public boolean isInfoEnabled() {
+            return isEnabled(LogLevel.INFO);
+        }
+
+        private void emit(LogLevel eventLevel, String message, Throwable error) {
+            if (isEnabled(eventLevel)) {
+                log(eventLevel, category, message, error);
+            }
+        }
+
+        private void emit(LogLevel eventLevel, Supplier<String> message) {
+            if (isEnabled(eventLevel)) {
+                log(eventLevel, category, message.get(), null);
+            }
+        }
+
+        public void debug(String message) {
+            emit(LogLevel.DEBUG, message, null);
+        }
+
+        public void debug(Supplier<String> message) {
+            emit(LogLevel.DEBUG, message);
+        }
+
+        public void info(String message) {
+            emit(LogLevel.INFO, message, null);
+        }
+
+        public void info(Supplier<String> message) {
+            emit(LogLevel.INFO, message);
+        }
+
+        public void warn(String message) {
+            emit(LogLevel.WARN, message, null);
+        }
+
+        public void warn(Supplier<String> message) {
+            emit(LogLevel.WARN, message);
+        }
+
+        public void error(String message) {
+            emit(LogLevel.ERROR, message, null);
+        }
+
+        public void error(Supplier<String> message) {
+            emit(LogLevel.ERROR, message);
+        }
+
+        public void error(String message, Throwable error) {
+            emit(LogLevel.ERROR, message, error);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.cenit.battleship.util;
+
+/**
+ * Evento estructurado del registro del juego
+ *
+ * @param timestamp Momento del evento (milisegundos desde epoch)
+ * @param level Nivel del evento
+ * @param category Origen (normalmente el nombre simple de la clase)
+ * @param thread Hilo que generó el evento
+ * @param message Mensaje ya formateado
+ * @param error Excepción asociada, o null
+ */
+public record LogEvent(long timestamp, LogLevel level, String category, String thread,
+        String message, Throwable error) {
+}
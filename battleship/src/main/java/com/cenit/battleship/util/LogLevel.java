@@ -0,0 +1,45 @@
+package com.cenit.battleship.util;
+
+/**
+ * Niveles del registro de eventos del juego, de más a menos detallado
+ */
+public enum LogLevel {
+    DEBUG("Depuración", "Trazas internas (coordenadas calculadas, estados intermedios)"),
+    INFO("Información", "Acciones normales del juego"),
+    WARN("Advertencia", "Situaciones inesperadas recuperables"),
+    ERROR("Error", "Fallos de una operación"),
+    OFF("Desactivado", "No se registra nada (simulaciones masivas)");
+
+    private final String displayName;
+    private final String description;
+
+    LogLevel(String displayName, String description) {
+        this.displayName = displayName;
+        this.description = description;
+    }
+
+    public String getDisplayName() { return displayName; }
+    public String getDescription() { return description; }
+
+    /**
+     * Verifica si un evento de este nivel debe registrarse con el umbral dado
+     */
+    public boolean isEnabledAt(LogLevel threshold) {
+        return this != OFF && ordinal() >= threshold.ordinal();
+    }
+
+    /**
+     * Convierte un texto (p. ej. una propiedad del sistema) en nivel
+     * @return El nivel, o el valor por defecto si el texto no es válido
+     */
+    public static LogLevel fromString(String value, LogLevel defaultLevel) {
+        if (value == null || value.isBlank()) {
+            return defaultLevel;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return defaultLevel;
+        }
+    }
+}
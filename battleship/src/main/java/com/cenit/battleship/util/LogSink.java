@@ -0,0 +1,25 @@
+package com.cenit.battleship.util;
+
+/**
+ * Destino de los eventos del registro (consola, archivo, búfer asíncrono...)
+ */
+public interface LogSink {
+
+    /**
+     * Escribe un evento. Las implementaciones no deben lanzar excepciones.
+     */
+    void write(LogEvent event);
+
+    /**
+     * Vuelca los eventos pendientes
+     */
+    default void flush() {
+    }
+
+    /**
+     * Libera los recursos del destino
+     */
+    default void close() {
+        flush();
+    }
+}
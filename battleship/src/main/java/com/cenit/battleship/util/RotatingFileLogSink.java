@@ -0,0 +1,138 @@
+package com.cenit.battleship.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Destino en archivo con rotación por tamaño.
+ *
+ * Escribe una línea por evento (fecha, nivel, hilo, categoría y mensaje).
+ * Cuando el archivo supera maxBytes se renombra a base.1.log, el anterior
+ * base.1.log pasa a base.2.log, etc., conservando como máximo maxFiles
+ * archivos antiguos.
+ */
+public class RotatingFileLogSink implements LogSink {
+
+    private static final DateTimeFormatter TIME_FORMAT
+            = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    private final Path directory;
+    private final String baseName;
+    private final long maxBytes;
+    private final int maxFiles;
+
+    private BufferedWriter writer;
+    private long currentBytes;
+    private boolean failed;
+
+    public RotatingFileLogSink(Path directory, String baseName, long maxBytes, int maxFiles) {
+        if (maxBytes <= 0 || maxFiles < 0) {
+            throw new IllegalArgumentException("Configuración de rotación inválida: "
+                    + maxBytes + " bytes, " + maxFiles + " archivos");
+        }
+        this.directory = directory;
+        this.baseName = baseName;
+        this.maxBytes = maxBytes;
+        this.maxFiles = maxFiles;
+    }
+
+    private Path fileAt(int generation) {
+        return directory.resolve(generation == 0 ? baseName + ".log" : baseName + "." + generation + ".log");
+    }
+
+    private void open() throws IOException {
+        Files.createDirectories(directory);
+        Path file = fileAt(0);
+        currentBytes = Files.exists(file) ? Files.size(file) : 0;
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private void rotate() throws IOException {
+        writer.close();
+        writer = null;
+        if (maxFiles == 0) {
+            Files.deleteIfExists(fileAt(0));
+        } else {
+            Files.deleteIfExists(fileAt(maxFiles));
+            for (int generation = maxFiles - 1; generation >= 0; generation--) {
+                Path source = fileAt(generation);
+                if (Files.exists(source)) {
+                    Files.move(source, fileAt(generation + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        }
+        open();
+    }
+
+    static String format(LogEvent event) {
+        StringBuilder line = new StringBuilder(64 + event.message().length());
+        line.append(TIME_FORMAT.format(Instant.ofEpochMilli(event.timestamp())))
+                .append(' ').append(event.level())
+                .append(" [").append(event.thread()).append("] ")
+                .append(event.category()).append(" - ")
+                .append(event.message());
+        if (event.error() != null) {
+            StringWriter trace = new StringWriter();
+            event.error().printStackTrace(new PrintWriter(trace));
+            line.append(System.lineSeparator()).append(trace.toString().stripTrailing());
+        }
+        return line.append(System.lineSeparator()).toString();
+    }
+
+    @Override
+    public synchronized void write(LogEvent event) {
+        if (failed) {
+            return;
+        }
+        try {
+            if (writer == null) {
+                open();
+            }
+            String line = format(event);
+            byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+            if (currentBytes > 0 && currentBytes + bytes.length > maxBytes) {
+                rotate();
+            }
+            writer.write(line);
+            currentBytes += bytes.length;
+        } catch (IOException e) {
+            // No se puede registrar el fallo del propio registro: desactivar el destino
+            failed = true;
+            System.err.println("❌ Error escribiendo el registro en " + fileAt(0) + ": " + e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void flush() {
+        try {
+            if (writer != null) {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            System.err.println("❌ Error volcando el registro: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            if (writer != null) {
+                writer.close();
+                writer = null;
+            }
+        } catch (IOException e) {
+            System.err.println("❌ Error cerrando el registro: " + e.getMessage());
+        }
+    }
+}
@@ -56,6 +56,7 @@ public class ConfigurationViewController implements Initializable {
             case NORMAL: DifficultyCombo.setValue("Normal"); break;
             case HARD: DifficultyCombo.setValue("Difícil"); break;
             case EXPERT: DifficultyCombo.setValue("Experto"); break;
+            case MASTER: DifficultyCombo.setValue("Maestro"); break;
         }
         
         // Sonido y animaciones
@@ -78,7 +79,7 @@ public class ConfigurationViewController implements Initializable {
 
     private void controlsConfiguration() {
         // Configurar ComboBoxes
-        DifficultyCombo.getItems().addAll("Fácil", "Normal", "Difícil", "Experto");
+        DifficultyCombo.getItems().addAll("Fácil", "Normal", "Difícil", "Experto", "Maestro");
         themeCombo.getItems().addAll("default", "oscuro", "azul", "verde", "rojo");
         
         // Configurar Sliders
@@ -158,6 +159,9 @@ private void configureDifficulty() {
         case "Experto": 
             config.setCpuDifficulty(Difficulty.EXPERT);
             break;
+        case "Maestro": 
+            config.setCpuDifficulty(Difficulty.MASTER);
+            break;
         default:
             config.setCpuDifficulty(Difficulty.NORMAL);
             System.out.println("⚠️  Dificultad no reconocida, usando Normal por defecto");
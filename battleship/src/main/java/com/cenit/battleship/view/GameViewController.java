@@ -2,28 +2,38 @@ package com.cenit.battleship.view;
 
 import com.cenit.battleship.App;
 import com.cenit.battleship.controller.AnimationController;
+import com.cenit.battleship.controller.FxEffectListener;
 import com.cenit.battleship.controller.GameController;
 import com.cenit.battleship.controller.SoundController;
 import com.cenit.battleship.model.Board;
 import com.cenit.battleship.model.Cell;
 import com.cenit.battleship.model.Coordinate;
 import com.cenit.battleship.model.Ship;
+import com.cenit.battleship.model.SkillResult;
 import com.cenit.battleship.model.enums.CellState;
 import com.cenit.battleship.model.enums.GamePhase;
 import com.cenit.battleship.model.enums.ShotResult;
 import com.cenit.battleship.model.GameConfiguration;
 import com.cenit.battleship.model.PlayerProfile;
 import com.cenit.battleship.model.enums.Direction;
+import com.cenit.battleship.services.ReplayLog;
+import com.cenit.battleship.services.ReplayPlayer;
 import com.cenit.battleship.services.StorageService;
 import com.cenit.battleship.view.components.BoardRenderer;
 import com.cenit.battleship.view.components.ShipRenderer;
 import static com.cenit.battleship.view.components.ShipRenderer.renderShipCorrected;
+import java.io.File;
+import java.io.IOException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
 import javafx.animation.PauseTransition;
+import javafx.animation.Timeline;
 import javafx.application.Platform;
 import javafx.concurrent.Task;
 import javafx.fxml.FXML;
@@ -44,6 +54,7 @@ import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
+import javafx.stage.FileChooser;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
 import javafx.util.Duration;
@@ -68,6 +79,13 @@ public class GameViewController implements Initializable {
 
     private boolean activeGame = true;
 
+    // Jugada de la CPU en cálculo; las respuestas de jugadas anteriores se descartan
+    private CompletableFuture<Coordinate> cpuDecision;
+
+    // Repetición en curso (una jugada por paso)
+    private static final Duration REPLAY_STEP = Duration.millis(300);
+    private Timeline replayTimeline;
+
     // Tablero del jugador
     @FXML
     private GridPane playerBoard;
@@ -111,6 +129,8 @@ public class GameViewController implements Initializable {
     @FXML
     private MenuItem loadMenu;
     @FXML
+    private MenuItem replayMenu;
+    @FXML
     private MenuItem exitMenu;
 
     // Matrices de botones - ahora dinámicas según el tamaño del tablero
@@ -155,6 +175,7 @@ public class GameViewController implements Initializable {
             storageService = new StorageService();
             soundController = SoundController.getInstance();
             animationController = AnimationController.getInstance();
+            gameController.addEffectListener(FxEffectListener.getInstance());
 
             // Inicializar componentes de la UI
             System.out.println("🔄 Inicializando interfaz de usuario...");
@@ -316,6 +337,7 @@ public class GameViewController implements Initializable {
         saveMenu.setOnAction(e -> guardarPartida());
         saveAsMenu.setOnAction(e -> guardarPartidaComo());
         loadMenu.setOnAction(e -> cargarPartida());
+        replayMenu.setOnAction(e -> verRepeticion());
         exitMenu.setOnAction(e -> exitToMainMenu());
     }
 
@@ -415,7 +437,10 @@ public class GameViewController implements Initializable {
             GameController nuevoGameController = storageService.loadGame(nombreArchivo);
 
             if (nuevoGameController != null) {
+                stopReplay();
+                cancelCPUTurn();
                 this.gameController = nuevoGameController;
+                gameController.addEffectListener(FxEffectListener.getInstance());
                 resetInterface();
                 showMessage("Partida cargada exitosamente: " + nombreArchivo);
                 soundController.playButtonClick();
@@ -431,6 +456,70 @@ public class GameViewController implements Initializable {
         }
     }
 
+    private void verRepeticion() {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Ver Repetición");
+        chooser.getExtensionFilters().add(
+                new FileChooser.ExtensionFilter("Repeticiones", "*" + ReplayLog.FILE_EXTENSION));
+        File replays = new File(GameConfiguration.getInstance().getReplayDirectory());
+        if (!replays.getPath().isEmpty() && replays.isDirectory()) {
+            chooser.setInitialDirectory(replays);
+        }
+
+        File file = chooser.showOpenDialog(App.getPrimaryStage());
+        if (file == null) {
+            return;
+        }
+        try {
+            playReplay(ReplayLog.load(file.toPath()));
+        } catch (IOException ex) {
+            showMessage("Error al cargar la repetición: " + ex.getMessage());
+            soundController.playError();
+        }
+    }
+
+    /**
+     * Reproduce una partida grabada en esta vista, una jugada cada REPLAY_STEP.
+     * Los tableros quedan bloqueados hasta que termina
+     */
+    public void playReplay(ReplayLog replay) {
+        stopReplay();
+        cancelCPUTurn();
+        this.gameController = ReplayPlayer.createGame(replay);
+        gameController.addEffectListener(FxEffectListener.getInstance());
+        ReplayPlayer.Session session = ReplayPlayer.session(replay, gameController);
+
+        activeGame = false;
+        disableCPUboard(true);
+        refreshReplayView();
+        showMessage("Repetición: " + replay.getMoveCount() + " jugadas");
+
+        replayTimeline = new Timeline(new KeyFrame(REPLAY_STEP, e -> {
+            if (!session.step()) {
+                stopReplay();
+                showMessage(session.getResult().toString());
+                return;
+            }
+            refreshReplayView();
+        }));
+        replayTimeline.setCycleCount(Animation.INDEFINITE);
+        replayTimeline.play();
+    }
+
+    private void stopReplay() {
+        if (replayTimeline != null) {
+            replayTimeline.stop();
+            replayTimeline = null;
+        }
+    }
+
+    private void refreshReplayView() {
+        updateBoardDisplays();
+        updateInformationPanels();
+        updateSkillPoints();
+        updateTurnStatus();
+    }
+
     private void resetInterface() {
         activeGame = false;
 
@@ -526,6 +615,7 @@ public class GameViewController implements Initializable {
         confirmacion.showAndWait().ifPresent(response -> {
             if (response == ButtonType.OK) {
                 try {
+                    stopReplay();
                     soundController.stopBackgroundMusic();
                     App.changeView("com/cenit/battleship/view/MainView");
                 } catch (Exception ex) {
@@ -596,7 +686,7 @@ public class GameViewController implements Initializable {
             return;
         }
 
-        Coordinate coord = new Coordinate(x, y);
+        Coordinate coord = Coordinate.of(x, y);
 
         try {
             // Verificar si ya se disparó aquí
@@ -664,61 +754,110 @@ public class GameViewController implements Initializable {
         lblMessage.setText("Turno de la CPU...");
         disableCPUboard(true);
 
+        // Antes de disparar, la CPU decide si le compensa una habilidad
+        SkillResult skill = gameController.useCPUSkill();
+        if (skill != null && skill.isSuccessful()) {
+            showMessage(skill.getMensaje());
+            updateBoardDisplay(playerBoardButtons, false);
+            updateInformationPanels();
+            if (gameController.isGameOver()) {
+                endGame(false);
+                return;
+            }
+        }
+
+        // La CPU piensa en segundo plano mientras corre la pausa de la animación
+        CompletableFuture<Coordinate> decision = gameController.computeCPUShotAsync();
+        cpuDecision = decision;
+
         PauseTransition pause = new PauseTransition(Duration.seconds(1.5));
-        pause.setOnFinished(e -> {
-            try {
-                ShotResult result = gameController.processCPUShot();
-                Coordinate lastShot = gameController.getLastShotCPU();
+        pause.setOnFinished(e -> decision.whenComplete((target, error)
+                -> Platform.runLater(() -> applyCPUShot(decision, target, error))));
+        pause.play();
+    }
 
-                if (lastShot != null) {
-                    updateFiredCell(playerBoardButtons[lastShot.getX()][lastShot.getY()], result);
-                }
+    /**
+     * Cancela la jugada de la CPU en curso (reinicio o carga de partida)
+     */
+    private void cancelCPUTurn() {
+        cpuDecision = null;
+        if (gameController != null) {
+            gameController.cancelPendingCPUShot();
+        }
+    }
 
-                showMessage("CPU: " + result.getMessage());
+    private void applyCPUShot(CompletableFuture<Coordinate> decision, Coordinate target, Throwable error) {
+        if (decision != cpuDecision || decision.isCancelled()) {
+            return; // Jugada descartada
+        }
+        cpuDecision = null;
+        if (error != null) {
+            Throwable cause = error.getCause() != null ? error.getCause() : error;
+            showMessage("Error en turno de CPU: " + cause.getMessage());
+            soundController.playError();
+            return;
+        }
 
-                // Sonidos y animaciones
-                if (result.isHit()) {
-                    soundController.playExplosion();
-                    if (animationController != null && lastShot != null) {
-                        animationController.playExplosionAnimation(lastShot, result);
-                    }
-                } else {
-                    soundController.playWaterSplash();
-                    if (animationController != null && lastShot != null) {
-                        animationController.playWaterSplashAnimation(lastShot, result);
-                    }
+        if (gameController.isCPUShotStale(target)) {
+            // La casilla se disparó mientras la CPU pensaba: otra jugada, también en segundo plano
+            CompletableFuture<Coordinate> retry = gameController.computeCPUShotAsync();
+            cpuDecision = retry;
+            retry.whenComplete((next, retryError)
+                    -> Platform.runLater(() -> applyCPUShot(retry, next, retryError)));
+            return;
+        }
+
+        try {
+            ShotResult result = gameController.processCPUShot(target);
+            Coordinate lastShot = gameController.getLastShotCPU();
+
+            if (lastShot != null) {
+                updateFiredCell(playerBoardButtons[lastShot.getX()][lastShot.getY()], result);
+            }
+
+            showMessage("CPU: " + result.getMessage());
+
+            // Sonidos y animaciones
+            if (result.isHit()) {
+                soundController.playExplosion();
+                if (animationController != null && lastShot != null) {
+                    animationController.playExplosionAnimation(lastShot, result);
                 }
+            } else {
+                soundController.playWaterSplash();
+                if (animationController != null && lastShot != null) {
+                    animationController.playWaterSplashAnimation(lastShot, result);
+                }
+            }
 
-                if (result.isSunk()) {
-                    Ship sunkShip = gameController.getLastSunkShipPlayer();
-                    if (sunkShip != null) {
-                        showSpecialMessage("¡LA CPU HUNDIÓ TU " + sunkShip.getType().getName() + "!");
-                        soundController.playShipSinking();
-                        if (animationController != null) {
-                            animationController.playSinkingAnimation(sunkShip);
-                        }
+            if (result.isSunk()) {
+                Ship sunkShip = gameController.getLastSunkShipPlayer();
+                if (sunkShip != null) {
+                    showSpecialMessage("¡LA CPU HUNDIÓ TU " + sunkShip.getType().getName() + "!");
+                    soundController.playShipSinking();
+                    if (animationController != null) {
+                        animationController.playSinkingAnimation(sunkShip);
                     }
                 }
+            }
 
-                // Actualizar interfaz
-                updateInformationPanels();
+            // Actualizar interfaz
+            updateInformationPanels();
 
-                if (gameController.isGameOver()) {
-                    endGame(false);
-                } else if (!result.allowsAnotherTurn()) {
-                    gameController.setPlayerTurn(true);
-                    updateTurnStatus();
-                    disableCPUboard(false);
-                } else {
-                    // CPU sigue disparando
-                    runCPUTurn();
-                }
-            } catch (Exception ex) {
-                showMessage("Error en turno de CPU: " + ex.getMessage());
-                soundController.playError();
+            if (gameController.isGameOver()) {
+                endGame(false);
+            } else if (gameController.isPlayerTurn()) {
+                // Sin impacto ni interferencia de la CPU pendiente
+                updateTurnStatus();
+                disableCPUboard(false);
+            } else {
+                // CPU sigue disparando
+                runCPUTurn();
             }
-        });
-        pause.play();
+        } catch (Exception ex) {
+            showMessage("Error en turno de CPU: " + ex.getMessage());
+            soundController.playError();
+        }
     }
 
     private void updateFiredCell(Button button, ShotResult result) {
@@ -742,7 +881,7 @@ public class GameViewController implements Initializable {
 
         for (int i = 0; i < boardSize; i++) {
             for (int j = 0; j < boardSize; j++) {
-                Coordinate coord = new Coordinate(i, j);
+                Coordinate coord = Coordinate.of(i, j);
                 Cell cell = board.getCell(coord);
                 Button button = buttons[i][j];
 
@@ -1029,6 +1168,8 @@ public class GameViewController implements Initializable {
 
     private void resetGame() {
         try {
+            stopReplay();
+            cancelCPUTurn();
             soundController.stopBackgroundMusic();
             App.changeView("/com/cenit/battleship/view/MainView.fxml");
         } catch (Exception ex) {
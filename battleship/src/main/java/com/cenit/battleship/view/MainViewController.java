@@ -80,7 +80,8 @@ public class MainViewController implements Initializable {
                 "Fácil",
                 "Normal",
                 "Difícil",
-                "Experto"
+                "Experto",
+                "Maestro"
         );
         comboDifficulty.setValue("Normal");
         
@@ -384,6 +385,8 @@ private int getDefaultSkillLevel(Skill skill) {
                 return "Difícil";
             case "EXPERT":
                 return "Experto";
+            case "MASTER":
+                return "Maestro";
             default:
                 return "Normal";
         }
@@ -399,6 +402,8 @@ private int getDefaultSkillLevel(Skill skill) {
                 return Difficulty.HARD;
             case "Experto":
                 return Difficulty.EXPERT;
+            case "Maestro":
+                return Difficulty.MASTER;
             default:
                 return Difficulty.NORMAL;
         }
@@ -4,6 +4,7 @@ import com.cenit.battleship.App;
 import com.cenit.battleship.controller.GameController;
 import com.cenit.battleship.model.Board;
 import com.cenit.battleship.model.Coordinate;
+import com.cenit.battleship.model.PlacementTable;
 import com.cenit.battleship.model.Ship;
 import com.cenit.battleship.model.enums.Direction;
 import com.cenit.battleship.model.enums.ShipType;
@@ -732,6 +733,21 @@ private void initializeBoardManual() {
      * Versión mejorada de canPlaceShip con mejor logging
      */
     private boolean canPlaceShip(int startX, int startY, Direction direction, int size) {
+        int boardSize = config.getBoardSize();
+        if (PlacementTable.isSupported(boardSize) && size > 0 && size <= boardSize) {
+            PlacementTable table = PlacementTable.of(boardSize, size, direction == Direction.HORIZONTAL);
+            int placement = table.placementAt(startX, startY);
+            if (placement < 0) {
+                return false;
+            }
+            // Zona prohibida: barcos colocados más sus casillas vecinas
+            long[] blocked = new long[table.getWords()];
+            for (Ship placedShip : placedShips) {
+                PlacementTable.addHaloTo(boardSize, placedShip.getSegments(), blocked);
+            }
+            return !table.intersects(placement, blocked);
+        }
+
         // Calcular coordenadas
         List<Coordinate> coordinates = calculateShipCoordinates(startX, startY, direction, size);
 
@@ -825,9 +841,9 @@ private void initializeBoardManual() {
         for (int i = 0; i < size; i++) {
             int x = startX + i * dx;
             int y = startY + i * dy;
-            coordinates.add(new Coordinate(x, y));
+            coordinates.add(Coordinate.of(x, y));
             System.out.println("  ? Segmento " + i + ": (" + x + "," + y + ") -> "
-                    + new Coordinate(x, y).aNotacion());
+                    + Coordinate.of(x, y).aNotacion());
         }
 
         return coordinates;
@@ -100,7 +100,7 @@ public class BoardRenderer {
                                   boolean showShips, boolean isInteractive) {
         for (int i = 0; i < boardSize; i++) {
             for (int j = 0; j < boardSize; j++) {
-                Coordinate coord = new Coordinate(i, j);
+                Coordinate coord = Coordinate.of(i, j);
                 Cell cell = board.getCell(coord);
                 Button button = buttons[i][j];
                 